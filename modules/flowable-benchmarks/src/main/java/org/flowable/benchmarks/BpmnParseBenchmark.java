@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.util.io.BytesStreamSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of BPMN XML into a {@link BpmnModel} through the {@link BpmnXMLConverter}, with and without XSD validation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BpmnParseBenchmark {
+
+    @Param({ "org/flowable/benchmarks/oneTaskProcess.bpmn20.xml", "org/flowable/benchmarks/orderProcess.bpmn20.xml" })
+    public String resource;
+
+    @Param({ "false", "true" })
+    public boolean validateSchema;
+
+    protected byte[] bpmnBytes;
+    protected BpmnXMLConverter bpmnXMLConverter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream inputStream = BpmnParseBenchmark.class.getClassLoader().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new FlowableException("Resource " + resource + " not found");
+            }
+            bpmnBytes = inputStream.readAllBytes();
+        }
+        bpmnXMLConverter = new BpmnXMLConverter();
+    }
+
+    @Benchmark
+    public BpmnModel convertToBpmnModel() {
+        return bpmnXMLConverter.convertToBpmnModel(new BytesStreamSource(bpmnBytes), validateSchema, false);
+    }
+
+}
@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the execution of a decision table (which goes through the RuleEngineExecutorImpl) with a configurable number of rules.
+ * The input matches the last specific rule, so every rule of the table needs to be looked at.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecisionTableBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int nrOfRules;
+
+    @Param({ "FIRST", "UNIQUE" })
+    public String hitPolicy;
+
+    protected DmnEngine dmnEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dmnEngine = DmnEngineConfiguration.createStandaloneInMemDmnEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:flowable-dmn-benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=1000")
+                .setDatabaseSchemaUpdate(DmnEngineConfiguration.DB_SCHEMA_UPDATE_DROP_CREATE)
+                .buildDmnEngine();
+
+        dmnEngine.getDmnRepositoryService().createDeployment()
+                .addString("benchmarkDecision.dmn", createDecisionTableXml())
+                .deploy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dmnEngine.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> executeDecision() {
+        return dmnEngine.getDmnDecisionService().createExecuteDecisionBuilder()
+                .decisionKey("benchmarkDecision")
+                .variable("category", "category" + (nrOfRules - 1))
+                .variable("amount", 250)
+                .executeWithSingleResult();
+    }
+
+    protected String createDecisionTableXml() {
+        StringBuilder rules = new StringBuilder();
+        for (int i = 0; i < nrOfRules; i++) {
+            rules.append("      <rule>\n")
+                    .append("        <inputEntry id=\"categoryEntry").append(i).append("\"><text>== \"category").append(i).append("\"</text></inputEntry>\n")
+                    .append("        <inputEntry id=\"amountEntry").append(i).append("\"><text><![CDATA[> 100]]></text></inputEntry>\n")
+                    .append("        <outputEntry id=\"discountEntry").append(i).append("\"><text>").append(i % 50).append("</text></outputEntry>\n")
+                    .append("      </rule>\n");
+        }
+
+        return "<definitions xmlns=\"https://www.omg.org/spec/DMN/20191111/MODEL/\" id=\"benchmarkDefinitions\" name=\"Benchmark\" namespace=\"http://www.flowable.org/dmn\">\n"
+                + "  <decision id=\"benchmarkDecision\" name=\"Benchmark decision\">\n"
+                + "    <decisionTable id=\"benchmarkDecisionTable\" hitPolicy=\"" + hitPolicy + "\">\n"
+                + "      <input id=\"categoryInput\" label=\"Category\">\n"
+                + "        <inputExpression id=\"categoryExpression\" typeRef=\"string\"><text>category</text></inputExpression>\n"
+                + "      </input>\n"
+                + "      <input id=\"amountInput\" label=\"Amount\">\n"
+                + "        <inputExpression id=\"amountExpression\" typeRef=\"number\"><text>amount</text></inputExpression>\n"
+                + "      </input>\n"
+                + "      <output id=\"discountOutput\" label=\"Discount\" name=\"discount\" typeRef=\"number\" />\n"
+                + rules
+                + "    </decisionTable>\n"
+                + "  </decision>\n"
+                + "</definitions>\n";
+    }
+
+}
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DefaultExpressionManager#createExpression(String)} and the evaluation of the created expression,
+ * using the expression manager as configured by a process engine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionManagerBenchmark extends ProcessEngineBenchmarkState {
+
+    @Param({ "${amount > 1000}", "${customer.name == 'kermit' && amount * 1.21 < limit}", "${variables:getOrDefault('discount', 0) + amount}" })
+    public String expressionText;
+
+    @Param({ "true", "false" })
+    public boolean expressionCacheEnabled;
+
+    protected ExpressionManager expressionManager;
+    protected Expression expression;
+    protected VariableContainerWrapper variableContainer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        buildProcessEngine();
+        expressionManager = processEngineConfiguration.getExpressionManager();
+        expression = expressionManager.createExpression(expressionText);
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("name", "kermit");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 1250);
+        variables.put("limit", 5000);
+        variables.put("customer", customer);
+        variableContainer = new VariableContainerWrapper(variables);
+    }
+
+    @Override
+    protected void configureProcessEngine(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setExpressionCacheEnabled(expressionCacheEnabled);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        closeProcessEngine();
+    }
+
+    @Benchmark
+    public Expression createExpression() {
+        return expressionManager.createExpression(expressionText);
+    }
+
+    @Benchmark
+    public Object evaluateExpression() {
+        return expression.getValue(variableContainer);
+    }
+
+    @Benchmark
+    public Object createAndEvaluateExpression() {
+        return expressionManager.createExpression(expressionText).getValue(variableContainer);
+    }
+
+}
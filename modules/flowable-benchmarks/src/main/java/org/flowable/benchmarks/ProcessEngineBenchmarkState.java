@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.UUID;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.repository.DeploymentBuilder;
+
+/**
+ * Base state for benchmarks that need a process engine on an in-memory H2 database.
+ * Every state instance gets its own database, so benchmarks don't influence each other.
+ */
+public abstract class ProcessEngineBenchmarkState {
+
+    protected ProcessEngine processEngine;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    protected void buildProcessEngine() {
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration.createStandaloneInMemProcessEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:flowable-benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=1000")
+                .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_DROP_CREATE);
+        configureProcessEngine(processEngineConfiguration);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    /**
+     * Hook for benchmarks that need to change the engine configuration before the engine is built.
+     */
+    protected void configureProcessEngine(ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+    }
+
+    protected void deploy(String... resources) {
+        DeploymentBuilder deploymentBuilder = processEngine.getRepositoryService().createDeployment();
+        for (String resource : resources) {
+            deploymentBuilder.addClasspathResource(resource);
+        }
+        deploymentBuilder.deploy();
+    }
+
+    protected void closeProcessEngine() {
+        if (processEngine != null) {
+            processEngine.close();
+            processEngine = null;
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures starting a process instance through {@link RuntimeService#startProcessInstanceByKey(String)}
+ * and completing a user task through the {@link TaskService}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessInstanceBenchmark {
+
+    protected static final int TASKS_PER_ITERATION = 1000;
+
+    @State(Scope.Benchmark)
+    public static class EngineState extends ProcessEngineBenchmarkState {
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            buildProcessEngine();
+            deploy("org/flowable/benchmarks/oneTaskProcess.bpmn20.xml");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            closeProcessEngine();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class TaskState {
+
+        protected Deque<String> taskIds = new ArrayDeque<>(TASKS_PER_ITERATION);
+
+        // The tasks are created before the iteration, so that starting the process instances is not part of the measured time
+        @Setup(Level.Iteration)
+        public void startProcessInstances(EngineState engineState) {
+            taskIds.clear();
+            for (int i = 0; i < TASKS_PER_ITERATION; i++) {
+                ProcessInstance processInstance = engineState.processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+                Task task = engineState.processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+                taskIds.add(task.getId());
+            }
+        }
+
+    }
+
+    @Benchmark
+    public ProcessInstance startProcessInstanceByKey(EngineState engineState) {
+        return engineState.processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+    }
+
+    /**
+     * Every iteration completes the {@link #TASKS_PER_ITERATION} tasks prepared for it, the result is the time needed for all of them.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, batchSize = TASKS_PER_ITERATION)
+    @Measurement(iterations = 5, batchSize = TASKS_PER_ITERATION)
+    public void completeTask(EngineState engineState, TaskState taskState) {
+        engineState.processEngine.getTaskService().complete(taskState.taskIds.poll());
+    }
+
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the whole {@code setVariables} command that updates a number of variables of one process instance,
+ * including fetching the process instance and its variables, flushing the updates and committing the transaction.
+ * The time spent in {@link DbSqlSession#flush()} is not measured separately, differences between the JDBC batching modes
+ * show up as differences in the throughput of the command.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SetVariablesCommandBenchmark extends ProcessEngineBenchmarkState {
+
+    @Param({ "10", "100" })
+    public int nrOfVariables;
+
+    @Param({ "false", "true" })
+    public boolean jdbcBatchUpdateAndDeleteEnabled;
+
+    protected String processInstanceId;
+    protected int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        buildProcessEngine();
+        deploy("org/flowable/benchmarks/oneTaskProcess.bpmn20.xml");
+
+        processInstanceId = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess", createVariables()).getId();
+    }
+
+    @Override
+    protected void configureProcessEngine(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setJdbcBatchUpdateAndDeleteEnabled(jdbcBatchUpdateAndDeleteEnabled);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        closeProcessEngine();
+    }
+
+    @Benchmark
+    public void setVariables() {
+        processEngine.getRuntimeService().setVariables(processInstanceId, createVariables());
+    }
+
+    protected Map<String, Object> createVariables() {
+        counter++;
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < nrOfVariables; i++) {
+            variables.put("var" + i, "value" + counter);
+        }
+        return variables;
+    }
+
+}
@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the variable type resolution of {@link DefaultVariableTypes}, using the types as registered by a process engine,
+ * against the plain ordered scan over the same types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariableTypesBenchmark extends ProcessEngineBenchmarkState {
+
+    @Param({ "string", "integer", "localDate", "json", "serializable" })
+    public String valueKind;
+
+    protected DefaultVariableTypes variableTypes;
+    protected List<VariableType> typesList;
+    protected VariableType type;
+    protected Object value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        buildProcessEngine();
+        variableTypes = (DefaultVariableTypes) processEngineConfiguration.getVariableTypes();
+        typesList = new ArrayList<>(variableTypes.getTypesList());
+
+        value = createValue(valueKind, processEngineConfiguration);
+        type = variableTypes.findVariableType(value);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        closeProcessEngine();
+    }
+
+    @Benchmark
+    public VariableType findVariableType() {
+        return variableTypes.findVariableType(value);
+    }
+
+    @Benchmark
+    public VariableType findVariableTypeOrderedScan() {
+        // The resolution as it was done before the types were indexed by class
+        for (VariableType variableType : typesList) {
+            if (variableType.isAbleToStore(value)) {
+                return variableType;
+            }
+        }
+        throw new IllegalStateException("No type found for " + value);
+    }
+
+    @Benchmark
+    public int getTypeIndex() {
+        return variableTypes.getTypeIndex(type);
+    }
+
+    @Benchmark
+    public int getTypeIndexOrderedScan() {
+        return typesList.indexOf(type);
+    }
+
+    protected static Object createValue(String valueKind, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        switch (valueKind) {
+            case "string":
+                return "kermit";
+            case "integer":
+                return 42;
+            case "localDate":
+                return LocalDate.of(2020, 1, 1);
+            case "json":
+                return processEngineConfiguration.getObjectMapper().createObjectNode().put("name", "kermit");
+            case "serializable":
+                return new Customer("kermit");
+            default:
+                throw new IllegalArgumentException("Unknown value kind " + valueKind);
+        }
+    }
+
+    public static class Customer implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected String name;
+
+        public Customer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.bpmn.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.Process;
+
+/**
+ * Converts a {@link BpmnModel} to and from a compact binary snapshot, which is a lot cheaper to read than the BPMN XML it was converted from.
+ *
+ * A snapshot starts with a header containing the snapshot format version and a version given by the caller (e.g. the engine version).
+ * A snapshot of which the header does not match is never read, as the model classes might have changed in the meantime.
+ * Only classes of the BPMN model and the JDK are allowed when reading a snapshot.
+ *
+ * The references between flow nodes, sequence flows and boundary events are not part of the snapshot and are restored in the same way
+ * as when converting from XML.
+ */
+public class BpmnModelSnapshotConverter {
+
+    protected static final byte[] SNAPSHOT_MAGIC = { 'F', 'B', 'M', 'S' };
+    protected static final int SNAPSHOT_FORMAT_VERSION = 1;
+
+    protected static final ObjectInputFilter SNAPSHOT_FILTER = ObjectInputFilter.Config.createFilter(
+            "org.flowable.bpmn.model.**;java.lang.*;java.util.*;java.math.*;com.fasterxml.jackson.databind.node.*;!*");
+
+    public byte[] convertToSnapshot(BpmnModel model, String version) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            DataOutputStream headerStream = new DataOutputStream(outputStream);
+            headerStream.write(SNAPSHOT_MAGIC);
+            headerStream.writeInt(SNAPSHOT_FORMAT_VERSION);
+            headerStream.writeUTF(version);
+            headerStream.flush();
+
+            try (ObjectOutputStream objectStream = new ObjectOutputStream(new DeflaterOutputStream(outputStream))) {
+                objectStream.writeObject(model);
+            }
+            return outputStream.toByteArray();
+
+        } catch (IOException e) {
+            throw new XMLException("Error creating BPMN model snapshot", e);
+        }
+    }
+
+    /**
+     * @return the model of the snapshot, or null if the snapshot was created with another format or version.
+     */
+    public BpmnModel convertToBpmnModel(byte[] snapshot, String version) {
+        try {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(snapshot);
+            DataInputStream headerStream = new DataInputStream(inputStream);
+            byte[] magic = new byte[SNAPSHOT_MAGIC.length];
+            if (headerStream.read(magic) != magic.length || !Arrays.equals(magic, SNAPSHOT_MAGIC)
+                    || headerStream.readInt() != SNAPSHOT_FORMAT_VERSION || !version.equals(headerStream.readUTF())) {
+                return null;
+            }
+
+            BpmnModel model;
+            try (ObjectInputStream objectStream = new ObjectInputStream(new InflaterInputStream(inputStream))) {
+                objectStream.setObjectInputFilter(SNAPSHOT_FILTER);
+                model = (BpmnModel) objectStream.readObject();
+            }
+
+            BpmnXMLConverter xmlConverter = new BpmnXMLConverter();
+            for (Process process : model.getProcesses()) {
+                xmlConverter.processFlowElements(process.getFlowElements(), process);
+            }
+            return model;
+
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            throw new XMLException("Error reading BPMN model snapshot", e);
+        }
+    }
+
+}
@@ -112,6 +112,9 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<>();
     protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<>();
 
+    // A schema is immutable and thread-safe, so the BPMN XSD is only compiled once instead of on every validated parse
+    protected static volatile Schema defaultSchema;
+
     protected ClassLoader classloader;
     protected List<String> userTaskFormTypes;
     protected List<String> startEventFormTypes;
@@ -231,16 +234,25 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
 
     protected Schema createSchema() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
-        if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(BPMN_XSD));
+        if (classloader == null) {
+            Schema schema = defaultSchema;
+            if (schema == null) {
+                schema = createSchema(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI));
+                defaultSchema = schema;
+            }
+            return schema;
         }
 
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        Schema schema = factory.newSchema(classloader.getResource(BPMN_XSD));
         if (schema == null) {
-            schema = factory.newSchema(BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD));
+            schema = createSchema(factory);
         }
+        return schema;
+    }
 
+    protected Schema createSchema(SchemaFactory factory) throws SAXException {
+        Schema schema = factory.newSchema(BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD));
         if (schema == null) {
             throw new XMLException("BPMN XSD could not be found");
         }
@@ -20,7 +20,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 public class BoundaryEvent extends Event {
 
     @JsonIgnore
-    protected Activity attachedToRef;
+    protected transient Activity attachedToRef;
     protected String attachedToRefId;
     protected boolean cancelActivity = true;
 
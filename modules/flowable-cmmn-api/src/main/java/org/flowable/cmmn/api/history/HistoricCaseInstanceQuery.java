@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.flowable.common.engine.api.query.BatchDeleteQuery;
+import org.flowable.common.engine.api.query.CursorQuery;
 import org.flowable.common.engine.api.query.DeleteQuery;
 import org.flowable.common.engine.api.query.Query;
 
@@ -26,7 +27,7 @@ import org.flowable.common.engine.api.query.Query;
  * @author Tijs Rademakers
  */
 public interface HistoricCaseInstanceQuery extends Query<HistoricCaseInstanceQuery, HistoricCaseInstance>, DeleteQuery<HistoricCaseInstanceQuery, HistoricCaseInstance>,
-        BatchDeleteQuery<HistoricCaseInstanceQuery> {
+        BatchDeleteQuery<HistoricCaseInstanceQuery>, CursorQuery<HistoricCaseInstance> {
 
     /**
      * Only select historic case instances with the given identifier.
@@ -13,16 +13,18 @@
 package org.flowable.cmmn.api.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Set;
 
+import org.flowable.common.engine.api.query.CursorQuery;
 import org.flowable.common.engine.api.query.Query;
 
 /**
  * @author Joram Barrez
  * @author Tijs Rademakers
  */
-public interface CaseInstanceQuery extends Query<CaseInstanceQuery, CaseInstance> {
+public interface CaseInstanceQuery extends Query<CaseInstanceQuery, CaseInstance>, CursorQuery<CaseInstance> {
 
     CaseInstanceQuery caseDefinitionKey(String caseDefinitionKey);
     CaseInstanceQuery caseDefinitionKeys(Set<String> caseDefinitionKeys);
@@ -223,6 +225,12 @@ public interface CaseInstanceQuery extends Query<CaseInstanceQuery, CaseInstance
      */
     CaseInstanceQuery includeCaseVariables();
 
+    /**
+     * Only include the case variables with the given names in the query result, when case variables are included with {@link #includeCaseVariables()}.
+     * The variables are then fetched with separate queries after the case instances, instead of being joined with the case instances.
+     */
+    CaseInstanceQuery limitIncludedVariables(Collection<String> variableNames);
+
     /**
      * Begin an OR statement. Make sure you invoke the endOr method at the end of your OR statement.
      */
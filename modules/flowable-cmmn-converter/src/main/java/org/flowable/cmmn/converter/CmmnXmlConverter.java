@@ -91,6 +91,9 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
 
     protected static Map<String, BaseCmmnXmlConverter> elementConverters = new HashMap<>();
 
+    // A schema is immutable and thread-safe, so the CMMN XSD is only compiled once instead of on every validated parse
+    protected static volatile Schema defaultSchema;
+
     protected ClassLoader classloader;
 
     static {
@@ -255,16 +258,25 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     }
 
     protected Schema createSchema() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
-        if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(XSD_LOCATION));
+        if (classloader == null) {
+            Schema schema = defaultSchema;
+            if (schema == null) {
+                schema = createSchema(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI));
+                defaultSchema = schema;
+            }
+            return schema;
         }
 
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        Schema schema = factory.newSchema(classloader.getResource(XSD_LOCATION));
         if (schema == null) {
-            schema = factory.newSchema(this.getClass().getClassLoader().getResource(XSD_LOCATION));
+            schema = createSchema(factory);
         }
+        return schema;
+    }
 
+    protected Schema createSchema(SchemaFactory factory) throws SAXException {
+        Schema schema = factory.newSchema(this.getClass().getClassLoader().getResource(XSD_LOCATION));
         if (schema == null) {
             throw new CmmnXMLException("CMND XSD could not be found");
         }
@@ -473,6 +485,9 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
                     association.setTransitionEvent(onPart.getStandardEvent());
 
                     cmmnModel.addAssociation(association);
+
+                    // Index the criterion on its source, so the engine only needs to match the on-parts that listen to the transition that happened
+                    source.addDependentCriterion(onPart.getStandardEvent(), criterion);
                 }
             }
         }
@@ -582,6 +597,9 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
 
                 criterion.setSentry(sentry);
                 planItem.addEntryCriterion(criterion);
+
+                // The criterion is not part of the parsed criteria, so it needs to be indexed on its source here
+                startTriggerPlanItem.addDependentCriterion(sentryOnPart.getStandardEvent(), criterion);
             }
 
             PlanItemControl itemControl = planItem.getItemControl();
@@ -67,6 +67,12 @@ public class SentryOnPartCmmnXmlConverterTest {
                         tuple("sentryOnPart1", "planItem1", "occur")
                 );
 
+        assertThat(planItemTimer.getDependentCriteria("occur"))
+                .extracting(Criterion::getId)
+                .containsExactly("timedTaskExitSentry");
+        assertThat(planItemTimer.getDependentCriteria("complete")).isEmpty();
+        assertThat(planItemTimedTask.getDependentCriteria()).isEmpty();
+
         assertThat(cmmnModel.getAssociations())
                 .extracting(Association::getId, Association::getSourceRef, Association::getTargetRef, Association::getTransitionEvent)
                 .containsOnly(
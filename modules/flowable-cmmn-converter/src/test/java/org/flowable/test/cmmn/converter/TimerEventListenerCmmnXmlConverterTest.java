@@ -18,7 +18,9 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.util.List;
 
 import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.Criterion;
 import org.flowable.cmmn.model.HumanTask;
+import org.flowable.cmmn.model.PlanItem;
 import org.flowable.cmmn.model.PlanItemTransition;
 import org.flowable.cmmn.model.TimerEventListener;
 import org.flowable.test.cmmn.converter.util.CmmnXmlConverterTest;
@@ -41,6 +43,14 @@ public class TimerEventListenerCmmnXmlConverterTest {
                         TimerEventListener::getTimerStartTriggerStandardEvent,
                         timerEventListener -> timerEventListener.getTimerStartTriggerPlanItem().getName())
                 .containsExactly(tuple("PT6H", PlanItemTransition.COMPLETE, "A"));
+
+        // The start trigger is exposed as an entry criterion, which is indexed on the start trigger plan item
+        PlanItem timerPlanItem = cmmnModel.findPlanItem("planItem3");
+        assertThat(timerPlanItem.getEntryCriteria())
+                .extracting(Criterion::getId)
+                .containsExactly("entryCriterion_planItem3_1");
+        assertThat(cmmnModel.findPlanItem("planItem1").getDependentCriteria(PlanItemTransition.COMPLETE))
+                .containsExactlyElementsOf(timerPlanItem.getEntryCriteria());
     }
 
 }
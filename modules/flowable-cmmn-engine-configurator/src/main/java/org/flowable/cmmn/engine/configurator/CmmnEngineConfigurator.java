@@ -99,6 +99,10 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator {
 
             processEngineConfiguration.getJobServiceConfiguration().getInternalJobManager()
                     .registerScopedInternalJobManager(ScopeTypes.CMMN, cmmnEngineConfiguration.getJobServiceConfiguration().getInternalJobManager());
+
+            // External worker jobs of both engines can be acquired through the management service of either engine
+            cmmnEngineConfiguration.getJobServiceConfiguration()
+                    .setExternalWorkerJobNotifier(processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobNotifier());
         }
 
         JobServiceConfiguration engineJobServiceConfiguration = getJobServiceConfiguration(engineConfiguration);
@@ -128,6 +132,7 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator {
             cmmnEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(processEngineConfiguration.isAsyncHistoryJsonGroupingEnabled());
             cmmnEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(processEngineConfiguration.getAsyncHistoryJsonGroupingThreshold());
             cmmnEngineConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(processEngineConfiguration.isAsyncHistoryJsonGzipCompressionEnabled());
+            cmmnEngineConfiguration.setAsyncHistoryPayloadCodec(processEngineConfiguration.getAsyncHistoryPayloadCodec());
 
             cmmnEngineConfiguration.setAsyncHistoryTaskExecutor(processEngineConfiguration.getAsyncHistoryTaskExecutor());
             
@@ -61,6 +61,7 @@ import org.flowable.cmmn.engine.impl.DefaultCmmnHistoryCleaningManager;
 import org.flowable.cmmn.engine.impl.agenda.CmmnEngineAgendaFactory;
 import org.flowable.cmmn.engine.impl.agenda.CmmnEngineAgendaSessionFactory;
 import org.flowable.cmmn.engine.impl.agenda.DefaultCmmnEngineAgendaFactory;
+import org.flowable.cmmn.engine.impl.agenda.operation.AbstractPlanItemInstanceOperation;
 import org.flowable.cmmn.engine.impl.callback.ChildBpmnCaseInstanceStateChangeCallback;
 import org.flowable.cmmn.engine.impl.callback.ChildCaseInstanceStateChangeCallback;
 import org.flowable.cmmn.engine.impl.callback.DefaultInternalCmmnJobManager;
@@ -189,6 +190,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.HistoricPlanItemInstance
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricPlanItemInstanceEntityManagerImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.MilestoneInstanceEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.MilestoneInstanceEntityManagerImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityManagerImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntityManager;
@@ -247,6 +249,7 @@ import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
 import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
 import org.flowable.common.engine.impl.ServiceConfigurator;
+import org.flowable.common.engine.impl.agenda.AgendaOperationElement;
 import org.flowable.common.engine.impl.async.AsyncTaskExecutorConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
@@ -281,10 +284,11 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.cache.EventSubscriptionLookupCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
 import org.flowable.common.engine.impl.scripting.ScriptBindingsFactory;
 import org.flowable.common.engine.impl.scripting.ScriptingEngines;
@@ -326,6 +330,7 @@ import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.job.service.impl.history.async.codec.AsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.task.service.InternalTaskAssignmentManager;
 import org.flowable.task.service.InternalTaskVariableScopeResolver;
@@ -468,6 +473,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    protected boolean isCompiledScriptCacheEnabled;
+    protected int compiledScriptCacheSize = CompiledScriptCache.DEFAULT_LIMIT;
+
     // Scripting support
     protected ScriptingEngines scriptingEngines;
     protected ScriptBindingsFactory scriptBindingsFactory;
@@ -520,6 +528,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected IdentityLinkEventHandler identityLinkEventHandler;
     protected boolean isEnableTaskRelationshipCounts = true;
 
+    /**
+     * If true, the variables and identity links of case instance and task queries that include them are fetched in separate,
+     * batched queries on the ids of the returned instances, instead of being joined into the main query.
+     */
+    protected boolean enableTwoPhaseRelatedEntityFetching;
+
     // Batch support
     protected BatchServiceConfiguration batchServiceConfiguration;
 
@@ -666,6 +680,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isAsyncHistoryEnabled;
     protected boolean asyncHistoryExecutorActivate;
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
@@ -709,6 +724,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected Duration eventRegistryUniqueCaseInstanceStartLockTime = Duration.ofMinutes(10);
 
+    /**
+     * Node local cache of event registry lookups that didn't find any event subscription (disabled when null).
+     * Subscriptions created on other nodes are only seen after the maximum staleness of the cache.
+     */
+    protected EventSubscriptionLookupCache eventSubscriptionLookupCache;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     /**
@@ -1004,8 +1025,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 postDefaultELResolvers.forEach(cmmnExpressionManager::addPostDefaultResolver);
             }
             
-            if (isExpressionCacheEnabled) {
-                cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+            // An expression cache size of zero (or lower) disables the cache
+            if (isExpressionCacheEnabled && expressionCacheSize > 0) {
+                cmmnExpressionManager.setExpressionCache(createDeploymentCache(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
             
@@ -1025,6 +1047,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     @Override
     public void initCommandInvoker() {
         if (this.commandInvoker == null) {
+            initAgendaOperationProfiling(operation -> {
+                if (operation instanceof AbstractPlanItemInstanceOperation && ((AbstractPlanItemInstanceOperation) operation).getPlanItemInstanceEntity() != null) {
+                    PlanItemInstanceEntity planItemInstanceEntity = ((AbstractPlanItemInstanceOperation) operation).getPlanItemInstanceEntity();
+                    return new AgendaOperationElement(planItemInstanceEntity.getCaseDefinitionId(), planItemInstanceEntity.getElementId());
+                }
+                return null;
+            });
             this.commandInvoker = new CmmnCommandInvoker(agendaOperationRunner);
         }
     }
@@ -1206,11 +1235,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
-            }
+            caseDefinitionCache = createDeploymentCache(caseDefinitionCacheLimit);
         }
     }
 
@@ -1428,6 +1453,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(scriptBindingsFactory);
             scriptingEngines.setDefaultTraceEnhancer(new CmmnEngineScriptTraceEnhancer());
+
+            if (isCompiledScriptCacheEnabled) {
+                scriptingEngines.setCompiledScriptCache(new CompiledScriptCache(compiledScriptCacheSize));
+            }
         }
     }
     
@@ -1604,6 +1633,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.isEnableTaskRelationshipCounts);
+        this.taskServiceConfiguration.setEnableTwoPhaseRelatedEntityFetching(this.enableTwoPhaseRelatedEntityFetching);
 
         this.taskServiceConfiguration.init();
 
@@ -1662,6 +1692,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.eventSubscriptionServiceConfiguration.setEventSubscriptionLockTime(this.eventRegistryUniqueCaseInstanceStartLockTime);
+        this.eventSubscriptionServiceConfiguration.setEventSubscriptionLookupCache(this.eventSubscriptionLookupCache);
         
         this.eventSubscriptionServiceConfiguration.init();
 
@@ -1836,6 +1867,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             jobServiceConfiguration.setJobTypeAsyncHistory(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             jobServiceConfiguration.setJobTypeAsyncHistoryZipped(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(asyncHistoryPayloadCodec);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
             
@@ -2787,6 +2819,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -3032,6 +3082,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableTwoPhaseRelatedEntityFetching() {
+        return enableTwoPhaseRelatedEntityFetching;
+    }
+
+    public CmmnEngineConfiguration setEnableTwoPhaseRelatedEntityFetching(boolean enableTwoPhaseRelatedEntityFetching) {
+        this.enableTwoPhaseRelatedEntityFetching = enableTwoPhaseRelatedEntityFetching;
+        return this;
+    }
+
     public BatchServiceConfiguration getBatchServiceConfiguration() {
         return batchServiceConfiguration;
     }
@@ -3299,6 +3358,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public EventSubscriptionLookupCache getEventSubscriptionLookupCache() {
+        return eventSubscriptionLookupCache;
+    }
+
+    public CmmnEngineConfiguration setEventSubscriptionLookupCache(EventSubscriptionLookupCache eventSubscriptionLookupCache) {
+        this.eventSubscriptionLookupCache = eventSubscriptionLookupCache;
+        return this;
+    }
+
     public AsyncJobExecutorConfiguration getAsyncExecutorConfiguration() {
         return asyncExecutorConfiguration;
     }
@@ -3800,6 +3868,19 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    /**
+     * Sets the codec used to encode the history data of async history jobs, e.g. a {@link org.flowable.job.service.impl.history.async.codec.SmileAsyncHistoryPayloadCodec}
+     * for a compact binary encoding. Defaults to JSON.
+     */
+    public CmmnEngineConfiguration setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
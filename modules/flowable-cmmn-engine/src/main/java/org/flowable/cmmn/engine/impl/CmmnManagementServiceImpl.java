@@ -13,6 +13,8 @@
 package org.flowable.cmmn.engine.impl;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.batch.api.Batch;
@@ -33,8 +35,12 @@ import org.flowable.cmmn.engine.impl.cmd.HandleHistoryCleanupTimerJobCmd;
 import org.flowable.cmmn.engine.impl.runtime.CmmnExternalWorkerTransitionBuilderImpl;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.management.SlowSqlStatement;
+import org.flowable.common.engine.api.management.SqlFlushStatistics;
+import org.flowable.common.engine.api.management.SqlStatementStatistics;
 import org.flowable.common.engine.api.tenant.ChangeTenantIdBuilder;
 import org.flowable.common.engine.impl.cmd.GetTableCountCmd;
+import org.flowable.common.engine.impl.db.metrics.SqlMetricsCollector;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
@@ -279,6 +285,32 @@ public class CmmnManagementServiceImpl extends CommonEngineServiceImpl<CmmnEngin
         return new HistoryJobQueryImpl(commandExecutor, configuration.getJobServiceConfiguration());
     }
 
+    @Override
+    public Map<String, SqlStatementStatistics> getSqlStatementStatistics() {
+        SqlMetricsCollector sqlMetricsCollector = configuration.getSqlMetricsCollector();
+        return sqlMetricsCollector != null ? sqlMetricsCollector.getStatementStatistics() : Collections.emptyMap();
+    }
+
+    @Override
+    public Map<String, SqlFlushStatistics> getSqlFlushStatistics() {
+        SqlMetricsCollector sqlMetricsCollector = configuration.getSqlMetricsCollector();
+        return sqlMetricsCollector != null ? sqlMetricsCollector.getFlushStatistics() : Collections.emptyMap();
+    }
+
+    @Override
+    public List<SlowSqlStatement> getSlowSqlStatements() {
+        SqlMetricsCollector sqlMetricsCollector = configuration.getSqlMetricsCollector();
+        return sqlMetricsCollector != null ? sqlMetricsCollector.getSlowStatements() : Collections.emptyList();
+    }
+
+    @Override
+    public void resetSqlMetrics() {
+        SqlMetricsCollector sqlMetricsCollector = configuration.getSqlMetricsCollector();
+        if (sqlMetricsCollector != null) {
+            sqlMetricsCollector.reset();
+        }
+    }
+
     @Override
     public ExternalWorkerJobAcquireBuilder createExternalWorkerJobAcquireBuilder() {
         return new ExternalWorkerJobAcquireBuilderImpl(commandExecutor, configuration.getJobServiceConfiguration());
@@ -70,6 +70,11 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
 
     protected PlanItemLifeCycleEvent planItemLifeCycleEvent;
 
+    /**
+     * The criteria with an on-part listening to the {@link #planItemLifeCycleEvent}, looked up once per operation from the index built at deployment time.
+     */
+    protected List<Criterion> lifeCycleEventDependentCriteria;
+
     /** only the last evaluation planned on the agenda operation will have this true. */
     protected boolean evaluateStagesAndCaseInstanceCompletion;
 
@@ -459,7 +464,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
 
             CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
             if (sentry.getOnParts().size() == 1 && sentry.getSentryIfPart() == null) { // Only one on part and no if part: no need to fetch the previously satisfied onparts
-                if (planItemLifeCycleEvent != null) {
+                if (dependsOnCurrentLifeCycleEvent(criterion)) {
                     SentryOnPart sentryOnPart = sentry.getOnParts().get(0);
                     if (sentryOnPartMatchesCurrentLifeCycleEvent(entityWithSentryPartInstances, sentryOnPart)) {
 
@@ -491,6 +496,16 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
 
             } else {
 
+                boolean dependsOnCurrentLifeCycleEvent = dependsOnCurrentLifeCycleEvent(criterion);
+                if (!dependsOnCurrentLifeCycleEvent && !sentry.getOnParts().isEmpty()
+                        && (sentry.getSentryIfPart() == null || sentry.isOnEventTriggerMode())
+                        && entityWithSentryPartInstances.getSatisfiedSentryPartInstances().isEmpty()) {
+
+                    // None of the on-parts can become satisfied by the current event and none were satisfied before.
+                    // The if part is then either absent or, in the onEvent trigger mode, only evaluated once all on-parts are satisfied.
+                    continue;
+                }
+
                 boolean isDefaultTriggerMode = sentry.isDefaultTriggerMode();
 
                 boolean sentryIfPartSatisfied = false;
@@ -512,7 +527,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
                 // Verify if the onParts which are not yet satisfied, become satisfied due to the new event
                 for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
                     if (!satisfiedSentryOnPartIds.contains(sentryOnPart.getId())) {
-                        if (planItemLifeCycleEvent != null && sentryOnPartMatchesCurrentLifeCycleEvent(entityWithSentryPartInstances, sentryOnPart)) {
+                        if (dependsOnCurrentLifeCycleEvent && sentryOnPartMatchesCurrentLifeCycleEvent(entityWithSentryPartInstances, sentryOnPart)) {
 
                             if (LOGGER.isDebugEnabled()) {
                                 LOGGER.debug("{}: onPart matches life cycle event [{}]", criterion, planItemLifeCycleEvent);
@@ -566,6 +581,41 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return null;
     }
 
+    /**
+     * Returns whether the given criterion has an on-part with the plan item and transition of the current life cycle event.
+     * Only for such criteria can an on-part become satisfied, the other on-parts don't need to be matched against the event.
+     */
+    protected boolean dependsOnCurrentLifeCycleEvent(Criterion criterion) {
+        if (planItemLifeCycleEvent == null) {
+            return false;
+        }
+
+        PlanItem planItem = planItemLifeCycleEvent.getPlanItem();
+        if (planItem == null) {
+            return false;
+        }
+
+        if (planItem.getDependentCriteria().isEmpty()) {
+            // No index was built for the plan item (e.g. for a model that was created or changed in code), so the on-parts need to be checked
+            return criterionHasOnPartForCurrentLifeCycleEvent(criterion);
+        }
+
+        if (lifeCycleEventDependentCriteria == null) {
+            lifeCycleEventDependentCriteria = planItem.getDependentCriteria(planItemLifeCycleEvent.getTransition());
+        }
+        return lifeCycleEventDependentCriteria.contains(criterion);
+    }
+
+    protected boolean criterionHasOnPartForCurrentLifeCycleEvent(Criterion criterion) {
+        for (SentryOnPart sentryOnPart : criterion.getSentry().getOnParts()) {
+            if (planItemLifeCycleEvent.getPlanItem().getId().equals(sentryOnPart.getSourceRef())
+                    && planItemLifeCycleEvent.getTransition().equals(sentryOnPart.getStandardEvent())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected boolean evaluateAvailableCondition(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         PlanItem planItem = planItemInstanceEntity.getPlanItem();
         if (isEventListenerWithAvailableCondition(planItem)) {
@@ -753,6 +803,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
 
     public void setPlanItemLifeCycleEvent(PlanItemLifeCycleEvent planItemLifeCycleEvent) {
         this.planItemLifeCycleEvent = planItemLifeCycleEvent;
+        this.lifeCycleEventDependentCriteria = null;
     }
 
 
@@ -28,6 +28,7 @@ import org.flowable.cmmn.model.ExtensionElement;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.lock.LockManager;
+import org.flowable.common.engine.impl.persistence.cache.EventSubscriptionLookupCache;
 import org.flowable.eventregistry.api.EventConsumerInfo;
 import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
 import org.flowable.eventregistry.api.runtime.EventInstance;
@@ -83,6 +84,28 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return eventRegistryProcessingInfo;
     }
 
+    @Override
+    protected String getScopeType() {
+        return ScopeTypes.CMMN;
+    }
+
+    @Override
+    protected EventConsumerInfo createEventConsumerInfo(EventSubscription eventSubscription) {
+        return new EventConsumerInfo(eventSubscription.getId(), eventSubscription.getSubScopeId(),
+                eventSubscription.getScopeDefinitionId(), ScopeTypes.CMMN);
+    }
+
+    @Override
+    protected boolean isWaitingInstanceEventSubscription(EventSubscription eventSubscription) {
+        return eventSubscription.getSubScopeId() != null;
+    }
+
+    @Override
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance,
+            Collection<CorrelationKey> correlationKeys, EventConsumerInfo eventConsumerInfo) {
+        handleEventSubscription(cmmnEngineConfiguration.getCmmnRuntimeService(), eventSubscription, eventInstance, correlationKeys, eventConsumerInfo);
+    }
+
     protected void handleEventSubscription(CmmnRuntimeService cmmnRuntimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys, EventConsumerInfo eventConsumerInfo) {
 
@@ -241,4 +264,9 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return new EventSubscriptionQueryImpl(commandExecutor, cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration());
     }
 
+    @Override
+    protected EventSubscriptionLookupCache getEventSubscriptionLookupCache() {
+        return cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionLookupCache();
+    }
+
 }
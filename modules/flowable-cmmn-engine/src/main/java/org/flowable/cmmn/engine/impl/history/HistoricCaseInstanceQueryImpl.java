@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
@@ -648,6 +649,40 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return results;
     }
 
+    @Override
+    protected void executeForEach(CommandContext commandContext, Consumer<? super HistoricCaseInstance> consumer) {
+        if (includeCaseVariables) {
+            throw new FlowableIllegalArgumentException("Case variables can't be included when iterating over the historic case instances");
+        }
+
+        ensureVariablesInitialized();
+        cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().forEachByCriteria(this, historicCaseInstance -> {
+            if (cmmnEngineConfiguration.getCaseLocalizationManager() != null) {
+                cmmnEngineConfiguration.getCaseLocalizationManager().localize(historicCaseInstance, locale, withLocalizationFallback);
+            }
+            consumer.accept(historicCaseInstance);
+        });
+    }
+
+    @Override
+    protected Object getKeysetValue(HistoricCaseInstance historicCaseInstance, String columnName) {
+        // The name is not supported, as it can be localized
+        switch (columnName) {
+            case "RES.ID_":
+                return historicCaseInstance.getId();
+            case "RES.CASE_DEF_ID_":
+                return historicCaseInstance.getCaseDefinitionId();
+            case "RES.START_TIME_":
+                return historicCaseInstance.getStartTime();
+            case "RES.END_TIME_":
+                return historicCaseInstance.getEndTime();
+            case "RES.TENANT_ID_":
+                return historicCaseInstance.getTenantId();
+            default:
+                return super.getKeysetValue(historicCaseInstance, columnName);
+        }
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricCaseInstance> results) {
 
         // Unlike the CaseInstanceEntityImpl, variables are not stored on the HistoricCaseInstanceEntityImpl.
@@ -229,7 +229,8 @@ public class AsyncCmmnHistoryManager extends AbstractAsyncCmmnHistoryManager {
             ObjectNode data = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
             putIfNotNull(data, CmmnAsyncHistoryConstants.FIELD_CREATE_TIME, createTime);
             addCommonVariableFields(variableInstanceEntity, data, createTime);
-            getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_CREATED, data);
+            getAsyncHistorySession().addEntityHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_CREATED,
+                    variableInstanceEntity.getId(), data);
         }
     }
 
@@ -238,7 +239,24 @@ public class AsyncCmmnHistoryManager extends AbstractAsyncCmmnHistoryManager {
         if (getHistoryConfigurationSettings().isHistoryEnabledForVariableInstance(variableInstanceEntity)) {
             ObjectNode data = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
             addCommonVariableFields(variableInstanceEntity, data, updateTime);
-            getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, data);
+
+            // Changes of a variable within the same transaction are coalesced: only the latest value needs to end up in the history
+            ObjectNode variableCreatedData = getAsyncHistorySession().findEntityHistoricData(getJobServiceConfiguration(),
+                    CmmnAsyncHistoryConstants.TYPE_VARIABLE_CREATED, variableInstanceEntity.getId());
+            if (variableCreatedData != null) {
+                putIfNotNull(data, CmmnAsyncHistoryConstants.FIELD_CREATE_TIME, getStringFromJson(variableCreatedData, CmmnAsyncHistoryConstants.FIELD_CREATE_TIME));
+                getAsyncHistorySession().replaceHistoricData(getJobServiceConfiguration(), variableCreatedData, data);
+                return;
+            }
+
+            ObjectNode variableUpdatedData = getAsyncHistorySession().findEntityHistoricData(getJobServiceConfiguration(),
+                    CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, variableInstanceEntity.getId());
+            if (variableUpdatedData != null) {
+                getAsyncHistorySession().replaceHistoricData(getJobServiceConfiguration(), variableUpdatedData, data);
+            } else {
+                getAsyncHistorySession().addEntityHistoricData(getJobServiceConfiguration(), CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED,
+                        variableInstanceEntity.getId(), data);
+            }
         }
     }
 
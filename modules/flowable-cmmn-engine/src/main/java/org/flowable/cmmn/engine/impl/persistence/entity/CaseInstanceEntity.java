@@ -54,4 +54,6 @@ public interface CaseInstanceEntity extends Entity, EntityWithSentryPartInstance
     void setLockOwner(String lockOwner);
 
     List<VariableInstanceEntity> getQueryVariables();
+
+    void setQueryVariables(List<VariableInstanceEntity> queryVariables);
 }
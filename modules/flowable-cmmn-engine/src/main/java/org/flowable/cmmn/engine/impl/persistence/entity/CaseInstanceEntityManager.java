@@ -15,6 +15,7 @@ package org.flowable.cmmn.engine.impl.persistence.entity;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
@@ -35,6 +36,8 @@ public interface CaseInstanceEntityManager extends EntityManager<CaseInstanceEnt
 
     List<CaseInstance> findByCriteria(CaseInstanceQuery query);
 
+    void forEachByCriteria(CaseInstanceQuery query, Consumer<? super CaseInstance> consumer);
+
     List<CaseInstance> findWithVariablesByCriteria(CaseInstanceQuery query);
 
     long countByCriteria(CaseInstanceQuery query);
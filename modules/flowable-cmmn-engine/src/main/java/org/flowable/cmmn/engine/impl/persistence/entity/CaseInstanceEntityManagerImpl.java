@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.cmmn.api.CallbackTypes;
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -84,6 +85,11 @@ public class CaseInstanceEntityManagerImpl
         return dataManager.findByCriteria((CaseInstanceQueryImpl) query);
     }
 
+    @Override
+    public void forEachByCriteria(CaseInstanceQuery query, Consumer<? super CaseInstance> consumer) {
+        dataManager.forEachByCriteria((CaseInstanceQueryImpl) query, consumer);
+    }
+
     @Override
     public List<CaseInstance> findWithVariablesByCriteria(CaseInstanceQuery query) {
         return dataManager.findWithVariablesByCriteria((CaseInstanceQueryImpl) query);
@@ -15,6 +15,7 @@ package org.flowable.cmmn.engine.impl.persistence.entity;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
@@ -60,6 +61,11 @@ public class HistoricCaseInstanceEntityManagerImpl
         return dataManager.findByCriteria((HistoricCaseInstanceQueryImpl) query);
     }
 
+    @Override
+    public void forEachByCriteria(HistoricCaseInstanceQuery query, Consumer<? super HistoricCaseInstance> consumer) {
+        dataManager.forEachByCriteria((HistoricCaseInstanceQueryImpl) query, consumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQuery query) {
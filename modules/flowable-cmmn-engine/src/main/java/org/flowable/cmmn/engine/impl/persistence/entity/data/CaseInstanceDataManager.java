@@ -15,6 +15,7 @@ package org.flowable.cmmn.engine.impl.persistence.entity.data;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
@@ -36,6 +37,8 @@ public interface CaseInstanceDataManager extends DataManager<CaseInstanceEntity>
 
     List<CaseInstance> findByCriteria(CaseInstanceQueryImpl query);
 
+    void forEachByCriteria(CaseInstanceQueryImpl query, Consumer<? super CaseInstance> consumer);
+
     List<CaseInstance> findWithVariablesByCriteria(CaseInstanceQueryImpl query);
 
     long countByCriteria(CaseInstanceQueryImpl query);
@@ -14,6 +14,7 @@ package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
@@ -33,6 +34,8 @@ public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCas
     List<String> findHistoricCaseInstanceIdsByParentIds(Collection<String> caseInstanceIds);
     
     List<HistoricCaseInstance> findByCriteria(HistoricCaseInstanceQueryImpl query);
+
+    void forEachByCriteria(HistoricCaseInstanceQueryImpl query, Consumer<? super HistoricCaseInstance> consumer);
     
     long countByCriteria(HistoricCaseInstanceQueryImpl query);
 
@@ -27,6 +27,11 @@ public interface SentryPartInstanceDataManager extends DataManager<SentryPartIns
     List<SentryPartInstanceEntity> findSentryPartInstancesByCaseInstanceIdAndNullPlanItemInstanceId(String caseInstanceId);
     
     List<SentryPartInstanceEntity> findSentryPartInstancesByPlanItemInstanceId(String planItemId);
+
+    /**
+     * Returns the sentry part instances of all plan item instances of the case instance that haven't ended yet.
+     */
+    List<SentryPartInstanceEntity> findSentryPartInstancesOfNonEndedPlanItemInstancesByCaseInstanceId(String caseInstanceId);
     
     void deleteByCaseInstanceId(String caseInstanceId);
     
@@ -17,14 +17,17 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.CaseInstanceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.CaseInstanceByCaseDefinitionIdMatcher;
@@ -79,7 +82,9 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             return cachedCaseInstanceEntity;
         }
 
-        // Not in cache
+        // Not in cache.
+        // Only the plan item instances that haven't ended are fetched: the ended ones (e.g. completed repetitions) are not needed for evaluating
+        // the case and can be many in long-running cases. They are loaded through the regular queries when needed.
         HashMap<String, Object> params = new HashMap<>(1);
         if (caseInstanceId != null) {
             params.put("caseInstanceId", caseInstanceId);
@@ -99,6 +104,7 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             List<PlanItemInstanceEntity> allPlanItemInstances = caseInstanceEntity.getChildPlanItemInstances();
             ArrayList<PlanItemInstanceEntity> directPlanItemInstances = new ArrayList<>();
             HashMap<String, PlanItemInstanceEntity> planItemInstanceMap = new HashMap<>(allPlanItemInstances.size());
+            List<PlanItemInstanceEntity> planItemInstancesWithSentryParts = new ArrayList<>();
 
             // Map all plan item instances to its id
             for (PlanItemInstanceEntity planItemInstanceEntity : allPlanItemInstances) {
@@ -123,6 +129,11 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
                     // Always add empty list, so no check is needed later and plan items
                     // without children have a non-null value, not triggering the fetch
                     currentPlanItemInstanceEntity.setChildPlanItemInstances(new ArrayList<>());
+
+                    if (currentPlanItemInstanceEntity instanceof CountingPlanItemInstanceEntity
+                            && ((CountingPlanItemInstanceEntity) currentPlanItemInstanceEntity).getSentryPartInstanceCount() > 0) {
+                        planItemInstancesWithSentryParts.add(currentPlanItemInstanceEntity);
+                    }
                 }
 
                 // plan items of case plan model
@@ -149,6 +160,10 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
                 }
             }
 
+            if (planItemInstancesWithSentryParts.size() > 1) {
+                fetchSatisfiedSentryPartInstances(caseInstanceEntity.getId(), planItemInstancesWithSentryParts);
+            }
+
             caseInstanceEntity.setChildPlanItemInstances(directPlanItemInstances);
             return caseInstanceEntity;
 
@@ -158,6 +173,25 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         }
     }
 
+    /**
+     * Fetches the satisfied sentry parts of the given plan item instances with one query, instead of one query per plan item instance
+     * when the sentries of each of them get evaluated.
+     */
+    protected void fetchSatisfiedSentryPartInstances(String caseInstanceId, List<PlanItemInstanceEntity> planItemInstances) {
+        List<SentryPartInstanceEntity> sentryPartInstances = cmmnEngineConfiguration.getSentryPartInstanceDataManager()
+                .findSentryPartInstancesOfNonEndedPlanItemInstancesByCaseInstanceId(caseInstanceId);
+
+        Map<String, List<SentryPartInstanceEntity>> sentryPartInstancesByPlanItemInstanceId = new HashMap<>();
+        for (SentryPartInstanceEntity sentryPartInstance : sentryPartInstances) {
+            sentryPartInstancesByPlanItemInstanceId.computeIfAbsent(sentryPartInstance.getPlanItemInstanceId(), id -> new ArrayList<>()).add(sentryPartInstance);
+        }
+
+        for (PlanItemInstanceEntity planItemInstance : planItemInstances) {
+            List<SentryPartInstanceEntity> planItemSentryPartInstances = sentryPartInstancesByPlanItemInstanceId.get(planItemInstance.getId());
+            planItemInstance.setSatisfiedSentryPartInstances(planItemSentryPartInstances != null ? planItemSentryPartInstances : new ArrayList<>(1));
+        }
+    }
+
     @Override
     public List<CaseInstanceEntity> findCaseInstancesByCaseDefinitionId(String caseDefinitionId) {
         return getList("selectCaseInstancesByCaseDefinitionId", caseDefinitionId, caseInstanceByCaseDefinitionIdMatcher, true);
@@ -172,6 +206,12 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         return getDbSqlSession().selectListNoCacheLoadAndStore("selectCaseInstancesByQueryCriteria", query, getManagedEntityClass());
     }
 
+    @Override
+    public void forEachByCriteria(CaseInstanceQueryImpl query, Consumer<? super CaseInstance> consumer) {
+        setSafeInValueLists(query);
+        getDbSqlSession().selectForEach("selectCaseInstancesByQueryCriteria", query, consumer);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public List<CaseInstance> findWithVariablesByCriteria(CaseInstanceQueryImpl query) {
@@ -14,6 +14,7 @@ package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
@@ -69,6 +70,12 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
         return getDbSqlSession().selectList("selectHistoricCaseInstancesByQueryCriteria", query, getManagedEntityClass());
     }
 
+    @Override
+    public void forEachByCriteria(HistoricCaseInstanceQueryImpl query, Consumer<? super HistoricCaseInstance> consumer) {
+        setSafeInValueLists(query);
+        getDbSqlSession().selectForEach("selectHistoricCaseInstancesByQueryCriteria", query, consumer);
+    }
+
     @Override
     public long countByCriteria(HistoricCaseInstanceQueryImpl query) {
         setSafeInValueLists(query);
@@ -32,6 +32,9 @@ public class MybatisSentryPartInstanceDataManagerImpl extends AbstractCmmnDataMa
     protected SentryPartByPlanItemInstanceIdEntityMatcher sentryPartByPlanItemInstanceIdEntityMatched
             = new SentryPartByPlanItemInstanceIdEntityMatcher();
 
+    protected PlanItemInstanceSentryPartByCaseInstanceIdEntityMatcher planItemInstanceSentryPartByCaseInstanceIdEntityMatcher
+            = new PlanItemInstanceSentryPartByCaseInstanceIdEntityMatcher();
+
     public MybatisSentryPartInstanceDataManagerImpl(CmmnEngineConfiguration cmmnEngineConfiguration) {
         super(cmmnEngineConfiguration);
     }
@@ -61,6 +64,14 @@ public class MybatisSentryPartInstanceDataManagerImpl extends AbstractCmmnDataMa
         return getList("selectSentryPartInstanceByPlanItemInstanceId", planItemInstanceId, sentryPartByPlanItemInstanceIdEntityMatched);
     }
 
+    @Override
+    public List<SentryPartInstanceEntity> findSentryPartInstancesOfNonEndedPlanItemInstancesByCaseInstanceId(String caseInstanceId) {
+        // Sentry parts created in the current command are not flushed yet, they are only found in the cache.
+        // Cached sentry parts of ended plan item instances are retained as well, those are ignored by the caller.
+        return getList("selectSentryPartInstancesOfNonEndedPlanItemInstancesByCaseInstanceId", caseInstanceId,
+                planItemInstanceSentryPartByCaseInstanceIdEntityMatcher, true);
+    }
+
     @Override
     public void deleteByCaseInstanceId(String caseInstanceId) {
         bulkDelete("deleteSentryPartInstancesByCaseInstanceId", sentryPartByCaseInstanceIdEntityMatched, caseInstanceId);
@@ -87,4 +98,14 @@ public class MybatisSentryPartInstanceDataManagerImpl extends AbstractCmmnDataMa
         
     }
 
+    public static class PlanItemInstanceSentryPartByCaseInstanceIdEntityMatcher extends CachedEntityMatcherAdapter<SentryPartInstanceEntity> {
+
+        @Override
+        public boolean isRetained(SentryPartInstanceEntity sentryPartInstanceEntity, Object param) {
+            return sentryPartInstanceEntity.getPlanItemInstanceId() != null
+                    && param.equals(sentryPartInstanceEntity.getCaseInstanceId());
+        }
+
+    }
+
 }
@@ -13,9 +13,15 @@
 package org.flowable.cmmn.engine.impl.runtime;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstanceQuery;
@@ -27,9 +33,14 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInitializingList;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -74,6 +85,7 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
     protected String tenantIdLike;
     protected boolean withoutTenantId;
     protected boolean includeCaseVariables;
+    protected Collection<String> includedVariableNames;
     protected String activePlanItemDefinitionId;
     protected Set<String> activePlanItemDefinitionIds;
     protected String involvedUser;
@@ -772,6 +784,15 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return this;
     }
 
+    @Override
+    public CaseInstanceQuery limitIncludedVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is null or empty");
+        }
+        this.includedVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public CaseInstanceQuery limitCaseInstanceVariables(Integer caseInstanceVariablesLimit) {
         return this;
@@ -801,7 +822,10 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
     public List<CaseInstance> executeList(CommandContext commandContext) {
         ensureVariablesInitialized();
         List<CaseInstance> caseInstances = null;
-        if (this.isIncludeCaseVariables()) {
+        if (this.isIncludeCaseVariables() && isFetchVariablesSeparately()) {
+            caseInstances = cmmnEngineConfiguration.getCaseInstanceEntityManager().findByCriteria(this);
+            fetchVariables(caseInstances);
+        } else if (this.isIncludeCaseVariables()) {
             caseInstances = cmmnEngineConfiguration.getCaseInstanceEntityManager().findWithVariablesByCriteria(this);
         } else {
             caseInstances = cmmnEngineConfiguration.getCaseInstanceEntityManager().findByCriteria(this);
@@ -816,9 +840,80 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return caseInstances;
     }
 
+    /**
+     * When true, the case instances are queried without their variables, which are then fetched with separate queries
+     * for all case instances at once, instead of being joined with the case instances.
+     */
+    protected boolean isFetchVariablesSeparately() {
+        return includedVariableNames != null || cmmnEngineConfiguration.isEnableTwoPhaseRelatedEntityFetching();
+    }
+
+    protected void fetchVariables(List<CaseInstance> caseInstances) {
+        if (caseInstances.isEmpty()) {
+            return;
+        }
+
+        Set<String> caseInstanceIds = new LinkedHashSet<>();
+        for (CaseInstance caseInstance : caseInstances) {
+            caseInstanceIds.add(caseInstance.getId());
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByCaseInstanceId = new HashMap<>();
+        for (List<String> caseInstanceIdsPart : CollectionUtil.partition(caseInstanceIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            InternalVariableInstanceQuery variableQuery = cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                    .createInternalVariableInstanceQuery()
+                    .scopeIds(caseInstanceIdsPart)
+                    .scopeType(ScopeTypes.CMMN)
+                    .withoutSubScopeId();
+            if (includedVariableNames != null) {
+                variableQuery.names(includedVariableNames);
+            }
+            for (VariableInstanceEntity variable : variableQuery.list()) {
+                variablesByCaseInstanceId.computeIfAbsent(variable.getScopeId(), key -> new ArrayList<>()).add(variable);
+            }
+        }
+
+        for (CaseInstance caseInstance : caseInstances) {
+            List<VariableInstanceEntity> variables = new VariableInitializingList();
+            variables.addAll(variablesByCaseInstanceId.getOrDefault(caseInstance.getId(), Collections.emptyList()));
+            ((CaseInstanceEntity) caseInstance).setQueryVariables(variables);
+        }
+    }
+
+    @Override
+    protected void executeForEach(CommandContext commandContext, Consumer<? super CaseInstance> consumer) {
+        if (includeCaseVariables) {
+            throw new FlowableIllegalArgumentException("Case variables can't be included when iterating over the case instances");
+        }
+
+        ensureVariablesInitialized();
+        cmmnEngineConfiguration.getCaseInstanceEntityManager().forEachByCriteria(this, caseInstance -> {
+            if (cmmnEngineConfiguration.getCaseLocalizationManager() != null) {
+                cmmnEngineConfiguration.getCaseLocalizationManager().localize(caseInstance, locale, withLocalizationFallback);
+            }
+            consumer.accept(caseInstance);
+        });
+    }
+
+    @Override
+    protected Object getKeysetValue(CaseInstance caseInstance, String columnName) {
+        switch (columnName) {
+            case "RES.ID_":
+                return caseInstance.getId();
+            case "RES.CASE_DEF_ID_":
+                return caseInstance.getCaseDefinitionId();
+            case "RES.START_TIME_":
+                return caseInstance.getStartTime();
+            case "RES.TENANT_ID_":
+                return caseInstance.getTenantId();
+            default:
+                return super.getKeysetValue(caseInstance, columnName);
+        }
+    }
+
     @Override
     public void enhanceCachedValue(CaseInstanceEntity caseInstance) {
-        if (isIncludeCaseVariables()) {
+        if (isIncludeCaseVariables() && !isFetchVariablesSeparately()) {
             caseInstance.getQueryVariables().addAll(cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
                     .findVariableInstanceByScopeIdAndScopeType(caseInstance.getId(), ScopeTypes.CMMN));
         }
@@ -977,6 +1072,10 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return includeCaseVariables;
     }
 
+    public Collection<String> getIncludedVariableNames() {
+        return includedVariableNames;
+    }
+
     public boolean isNeedsCaseDefinitionOuterJoin() {
         if (isNeedsPaging()) {
             if (AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType)
@@ -46,6 +46,11 @@ public class CmmnAggregatedVariableType implements VariableType {
         return value instanceof CmmnAggregation;
     }
 
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
+
     @Override
     public boolean isReadOnly() {
         return true;
@@ -661,6 +661,28 @@ public class AsyncCmmnHistoryTest extends CustomCmmnConfigurationFlowableTestCas
         assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId()).variableName("test").singleResult()).isNull();
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/async/AsyncCmmnHistoryTest.testVariables.cmmn")
+    public void testVariablesChangedInSameTransaction() {
+        CaseInstance caseInstance = cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            CaseInstance newCaseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneHumanTaskCase").variable("test", "start").start();
+            cmmnRuntimeService.setVariable(newCaseInstance.getId(), "test", "update");
+            cmmnRuntimeService.setVariable(newCaseInstance.getId(), "test", 3);
+            return newCaseInstance;
+        });
+
+        // The updates are coalesced into the creation of the variable
+        HistoryJob historyJob = cmmnManagementService.createHistoryJobQuery().singleResult();
+        String historyJson = cmmnManagementService.getHistoryJobHistoryJson(historyJob.getId());
+        assertThat(historyJson).contains("cmmn-variable-created").doesNotContain("cmmn-variable-updated");
+
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+        HistoricVariableInstance historicVariableInstance = cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId())
+                .variableName("test").singleResult();
+        assertThat(historicVariableInstance.getValue()).isEqualTo(3);
+        assertThat(historicVariableInstance.getLastUpdatedTime()).isAfterOrEqualTo(historicVariableInstance.getCreateTime());
+    }
+
     @Test
     @CmmnDeployment
     public void testHumanTask() {
@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.mgmt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.common.engine.api.management.SlowSqlStatement;
+import org.flowable.common.engine.api.management.SqlFlushStatistics;
+import org.flowable.common.engine.api.management.SqlStatementStatistics;
+import org.flowable.common.engine.impl.db.metrics.InMemorySqlMetricsCollector;
+import org.junit.After;
+import org.junit.Test;
+
+public class CmmnSqlMetricsTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return this.getClass().getName();
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        InMemorySqlMetricsCollector sqlMetricsCollector = new InMemorySqlMetricsCollector();
+        sqlMetricsCollector.setMaxSlowStatements(10);
+        cmmnEngineConfiguration.setSqlMetricsCollector(sqlMetricsCollector);
+        // Report every statement as slow
+        cmmnEngineConfiguration.setSqlSlowStatementThreshold(0);
+    }
+
+    @After
+    public void resetMetrics() {
+        cmmnManagementService.resetSqlMetrics();
+    }
+
+    @Test
+    public void testSqlMetrics() {
+        deployOneHumanTaskCaseModel();
+        cmmnManagementService.resetSqlMetrics();
+
+        cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+        cmmnRuntimeService.createCaseInstanceQuery().list();
+
+        SqlStatementStatistics statistics = cmmnManagementService.getSqlStatementStatistics().get("selectCaseInstancesByQueryCriteria");
+        assertThat(statistics).isNotNull();
+        assertThat(statistics.getCount()).isEqualTo(1);
+        assertThat(statistics.getTotalRows()).isEqualTo(1);
+
+        assertThat(cmmnManagementService.getSqlFlushStatistics()).containsKey("StartCaseInstanceCmd");
+        SqlFlushStatistics flushStatistics = cmmnManagementService.getSqlFlushStatistics().get("StartCaseInstanceCmd");
+        assertThat(flushStatistics.getFlushCount()).isEqualTo(1);
+        assertThat(flushStatistics.getInsertedEntities()).isPositive();
+
+        assertThat(cmmnManagementService.getSlowSqlStatements())
+                .extracting(SlowSqlStatement::getStatementId, SlowSqlStatement::getParameterShape)
+                .contains(tuple("selectCaseInstancesByQueryCriteria", "CaseInstanceQueryImpl"));
+
+        cmmnManagementService.resetSqlMetrics();
+        assertThat(cmmnManagementService.getSqlStatementStatistics()).isEmpty();
+        assertThat(cmmnManagementService.getSqlFlushStatistics()).isEmpty();
+        assertThat(cmmnManagementService.getSlowSqlStatements()).isEmpty();
+    }
+
+}
@@ -20,6 +20,8 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.GregorianCalendar;
@@ -41,6 +43,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.common.engine.api.query.CursorPage;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -1545,4 +1548,69 @@ public class CaseInstanceQueryImplTest extends FlowableCmmnTestCase {
                         tuple("With string value", caseInstance1.getId())
                 );
     }
+
+    @Test
+    public void testQueryWithCursor() {
+        for (int i = 0; i < 6; i++) {
+            cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("oneTaskCase")
+                    .start();
+        }
+
+        List<String> expectedIds = cmmnRuntimeService.createCaseInstanceQuery().orderByStartTime().asc().orderByCaseInstanceId().asc().list().stream()
+                .map(CaseInstance::getId)
+                .collect(Collectors.toList());
+        assertThat(expectedIds).hasSize(7);
+
+        List<String> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<CaseInstance> page = cmmnRuntimeService.createCaseInstanceQuery().orderByStartTime().asc().listPageAfter(cursor, 2);
+            page.getResults().forEach(caseInstance -> pagedIds.add(caseInstance.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+
+        List<String> forEachIds = new ArrayList<>();
+        cmmnRuntimeService.createCaseInstanceQuery().orderByStartTime().asc().orderByCaseInstanceId().asc()
+                .forEach(caseInstance -> forEachIds.add(caseInstance.getId()));
+        assertThat(forEachIds).containsExactlyElementsOf(expectedIds);
+
+        assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().caseDefinitionKey("oneTaskCase").stream(4).map(HistoricCaseInstance::getId))
+                .containsExactlyInAnyOrderElementsOf(cmmnRuntimeService.createCaseInstanceQuery().caseDefinitionKey("oneTaskCase").list().stream()
+                        .map(CaseInstance::getId)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testIncludeCaseVariablesFetchedSeparately() {
+        for (int i = 0; i < 3; i++) {
+            cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("oneTaskCase")
+                    .variable("a", "a" + i)
+                    .variable("b", i)
+                    .start();
+        }
+
+        Map<String, Map<String, Object>> joinedVariables = cmmnRuntimeService.createCaseInstanceQuery().caseDefinitionKey("oneTaskCase")
+                .includeCaseVariables().list().stream()
+                .collect(Collectors.toMap(CaseInstance::getId, CaseInstance::getCaseVariables));
+        assertThat(joinedVariables).hasSize(3);
+
+        cmmnEngineConfiguration.setEnableTwoPhaseRelatedEntityFetching(true);
+        try {
+            assertThat(cmmnRuntimeService.createCaseInstanceQuery().caseDefinitionKey("oneTaskCase").includeCaseVariables().list().stream()
+                    .collect(Collectors.toMap(CaseInstance::getId, CaseInstance::getCaseVariables)))
+                    .isEqualTo(joinedVariables);
+        } finally {
+            cmmnEngineConfiguration.setEnableTwoPhaseRelatedEntityFetching(false);
+        }
+
+        List<CaseInstance> caseInstances = cmmnRuntimeService.createCaseInstanceQuery().caseDefinitionKey("oneTaskCase")
+                .includeCaseVariables().limitIncludedVariables(Arrays.asList("b")).listPage(0, 2);
+        assertThat(caseInstances).hasSize(2);
+        for (CaseInstance caseInstance : caseInstances) {
+            assertThat(caseInstance.getCaseVariables()).containsOnlyKeys("b");
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.parser.CmmnParseHandler;
+import org.flowable.cmmn.engine.impl.parser.CmmnParseResult;
+import org.flowable.cmmn.engine.impl.parser.CmmnParser;
+import org.flowable.cmmn.model.BaseElement;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemTransition;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryOnPart;
+import org.flowable.cmmn.model.Stage;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class SentryDependentCriteriaTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return this.getClass().getName();
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setPostCmmnParseHandlers(Collections.singletonList(new AddEntryCriterionParseHandler()));
+    }
+
+    @Test
+    public void testTimerStartTriggerCriterionIsIndexed() {
+        addDeploymentForAutoCleanup(cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/eventlistener/TimerEventListenerTest.testTimerStartTrigger.cmmn")
+                .deploy());
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("testStartTrigger").singleResult();
+        CmmnModel cmmnModel = cmmnRepositoryService.getCmmnModel(caseDefinition.getId());
+
+        // The start trigger of the timer event listener is exposed as an entry criterion of the timer event listener
+        assertThat(cmmnModel.findPlanItem("planItem3").getDependentCriteria(PlanItemTransition.COMPLETE))
+                .extracting(Criterion::getId)
+                .containsExactlyInAnyOrder("sid-2F6510AD-77ED-4A97-A846-9D17753CAE24", "entryCriterion_planItem5_1");
+    }
+
+    @Test
+    public void testCriterionAddedInCodeIsEvaluated() {
+        addDeploymentForAutoCleanup(cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/three-task.cmmn")
+                .deploy());
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("activePlanItemDefinition").start();
+
+        // Task 3 got an entry criterion on the completion of task 2 added by the parse handler, which is not in the index of task 2
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).list())
+                .extracting(Task::getName)
+                .containsExactly("Task 1");
+
+        completeTask(caseInstance, "Task 1");
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).list())
+                .extracting(Task::getName)
+                .containsExactly("Task 2");
+
+        completeTask(caseInstance, "Task 2");
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).list())
+                .extracting(Task::getName)
+                .containsExactly("Task 3");
+
+        completeTask(caseInstance, "Task 3");
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    protected void completeTask(CaseInstance caseInstance, String name) {
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName(name).singleResult();
+        cmmnTaskService.complete(task.getId());
+    }
+
+    static class AddEntryCriterionParseHandler implements CmmnParseHandler {
+
+        @Override
+        public Collection<Class<? extends BaseElement>> getHandledTypes() {
+            return Collections.singletonList(Case.class);
+        }
+
+        @Override
+        public void parse(CmmnParser cmmnParser, CmmnParseResult cmmnParseResult, BaseElement element) {
+            Case caze = (Case) element;
+            if (!"activePlanItemDefinition".equals(caze.getId())) {
+                return;
+            }
+
+            Stage planModel = caze.getPlanModel();
+            PlanItem sourcePlanItem = planModel.findPlanItemInPlanFragmentOrDownwards("planItem2");
+
+            SentryOnPart sentryOnPart = new SentryOnPart();
+            sentryOnPart.setId("codeOnPart");
+            sentryOnPart.setSourceRef(sourcePlanItem.getId());
+            sentryOnPart.setSource(sourcePlanItem);
+            sentryOnPart.setStandardEvent(PlanItemTransition.COMPLETE);
+
+            Sentry sentry = new Sentry();
+            sentry.setId("codeSentry");
+            sentry.addSentryOnPart(sentryOnPart);
+
+            Criterion criterion = new Criterion();
+            criterion.setId("codeEntryCriterion");
+            criterion.setEntryCriterion(true);
+            criterion.setSentry(sentry);
+            planModel.findPlanItemInPlanFragmentOrDownwards("planItem3").addEntryCriterion(criterion);
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class SentryPartInstanceFetchTest extends FlowableCmmnTestCase {
+
+    @Test
+    @CmmnDeployment
+    public void testSatisfiedSentryPartsFetchedWithCaseInstance() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("sentryPartFetch").start();
+        completeTask(caseInstance, "A");
+
+        // Completing A satisfies one on part of the entry sentries of D and E
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            CaseInstanceEntity caseInstanceEntity = CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(caseInstance.getId());
+
+            // The completed plan item instance of A is not fetched together with the case instance
+            assertThat(caseInstanceEntity.getChildPlanItemInstances())
+                    .extracting(PlanItemInstance::getName)
+                    .containsExactlyInAnyOrder("B", "C", "D", "E");
+
+            // The satisfied sentry parts of D and E are fetched with the case instance, before any of them is asked for
+            List<SentryPartInstanceEntity> cachedSentryPartInstances = CommandContextUtil.getEntityCache(commandContext)
+                    .findInCache(SentryPartInstanceEntity.class);
+            assertThat(cachedSentryPartInstances)
+                    .extracting(SentryPartInstanceEntity::getOnPartId)
+                    .containsExactlyInAnyOrder("sentryOnPartDA", "sentryOnPartEA");
+
+            for (PlanItemInstanceEntity planItemInstance : caseInstanceEntity.getChildPlanItemInstances()) {
+                if ("D".equals(planItemInstance.getName())) {
+                    assertThat(planItemInstance.getSatisfiedSentryPartInstances())
+                            .extracting(SentryPartInstanceEntity::getOnPartId)
+                            .containsExactly("sentryOnPartDA");
+                } else if ("E".equals(planItemInstance.getName())) {
+                    assertThat(planItemInstance.getSatisfiedSentryPartInstances())
+                            .extracting(SentryPartInstanceEntity::getOnPartId)
+                            .containsExactly("sentryOnPartEA");
+                } else {
+                    assertThat(planItemInstance.getSatisfiedSentryPartInstances()).isEmpty();
+                }
+            }
+            return null;
+        });
+
+        completeTask(caseInstance, "B");
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceState(PlanItemInstanceState.ACTIVE).list())
+                .extracting(PlanItemInstance::getName)
+                .containsExactlyInAnyOrder("C", "D");
+
+        completeTask(caseInstance, "C");
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceState(PlanItemInstanceState.ACTIVE).list())
+                .extracting(PlanItemInstance::getName)
+                .containsExactlyInAnyOrder("D", "E");
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/SentryPartInstanceFetchTest.testSatisfiedSentryPartsFetchedWithCaseInstance.cmmn")
+    public void testSentryPartCreatedInSameCommandIsFetchedWithCaseInstance() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("sentryPartFetch").start();
+        completeTask(caseInstance, "A");
+
+        PlanItemInstance planItemInstanceD = cmmnRuntimeService.createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstance.getId())
+                .planItemInstanceName("D")
+                .singleResult();
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            // Satisfy the other on part of the entry sentry of D, the sentry part is not flushed before the case instance is fetched
+            SentryPartInstanceEntityManager sentryPartInstanceEntityManager = CommandContextUtil.getSentryPartInstanceEntityManager(commandContext);
+            SentryPartInstanceEntity sentryPartInstanceEntity = sentryPartInstanceEntityManager.create();
+            sentryPartInstanceEntity.setCaseInstanceId(caseInstance.getId());
+            sentryPartInstanceEntity.setCaseDefinitionId(caseInstance.getCaseDefinitionId());
+            sentryPartInstanceEntity.setPlanItemInstanceId(planItemInstanceD.getId());
+            sentryPartInstanceEntity.setOnPartId("sentryOnPartDB");
+            sentryPartInstanceEntity.setTimeStamp(cmmnEngineConfiguration.getClock().getCurrentTime());
+            sentryPartInstanceEntityManager.insert(sentryPartInstanceEntity);
+
+            CaseInstanceEntity caseInstanceEntity = CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(caseInstance.getId());
+            for (PlanItemInstanceEntity planItemInstance : caseInstanceEntity.getChildPlanItemInstances()) {
+                if ("D".equals(planItemInstance.getName())) {
+                    assertThat(planItemInstance.getSatisfiedSentryPartInstances())
+                            .extracting(SentryPartInstanceEntity::getOnPartId)
+                            .containsExactlyInAnyOrder("sentryOnPartDA", "sentryOnPartDB");
+                } else if ("E".equals(planItemInstance.getName())) {
+                    assertThat(planItemInstance.getSatisfiedSentryPartInstances())
+                            .extracting(SentryPartInstanceEntity::getOnPartId)
+                            .containsExactly("sentryOnPartEA");
+                }
+            }
+
+            // The sentry of D is satisfied in the same command
+            CommandContextUtil.getAgenda(commandContext).planEvaluateCriteriaOperation(caseInstance.getId());
+            return null;
+        });
+
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceState(PlanItemInstanceState.ACTIVE).list())
+                .extracting(PlanItemInstance::getName)
+                .containsExactlyInAnyOrder("B", "C", "D");
+    }
+
+    protected void completeTask(CaseInstance caseInstance, String name) {
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName(name).singleResult();
+        cmmnTaskService.complete(task.getId());
+    }
+
+}
@@ -13,8 +13,11 @@
 package org.flowable.cmmn.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -56,6 +59,12 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
      * Said differently: this list of plan items have an exit criteria that references this plan item.
      */
     protected List<PlanItem> exitDependentPlanItems = new ArrayList<>();
+
+    /**
+     * All entry and exit {@link Criterion}s having an on-part with this plan item as source, per standard event of the on-part.
+     * Said differently: these criteria can only change through their on-parts when this plan item goes through the given transition.
+     */
+    protected Map<String, List<Criterion>> dependentCriteria = new HashMap<>();
     
     protected Object behavior;
 
@@ -218,6 +227,28 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
         }
     }
 
+    public Map<String, List<Criterion>> getDependentCriteria() {
+        return dependentCriteria;
+    }
+
+    public void setDependentCriteria(Map<String, List<Criterion>> dependentCriteria) {
+        this.dependentCriteria = dependentCriteria;
+    }
+
+    /**
+     * @return the criteria having an on-part with this plan item as source for the given standard event (e.g. complete or occur)
+     */
+    public List<Criterion> getDependentCriteria(String standardEvent) {
+        return dependentCriteria.getOrDefault(standardEvent, Collections.emptyList());
+    }
+
+    public void addDependentCriterion(String standardEvent, Criterion criterion) {
+        List<Criterion> criteria = dependentCriteria.computeIfAbsent(standardEvent, event -> new ArrayList<>());
+        if (!criteria.contains(criterion)) {
+            criteria.add(criterion);
+        }
+    }
+
     public List<PlanItem> getAllDependentPlanItems() {
         List<PlanItem> allDependentPlanItems = new ArrayList<>(entryDependentPlanItems.size() + exitDependentPlanItems.size());
         allDependentPlanItems.addAll(entryDependentPlanItems);
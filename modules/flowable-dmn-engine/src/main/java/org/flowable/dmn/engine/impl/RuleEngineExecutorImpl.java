@@ -12,9 +12,11 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -22,6 +24,7 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -54,6 +57,16 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     protected ExpressionManager expressionManager;
     protected ObjectMapper objectMapper;
 
+    /**
+     * Whether the simple input entries of decision tables are evaluated as direct comparisons instead of EL expressions.
+     */
+    protected boolean decisionTableCompilationEnabled;
+
+    /**
+     * The compiled decision tables, which are removed together with the decision table (e.g. when the decision is evicted from the decision cache).
+     */
+    protected final Map<DecisionTable, CompiledDecisionTable> compiledDecisionTables = Collections.synchronizedMap(new WeakHashMap<>());
+
     public RuleEngineExecutorImpl(Map<String, AbstractHitPolicy> hitPolicyBehaviors, ExpressionManager expressionManager, ObjectMapper objectMapper) {
         this.hitPolicyBehaviors = hitPolicyBehaviors;
         this.expressionManager = expressionManager;
@@ -112,12 +125,14 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             throw new FlowableException("no execution context available");
         }
 
+        CompiledDecisionTable compiledDecisionTable = decisionTableCompilationEnabled ? getCompiledDecisionTable(decisionTable) : null;
+
         try {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
             for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+                boolean ruleResult = executeRule(rule, executionContext, compiledDecisionTable);
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
@@ -159,6 +174,10 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
+        return executeRule(rule, executionContext, null);
+    }
+
+    protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext, CompiledDecisionTable compiledDecisionTable) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
         }
@@ -183,7 +202,8 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
                     conditionResult = true;
                 } else {
-                    conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    Boolean compiledResult = compiledDecisionTable != null ? compiledDecisionTable.evaluate(conditionContainer, executionContext.getStackVariables()) : null;
+                    conditionResult = compiledResult != null ? compiledResult : executeInputExpressionEvaluation(conditionContainer, executionContext);
                 }
 
                 // add audit entry
@@ -222,6 +242,13 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return conditionResult;
     }
 
+    /**
+     * @return the compiled version of the decision table, which is created when it's needed for the first time
+     */
+    public CompiledDecisionTable getCompiledDecisionTable(DecisionTable decisionTable) {
+        return compiledDecisionTables.computeIfAbsent(decisionTable, CompiledDecisionTable::new);
+    }
+
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
@@ -350,6 +377,14 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         this.expressionManager = expressionManager;
     }
 
+    public boolean isDecisionTableCompilationEnabled() {
+        return decisionTableCompilationEnabled;
+    }
+
+    public void setDecisionTableCompilationEnabled(boolean decisionTableCompilationEnabled) {
+        this.decisionTableCompilationEnabled = decisionTableCompilationEnabled;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
@@ -12,14 +12,21 @@
  */
 package org.flowable.dmn.engine.impl.deployer;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -34,6 +41,7 @@ public class CachingAndArtifactsManager {
         final DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
         DeploymentCache<DecisionCacheEntry> decisionCache = dmnEngineConfiguration.getDeploymentManager().getDecisionCache();
         DmnDeploymentEntity deployment = parsedDeployment.getDeployment();
+        Set<DmnDefinition> dmnDefinitions = Collections.newSetFromMap(new IdentityHashMap<>());
 
         for (DecisionEntity decisionEntity : parsedDeployment.getAllDecisions()) {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecision(decisionEntity);
@@ -48,9 +56,30 @@ public class CachingAndArtifactsManager {
             }
 
             decisionCache.add(decisionEntity.getId(), cacheEntry);
+            dmnDefinitions.add(dmnDefinition);
 
             // Add to deployment for further usage
             deployment.addDeployedArtifact(decisionEntity);
         }
+
+        for (DmnDefinition dmnDefinition : dmnDefinitions) {
+            compileDecisionTables(dmnEngineConfiguration, dmnDefinition);
+        }
+    }
+
+    /**
+     * Compiles the decision tables of the definition up front, so that the first execution of a decision doesn't need to do it.
+     */
+    protected void compileDecisionTables(DmnEngineConfiguration dmnEngineConfiguration, DmnDefinition dmnDefinition) {
+        RuleEngineExecutor ruleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+        if (!(ruleEngineExecutor instanceof RuleEngineExecutorImpl) || !((RuleEngineExecutorImpl) ruleEngineExecutor).isDecisionTableCompilationEnabled()) {
+            return;
+        }
+
+        for (Decision decision : dmnDefinition.getDecisions()) {
+            if (decision.getExpression() instanceof DecisionTable) {
+                ((RuleEngineExecutorImpl) ruleEngineExecutor).getCompiledDecisionTable((DecisionTable) decision.getExpression());
+            }
+        }
     }
 }
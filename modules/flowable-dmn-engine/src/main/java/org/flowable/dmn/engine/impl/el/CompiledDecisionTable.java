@@ -0,0 +1,266 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * Decision table of which the simple input entries are compiled into direct comparisons,
+ * such that they don't need to be evaluated as EL expressions.
+ * <p>
+ * An input entry is compiled when the input expression is a plain variable name and the entry compares it
+ * (with {@code ==}, {@code !=}, {@code <}, {@code <=}, {@code >} or {@code >=}, or without operator) to a string, number or boolean literal.
+ * The comparison follows the coercion rules of the EL {@code BooleanOperations} for the variable types String, Boolean and the
+ * (big) number types, hence gives the same result as the EL expression. For all other input entries, and for variables that are
+ * missing or of another type, {@link #evaluate(RuleInputClauseContainer, Map)} returns null and the input entry needs to be evaluated as an EL expression.
+ */
+public class CompiledDecisionTable {
+
+    protected static final Pattern VARIABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    protected static final Set<String> RESERVED_WORDS = Set.of("true", "false", "null", "empty", "not", "and", "or",
+            "div", "mod", "eq", "ne", "lt", "gt", "le", "ge", "instanceof");
+
+    protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("\"([^\"\\\\]*)\"|'([^'\\\\]*)'");
+    protected static final Pattern LONG_LITERAL_PATTERN = Pattern.compile("-?\\d{1,15}");
+    protected static final Pattern DOUBLE_LITERAL_PATTERN = Pattern.compile("-?\\d{1,15}\\.\\d{1,15}");
+
+    protected final Map<RuleInputClauseContainer, CompiledInputEntry> compiledInputEntries = new IdentityHashMap<>();
+    protected int inputEntryCount;
+
+    public CompiledDecisionTable(DecisionTable decisionTable) {
+        Map<InputClause, String> inputVariableNames = new IdentityHashMap<>();
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            String inputExpression = inputClause.getInputExpression() != null ? StringUtils.trim(inputClause.getInputExpression().getText()) : null;
+            if (inputExpression != null && VARIABLE_NAME_PATTERN.matcher(inputExpression).matches() && !RESERVED_WORDS.contains(inputExpression)) {
+                inputVariableNames.put(inputClause, inputExpression);
+            }
+        }
+
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputEntry : rule.getInputEntries()) {
+                inputEntryCount++;
+                String variableName = inputVariableNames.get(inputEntry.getInputClause());
+                if (variableName != null && inputEntry.getInputEntry() != null) {
+                    CompiledInputEntry compiledInputEntry = compileInputEntry(variableName,
+                            inputEntry.getInputClause().getInputExpression().getTypeRef(), inputEntry.getInputEntry().getText());
+                    if (compiledInputEntry != null) {
+                        compiledInputEntries.put(inputEntry, compiledInputEntry);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the result of the input entry, or null when the input entry needs to be evaluated as an EL expression
+     */
+    public Boolean evaluate(RuleInputClauseContainer inputEntry, Map<String, Object> variables) {
+        CompiledInputEntry compiledInputEntry = compiledInputEntries.get(inputEntry);
+        if (compiledInputEntry == null || !variables.containsKey(compiledInputEntry.variableName)) {
+            return null;
+        }
+        return compiledInputEntry.evaluate(variables.get(compiledInputEntry.variableName));
+    }
+
+    public int getInputEntryCount() {
+        return inputEntryCount;
+    }
+
+    public int getCompiledInputEntryCount() {
+        return compiledInputEntries.size();
+    }
+
+    /**
+     * Mirrors {@link ELInputEntryExpressionPreParser#parse(String, String, String)}: only entries that the pre parser turns into
+     * {@code #{variable <operator> <literal>}} are compiled.
+     */
+    protected CompiledInputEntry compileInputEntry(String variableName, String inputVariableType, String inputEntryText) {
+        if (inputEntryText == null || inputEntryText.contains("fn_") || inputEntryText.startsWith("#{") || inputEntryText.startsWith("${")) {
+            return null;
+        }
+
+        if (!"date".equals(inputVariableType) && !"number".equals(inputVariableType) && inputEntryText.startsWith(".")) {
+            return null;
+        }
+
+        Operator operator = Operator.EQ;
+        String literalText = inputEntryText;
+        if (inputEntryText.length() >= 2) {
+            for (Operator candidate : Operator.values()) {
+                if (inputEntryText.startsWith(candidate.symbol)) {
+                    operator = candidate;
+                    literalText = inputEntryText.substring(candidate.symbol.length());
+                    break;
+                }
+            }
+        }
+
+        Object literal = parseLiteral(literalText.trim());
+        if (literal == null || (literal instanceof Boolean && operator != Operator.EQ && operator != Operator.NE)) {
+            return null;
+        }
+
+        return new CompiledInputEntry(variableName, operator, literal);
+    }
+
+    protected Object parseLiteral(String literalText) {
+        Matcher stringMatcher = STRING_LITERAL_PATTERN.matcher(literalText);
+        if (stringMatcher.matches()) {
+            return stringMatcher.group(1) != null ? stringMatcher.group(1) : stringMatcher.group(2);
+        }
+        if (LONG_LITERAL_PATTERN.matcher(literalText).matches()) {
+            return Long.valueOf(literalText);
+        }
+        if (DOUBLE_LITERAL_PATTERN.matcher(literalText).matches()) {
+            return Double.valueOf(literalText);
+        }
+        if ("true".equals(literalText) || "false".equals(literalText)) {
+            return Boolean.valueOf(literalText);
+        }
+        return null;
+    }
+
+    protected enum Operator {
+
+        // Two character operators first, as the one character operators are prefixes of them
+        EQ("=="), NE("!="), GE(">="), LE("<="), LT("<"), GT(">");
+
+        protected final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    protected static class CompiledInputEntry {
+
+        protected final String variableName;
+        protected final Operator operator;
+        protected final Object literal;
+        protected final BigDecimal bigDecimalLiteral;
+        protected final BigInteger bigIntegerLiteral;
+
+        protected CompiledInputEntry(String variableName, Operator operator, Object literal) {
+            this.variableName = variableName;
+            this.operator = operator;
+            this.literal = literal;
+            if (literal instanceof Number) {
+                // Same coercion as the EL type converter
+                this.bigDecimalLiteral = new BigDecimal(((Number) literal).doubleValue());
+                this.bigIntegerLiteral = BigInteger.valueOf(((Number) literal).longValue());
+            } else {
+                this.bigDecimalLiteral = null;
+                this.bigIntegerLiteral = null;
+            }
+        }
+
+        /**
+         * @return the result of comparing the value with the literal, or null when the type of the value is not supported
+         */
+        protected Boolean evaluate(Object value) {
+            if (value == null) {
+                // A null value is only not equal to a (non null) literal
+                return operator == Operator.NE;
+            }
+
+            if (literal instanceof String) {
+                if (!(value instanceof String)) {
+                    return null;
+                }
+                int comparison = ((String) value).compareTo((String) literal);
+                return compare(comparison == 0, comparison);
+
+            } else if (literal instanceof Boolean) {
+                if (!(value instanceof Boolean)) {
+                    return null;
+                }
+                return compare(value.equals(literal), 0);
+
+            } else if (!isNumber(value)) {
+                return null;
+
+            } else if (value instanceof BigDecimal) {
+                int comparison = ((BigDecimal) value).compareTo(bigDecimalLiteral);
+                return compare(comparison == 0, comparison);
+
+            } else if (value instanceof Float || value instanceof Double || literal instanceof Double) {
+                // Same as EL: equality of the Double objects, relational operators on the double values
+                double doubleValue = ((Number) value).doubleValue();
+                double doubleLiteral = ((Number) literal).doubleValue();
+                return compareDoubles(Double.valueOf(doubleValue).equals(doubleLiteral), doubleValue, doubleLiteral);
+
+            } else if (value instanceof BigInteger) {
+                int comparison = ((BigInteger) value).compareTo(bigIntegerLiteral);
+                return compare(comparison == 0, comparison);
+
+            } else {
+                long longValue = ((Number) value).longValue();
+                long longLiteral = (Long) literal;
+                return compare(longValue == longLiteral, Long.compare(longValue, longLiteral));
+            }
+        }
+
+        protected boolean isNumber(Object value) {
+            return value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+                    || value instanceof Float || value instanceof Double || value instanceof BigInteger || value instanceof BigDecimal;
+        }
+
+        protected boolean compare(boolean equal, int comparison) {
+            switch (operator) {
+                case EQ:
+                    return equal;
+                case NE:
+                    return !equal;
+                case LT:
+                    return comparison < 0;
+                case GT:
+                    return comparison > 0;
+                case GE:
+                    return comparison >= 0;
+                default:
+                    return comparison <= 0;
+            }
+        }
+
+        protected boolean compareDoubles(boolean equal, double value, double literal) {
+            // EL evaluates >= as !(<) and <= as !(>), which differs from >= and <= for NaN
+            switch (operator) {
+                case EQ:
+                    return equal;
+                case NE:
+                    return !equal;
+                case LT:
+                    return value < literal;
+                case GT:
+                    return value > literal;
+                case GE:
+                    return !(value < literal);
+                default:
+                    return !(value > literal);
+            }
+        }
+    }
+
+}
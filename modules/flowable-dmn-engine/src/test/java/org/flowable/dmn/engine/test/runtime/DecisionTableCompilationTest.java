@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.ExpressionExecution;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DecisionTableCompilationTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @After
+    public void resetCompilation() {
+        getRuleEngineExecutor().setDecisionTableCompilationEnabled(false);
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/DecisionTableCompilationTest.dmn")
+    public void testCompiledInputEntries() {
+        DecisionTable decisionTable = (DecisionTable) flowableDmnRule.getRepositoryService()
+                .getDmnDefinition(flowableDmnRule.getRepositoryService().createDecisionQuery().decisionKey("decision").singleResult().getId())
+                .getDecisionById("decision").getExpression();
+
+        CompiledDecisionTable compiledDecisionTable = getRuleEngineExecutor().getCompiledDecisionTable(decisionTable);
+        assertThat(compiledDecisionTable.getInputEntryCount()).isEqualTo(12);
+        // Not compiled: the two "-" entries, the fn_ entry and the #{...} entry
+        assertThat(compiledDecisionTable.getCompiledInputEntryCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/DecisionTableCompilationTest.dmn")
+    public void testSameResultsAsExpressions() {
+        List<Map<String, Object>> variableCombinations = new ArrayList<>();
+        for (Object customerType : Arrays.asList("gold", "silver", "bronze", null, 5)) {
+            for (Object amount : Arrays.asList(100, 99L, 50.5, 10.0f, 500, 10, new BigDecimal("100.00"), new BigInteger("5"), null, "100")) {
+                for (Object vip : Arrays.asList(true, false, null)) {
+                    Map<String, Object> variables = new HashMap<>();
+                    variables.put("customerType", customerType);
+                    variables.put("amount", amount);
+                    variables.put("vip", vip);
+                    variableCombinations.add(variables);
+                }
+            }
+        }
+
+        for (Map<String, Object> variables : variableCombinations) {
+            getRuleEngineExecutor().setDecisionTableCompilationEnabled(false);
+            DecisionExecutionAuditContainer expressionResult = executeDecision(variables);
+
+            getRuleEngineExecutor().setDecisionTableCompilationEnabled(true);
+            DecisionExecutionAuditContainer compiledResult = executeDecision(variables);
+
+            assertThat(compiledResult.getDecisionResult())
+                    .as("decision result for %s", variables)
+                    .isEqualTo(expressionResult.getDecisionResult());
+            assertThat(compiledResult.isFailed()).isEqualTo(expressionResult.isFailed());
+            assertThat(getConditionResults(compiledResult))
+                    .as("condition results for %s", variables)
+                    .isEqualTo(getConditionResults(expressionResult));
+        }
+    }
+
+    protected DecisionExecutionAuditContainer executeDecision(Map<String, Object> variables) {
+        return flowableDmnRule.getDmnEngine().getDmnDecisionService().createExecuteDecisionBuilder()
+                .decisionKey("decision")
+                .variables(variables)
+                .executeWithAuditTrail();
+    }
+
+    protected List<String> getConditionResults(DecisionExecutionAuditContainer auditContainer) {
+        List<String> conditionResults = new ArrayList<>();
+        for (RuleExecutionAuditContainer ruleExecution : auditContainer.getRuleExecutions().values()) {
+            for (ExpressionExecution conditionResult : ruleExecution.getConditionResults()) {
+                conditionResults.add(ruleExecution.getRuleNumber() + ":" + conditionResult.getId() + "=" + conditionResult.getResult()
+                        + (conditionResult.getException() != null ? " (exception)" : ""));
+            }
+            conditionResults.add(ruleExecution.getRuleNumber() + ":valid=" + ruleExecution.isValid());
+        }
+        return conditionResults;
+    }
+
+    protected RuleEngineExecutorImpl getRuleEngineExecutor() {
+        return (RuleEngineExecutorImpl) flowableDmnRule.getDmnEngine().getDmnEngineConfiguration().getRuleEngineExecutor();
+    }
+}
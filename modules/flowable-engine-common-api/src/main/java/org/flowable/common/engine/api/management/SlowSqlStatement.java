@@ -0,0 +1,33 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.management;
+
+import java.util.Date;
+
+/**
+ * A single execution of a mapped statement that took longer than the configured slow statement threshold.
+ */
+public interface SlowSqlStatement {
+
+    String getStatementId();
+
+    long getDurationMillis();
+
+    /**
+     * @return the shape of the parameter bound to the statement: the types of the parameter object and of its entries, never their values.
+     */
+    String getParameterShape();
+
+    Date getTime();
+
+}
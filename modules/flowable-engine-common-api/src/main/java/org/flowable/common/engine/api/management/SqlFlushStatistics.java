@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.management;
+
+/**
+ * Aggregated statistics of the flushes of the database session at the end of the commands of one type.
+ */
+public interface SqlFlushStatistics {
+
+    /**
+     * @return the simple class name of the command that was flushed.
+     */
+    String getCommandName();
+
+    long getFlushCount();
+
+    long getInsertedEntities();
+
+    long getUpdatedEntities();
+
+    /**
+     * @return the number of deleted entities, each bulk delete operation is counted as one.
+     */
+    long getDeletedEntities();
+
+    /**
+     * @return the number of insert, update and delete statements executed by the flushes.
+     */
+    long getStatementCount();
+
+    long getMaxStatementCount();
+
+    long getTotalDurationNanos();
+
+}
@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.management;
+
+/**
+ * Aggregated execution statistics of one MyBatis mapped statement (e.g. insertExecution or selectTaskByQueryCriteria).
+ */
+public interface SqlStatementStatistics {
+
+    /**
+     * The upper bounds, in milliseconds, of the buckets of {@link #getDurationHistogram()}.
+     * The histogram has one more bucket for the executions slower than the last bound.
+     */
+    long[] DURATION_HISTOGRAM_BOUNDS_MILLIS = { 1, 5, 10, 50, 100, 500, 1000 };
+
+    String getStatementId();
+
+    long getCount();
+
+    long getTotalDurationNanos();
+
+    long getMaxDurationNanos();
+
+    long getAverageDurationNanos();
+
+    /**
+     * @return the number of executions per duration bucket, see {@link #DURATION_HISTOGRAM_BOUNDS_MILLIS}.
+     */
+    long[] getDurationHistogram();
+
+    /**
+     * @return the number of rows returned by the queries or affected by the inserts, updates and deletes.
+     *         Statements executed in a JDBC batch don't report their affected rows and are not included.
+     */
+    long getTotalRows();
+
+    long getMaxRows();
+
+}
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.List;
+
+/**
+ * Page of results of a {@link CursorQuery}, together with the cursor to fetch the next page.
+ *
+ * @param <U> the type of the query results
+ */
+public class CursorPage<U> {
+
+    protected final List<U> results;
+    protected final String nextCursor;
+
+    public CursorPage(List<U> results, String nextCursor) {
+        this.results = results;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<U> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the opaque cursor that needs to be passed to {@link CursorQuery#listPageAfter(String, int)} to get the next page,
+     *         or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Query of which the results can be walked through without loading all of them in memory,
+ * and without the cost of skipping rows that comes with deep pages of {@link Query#listPage(int, int)}.
+ *
+ * @param <U> the type of the query results
+ */
+public interface CursorQuery<U> {
+
+    /**
+     * Executes the query and returns the results that come after the given cursor, in the order of the query.
+     * <p>
+     * Instead of skipping the results of the previous pages, the query continues after the sort values of the last result of the previous page
+     * (keyset pagination), which is equally fast for every page. The results are always ordered by id after the other order by properties.
+     * Order by properties that can be null need an explicit {@link Query.NullHandlingOnOrder}.
+     *
+     * @param afterCursor the {@link CursorPage#getNextCursor() next cursor} of the previous page, or null for the first page
+     * @param maxResults the maximum number of results of the page
+     */
+    CursorPage<U> listPageAfter(String afterCursor, int maxResults);
+
+    /**
+     * Executes the query and passes the results one by one to the consumer, while they are read from the database.
+     * All results are read in one transaction, in which the consumer is also called.
+     * The results are not kept in memory after they have been passed to the consumer and changes to them are not persisted.
+     */
+    void forEach(Consumer<? super U> consumer);
+
+    /**
+     * Returns a stream of all query results, which fetches the results lazily with {@link #listPageAfter(String, int)},
+     * one page (and transaction) at a time.
+     *
+     * @param pageSize the number of results fetched at once
+     */
+    Stream<U> stream(int pageSize);
+
+}
@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.function.Function;
 
 import javax.naming.InitialContext;
 import javax.sql.DataSource;
@@ -73,7 +74,10 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.api.engine.EngineLifecycleListener;
+import org.flowable.common.engine.impl.agenda.AgendaOperationElement;
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
 import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.agenda.ProfilingAgendaOperationRunner;
 import org.flowable.common.engine.impl.cfg.CommandExecutorImpl;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
@@ -84,6 +88,8 @@ import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.db.metrics.SqlMetricsCollector;
+import org.flowable.common.engine.impl.db.metrics.SqlMetricsPlugin;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -106,6 +112,9 @@ import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -194,6 +203,11 @@ public abstract class AbstractEngineConfiguration {
 
     protected AgendaOperationRunner agendaOperationRunner = (commandContext, runnable) -> runnable.run();
 
+    /**
+     * When set, the execution times of the agenda operations are recorded in this profiler.
+     */
+    protected AgendaOperationProfiler agendaOperationProfiler;
+
     protected List<CommandInterceptor> customPreCommandInterceptors;
     protected List<CommandInterceptor> customPostCommandInterceptors;
     protected List<CommandInterceptor> commandInterceptors;
@@ -234,6 +248,13 @@ public abstract class AbstractEngineConfiguration {
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, updates and deletes of entities are grouped per statement and executed through JDBC batches when flushing,
+     * instead of one round trip per entity. The update counts of the batch are still checked to detect concurrent modifications.
+     * Default false.
+     */
+    protected boolean isJdbcBatchUpdateAndDeleteEnabled;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
     protected String mybatisMappingFile;
@@ -309,6 +330,12 @@ public abstract class AbstractEngineConfiguration {
      */
     protected boolean tablePrefixIsSchema;
     
+    /**
+     * Set to true to use a {@link ConcurrentDeploymentCache} instead of a {@link DefaultDeploymentCache} for the definition and expression caches
+     * that are created by the engine. Lookups in the concurrent cache don't contend on a single lock, at the cost of an approximate LRU eviction.
+     */
+    protected boolean concurrentDeploymentCacheEnabled;
+
     /**
      * Set to true if the latest version of a definition should be retrieved, ignoring a possible parent deployment id value
      */
@@ -329,6 +356,16 @@ public abstract class AbstractEngineConfiguration {
      */
     protected boolean enableLogSqlExecutionTime;
 
+    /**
+     * When set, the execution times and row counts of the sql statements and the entities flushed per command are reported to this collector.
+     */
+    protected SqlMetricsCollector sqlMetricsCollector;
+
+    /**
+     * The execution time in milliseconds above which a statement is reported as slow to the {@link #sqlMetricsCollector}. A negative value disables it.
+     */
+    protected long sqlSlowStatementThreshold = 1000;
+
     protected Properties databaseTypeMappings = getDefaultDatabaseTypeMappings();
 
     /**
@@ -592,6 +629,17 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    /**
+     * Wraps the agenda operation runner in a {@link ProfilingAgendaOperationRunner} when an {@link AgendaOperationProfiler} is configured.
+     *
+     * @param elementProvider returns the model element an agenda operation of the engine is executed for
+     */
+    protected void initAgendaOperationProfiling(Function<Runnable, AgendaOperationElement> elementProvider) {
+        if (agendaOperationProfiler != null && !(agendaOperationRunner instanceof ProfilingAgendaOperationRunner)) {
+            agendaOperationRunner = new ProfilingAgendaOperationRunner(agendaOperationRunner, agendaOperationProfiler, elementProvider);
+        }
+    }
+
     public void initCommandInterceptors() {
         if (commandInterceptors == null) {
             commandInterceptors = new ArrayList<>();
@@ -681,6 +729,18 @@ public abstract class AbstractEngineConfiguration {
     // id generator
     // /////////////////////////////////////////////////////////////
 
+    /**
+     * Creates a cache for definitions or expressions, bounded by the given limit (a limit of zero or lower means no limit).
+     * Callers for which a limit of zero means that nothing should be cached (e.g. the expression cache) should not create a cache at all.
+     */
+    public <T> DeploymentCache<T> createDeploymentCache(int limit) {
+        if (concurrentDeploymentCacheEnabled) {
+            return limit <= 0 ? new ConcurrentDeploymentCache<>() : new ConcurrentDeploymentCache<>(limit);
+        } else {
+            return limit <= 0 ? new DefaultDeploymentCache<>() : new DefaultDeploymentCache<>(limit);
+        }
+    }
+
     public void initIdGenerator() {
         if (idGenerator == null) {
             idGenerator = new StrongUuidGenerator();
@@ -786,6 +846,8 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setJdbcBatchUpdateAndDeleteEnabled(isJdbcBatchUpdateAndDeleteEnabled);
+        dbSqlSessionFactory.setSqlMetricsCollector(sqlMetricsCollector);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -893,6 +955,9 @@ public abstract class AbstractEngineConfiguration {
         if (isEnableLogSqlExecutionTime()) {
             initMyBatisLogSqlExecutionTimePlugin(configuration);
         }
+        if (sqlMetricsCollector != null) {
+            initMyBatisSqlMetricsPlugin(configuration);
+        }
 
         configuration = parseMybatisConfiguration(parser);
         return configuration;
@@ -966,6 +1031,10 @@ public abstract class AbstractEngineConfiguration {
         configuration.addInterceptor(new LogSqlExecutionTimePlugin());
     }
 
+    public void initMyBatisSqlMetricsPlugin(Configuration configuration) {
+        configuration.addInterceptor(new SqlMetricsPlugin(sqlMetricsCollector, sqlSlowStatementThreshold));
+    }
+
     public Configuration parseMybatisConfiguration(XMLConfigBuilder parser) {
         Configuration configuration = parser.parse();
 
@@ -1425,6 +1494,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public AgendaOperationProfiler getAgendaOperationProfiler() {
+        return agendaOperationProfiler;
+    }
+
+    public AbstractEngineConfiguration setAgendaOperationProfiler(AgendaOperationProfiler agendaOperationProfiler) {
+        this.agendaOperationProfiler = agendaOperationProfiler;
+        return this;
+    }
+
     public List<CommandInterceptor> getCustomPreCommandInterceptors() {
         return customPreCommandInterceptors;
     }
@@ -1569,6 +1647,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isJdbcBatchUpdateAndDeleteEnabled() {
+        return isJdbcBatchUpdateAndDeleteEnabled;
+    }
+
+    public AbstractEngineConfiguration setJdbcBatchUpdateAndDeleteEnabled(boolean isJdbcBatchUpdateAndDeleteEnabled) {
+        this.isJdbcBatchUpdateAndDeleteEnabled = isJdbcBatchUpdateAndDeleteEnabled;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -1703,6 +1790,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isConcurrentDeploymentCacheEnabled() {
+        return concurrentDeploymentCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setConcurrentDeploymentCacheEnabled(boolean concurrentDeploymentCacheEnabled) {
+        this.concurrentDeploymentCacheEnabled = concurrentDeploymentCacheEnabled;
+        return this;
+    }
+
     public boolean isAlwaysLookupLatestDefinitionVersion() {
         return alwaysLookupLatestDefinitionVersion;
     }
@@ -1752,6 +1848,24 @@ public abstract class AbstractEngineConfiguration {
         this.enableLogSqlExecutionTime = enableLogSqlExecutionTime;
     }
 
+    public SqlMetricsCollector getSqlMetricsCollector() {
+        return sqlMetricsCollector;
+    }
+
+    public AbstractEngineConfiguration setSqlMetricsCollector(SqlMetricsCollector sqlMetricsCollector) {
+        this.sqlMetricsCollector = sqlMetricsCollector;
+        return this;
+    }
+
+    public long getSqlSlowStatementThreshold() {
+        return sqlSlowStatementThreshold;
+    }
+
+    public AbstractEngineConfiguration setSqlSlowStatementThreshold(long sqlSlowStatementThreshold) {
+        this.sqlSlowStatementThreshold = sqlSlowStatementThreshold;
+        return this;
+    }
+
     public Map<Class<?>, SessionFactory> getSessionFactories() {
         return sessionFactories;
     }
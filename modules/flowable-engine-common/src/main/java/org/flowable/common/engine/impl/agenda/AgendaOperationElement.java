@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.agenda;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * The model element an agenda operation is executed for, identified by the id of its definition (e.g. the process or case definition)
+ * and its id within that definition. Element ids such as {@code start} or {@code theEnd} are commonly reused by many definitions.
+ */
+public class AgendaOperationElement implements Comparable<AgendaOperationElement> {
+
+    protected static final Comparator<AgendaOperationElement> COMPARATOR = Comparator
+            .comparing(AgendaOperationElement::getDefinitionId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(AgendaOperationElement::getElementId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    protected final String definitionId;
+    protected final String elementId;
+
+    public AgendaOperationElement(String definitionId, String elementId) {
+        this.definitionId = definitionId;
+        this.elementId = elementId;
+    }
+
+    public String getDefinitionId() {
+        return definitionId;
+    }
+
+    public String getElementId() {
+        return elementId;
+    }
+
+    @Override
+    public int compareTo(AgendaOperationElement other) {
+        return COMPARATOR.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AgendaOperationElement that = (AgendaOperationElement) o;
+        return Objects.equals(definitionId, that.definitionId) && Objects.equals(elementId, that.elementId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(definitionId, elementId);
+    }
+
+    @Override
+    public String toString() {
+        return definitionId + "/" + elementId;
+    }
+}
@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.agenda;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Aggregates the execution times of agenda operations per operation type and per model element (e.g. the BPMN activity or CMMN plan item definition).
+ * The model elements are kept apart per definition, as the same element ids are commonly used in many definitions.
+ *
+ * The timings are recorded by a {@link ProfilingAgendaOperationRunner}, which is installed by the engine configuration when a profiler is set on it.
+ * Profiling can be switched on and off at runtime with {@link #setEnabled(boolean)} and a sampling rate can be used
+ * to only profile a part of the commands: either all agenda operations of a command are profiled or none of them.
+ */
+public class AgendaOperationProfiler {
+
+    protected static final String SAMPLED_ATTRIBUTE = "agendaOperationProfilerSampled";
+
+    protected volatile boolean enabled = true;
+    protected volatile double samplingRate = 1.0;
+    protected volatile boolean cpuTimeEnabled;
+
+    protected final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    protected final ConcurrentMap<String, AgendaOperationStatistics> operationTypeStatistics = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<AgendaOperationElement, AgendaOperationStatistics> elementStatistics = new ConcurrentHashMap<>();
+
+    public AgendaOperationProfiler() {
+        this.cpuTimeEnabled = threadMXBean.isCurrentThreadCpuTimeSupported();
+    }
+
+    /**
+     * Returns whether the agenda operations of the command with the given context should be profiled.
+     * The sampling decision is taken once per command context, so that nested commands reusing the context are sampled together.
+     */
+    public boolean isSampled(CommandContext commandContext) {
+        if (!enabled) {
+            return false;
+        }
+        if (samplingRate >= 1.0) {
+            return true;
+        }
+
+        Boolean sampled = (Boolean) commandContext.getAttribute(SAMPLED_ATTRIBUTE);
+        if (sampled == null) {
+            sampled = ThreadLocalRandom.current().nextDouble() < samplingRate;
+            commandContext.addAttribute(SAMPLED_ATTRIBUTE, sampled);
+        }
+        return sampled;
+    }
+
+    /**
+     * @return the cpu time of the current thread in nanoseconds, or -1 when cpu time measurement is not enabled.
+     */
+    public long getCurrentThreadCpuTime() {
+        return cpuTimeEnabled ? threadMXBean.getCurrentThreadCpuTime() : -1;
+    }
+
+    public void record(String operationType, AgendaOperationElement element, long wallTimeNanos, long cpuTimeNanos) {
+        operationTypeStatistics.computeIfAbsent(operationType, key -> new AgendaOperationStatistics()).record(wallTimeNanos, cpuTimeNanos);
+        if (element != null) {
+            elementStatistics.computeIfAbsent(element, key -> new AgendaOperationStatistics()).record(wallTimeNanos, cpuTimeNanos);
+        }
+    }
+
+    /**
+     * @return the statistics per operation type (the simple class name of the operation), sorted by operation type.
+     */
+    public Map<String, AgendaOperationStatistics> getOperationTypeStatistics() {
+        return Collections.unmodifiableMap(new TreeMap<>(operationTypeStatistics));
+    }
+
+    /**
+     * @return the statistics per model element, sorted by definition id and element id.
+     */
+    public Map<AgendaOperationElement, AgendaOperationStatistics> getElementStatistics() {
+        return Collections.unmodifiableMap(new TreeMap<>(elementStatistics));
+    }
+
+    public void reset() {
+        operationTypeStatistics.clear();
+        elementStatistics.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * Sets the fraction of the commands, between 0 and 1, for which the agenda operations are profiled. The default is 1, profiling all commands.
+     */
+    public void setSamplingRate(double samplingRate) {
+        this.samplingRate = samplingRate;
+    }
+
+    public boolean isCpuTimeEnabled() {
+        return cpuTimeEnabled;
+    }
+
+    public void setCpuTimeEnabled(boolean cpuTimeEnabled) {
+        this.cpuTimeEnabled = cpuTimeEnabled && threadMXBean.isCurrentThreadCpuTimeSupported();
+    }
+}
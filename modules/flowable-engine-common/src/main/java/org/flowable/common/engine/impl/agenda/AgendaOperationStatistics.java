@@ -0,0 +1,112 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.agenda;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The timings of the agenda operations recorded by an {@link AgendaOperationProfiler} for one operation type or one model element.
+ *
+ * The times include the operations that were executed by nested commands while the operation was running.
+ */
+public class AgendaOperationStatistics {
+
+    /**
+     * The exclusive upper bounds, in microseconds, of the buckets of the wall time histogram.
+     * The last bucket of the histogram contains all the operations that took longer than the last bound.
+     */
+    public static final long[] WALL_TIME_HISTOGRAM_BOUNDS_MICROS = { 10, 100, 1_000, 10_000, 100_000, 1_000_000 };
+
+    protected final LongAdder count = new LongAdder();
+    protected final LongAdder totalWallTimeNanos = new LongAdder();
+    protected final LongAdder totalCpuTimeNanos = new LongAdder();
+    protected final LongAccumulator maxWallTimeNanos = new LongAccumulator(Math::max, 0);
+    protected final AtomicLongArray wallTimeHistogram = new AtomicLongArray(WALL_TIME_HISTOGRAM_BOUNDS_MICROS.length + 1);
+
+    public void record(long wallTimeNanos, long cpuTimeNanos) {
+        count.increment();
+        totalWallTimeNanos.add(wallTimeNanos);
+        if (cpuTimeNanos >= 0) {
+            totalCpuTimeNanos.add(cpuTimeNanos);
+        }
+        maxWallTimeNanos.accumulate(wallTimeNanos);
+        wallTimeHistogram.incrementAndGet(getHistogramBucket(TimeUnit.NANOSECONDS.toMicros(wallTimeNanos)));
+    }
+
+    protected int getHistogramBucket(long wallTimeMicros) {
+        for (int i = 0; i < WALL_TIME_HISTOGRAM_BOUNDS_MICROS.length; i++) {
+            if (wallTimeMicros < WALL_TIME_HISTOGRAM_BOUNDS_MICROS[i]) {
+                return i;
+            }
+        }
+        return WALL_TIME_HISTOGRAM_BOUNDS_MICROS.length;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalWallTimeNanos() {
+        return totalWallTimeNanos.sum();
+    }
+
+    /**
+     * @return the total cpu time of the current thread, 0 when cpu time measurement is not enabled or not supported by the JVM.
+     */
+    public long getTotalCpuTimeNanos() {
+        return totalCpuTimeNanos.sum();
+    }
+
+    public long getMaxWallTimeNanos() {
+        return maxWallTimeNanos.get();
+    }
+
+    public long getAverageWallTimeNanos() {
+        long currentCount = getCount();
+        return currentCount > 0 ? getTotalWallTimeNanos() / currentCount : 0;
+    }
+
+    /**
+     * @return the number of operations per bucket of {@link #WALL_TIME_HISTOGRAM_BOUNDS_MICROS}.
+     */
+    public long[] getWallTimeHistogram() {
+        long[] histogram = new long[wallTimeHistogram.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = wallTimeHistogram.get(i);
+        }
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder histogram = new StringBuilder();
+        long[] buckets = getWallTimeHistogram();
+        for (int i = 0; i < buckets.length; i++) {
+            if (i > 0) {
+                histogram.append(", ");
+            }
+            histogram.append(i < WALL_TIME_HISTOGRAM_BOUNDS_MICROS.length ? "<" + WALL_TIME_HISTOGRAM_BOUNDS_MICROS[i] : ">=" + WALL_TIME_HISTOGRAM_BOUNDS_MICROS[i - 1])
+                    .append("us=")
+                    .append(buckets[i]);
+        }
+        return "count=" + getCount()
+                + ", totalWallTimeMicros=" + TimeUnit.NANOSECONDS.toMicros(getTotalWallTimeNanos())
+                + ", totalCpuTimeMicros=" + TimeUnit.NANOSECONDS.toMicros(getTotalCpuTimeNanos())
+                + ", avgWallTimeMicros=" + TimeUnit.NANOSECONDS.toMicros(getAverageWallTimeNanos())
+                + ", maxWallTimeMicros=" + TimeUnit.NANOSECONDS.toMicros(getMaxWallTimeNanos())
+                + ", histogram=[" + histogram + "]";
+    }
+}
@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.agenda;
+
+import java.util.function.Function;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.ReflectUtil;
+
+/**
+ * {@link AgendaOperationRunner} recording the execution time of every operation in an {@link AgendaOperationProfiler},
+ * before delegating the actual execution to the wrapped runner.
+ */
+public class ProfilingAgendaOperationRunner implements AgendaOperationRunner {
+
+    protected AgendaOperationRunner agendaOperationRunner;
+    protected AgendaOperationProfiler profiler;
+    protected Function<Runnable, AgendaOperationElement> elementProvider;
+
+    /**
+     * @param elementProvider returns the model element an operation is executed for, or null if the operation is not related to one element
+     */
+    public ProfilingAgendaOperationRunner(AgendaOperationRunner agendaOperationRunner, AgendaOperationProfiler profiler,
+            Function<Runnable, AgendaOperationElement> elementProvider) {
+        this.agendaOperationRunner = agendaOperationRunner;
+        this.profiler = profiler;
+        this.elementProvider = elementProvider;
+    }
+
+    @Override
+    public void executeOperation(CommandContext commandContext, Runnable runnable) {
+        if (!profiler.isSampled(commandContext)) {
+            agendaOperationRunner.executeOperation(commandContext, runnable);
+            return;
+        }
+
+        // The element is taken before running the operation, as the operation typically moves the execution or plan item to a new state
+        AgendaOperationElement element = elementProvider != null ? elementProvider.apply(runnable) : null;
+        long cpuTimeStart = profiler.getCurrentThreadCpuTime();
+        long wallTimeStart = System.nanoTime();
+        try {
+            agendaOperationRunner.executeOperation(commandContext, runnable);
+        } finally {
+            long wallTime = System.nanoTime() - wallTimeStart;
+            long cpuTime = cpuTimeStart >= 0 ? profiler.getCurrentThreadCpuTime() - cpuTimeStart : -1;
+            profiler.record(getOperationType(runnable), element, wallTime, cpuTime);
+        }
+    }
+
+    protected String getOperationType(Runnable runnable) {
+        return ReflectUtil.getStableSimpleName(runnable.getClass());
+    }
+
+    public AgendaOperationRunner getAgendaOperationRunner() {
+        return agendaOperationRunner;
+    }
+
+    public AgendaOperationProfiler getProfiler() {
+        return profiler;
+    }
+
+    public Function<Runnable, AgendaOperationElement> getElementProvider() {
+        return elementProvider;
+    }
+}
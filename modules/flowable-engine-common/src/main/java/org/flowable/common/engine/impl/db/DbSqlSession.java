@@ -13,6 +13,7 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -23,18 +24,31 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
+import java.util.function.Consumer;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.metrics.SqlMetricsCollector;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.common.engine.impl.util.ReflectUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,6 +64,7 @@ public class DbSqlSession implements Session {
 
     protected EntityCache entityCache;
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -59,6 +74,8 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    protected int flushedStatementCount;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -281,6 +298,36 @@ public class DbSqlSession implements Session {
         }
     }
     
+    /**
+     * Selects at most the given amount of rows on the JDBC level, independent of any limit in the statement itself.
+     * Needed for statements that can't be combined with the database specific limit clause, e.g. {@code FOR UPDATE SKIP LOCKED} on Oracle.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public List selectListWithMaxRows(String statement, ListQueryParameterObject parameter, int maxRows) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        List loadedObjects = sqlSession.selectList(statement, parameter, new RowBounds(0, maxRows));
+        return cacheLoadOrStore(loadedObjects, parameter);
+    }
+
+    /**
+     * Passes the results of the statement one by one to the consumer, while they are read from the result set.
+     * The results are not stored in the entity cache, such that large results can be processed without keeping them in memory.
+     * The statement can't use nested result maps, as these need to read all rows before the results are complete.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void selectForEach(String statement, ListQueryParameterObject parameter, Consumer consumer) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        try (Cursor<Object> cursor = sqlSession.selectCursor(statement, parameter)) {
+            for (Object result : cursor) {
+                consumer.accept(result);
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Could not close the cursor of " + statement, e);
+        }
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -365,11 +412,59 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        SqlMetricsCollector sqlMetricsCollector = dbSqlSessionFactory.getSqlMetricsCollector();
+        if (sqlMetricsCollector != null) {
+            flushWithMetrics(sqlMetricsCollector);
+            return;
+        }
+
         flushInserts();
         flushUpdates();
         flushDeletes();
     }
 
+    /**
+     * Flushes the session like {@link #flush()} and reports the number of flushed entities and executed statements
+     * to the collector, under the name of the command being executed.
+     */
+    protected void flushWithMetrics(SqlMetricsCollector sqlMetricsCollector) {
+        int insertedEntities = countEntities(insertedObjects);
+        int updatedEntities = updatedObjects.size();
+        int deletedEntities = countEntities(deletedObjects);
+        for (List<BulkDeleteOperation> operations : bulkDeleteOperations.values()) {
+            deletedEntities += operations.size();
+        }
+
+        flushedStatementCount = 0;
+        long startTime = System.nanoTime();
+
+        flushInserts();
+        flushUpdates();
+        flushDeletes();
+
+        if (insertedEntities > 0 || updatedEntities > 0 || deletedEntities > 0) {
+            sqlMetricsCollector.recordFlush(getFlushedCommandName(), insertedEntities, updatedEntities, deletedEntities,
+                    flushedStatementCount, System.nanoTime() - startTime);
+        }
+    }
+
+    protected int countEntities(Map<Class<? extends Entity>, Map<String, Entity>> entitiesByClass) {
+        int count = 0;
+        for (Map<String, Entity> entities : entitiesByClass.values()) {
+            count += entities.size();
+        }
+        return count;
+    }
+
+    protected String getFlushedCommandName() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null || commandContext.getCommand() == null) {
+            return "unknown";
+        }
+
+        return ReflectUtil.getStableSimpleName(commandContext.getCommand().getClass());
+    }
+
     /**
      * Clears all deleted and inserted objects from the cache, and removes inserts and deletes that cancel each other.
      *
@@ -517,6 +612,7 @@ public class DbSqlSession implements Session {
 
         LOGGER.debug("inserting: {}", entity);
         sqlSession.insert(insertStatement, entity);
+        flushedStatementCount++;
 
         // See https://activiti.atlassian.net/browse/ACT-1290
         if (entity instanceof HasRevision) {
@@ -548,6 +644,7 @@ public class DbSqlSession implements Session {
                 index++;
             }
             sqlSession.insert(insertStatement, subList);
+            flushedStatementCount++;
         }
 
         if (hasRevision != null && hasRevision) {
@@ -567,28 +664,69 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
-
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        if (dbSqlSessionFactory.isJdbcBatchUpdateAndDeleteEnabled() && updatedObjects.size() > 1) {
+            flushBatchedUpdates();
+        } else {
+            for (Entity updatedObject : updatedObjects) {
+                flushRegularUpdate(updatedObject);
             }
+        }
+        updatedObjects.clear();
+    }
+
+    protected void flushRegularUpdate(Entity updatedObject) {
+        String updateStatement = getMappedUpdateStatement(updatedObject);
+
+        LOGGER.debug("updating: {}", updatedObject);
 
-            LOGGER.debug("updating: {}", updatedObject);
+        int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+        flushedStatementCount++;
+        if (updatedRecords == 0) {
+            throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        if (updatedObject instanceof HasRevision) {
+            ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+        }
+    }
 
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+    /**
+     * Executes all updates through a JDBC batch, grouped per update statement so that consecutive statements share the same prepared statement.
+     * The update counts returned by the driver are verified per row, so optimistic locking still works as with regular updates.
+     */
+    protected void flushBatchedUpdates() {
+        Map<String, List<Entity>> updatesByStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            updatesByStatement.computeIfAbsent(getMappedUpdateStatement(updatedObject), statement -> new ArrayList<>()).add(updatedObject);
+        }
+
+        SqlSession batchSession = getBatchSqlSession();
+        for (Map.Entry<String, List<Entity>> updateEntry : updatesByStatement.entrySet()) {
+            for (Entity updatedObject : updateEntry.getValue()) {
+                LOGGER.debug("updating (batched): {}", updatedObject);
+                batchSession.update(updateEntry.getKey(), updatedObject);
             }
+        }
+        verifyBatchResults(batchSession.flushStatements(), true);
+        flushedStatementCount += updatedObjects.size();
 
+        for (Entity updatedObject : updatedObjects) {
             // See https://activiti.atlassian.net/browse/ACT-1290
             if (updatedObject instanceof HasRevision) {
                 ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
             }
+        }
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
 
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
         }
-        updatedObjects.clear();
+        return updateStatement;
     }
 
     protected void flushDeletes() {
@@ -628,17 +766,19 @@ public class DbSqlSession implements Session {
         if (deleteOperations != null) {
             for (BulkDeleteOperation bulkDeleteOperation : deleteOperations) {
                 bulkDeleteOperation.execute(sqlSession, entityClass);
+                flushedStatementCount++;
             }
         }
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isJdbcBatchUpdateAndDeleteEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchedDeleteEntities(entityClass, entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -650,11 +790,68 @@ public class DbSqlSession implements Session {
             } else {
                 sqlSession.delete(deleteStatement, entity);
             }
+            flushedStatementCount++;
         }
     }
 
+    /**
+     * Executes the deletes of one entity type through a JDBC batch. The batch is executed before returning,
+     * so the deletion order between entity types (and with the bulk delete operations) is kept.
+     */
+    protected void flushBatchedDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        SqlSession batchSession = getBatchSqlSession();
+        for (Entity entity : entitiesToDelete) {
+            LOGGER.debug("deleting (batched): {}", entity);
+            batchSession.delete(getMappedDeleteStatement(entity), entity);
+        }
+        verifyBatchResults(batchSession.flushStatements(), false);
+        flushedStatementCount += entitiesToDelete.size();
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
+    /**
+     * Checks the per-row update counts of an executed JDBC batch. A count of 0 means the row was changed or removed concurrently.
+     * Drivers that return {@link java.sql.Statement#SUCCESS_NO_INFO} don't allow this check and such rows are accepted.
+     */
+    protected void verifyBatchResults(List<BatchResult> batchResults, boolean checkAllRows) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (updateCounts[i] == 0 && (checkAllRows || parameterObject instanceof HasRevision)) {
+                    throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    /**
+     * Lazily creates a MyBatis session with a batch executor on the same connection as the regular session.
+     * The transaction of this session never commits, rolls back or closes the connection: that is left to the regular session.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            Configuration configuration = sqlSession.getConfiguration();
+            Executor executor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.BATCH);
+            batchSqlSession = new DefaultSqlSession(configuration, executor, false);
+        }
+        return batchSqlSession;
+    }
+
     @Override
     public void close() {
+        if (batchSqlSession != null) {
+            batchSqlSession.close();
+        }
         sqlSession.close();
     }
 
@@ -25,6 +25,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.metrics.SqlMetricsCollector;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
@@ -62,6 +63,10 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean jdbcBatchUpdateAndDeleteEnabled;
+
+    protected SqlMetricsCollector sqlMetricsCollector;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -202,6 +207,22 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isJdbcBatchUpdateAndDeleteEnabled() {
+        return jdbcBatchUpdateAndDeleteEnabled;
+    }
+
+    public void setJdbcBatchUpdateAndDeleteEnabled(boolean jdbcBatchUpdateAndDeleteEnabled) {
+        this.jdbcBatchUpdateAndDeleteEnabled = jdbcBatchUpdateAndDeleteEnabled;
+    }
+
+    public SqlMetricsCollector getSqlMetricsCollector() {
+        return sqlMetricsCollector;
+    }
+
+    public void setSqlMetricsCollector(SqlMetricsCollector sqlMetricsCollector) {
+        this.sqlMetricsCollector = sqlMetricsCollector;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -16,6 +16,7 @@ package org.flowable.common.engine.impl.db;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.query.Query.NullHandlingOnOrder;
@@ -72,6 +73,7 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    protected List<Object> keysetValues;
     
     public ListQueryParameterObject() {
         
@@ -258,6 +260,59 @@ public class ListQueryParameterObject {
         return false;
     }
 
+    /**
+     * @return the condition that only selects the rows that come after the {@link #getKeysetValues() keyset values} in the order by,
+     *         or null when no keyset values are set. The last order by column needs to be unique for the condition to be correct.
+     */
+    public String getKeysetCondition() {
+        if (keysetValues == null) {
+            return null;
+        }
+
+        StringBuilder condition = new StringBuilder();
+        StringBuilder previousColumnsEqual = new StringBuilder();
+        int index = 0;
+        for (OrderBy orderBy : getOrderByCollectionSafe()) {
+            String column = orderBy.getColumnName();
+            Object value = keysetValues.get(index);
+            String parameter = "#{keysetValues[" + index + "]}";
+
+            String after;
+            String equal;
+            if (value != null) {
+                after = column + (SORTORDER_DESC.equals(orderBy.getDirection()) ? " < " : " > ") + parameter;
+                if (orderBy.getNullHandlingOnOrder() == NullHandlingOnOrder.NULLS_LAST) {
+                    after = "(" + after + " or " + column + " is null)";
+                }
+                equal = column + " = " + parameter;
+
+            } else {
+                // Nothing comes after a null value when the nulls are last
+                after = orderBy.getNullHandlingOnOrder() == NullHandlingOnOrder.NULLS_FIRST ? column + " is not null" : null;
+                equal = column + " is null";
+            }
+
+            if (after != null) {
+                if (condition.length() > 0) {
+                    condition.append(" or ");
+                }
+                condition.append('(').append(previousColumnsEqual).append(after).append(')');
+            }
+            previousColumnsEqual.append(equal).append(" and ");
+            index++;
+        }
+
+        return condition.length() > 0 ? "(" + condition + ")" : "1 = 0";
+    }
+
+    public List<Object> getKeysetValues() {
+        return keysetValues;
+    }
+
+    public void setKeysetValues(List<Object> keysetValues) {
+        this.keysetValues = keysetValues;
+    }
+
     public void setDatabaseType(String databaseType) {
         this.databaseType = databaseType;
     }
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.metrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.common.engine.api.management.SlowSqlStatement;
+import org.flowable.common.engine.api.management.SqlFlushStatistics;
+import org.flowable.common.engine.api.management.SqlStatementStatistics;
+
+/**
+ * {@link SqlMetricsCollector} aggregating the metrics in memory. Only the last {@link #getMaxSlowStatements()} slow statements are kept.
+ */
+public class InMemorySqlMetricsCollector implements SqlMetricsCollector {
+
+    protected final ConcurrentMap<String, SqlStatementStatisticsImpl> statementStatistics = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<String, SqlFlushStatisticsImpl> flushStatistics = new ConcurrentHashMap<>();
+    protected final Deque<SlowSqlStatement> slowStatements = new ArrayDeque<>();
+
+    protected int maxSlowStatements = 100;
+
+    @Override
+    public void recordStatement(String statementId, long durationNanos, long rows) {
+        statementStatistics.computeIfAbsent(statementId, SqlStatementStatisticsImpl::new).record(durationNanos, rows);
+    }
+
+    @Override
+    public void recordSlowStatement(String statementId, long durationNanos, String parameterShape) {
+        SlowSqlStatementImpl slowStatement = new SlowSqlStatementImpl(statementId, durationNanos, parameterShape, new Date());
+        synchronized (slowStatements) {
+            slowStatements.addLast(slowStatement);
+            while (slowStatements.size() > maxSlowStatements) {
+                slowStatements.removeFirst();
+            }
+        }
+    }
+
+    @Override
+    public void recordFlush(String commandName, int insertedEntities, int updatedEntities, int deletedEntities, int statementCount, long durationNanos) {
+        flushStatistics.computeIfAbsent(commandName, SqlFlushStatisticsImpl::new)
+                .record(insertedEntities, updatedEntities, deletedEntities, statementCount, durationNanos);
+    }
+
+    @Override
+    public Map<String, SqlStatementStatistics> getStatementStatistics() {
+        return Collections.unmodifiableMap(new TreeMap<>(statementStatistics));
+    }
+
+    @Override
+    public Map<String, SqlFlushStatistics> getFlushStatistics() {
+        return Collections.unmodifiableMap(new TreeMap<>(flushStatistics));
+    }
+
+    @Override
+    public List<SlowSqlStatement> getSlowStatements() {
+        synchronized (slowStatements) {
+            return Collections.unmodifiableList(new ArrayList<>(slowStatements));
+        }
+    }
+
+    @Override
+    public void reset() {
+        statementStatistics.clear();
+        flushStatistics.clear();
+        synchronized (slowStatements) {
+            slowStatements.clear();
+        }
+    }
+
+    public int getMaxSlowStatements() {
+        return maxSlowStatements;
+    }
+
+    public void setMaxSlowStatements(int maxSlowStatements) {
+        this.maxSlowStatements = maxSlowStatements;
+    }
+}
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.metrics;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.management.SlowSqlStatement;
+
+public class SlowSqlStatementImpl implements SlowSqlStatement {
+
+    protected final String statementId;
+    protected final long durationMillis;
+    protected final String parameterShape;
+    protected final Date time;
+
+    public SlowSqlStatementImpl(String statementId, long durationNanos, String parameterShape, Date time) {
+        this.statementId = statementId;
+        this.durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        this.parameterShape = parameterShape;
+        this.time = time;
+    }
+
+    @Override
+    public String getStatementId() {
+        return statementId;
+    }
+
+    @Override
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public String getParameterShape() {
+        return parameterShape;
+    }
+
+    @Override
+    public Date getTime() {
+        return time;
+    }
+
+    @Override
+    public String toString() {
+        return "SlowSqlStatement[statementId=" + statementId + ", durationMillis=" + durationMillis + ", parameterShape=" + parameterShape + "]";
+    }
+}
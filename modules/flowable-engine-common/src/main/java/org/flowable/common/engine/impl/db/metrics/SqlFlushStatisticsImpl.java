@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.api.management.SqlFlushStatistics;
+
+/**
+ * Thread safe {@link SqlFlushStatistics}, updated without locking.
+ */
+public class SqlFlushStatisticsImpl implements SqlFlushStatistics {
+
+    protected final String commandName;
+    protected final LongAdder flushCount = new LongAdder();
+    protected final LongAdder insertedEntities = new LongAdder();
+    protected final LongAdder updatedEntities = new LongAdder();
+    protected final LongAdder deletedEntities = new LongAdder();
+    protected final LongAdder statementCount = new LongAdder();
+    protected final LongAccumulator maxStatementCount = new LongAccumulator(Math::max, 0);
+    protected final LongAdder totalDurationNanos = new LongAdder();
+
+    public SqlFlushStatisticsImpl(String commandName) {
+        this.commandName = commandName;
+    }
+
+    public void record(int insertedEntities, int updatedEntities, int deletedEntities, int statementCount, long durationNanos) {
+        this.flushCount.increment();
+        this.insertedEntities.add(insertedEntities);
+        this.updatedEntities.add(updatedEntities);
+        this.deletedEntities.add(deletedEntities);
+        this.statementCount.add(statementCount);
+        this.maxStatementCount.accumulate(statementCount);
+        this.totalDurationNanos.add(durationNanos);
+    }
+
+    @Override
+    public String getCommandName() {
+        return commandName;
+    }
+
+    @Override
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    @Override
+    public long getInsertedEntities() {
+        return insertedEntities.sum();
+    }
+
+    @Override
+    public long getUpdatedEntities() {
+        return updatedEntities.sum();
+    }
+
+    @Override
+    public long getDeletedEntities() {
+        return deletedEntities.sum();
+    }
+
+    @Override
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    @Override
+    public long getMaxStatementCount() {
+        return maxStatementCount.get();
+    }
+
+    @Override
+    public long getTotalDurationNanos() {
+        return totalDurationNanos.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SqlFlushStatistics[commandName=" + commandName + ", flushCount=" + getFlushCount() + ", insertedEntities=" + getInsertedEntities()
+                + ", updatedEntities=" + getUpdatedEntities() + ", deletedEntities=" + getDeletedEntities() + ", statementCount=" + getStatementCount() + "]";
+    }
+}
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.management.SlowSqlStatement;
+import org.flowable.common.engine.api.management.SqlFlushStatistics;
+import org.flowable.common.engine.api.management.SqlStatementStatistics;
+
+/**
+ * SPI receiving the metrics of the sql statements executed by an engine.
+ *
+ * The statement executions are reported by the {@link SqlMetricsPlugin} MyBatis interceptor and the flushes by the
+ * {@link org.flowable.common.engine.impl.db.DbSqlSession}, both are installed when a collector is set on the engine configuration.
+ * Implementations are called concurrently from all threads executing commands and should not block.
+ *
+ * An implementation forwarding the metrics to a monitoring system only needs to implement the record methods;
+ * the default {@link InMemorySqlMetricsCollector} also keeps them available for the management services.
+ */
+public interface SqlMetricsCollector {
+
+    /**
+     * @param statementId the id of the MyBatis mapped statement
+     * @param durationNanos the execution time of the statement
+     * @param rows the number of returned or affected rows, or -1 when unknown (e.g. for statements added to a JDBC batch)
+     */
+    void recordStatement(String statementId, long durationNanos, long rows);
+
+    /**
+     * Called, in addition to {@link #recordStatement(String, long, long)}, for statement executions slower than the configured threshold.
+     *
+     * @param parameterShape the types of the parameter object bound to the statement, never its values
+     */
+    void recordSlowStatement(String statementId, long durationNanos, String parameterShape);
+
+    /**
+     * Called after the database session of a command has been flushed, for flushes that wrote at least one entity.
+     */
+    void recordFlush(String commandName, int insertedEntities, int updatedEntities, int deletedEntities, int statementCount, long durationNanos);
+
+    /**
+     * @return the statistics per mapped statement id, sorted by statement id.
+     */
+    default Map<String, SqlStatementStatistics> getStatementStatistics() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * @return the flush statistics per command name, sorted by command name.
+     */
+    default Map<String, SqlFlushStatistics> getFlushStatistics() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * @return the most recent slow statements, oldest first.
+     */
+    default List<SlowSqlStatement> getSlowStatements() {
+        return Collections.emptyList();
+    }
+
+    default void reset() {
+
+    }
+
+}
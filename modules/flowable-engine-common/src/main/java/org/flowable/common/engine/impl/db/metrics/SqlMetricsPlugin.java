@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.metrics;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+
+/**
+ * MyBatis interceptor reporting the execution time and row count of every mapped statement to a {@link SqlMetricsCollector}.
+ * Executions slower than the slow statement threshold are additionally reported with the shape of their parameter.
+ *
+ * Statements executed through a JDBC batch are measured when they are added to the batch, so their time is mostly
+ * spent when the batch is flushed and is included in the flush statistics of the command instead.
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "query",
+                args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+        @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class })
+})
+public class SqlMetricsPlugin implements Interceptor {
+
+    protected SqlMetricsCollector sqlMetricsCollector;
+    protected long slowStatementThresholdNanos;
+
+    /**
+     * @param slowStatementThresholdMillis the minimum execution time of a slow statement, a negative value disables the slow statement reporting
+     */
+    public SqlMetricsPlugin(SqlMetricsCollector sqlMetricsCollector, long slowStatementThresholdMillis) {
+        this.sqlMetricsCollector = sqlMetricsCollector;
+        this.slowStatementThresholdNanos = slowStatementThresholdMillis >= 0 ? TimeUnit.MILLISECONDS.toNanos(slowStatementThresholdMillis) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long startTime = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+
+        } finally {
+            long duration = System.nanoTime() - startTime;
+            String statementId = getStatementId((MappedStatement) invocation.getArgs()[0]);
+            sqlMetricsCollector.recordStatement(statementId, duration, getRowCount(result));
+            if (duration >= slowStatementThresholdNanos) {
+                sqlMetricsCollector.recordSlowStatement(statementId, duration, getParameterShape(invocation.getArgs()[1]));
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the statement without its namespace (e.g. insertExecution), which is how the statements are referenced by the engine.
+     */
+    protected String getStatementId(MappedStatement mappedStatement) {
+        String id = mappedStatement.getId();
+        return id.substring(id.lastIndexOf('.') + 1);
+    }
+
+    protected long getRowCount(Object result) {
+        if (result instanceof List) {
+            return ((List<?>) result).size();
+
+        } else if (result instanceof Integer) {
+            // The batch executor returns a negative constant, as the affected rows are only known when the batch is executed
+            int rows = (Integer) result;
+            return rows >= 0 ? rows : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Describes the parameter object by its type, the keys and value types of maps and the size and element type of collections.
+     * The values themselves are never included, as they can contain business data.
+     */
+    protected String getParameterShape(Object parameter) {
+        if (parameter == null) {
+            return "null";
+
+        } else if (parameter.getClass() == ListQueryParameterObject.class) {
+            // Queries extend ListQueryParameterObject and are described by their own type, only the plain wrapper is unwrapped
+            return "ListQueryParameterObject<" + getParameterShape(((ListQueryParameterObject) parameter).getParameter()) + ">";
+
+        } else if (parameter instanceof Map) {
+            StringJoiner shape = new StringJoiner(", ", "{", "}");
+            for (Map.Entry<?, ?> entry : sortByKey((Map<?, ?>) parameter).entrySet()) {
+                Object value = entry.getValue();
+                shape.add(entry.getKey() + ": " + (value instanceof Collection ? getParameterShape(value) : getTypeName(value)));
+            }
+            return shape.toString();
+
+        } else if (parameter instanceof Collection) {
+            Collection<?> collection = (Collection<?>) parameter;
+            Iterator<?> iterator = collection.iterator();
+            String elementType = iterator.hasNext() ? getTypeName(iterator.next()) : "?";
+            return parameter.getClass().getSimpleName() + "<" + elementType + ">[" + collection.size() + "]";
+        }
+        return getTypeName(parameter);
+    }
+
+    protected Map<String, Object> sortByKey(Map<?, ?> map) {
+        Map<String, Object> result = new TreeMap<>();
+        map.forEach((key, value) -> result.put(String.valueOf(key), value));
+        return result;
+    }
+
+    protected String getTypeName(Object value) {
+        return value != null ? value.getClass().getSimpleName() : "null";
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+
+    }
+
+    public SqlMetricsCollector getSqlMetricsCollector() {
+        return sqlMetricsCollector;
+    }
+}
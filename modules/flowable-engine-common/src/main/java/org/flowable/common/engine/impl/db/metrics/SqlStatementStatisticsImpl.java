@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.api.management.SqlStatementStatistics;
+
+/**
+ * Thread safe {@link SqlStatementStatistics}, updated without locking.
+ */
+public class SqlStatementStatisticsImpl implements SqlStatementStatistics {
+
+    protected final String statementId;
+    protected final LongAdder count = new LongAdder();
+    protected final LongAdder totalDurationNanos = new LongAdder();
+    protected final LongAccumulator maxDurationNanos = new LongAccumulator(Math::max, 0);
+    protected final LongAdder totalRows = new LongAdder();
+    protected final LongAccumulator maxRows = new LongAccumulator(Math::max, 0);
+    protected final LongAdder[] durationHistogram;
+
+    public SqlStatementStatisticsImpl(String statementId) {
+        this.statementId = statementId;
+        this.durationHistogram = new LongAdder[DURATION_HISTOGRAM_BOUNDS_MILLIS.length + 1];
+        for (int i = 0; i < durationHistogram.length; i++) {
+            durationHistogram[i] = new LongAdder();
+        }
+    }
+
+    public void record(long durationNanos, long rows) {
+        count.increment();
+        totalDurationNanos.add(durationNanos);
+        maxDurationNanos.accumulate(durationNanos);
+        if (rows >= 0) {
+            totalRows.add(rows);
+            maxRows.accumulate(rows);
+        }
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        int bucket = 0;
+        while (bucket < DURATION_HISTOGRAM_BOUNDS_MILLIS.length && durationMillis >= DURATION_HISTOGRAM_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        durationHistogram[bucket].increment();
+    }
+
+    @Override
+    public String getStatementId() {
+        return statementId;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getTotalDurationNanos() {
+        return totalDurationNanos.sum();
+    }
+
+    @Override
+    public long getMaxDurationNanos() {
+        return maxDurationNanos.get();
+    }
+
+    @Override
+    public long getAverageDurationNanos() {
+        long count = getCount();
+        return count > 0 ? getTotalDurationNanos() / count : 0;
+    }
+
+    @Override
+    public long[] getDurationHistogram() {
+        long[] histogram = new long[durationHistogram.length];
+        for (int i = 0; i < durationHistogram.length; i++) {
+            histogram[i] = durationHistogram[i].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public long getTotalRows() {
+        return totalRows.sum();
+    }
+
+    @Override
+    public long getMaxRows() {
+        return maxRows.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SqlStatementStatistics[statementId=" + statementId + ", count=" + getCount() + ", averageDurationNanos=" + getAverageDurationNanos()
+                + ", maxDurationNanos=" + getMaxDurationNanos() + ", totalRows=" + getTotalRows() + "]";
+    }
+}
@@ -0,0 +1,197 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node local cache of event subscription lookups that didn't find any event subscription, shared by all transactions.
+ * <p>
+ * Event registry consumers look up the event subscriptions for every incoming event, while most events typically don't match any subscription.
+ * When a lookup for an event type, tenant and correlation configuration didn't find anything, that outcome is remembered here,
+ * so that the next event with the same lookup doesn't need to go to the database.
+ * <p>
+ * Inserting or changing an event subscription of an event type invalidates all lookups of that event type. This happens both when the
+ * subscription is inserted and after the transaction commits, and lookups that were running while the event type was invalidated are not cached.
+ * Deleting event subscriptions doesn't need to invalidate anything, as it can't make a lookup without results find something.
+ * <p>
+ * Subscriptions inserted on other nodes are not seen by this cache. Therefore every cached lookup expires after the configured maximum staleness,
+ * which bounds the time an event can be missed for a subscription that was created on another node.
+ */
+public class EventSubscriptionLookupCache {
+
+    public static final Duration DEFAULT_MAX_STALENESS = Duration.ofSeconds(1);
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    protected final long maxStalenessNanos;
+    protected final int maxSize;
+
+    protected final ConcurrentMap<String, EventTypeLookups> lookupsByEventType = new ConcurrentHashMap<>();
+    protected final AtomicInteger size = new AtomicInteger();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder invalidationCount = new LongAdder();
+
+    public EventSubscriptionLookupCache() {
+        this(DEFAULT_MAX_STALENESS, DEFAULT_MAX_SIZE);
+    }
+
+    public EventSubscriptionLookupCache(Duration maxStaleness, int maxSize) {
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the version of the lookups of the event type, which needs to be passed to {@link #registerNoSubscriptions(String, String, long)}
+     *         after the event subscriptions have been looked up in the database.
+     */
+    public long getVersion(String eventType) {
+        return getEventTypeLookups(eventType).version.get();
+    }
+
+    /**
+     * @return true if an earlier lookup with the same key didn't find any event subscription, and the event type wasn't invalidated since
+     */
+    public boolean hasNoSubscriptions(String eventType, String lookupKey) {
+        EventTypeLookups eventTypeLookups = lookupsByEventType.get(eventType);
+        if (eventTypeLookups != null) {
+            Long expirationTime = eventTypeLookups.noSubscriptionLookups.get(lookupKey);
+            if (expirationTime != null) {
+                if (System.nanoTime() - expirationTime < 0) {
+                    hitCount.increment();
+                    return true;
+                }
+
+                if (eventTypeLookups.noSubscriptionLookups.remove(lookupKey, expirationTime)) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+
+        missCount.increment();
+        return false;
+    }
+
+    /**
+     * Remembers that the lookup with the given key didn't find any event subscription.
+     * Nothing is remembered when the event type was invalidated after the given version was retrieved,
+     * as the lookup might not have seen the new event subscription.
+     */
+    public void registerNoSubscriptions(String eventType, String lookupKey, long version) {
+        EventTypeLookups eventTypeLookups = getEventTypeLookups(eventType);
+        if (eventTypeLookups.version.get() != version) {
+            return;
+        }
+
+        if (size.get() >= maxSize && !purgeExpiredLookups()) {
+            return;
+        }
+
+        if (eventTypeLookups.noSubscriptionLookups.put(lookupKey, System.nanoTime() + maxStalenessNanos) == null) {
+            size.incrementAndGet();
+        }
+
+        if (eventTypeLookups.version.get() != version) {
+            // Invalidated while registering
+            invalidate(eventType);
+        }
+    }
+
+    /**
+     * Invalidates all lookups of the given event type.
+     */
+    public void invalidate(String eventType) {
+        EventTypeLookups eventTypeLookups = getEventTypeLookups(eventType);
+        eventTypeLookups.version.incrementAndGet();
+        removeLookups(eventTypeLookups);
+        invalidationCount.increment();
+    }
+
+    /**
+     * Invalidates all lookups, e.g. when the tenant of event subscriptions was changed.
+     */
+    public void invalidateAll() {
+        for (EventTypeLookups eventTypeLookups : lookupsByEventType.values()) {
+            eventTypeLookups.version.incrementAndGet();
+            removeLookups(eventTypeLookups);
+        }
+        invalidationCount.increment();
+    }
+
+    protected void removeLookups(EventTypeLookups eventTypeLookups) {
+        for (Map.Entry<String, Long> lookup : eventTypeLookups.noSubscriptionLookups.entrySet()) {
+            // Only count the lookups removed here, a concurrent hasNoSubscriptions or purge might have removed it already
+            if (eventTypeLookups.noSubscriptionLookups.remove(lookup.getKey(), lookup.getValue())) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * @return true if there is room for new lookups after removing the expired ones
+     */
+    protected boolean purgeExpiredLookups() {
+        long now = System.nanoTime();
+        for (EventTypeLookups eventTypeLookups : lookupsByEventType.values()) {
+            for (Map.Entry<String, Long> lookup : eventTypeLookups.noSubscriptionLookups.entrySet()) {
+                if (now - lookup.getValue() >= 0 && eventTypeLookups.noSubscriptionLookups.remove(lookup.getKey(), lookup.getValue())) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+        return size.get() < maxSize;
+    }
+
+    protected EventTypeLookups getEventTypeLookups(String eventType) {
+        return lookupsByEventType.computeIfAbsent(eventType, key -> new EventTypeLookups());
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public Duration getMaxStaleness() {
+        return Duration.ofNanos(maxStalenessNanos);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    protected static class EventTypeLookups {
+
+        protected final AtomicLong version = new AtomicLong();
+        protected final ConcurrentMap<String, Long> noSubscriptionLookups = new ConcurrentHashMap<>();
+
+    }
+
+}
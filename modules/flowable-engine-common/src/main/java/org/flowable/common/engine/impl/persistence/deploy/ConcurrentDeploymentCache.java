@@ -0,0 +1,228 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache backed by a {@link ConcurrentHashMap}, which can be used instead of the {@link DefaultDeploymentCache}
+ * when many threads look up definitions at the same time.
+ * <p>
+ * Lookups don't take any lock: they only record the (coarse grained) last access time of the entry.
+ * The cache can be bounded by a maximum number of entries and/or by a maximum total weight, where the weight of an entry
+ * is estimated by a weigher function (e.g. the size of the BPMN model of a process definition).
+ * When a bound is exceeded after adding an entry, the least recently used entries are evicted in one batch,
+ * which makes this an approximate LRU cache: entries accessed within the same access time granularity are considered equally old,
+ * and the cache can temporarily exceed its bounds while another thread is adding entries.
+ * <p>
+ * Hit, miss and eviction counts are kept for monitoring purposes.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected static final long ACCESS_TIME_GRANULARITY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    protected final ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+
+    protected final int maximumSize;
+    protected final long maximumWeight;
+    protected final ToLongFunction<T> weigher;
+    protected final AtomicLong totalWeight = new AtomicLong();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1);
+    }
+
+    /**
+     * Cache that holds no more entries than the given limit.
+     */
+    public ConcurrentDeploymentCache(int maximumSize) {
+        this(maximumSize, -1, null);
+    }
+
+    /**
+     * Cache that is bounded by the number of entries and by the total weight of the entries, as calculated by the weigher.
+     * A value of zero or lower for either of the bounds means that the bound is not applied.
+     */
+    public ConcurrentDeploymentCache(int maximumSize, long maximumWeight, ToLongFunction<T> weigher) {
+        if (maximumWeight > 0 && weigher == null) {
+            throw new IllegalArgumentException("A weigher is required when the cache is bounded by weight");
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        entry.recordAccess();
+        return entry.value;
+    }
+
+    @Override
+    public void add(String id, T obj) {
+        CacheEntry<T> entry = new CacheEntry<>(obj, weigher != null ? weigher.applyAsLong(obj) : 1L);
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        totalWeight.addAndGet(previousEntry != null ? entry.weight - previousEntry.weight : entry.weight);
+
+        if (isOverLimit()) {
+            evict();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            totalWeight.addAndGet(-entry.weight);
+        }
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        for (String id : cache.keySet()) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    protected boolean isOverLimit() {
+        return (maximumSize > 0 && cache.size() > maximumSize) || (maximumWeight > 0 && totalWeight.get() > maximumWeight);
+    }
+
+    /**
+     * Evicts the least recently used entries until the cache is a bit below its bounds,
+     * such that not every subsequent add needs to go through the eviction again.
+     */
+    protected void evict() {
+        evictionLock.lock();
+        try {
+            if (!isOverLimit()) {
+                return; // Another thread already evicted
+            }
+
+            List<Map.Entry<String, CacheEntry<T>>> entries = new ArrayList<>(cache.entrySet());
+            entries.sort(Comparator.comparingLong(mapEntry -> mapEntry.getValue().accessTime));
+
+            int targetSize = maximumSize > 0 ? Math.max(maximumSize - maximumSize / 16, 1) : Integer.MAX_VALUE;
+            long targetWeight = maximumWeight > 0 ? maximumWeight - maximumWeight / 16 : Long.MAX_VALUE;
+
+            // The most recently used entry (normally the one that was just added) is always kept
+            for (int i = 0; i < entries.size() - 1 && (cache.size() > targetSize || totalWeight.get() > targetWeight); i++) {
+                Map.Entry<String, CacheEntry<T>> mapEntry = entries.get(i);
+                if (cache.remove(mapEntry.getKey(), mapEntry.getValue())) {
+                    totalWeight.addAndGet(-mapEntry.getValue().weight);
+                    evictionCount.increment();
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Cache limit is reached, {} will be evicted", mapEntry.getKey());
+                    }
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight.get();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final T value;
+        protected final long weight;
+        protected volatile long accessTime;
+
+        protected CacheEntry(T value, long weight) {
+            this.value = value;
+            this.weight = weight;
+            this.accessTime = System.nanoTime();
+        }
+
+        protected void recordAccess() {
+            long now = System.nanoTime();
+            // Only write when the access time changes noticeably, to avoid contention on entries that are read by many threads
+            if (now - accessTime > ACCESS_TIME_GRANULARITY_NANOS) {
+                accessTime = now;
+            }
+        }
+    }
+
+}
@@ -13,11 +13,23 @@
 package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.CursorPage;
+import org.flowable.common.engine.api.query.CursorQuery;
 import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.api.query.Query.NullHandlingOnOrder;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.Direction;
 import org.flowable.common.engine.impl.context.Context;
@@ -144,6 +156,106 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    /**
+     * Implementation of {@link CursorQuery#listPageAfter(String, int)} for the queries that implement {@link CursorQuery}.
+     * The page is selected with the {@link #createKeysetOrderBys() keyset order by}, which leaves the order by of this query untouched,
+     * and the values of the order by columns of the last result are retrieved with {@link #getKeysetValue(Object, String)}.
+     */
+    public CursorPage<U> listPageAfter(String afterCursor, int maxResults) {
+        if (maxResults <= 0) {
+            throw new FlowableIllegalArgumentException("The maximum number of results needs to be positive");
+        }
+        checkQueryOk();
+
+        List<OrderBy> orderBys = createKeysetOrderBys();
+
+        List<U> results;
+        Collection<OrderBy> originalOrderByCollection = orderByCollection;
+        orderByCollection = orderBys;
+        keysetValues = afterCursor != null ? KeysetCursor.decode(afterCursor, orderBys.size()) : null;
+        try {
+            // One extra result tells whether there is a next page
+            results = listPage(0, maxResults < Integer.MAX_VALUE ? maxResults + 1 : maxResults);
+        } finally {
+            orderByCollection = originalOrderByCollection;
+            keysetValues = null;
+        }
+
+        if (results.size() <= maxResults) {
+            return new CursorPage<>(results, null);
+        }
+
+        results = new ArrayList<>(results.subList(0, maxResults));
+        U lastResult = results.get(maxResults - 1);
+        List<Object> lastValues = new ArrayList<>(orderBys.size());
+        for (OrderBy orderBy : orderBys) {
+            Object value = getKeysetValue(lastResult, orderBy.getColumnName());
+            if (value == null && orderBy.getNullHandlingOnOrder() == null) {
+                throw new FlowableException("Keyset pagination found a null value for the order by on " + orderBy.getColumnName()
+                        + ", which is not expected to contain null values");
+            }
+            lastValues.add(value);
+        }
+        return new CursorPage<>(results, KeysetCursor.encode(lastValues));
+    }
+
+    /**
+     * Creates the order by for keyset pagination, based on a copy of the order by of this query:
+     * <ul>
+     * <li>The {@link #getKeysetIdColumn() id column} is appended (when it isn't part of it yet), which makes the order unique.</li>
+     * <li>Columns that {@link #isKeysetColumnNullable(String) can contain null values} and don't have a null handling
+     * get an explicit one, so the keyset condition knows where the null values are. The null values are ordered as the largest values
+     * (i.e. last for ascending and first for descending).</li>
+     * </ul>
+     */
+    protected List<OrderBy> createKeysetOrderBys() {
+        List<OrderBy> orderBys = new ArrayList<>();
+        boolean idColumnIncluded = false;
+        for (OrderBy orderBy : getOrderByCollectionSafe()) {
+            String columnName = orderBy.getColumnName();
+            if (columnName.equals(getKeysetIdColumn())) {
+                idColumnIncluded = true;
+            }
+
+            if (orderBy.getNullHandlingOnOrder() == null && isKeysetColumnNullable(columnName)) {
+                NullHandlingOnOrder nullHandling = SORTORDER_DESC.equals(orderBy.getDirection()) ? NullHandlingOnOrder.NULLS_FIRST : NullHandlingOnOrder.NULLS_LAST;
+                orderBys.add(new OrderBy(columnName, orderBy.getDirection(), nullHandling));
+            } else {
+                orderBys.add(orderBy);
+            }
+        }
+
+        if (!idColumnIncluded) {
+            orderBys.add(new OrderBy(getKeysetIdColumn(), SORTORDER_ASC, null));
+        }
+        return orderBys;
+    }
+
+    /**
+     * Implementation of {@link CursorQuery#forEach(Consumer)} for the queries that implement {@link CursorQuery}.
+     */
+    public void forEach(Consumer<? super U> consumer) {
+        this.firstResult = -1;
+        this.maxResults = -1;
+        if (commandExecutor != null) {
+            commandExecutor.execute(commandContext -> {
+                checkQueryOk();
+                executeForEach(commandContext, consumer);
+                return null;
+            });
+        } else {
+            checkQueryOk();
+            executeForEach(Context.getCommandContext(), consumer);
+        }
+    }
+
+    /**
+     * Implementation of {@link CursorQuery#stream(int)} for the queries that implement {@link CursorQuery}.
+     */
+    public Stream<U> stream(int pageSize) {
+        return StreamSupport.stream(new CursorPageSpliterator(pageSize), false);
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
@@ -176,6 +288,34 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
      */
     public abstract List<U> executeList(CommandContext commandContext);
 
+    /**
+     * Executes the query and passes the results one by one to the consumer, without keeping them in memory.
+     */
+    protected void executeForEach(CommandContext commandContext, Consumer<? super U> consumer) {
+        throw new FlowableException(getClass().getName() + " does not support iterating over the results");
+    }
+
+    /**
+     * @return the column that makes the order by unique for keyset pagination
+     */
+    protected String getKeysetIdColumn() {
+        return DEFAULT_ORDER_BY.getColumnName();
+    }
+
+    /**
+     * @return whether the given order by column can contain null values, in which case keyset pagination orders it with an explicit null handling
+     */
+    protected boolean isKeysetColumnNullable(String columnName) {
+        return !getKeysetIdColumn().equals(columnName);
+    }
+
+    /**
+     * @return the value of the result for the given order by column, which is needed to continue after the result with keyset pagination
+     */
+    protected Object getKeysetValue(U result, String columnName) {
+        throw new FlowableIllegalArgumentException("Keyset pagination is not supported when ordering by " + columnName);
+    }
+
     public U executeSingleResult(CommandContext commandContext) {
         List<U> results = executeList(commandContext);
         if (results.size() == 1) {
@@ -186,4 +326,32 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return null;
     }
 
+    protected class CursorPageSpliterator extends Spliterators.AbstractSpliterator<U> {
+
+        protected final int pageSize;
+        protected Iterator<U> currentPage = Collections.emptyIterator();
+        protected String nextCursor;
+        protected boolean lastPage;
+
+        protected CursorPageSpliterator(int pageSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super U> action) {
+            while (!currentPage.hasNext()) {
+                if (lastPage) {
+                    return false;
+                }
+                CursorPage<U> page = listPageAfter(nextCursor, pageSize);
+                currentPage = page.getResults().iterator();
+                nextCursor = page.getNextCursor();
+                lastPage = !page.hasNext();
+            }
+            action.accept(currentPage.next());
+            return true;
+        }
+    }
+
 }
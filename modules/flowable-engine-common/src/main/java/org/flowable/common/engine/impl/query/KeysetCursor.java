@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+/**
+ * Encodes the values of the order by columns of the last result of a page into the opaque cursor of a {@link org.flowable.common.engine.api.query.CursorPage},
+ * and decodes them again when the next page is requested.
+ */
+public class KeysetCursor {
+
+    protected static final byte VERSION = 1;
+
+    protected static final byte TYPE_NULL = 0;
+    protected static final byte TYPE_STRING = 1;
+    protected static final byte TYPE_INTEGER = 2;
+    protected static final byte TYPE_LONG = 3;
+    protected static final byte TYPE_DATE = 4;
+
+    public static String encode(List<Object> values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeShort(values.size());
+            for (Object value : values) {
+                if (value == null) {
+                    out.writeByte(TYPE_NULL);
+                } else if (value instanceof String) {
+                    out.writeByte(TYPE_STRING);
+                    out.writeUTF((String) value);
+                } else if (value instanceof Integer) {
+                    out.writeByte(TYPE_INTEGER);
+                    out.writeInt((Integer) value);
+                } else if (value instanceof Long) {
+                    out.writeByte(TYPE_LONG);
+                    out.writeLong((Long) value);
+                } else if (value instanceof Date) {
+                    out.writeByte(TYPE_DATE);
+                    out.writeLong(((Date) value).getTime());
+                } else {
+                    throw new FlowableException("Unsupported cursor value type " + value.getClass().getName());
+                }
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Could not create cursor", e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public static List<Object> decode(String cursor, int expectedNumberOfValues) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw new FlowableIllegalArgumentException("Invalid cursor " + cursor);
+            }
+            int numberOfValues = in.readShort();
+            if (numberOfValues != expectedNumberOfValues) {
+                throw new FlowableIllegalArgumentException("Cursor " + cursor + " does not match the order by of the query");
+            }
+
+            List<Object> values = new ArrayList<>(numberOfValues);
+            for (int i = 0; i < numberOfValues; i++) {
+                byte type = in.readByte();
+                switch (type) {
+                    case TYPE_NULL:
+                        values.add(null);
+                        break;
+                    case TYPE_STRING:
+                        values.add(in.readUTF());
+                        break;
+                    case TYPE_INTEGER:
+                        values.add(in.readInt());
+                        break;
+                    case TYPE_LONG:
+                        values.add(in.readLong());
+                        break;
+                    case TYPE_DATE:
+                        values.add(new Date(in.readLong()));
+                        break;
+                    default:
+                        throw new FlowableIllegalArgumentException("Invalid cursor " + cursor);
+                }
+            }
+            return values;
+
+        } catch (IOException | IllegalArgumentException e) {
+            // Thrown for cursors that are not valid Base64 or that are truncated
+            throw new FlowableIllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.scripting;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LRU cache of {@link CompiledScript CompiledScripts}, used by the {@link ScriptingEngines} for script engines that are {@link Compilable}.
+ * <p>
+ * Compiled scripts are keyed by the script language and the script text. A script of a redeployed definition that did not change
+ * thus reuses the compiled script of the previous deployment, while a changed script gets its own entry.
+ * Entries of scripts that are not used anymore are evicted when the limit is reached.
+ */
+public class CompiledScriptCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledScriptCache.class);
+
+    public static final int DEFAULT_LIMIT = 1000;
+
+    protected final int limit;
+    protected final Map<String, CompiledScript> cache;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    public CompiledScriptCache() {
+        this(DEFAULT_LIMIT);
+    }
+
+    public CompiledScriptCache(final int limit) {
+        this.limit = limit;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, CompiledScript>(Math.min(limit, 64) + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+                boolean removeEldest = size() > limit;
+                if (removeEldest) {
+                    evictionCount.increment();
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Compiled script cache limit is reached, script {} will be evicted", eldest.getKey());
+                    }
+                }
+                return removeEldest;
+            }
+
+        });
+    }
+
+    /**
+     * @return the cached compiled script or null when the script was not compiled yet (or was evicted)
+     */
+    public CompiledScript get(String language, String script) {
+        CompiledScript compiledScript = cache.get(createKey(language, script));
+        if (compiledScript != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return compiledScript;
+    }
+
+    public void add(String language, String script, CompiledScript compiledScript) {
+        cache.put(createKey(language, script), compiledScript);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    protected String createKey(String language, String script) {
+        return language + ':' + script;
+    }
+
+}
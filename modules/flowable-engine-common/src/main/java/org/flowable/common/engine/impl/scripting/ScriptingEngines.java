@@ -13,11 +13,16 @@
 package org.flowable.common.engine.impl.scripting;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -39,6 +44,11 @@ import org.slf4j.LoggerFactory;
  * indicates thread safe read access.
  * </p>
  *
+ * <p>
+ * When a {@link CompiledScriptCache} is set, scripts evaluated by a cached ScriptEngine that is {@link Compilable}
+ * are compiled once and kept in the cache.
+ * </p>
+ *
  * @author Tom Baeyens
  * @author Joram Barrez
  * @author Frederik Heremans
@@ -58,6 +68,10 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    protected CompiledScriptCache compiledScriptCache;
+    // The juel script engine resolves the variables when parsing, hence its compiled scripts can't be reused
+    protected Set<String> compilationExcludedLanguages = new HashSet<>(Collections.singleton("juel"));
+
     protected ScriptTraceEnhancer defaultTraceEnhancer;
 
     protected ScriptTraceListener scriptErrorListener = null;
@@ -108,7 +122,13 @@ public class ScriptingEngines {
     protected Object evaluate(ScriptEngine scriptEngine, ScriptEngineRequest request, Bindings bindings) {
         long startNanos = System.nanoTime();
         try {
-            Object scriptResult = scriptEngine.eval(request.getScript(), bindings);
+            Object scriptResult;
+            CompiledScript compiledScript = getCompiledScript(scriptEngine, request);
+            if (compiledScript != null) {
+                scriptResult = compiledScript.eval(bindings);
+            } else {
+                scriptResult = scriptEngine.eval(request.getScript(), bindings);
+            }
             if (scriptSuccessListener != null) {
                 DefaultScriptTrace scriptTrace = DefaultScriptTrace.successTrace(Duration.ofNanos(System.nanoTime() - startNanos), request);
                 enhanceScriptTrace(request, scriptTrace);
@@ -133,6 +153,27 @@ public class ScriptingEngines {
         }
     }
 
+    /**
+     * Returns the compiled script for the request, compiling and caching it if needed.
+     * Only scripts of cached script engines are compiled, as a compiled script is bound to the engine that compiled it.
+     *
+     * @return the compiled script or null if the script should be evaluated directly
+     */
+    protected CompiledScript getCompiledScript(ScriptEngine scriptEngine, ScriptEngineRequest request) throws ScriptException {
+        if (compiledScriptCache == null || !(scriptEngine instanceof Compilable)
+                || cachedEngines.get(request.getLanguage()) != scriptEngine
+                || compilationExcludedLanguages.contains(request.getLanguage())) {
+            return null;
+        }
+
+        CompiledScript compiledScript = compiledScriptCache.get(request.getLanguage(), request.getScript());
+        if (compiledScript == null) {
+            compiledScript = ((Compilable) scriptEngine).compile(request.getScript());
+            compiledScriptCache.add(request.getLanguage(), request.getScript(), compiledScript);
+        }
+        return compiledScript;
+    }
+
     protected void notifyScriptTraceListener(ScriptTraceListener listener, ScriptTrace scriptTrace) {
         try {
             listener.onScriptTrace(scriptTrace);
@@ -234,6 +275,25 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public CompiledScriptCache getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    /**
+     * Sets the cache for compiled scripts. When null (the default), scripts are not compiled.
+     */
+    public void setCompiledScriptCache(CompiledScriptCache compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
+
+    public Set<String> getCompilationExcludedLanguages() {
+        return compilationExcludedLanguages;
+    }
+
+    public void setCompilationExcludedLanguages(Set<String> compilationExcludedLanguages) {
+        this.compilationExcludedLanguages = compilationExcludedLanguages;
+    }
+
     public ScriptTraceEnhancer getDefaultTraceEnhancer() {
         return defaultTraceEnhancer;
     }
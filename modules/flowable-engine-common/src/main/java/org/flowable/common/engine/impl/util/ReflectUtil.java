@@ -391,4 +391,20 @@ public abstract class ReflectUtil {
 
         return name;
     }
+
+    /**
+     * @return the simple name of the class, which stays the same across runs for lambdas (e.g. MyCommand$$Lambda instead of MyCommand$$Lambda$123/0x456),
+     *         or the full name for anonymous classes
+     */
+    public static String getStableSimpleName(Class<?> clazz) {
+        String simpleName = clazz.getSimpleName();
+        int lambdaIndex = simpleName.indexOf("$$Lambda");
+        if (lambdaIndex >= 0) {
+            // The class names of lambdas contain a generated suffix, only keep the declaring class
+            return simpleName.substring(0, lambdaIndex + 8);
+        } else if (simpleName.isEmpty()) {
+            return clazz.getName();
+        }
+        return simpleName;
+    }
 }
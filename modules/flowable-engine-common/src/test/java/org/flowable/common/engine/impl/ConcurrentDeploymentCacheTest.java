@@ -0,0 +1,124 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentDeploymentCacheTest {
+
+    @Test
+    public void testUnboundedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("key" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("key42")).isEqualTo("value42");
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isZero();
+
+        cache.remove("key42");
+        assertThat(cache.contains("key42")).isFalse();
+        assertThat(cache.getAll()).hasSize(99);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getTotalWeight()).isZero();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("a", "a");
+        Thread.sleep(5);
+        cache.add("b", "b");
+        Thread.sleep(5);
+        cache.add("c", "c");
+        Thread.sleep(5);
+
+        assertThat(cache.get("a")).isEqualTo("a");
+        Thread.sleep(5);
+        cache.add("d", "d");
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.contains("d")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testWeightBoundedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, 32, String::length);
+        cache.add("a", "0123456789");
+        cache.add("b", "0123456789");
+        cache.add("c", "0123456789");
+        assertThat(cache.getTotalWeight()).isEqualTo(30);
+        assertThat(cache.size()).isEqualTo(3);
+
+        cache.add("d", "0123456789");
+        assertThat(cache.getTotalWeight()).isLessThanOrEqualTo(32);
+        assertThat(cache.contains("d")).isTrue();
+
+        // Replacing an entry replaces its weight
+        cache.add("d", "01234");
+        assertThat(cache.getTotalWeight()).isEqualTo(10L * (cache.size() - 1) + 5);
+
+        assertThatThrownBy(() -> new ConcurrentDeploymentCache<String>(-1, 32, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ConcurrentDeploymentCache<Integer> cache = new ConcurrentDeploymentCache<>(64);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        String key = "key" + ((i * 7 + offset) % 256);
+                        if (cache.get(key) == null) {
+                            cache.add(key, i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+        assertThat(cache.getTotalWeight()).isEqualTo(cache.size());
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(80000);
+    }
+
+}
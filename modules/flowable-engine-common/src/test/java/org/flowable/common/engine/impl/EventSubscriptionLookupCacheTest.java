@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.common.engine.impl.persistence.cache.EventSubscriptionLookupCache;
+import org.junit.jupiter.api.Test;
+
+public class EventSubscriptionLookupCacheTest {
+
+    @Test
+    public void testRegisterNoSubscriptions() {
+        EventSubscriptionLookupCache cache = new EventSubscriptionLookupCache(Duration.ofMinutes(1), 100);
+        assertThat(cache.hasNoSubscriptions("myEvent", "bpmn|tenant")).isFalse();
+
+        cache.registerNoSubscriptions("myEvent", "bpmn|tenant", cache.getVersion("myEvent"));
+
+        assertThat(cache.hasNoSubscriptions("myEvent", "bpmn|tenant")).isTrue();
+        assertThat(cache.hasNoSubscriptions("myEvent", "bpmn|otherTenant")).isFalse();
+        assertThat(cache.hasNoSubscriptions("otherEvent", "bpmn|tenant")).isFalse();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testInvalidate() {
+        EventSubscriptionLookupCache cache = new EventSubscriptionLookupCache(Duration.ofMinutes(1), 100);
+        cache.registerNoSubscriptions("myEvent", "key1", cache.getVersion("myEvent"));
+        cache.registerNoSubscriptions("myEvent", "key2", cache.getVersion("myEvent"));
+        cache.registerNoSubscriptions("otherEvent", "key1", cache.getVersion("otherEvent"));
+
+        cache.invalidate("myEvent");
+
+        assertThat(cache.hasNoSubscriptions("myEvent", "key1")).isFalse();
+        assertThat(cache.hasNoSubscriptions("myEvent", "key2")).isFalse();
+        assertThat(cache.hasNoSubscriptions("otherEvent", "key1")).isTrue();
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidateAll();
+        assertThat(cache.hasNoSubscriptions("otherEvent", "key1")).isFalse();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getInvalidationCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLookupRunningDuringInvalidationIsNotCached() {
+        EventSubscriptionLookupCache cache = new EventSubscriptionLookupCache(Duration.ofMinutes(1), 100);
+        long version = cache.getVersion("myEvent");
+
+        // An event subscription is inserted while the lookup queries the database
+        cache.invalidate("myEvent");
+        cache.registerNoSubscriptions("myEvent", "key", version);
+
+        assertThat(cache.hasNoSubscriptions("myEvent", "key")).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void testLookupsExpire() throws Exception {
+        EventSubscriptionLookupCache cache = new EventSubscriptionLookupCache(Duration.ofMillis(20), 100);
+        cache.registerNoSubscriptions("myEvent", "key", cache.getVersion("myEvent"));
+        assertThat(cache.hasNoSubscriptions("myEvent", "key")).isTrue();
+
+        Thread.sleep(50);
+
+        assertThat(cache.hasNoSubscriptions("myEvent", "key")).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void testMaxSize() throws Exception {
+        EventSubscriptionLookupCache cache = new EventSubscriptionLookupCache(Duration.ofMillis(20), 2);
+        cache.registerNoSubscriptions("myEvent", "key1", cache.getVersion("myEvent"));
+        cache.registerNoSubscriptions("myEvent", "key2", cache.getVersion("myEvent"));
+        cache.registerNoSubscriptions("myEvent", "key3", cache.getVersion("myEvent"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.hasNoSubscriptions("myEvent", "key3")).isFalse();
+
+        Thread.sleep(50);
+
+        // The expired lookups make room for new ones
+        cache.registerNoSubscriptions("myEvent", "key3", cache.getVersion("myEvent"));
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.hasNoSubscriptions("myEvent", "key3")).isTrue();
+    }
+
+    @Test
+    public void testSizeStaysConsistentWithConcurrentRemovals() throws Exception {
+        // Lookups expire right away, so hasNoSubscriptions, the purge and the invalidation all race to remove the same lookups
+        EventSubscriptionLookupCache cache = new EventSubscriptionLookupCache(Duration.ofNanos(1), 50);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        String lookupKey = "key" + (i % 20);
+                        cache.registerNoSubscriptions("myEvent", lookupKey, cache.getVersion("myEvent"));
+                        cache.hasNoSubscriptions("myEvent", lookupKey);
+                        if (i % 2 == 0) {
+                            cache.invalidate("myEvent");
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+    }
+
+}
@@ -25,6 +25,9 @@ import org.flowable.batch.api.BatchPartQuery;
 import org.flowable.batch.api.BatchQuery;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.management.SlowSqlStatement;
+import org.flowable.common.engine.api.management.SqlFlushStatistics;
+import org.flowable.common.engine.api.management.SqlStatementStatistics;
 import org.flowable.common.engine.api.management.TableMetaData;
 import org.flowable.common.engine.api.management.TablePage;
 import org.flowable.common.engine.api.management.TablePageQuery;
@@ -510,6 +513,31 @@ public interface ManagementService {
      */
     void deleteEventLogEntry(long logNr);
 
+    // SQL metrics
+
+    /**
+     * Returns the execution statistics per MyBatis mapped statement id, sorted by statement id.
+     * Empty when no {@link org.flowable.common.engine.impl.db.metrics.SqlMetricsCollector} is configured on the engine configuration.
+     */
+    Map<String, SqlStatementStatistics> getSqlStatementStatistics();
+
+    /**
+     * Returns the statistics of the flushes of the database session per command, sorted by the simple class name of the command.
+     * Empty when no sql metrics collector is configured on the engine configuration.
+     */
+    Map<String, SqlFlushStatistics> getSqlFlushStatistics();
+
+    /**
+     * Returns the most recent statement executions that took longer than the configured slow statement threshold, oldest first.
+     * Empty when no sql metrics collector is configured on the engine configuration.
+     */
+    List<SlowSqlStatement> getSlowSqlStatements();
+
+    /**
+     * Clears the sql statement, flush and slow statement metrics collected so far.
+     */
+    void resetSqlMetrics();
+
     // External Worker
 
     /**
@@ -87,6 +87,7 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
 
     protected String processEngineName = ProcessEngines.NAME_DEFAULT;
     protected int idBlockSize = 2500;
+    protected boolean idBlockPrefetchEnabled;
     protected String history = HistoryLevel.AUDIT.getKey();
     protected boolean asyncExecutorActivate;
     protected boolean asyncHistoryExecutorActivate;
@@ -159,6 +160,7 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected Duration cleanInstancesEndedAfter = Duration.ofDays(365);
     protected int cleanInstancesBatchSize = 100;
+    protected boolean cleanInstancesInParallel;
     protected HistoryCleaningManager historyCleaningManager;
 
 
@@ -243,6 +245,20 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public boolean isIdBlockPrefetchEnabled() {
+        return idBlockPrefetchEnabled;
+    }
+
+    /**
+     * Enables fetching the next id block in the background when half of the current id block is used,
+     * so that no thread needs to wait for the database when the current block runs out.
+     * Only applies to the default id generator, which reserves the id blocks in the database.
+     */
+    public ProcessEngineConfiguration setIdBlockPrefetchEnabled(boolean idBlockPrefetchEnabled) {
+        this.idBlockPrefetchEnabled = idBlockPrefetchEnabled;
+        return this;
+    }
+
     public String getHistory() {
         return history;
     }
@@ -863,6 +879,19 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public boolean isCleanInstancesInParallel() {
+        return cleanInstancesInParallel;
+    }
+
+    /**
+     * Whether the history cleaning should split the instances to delete into batch parts of {@link #getCleanInstancesBatchSize()}
+     * that are deleted in parallel by the async executor(s), instead of deleting one batch part after the other.
+     */
+    public ProcessEngineConfiguration setCleanInstancesInParallel(boolean cleanInstancesInParallel) {
+        this.cleanInstancesInParallel = cleanInstancesInParallel;
+        return this;
+    }
+
     public HistoryCleaningManager getHistoryCleaningManager() {
         return historyCleaningManager;
     }
@@ -14,11 +14,13 @@
 package org.flowable.engine.history;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
 import org.flowable.common.engine.api.query.BatchDeleteQuery;
+import org.flowable.common.engine.api.query.CursorQuery;
 import org.flowable.common.engine.api.query.DeleteQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
@@ -32,7 +34,7 @@ import org.flowable.engine.runtime.ProcessInstanceQuery;
  * @author Falko Menge
  */
 public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance>, DeleteQuery<HistoricProcessInstanceQuery, HistoricProcessInstance>,
-        BatchDeleteQuery<HistoricProcessInstanceQuery> {
+        BatchDeleteQuery<HistoricProcessInstanceQuery>, CursorQuery<HistoricProcessInstance> {
 
     /**
      * Only select historic process instances with the given process instance. {@link org.flowable.engine.runtime.ProcessInstance} ids and {@link HistoricProcessInstance} ids match.
@@ -483,6 +485,12 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      */
     HistoricProcessInstanceQuery includeProcessVariables();
 
+    /**
+     * Only include the process variables with the given names in the query result, when process variables are included with {@link #includeProcessVariables()}.
+     * The variables are then fetched with separate queries after the process instances, instead of being joined with the process instances.
+     */
+    HistoricProcessInstanceQuery limitIncludedVariables(Collection<String> variableNames);
+
     /**
      * Limit process instance variables
      * @deprecated no longer needed, this is a noop
@@ -14,10 +14,15 @@
 package org.flowable.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -38,6 +43,7 @@ import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesUsingBatche
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInitializingList;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 
 /**
@@ -88,6 +94,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     private List<List<String>> safeInvolvedGroups;
     protected IdentityLinkQueryObject involvedGroupIdentityLink;
     protected boolean includeProcessVariables;
+    protected Collection<String> includedVariableNames;
     protected boolean withJobException;
     protected String tenantId;
     protected String tenantIdLike;
@@ -472,6 +479,15 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return this;
     }
 
+    @Override
+    public HistoricProcessInstanceQuery limitIncludedVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is null or empty");
+        }
+        this.includedVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit) {
         return this;
@@ -957,7 +973,11 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
             processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
         }
         
-        if (includeProcessVariables) {
+        if (includeProcessVariables && isFetchVariablesSeparately()) {
+            results = processEngineConfiguration.getHistoricProcessInstanceEntityManager().findHistoricProcessInstancesByQueryCriteria(this);
+            fetchVariables(results);
+
+        } else if (includeProcessVariables) {
             results = processEngineConfiguration.getHistoricProcessInstanceEntityManager().findHistoricProcessInstancesAndVariablesByQueryCriteria(this);
 
             if (processInstanceId != null) {
@@ -981,6 +1001,87 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    /**
+     * When true, the historic process instances are queried without their variables, which are then fetched with separate queries
+     * for all historic process instances at once, instead of being joined with the historic process instances.
+     */
+    protected boolean isFetchVariablesSeparately() {
+        return includedVariableNames != null || processEngineConfiguration.getPerformanceSettings().isEnableTwoPhaseRelatedEntityFetching();
+    }
+
+    protected void fetchVariables(List<HistoricProcessInstance> historicProcessInstances) {
+        if (historicProcessInstances.isEmpty()) {
+            return;
+        }
+
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+            processInstanceIds.add(historicProcessInstance.getId());
+        }
+
+        Map<String, List<HistoricVariableInstanceEntity>> variablesByProcessInstanceId = new HashMap<>();
+        for (HistoricVariableInstanceEntity variable : processEngineConfiguration.getVariableServiceConfiguration().getHistoricVariableInstanceEntityManager()
+                .findHistoricalVariableInstancesByExecutionIds(processInstanceIds, includedVariableNames)) {
+            variablesByProcessInstanceId.computeIfAbsent(variable.getExecutionId(), key -> new ArrayList<>()).add(variable);
+        }
+
+        for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+            List<HistoricVariableInstanceEntity> variables = new HistoricVariableInitializingList();
+            List<HistoricVariableInstanceEntity> processInstanceVariables = variablesByProcessInstanceId.get(historicProcessInstance.getId());
+            if (processInstanceVariables != null) {
+                variables.addAll(processInstanceVariables);
+            }
+            ((HistoricProcessInstanceEntity) historicProcessInstance).setQueryVariables(variables);
+        }
+    }
+
+    @Override
+    protected void executeForEach(CommandContext commandContext, Consumer<? super HistoricProcessInstance> consumer) {
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Process variables can't be included when iterating over the historic process instances");
+        }
+
+        ensureVariablesInitialized();
+        if (processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
+        }
+
+        boolean localize = processEngineConfiguration.getPerformanceSettings().isEnableLocalization()
+                && processEngineConfiguration.getInternalProcessLocalizationManager() != null;
+        processEngineConfiguration.getHistoricProcessInstanceEntityManager().forEachHistoricProcessInstanceByQueryCriteria(this, processInstance -> {
+            if (localize) {
+                processEngineConfiguration.getInternalProcessLocalizationManager().localize(processInstance, locale, withLocalizationFallback);
+            }
+            consumer.accept(processInstance);
+        });
+    }
+
+    @Override
+    protected Object getKeysetValue(HistoricProcessInstance processInstance, String columnName) {
+        // The name is not supported, as it can be localized
+        switch (columnName) {
+            case "RES.ID_":
+                return processInstance.getId();
+            case "RES.PROC_INST_ID_":
+                // Same as the id for historic process instances
+                return processInstance.getId();
+            case "RES.PROC_DEF_ID_":
+                return processInstance.getProcessDefinitionId();
+            case "RES.BUSINESS_KEY_":
+                return processInstance.getBusinessKey();
+            case "RES.START_TIME_":
+                return processInstance.getStartTime();
+            case "RES.END_TIME_":
+                return processInstance.getEndTime();
+            case "RES.DURATION_":
+                return processInstance.getDurationInMillis();
+            case "RES.TENANT_ID_":
+                return processInstance.getTenantId();
+            default:
+                return super.getKeysetValue(processInstance, columnName);
+        }
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricProcessInstance> results) {
 
         // Unlike the ExecutionEntityImpl, variables are not stored on the HistoricExecutionEntityImpl.
@@ -1010,7 +1111,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
 
     @Override
     public void enhanceCachedValue(HistoricProcessInstanceEntity processInstance) {
-        if (includeProcessVariables) {
+        if (includeProcessVariables && !isFetchVariablesSeparately()) {
             processInstance.getQueryVariables()
                     .addAll(processEngineConfiguration.getVariableServiceConfiguration().getHistoricVariableInstanceEntityManager()
                             .findHistoricalVariableInstancesByProcessInstanceId(processInstance.getId()));
@@ -1206,6 +1307,10 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludedVariableNames() {
+        return includedVariableNames;
+    }
+
     public boolean isWithException() {
         return withJobException;
     }
@@ -14,6 +14,7 @@ package org.flowable.engine.impl;
 
 import java.sql.Connection;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +30,9 @@ import org.flowable.batch.service.impl.BatchPartQueryImpl;
 import org.flowable.batch.service.impl.BatchQueryImpl;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.management.SlowSqlStatement;
+import org.flowable.common.engine.api.management.SqlFlushStatistics;
+import org.flowable.common.engine.api.management.SqlStatementStatistics;
 import org.flowable.common.engine.api.management.TableMetaData;
 import org.flowable.common.engine.api.management.TablePageQuery;
 import org.flowable.common.engine.api.tenant.ChangeTenantIdBuilder;
@@ -38,6 +42,7 @@ import org.flowable.common.engine.impl.cmd.GetTableCountCmd;
 import org.flowable.common.engine.impl.cmd.GetTableMetaDataCmd;
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.db.metrics.SqlMetricsCollector;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -450,6 +455,32 @@ public class ManagementServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         commandExecutor.execute(new DeleteEventLogEntry(logNr));
     }
 
+    @Override
+    public Map<String, SqlStatementStatistics> getSqlStatementStatistics() {
+        SqlMetricsCollector sqlMetricsCollector = configuration.getSqlMetricsCollector();
+        return sqlMetricsCollector != null ? sqlMetricsCollector.getStatementStatistics() : Collections.emptyMap();
+    }
+
+    @Override
+    public Map<String, SqlFlushStatistics> getSqlFlushStatistics() {
+        SqlMetricsCollector sqlMetricsCollector = configuration.getSqlMetricsCollector();
+        return sqlMetricsCollector != null ? sqlMetricsCollector.getFlushStatistics() : Collections.emptyMap();
+    }
+
+    @Override
+    public List<SlowSqlStatement> getSlowSqlStatements() {
+        SqlMetricsCollector sqlMetricsCollector = configuration.getSqlMetricsCollector();
+        return sqlMetricsCollector != null ? sqlMetricsCollector.getSlowStatements() : Collections.emptyList();
+    }
+
+    @Override
+    public void resetSqlMetrics() {
+        SqlMetricsCollector sqlMetricsCollector = configuration.getSqlMetricsCollector();
+        if (sqlMetricsCollector != null) {
+            sqlMetricsCollector.reset();
+        }
+    }
+
     @Override
     public ExternalWorkerJobAcquireBuilder createExternalWorkerJobAcquireBuilder() {
         return new ExternalWorkerJobAcquireBuilderImpl(commandExecutor, configuration.getJobServiceConfiguration());
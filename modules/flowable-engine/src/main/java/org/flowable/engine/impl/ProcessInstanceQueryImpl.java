@@ -15,23 +15,34 @@ package org.flowable.engine.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryValue;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInitializingList;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tom Baeyens
@@ -75,6 +86,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected IdentityLinkQueryObject involvedGroupIdentityLink;
     protected SuspensionState suspensionState;
     protected boolean includeProcessVariables;
+    protected Collection<String> includedVariableNames;
     protected boolean withJobException;
     protected String name;
     protected String nameLike;
@@ -500,6 +512,15 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    @Override
+    public ProcessInstanceQuery limitIncludedVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is null or empty");
+        }
+        this.includedVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public ProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit) {
         return this;
@@ -851,7 +872,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
             processEngineConfiguration.getProcessInstanceQueryInterceptor().beforeProcessInstanceQueryExecute(this);
         }
         
-        if (includeProcessVariables) {
+        if (includeProcessVariables && isFetchVariablesSeparately()) {
+            processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceByQueryCriteria(this);
+            fetchVariables(processInstances);
+        } else if (includeProcessVariables) {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceAndVariablesByQueryCriteria(this);
         } else {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceByQueryCriteria(this);
@@ -870,9 +894,85 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return processInstances;
     }
 
+    /**
+     * When true, the process instances are queried without their variables, which are then fetched with separate queries
+     * for all process instances at once, instead of being joined with the process instances.
+     */
+    protected boolean isFetchVariablesSeparately() {
+        return includedVariableNames != null || processEngineConfiguration.getPerformanceSettings().isEnableTwoPhaseRelatedEntityFetching();
+    }
+
+    protected void fetchVariables(List<ProcessInstance> processInstances) {
+        if (processInstances.isEmpty()) {
+            return;
+        }
+
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        for (ProcessInstance processInstance : processInstances) {
+            processInstanceIds.add(processInstance.getId());
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByProcessInstanceId = new HashMap<>();
+        for (List<String> processInstanceIdsPart : CollectionUtil.partition(processInstanceIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            InternalVariableInstanceQuery variableQuery = processEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                    .createInternalVariableInstanceQuery()
+                    .executionIds(processInstanceIdsPart);
+            if (includedVariableNames != null) {
+                variableQuery.names(includedVariableNames);
+            }
+            for (VariableInstanceEntity variable : variableQuery.list()) {
+                variablesByProcessInstanceId.computeIfAbsent(variable.getExecutionId(), key -> new ArrayList<>()).add(variable);
+            }
+        }
+
+        for (ProcessInstance processInstance : processInstances) {
+            List<VariableInstanceEntity> variables = new VariableInitializingList();
+            variables.addAll(variablesByProcessInstanceId.getOrDefault(processInstance.getId(), Collections.emptyList()));
+            ((ExecutionEntity) processInstance).setQueryVariables(variables);
+        }
+    }
+
     @Override
-    public void enhanceCachedValue(ExecutionEntity processInstance) {
+    protected void executeForEach(CommandContext commandContext, Consumer<? super ProcessInstance> consumer) {
         if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Process variables can't be included when iterating over the process instances");
+        }
+
+        ensureVariablesInitialized();
+        if (processEngineConfiguration.getProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getProcessInstanceQueryInterceptor().beforeProcessInstanceQueryExecute(this);
+        }
+
+        boolean localize = processEngineConfiguration.getPerformanceSettings().isEnableLocalization()
+                && processEngineConfiguration.getInternalProcessLocalizationManager() != null;
+        processEngineConfiguration.getExecutionEntityManager().forEachProcessInstanceByQueryCriteria(this, processInstance -> {
+            if (localize) {
+                processEngineConfiguration.getInternalProcessLocalizationManager().localize(processInstance, locale, withLocalizationFallback);
+            }
+            consumer.accept(processInstance);
+        });
+    }
+
+    @Override
+    protected Object getKeysetValue(ProcessInstance processInstance, String columnName) {
+        // The name is not supported, as it can be localized
+        switch (columnName) {
+            case "RES.ID_":
+                return processInstance.getId();
+            case "RES.PROC_DEF_ID_":
+                return processInstance.getProcessDefinitionId();
+            case "RES.START_TIME_":
+                return processInstance.getStartTime();
+            case "RES.TENANT_ID_":
+                return processInstance.getTenantId();
+            default:
+                return super.getKeysetValue(processInstance, columnName);
+        }
+    }
+
+    @Override
+    public void enhanceCachedValue(ExecutionEntity processInstance) {
+        if (includeProcessVariables && !isFetchVariablesSeparately()) {
             processInstance.getQueryVariables().addAll(processEngineConfiguration.getVariableServiceConfiguration()
                     .getVariableService().findVariableInstancesByExecutionId(processInstance.getId()));
         }
@@ -1054,6 +1154,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludedVariableNames() {
+        return includedVariableNames;
+    }
+
     public boolean iswithException() {
         return withJobException;
     }
@@ -45,6 +45,7 @@ import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.constant.EventConstants;
 import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
 import org.flowable.eventregistry.model.ChannelModel;
@@ -79,7 +80,7 @@ public class SendEventTaskActivityBehavior extends AbstractBpmnActivityBehavior
 
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         boolean executedAsAsyncJob = Boolean.TRUE.equals(commandContext.getAttribute(AsyncSendEventJobHandler.TYPE));
-        boolean sendSynchronously = sendEventServiceTask.isSendSynchronously() || executedAsAsyncJob;
+        boolean sendSynchronously = sendEventServiceTask.isSendSynchronously() || executedAsAsyncJob || isOutboundEventOutboxEnabled(commandContext);
         if (!sendSynchronously) {
             JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
             
@@ -136,6 +137,14 @@ public class SendEventTaskActivityBehavior extends AbstractBpmnActivityBehavior
         }
     }
 
+    /**
+     * With the outbox, sending the event only stores it as part of the current transaction, so no async job is needed to decouple the delivery.
+     */
+    protected boolean isOutboundEventOutboxEnabled(CommandContext commandContext) {
+        EventRegistryEngineConfiguration eventRegistryEngineConfiguration = CommandContextUtil.getEventRegistryEngineConfiguration(commandContext);
+        return eventRegistryEngineConfiguration != null && eventRegistryEngineConfiguration.isEnableOutboundEventOutbox();
+    }
+
     protected EventModel getEventModel(CommandContext commandContext, DelegateExecution execution) {
         EventModel eventModel = null;
         if (Objects.equals(ProcessEngineConfiguration.NO_TENANT_ID, execution.getTenantId())) {
@@ -13,9 +13,12 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.constants.BpmnXMLConstants;
@@ -85,6 +88,7 @@ public class BpmnDeployer implements EngineDeployer {
 
         createAndPersistNewDiagramsIfNeeded(parsedDeployment);
         setProcessDefinitionDiagramNames(parsedDeployment);
+        createAndPersistModelSnapshotsIfNeeded(parsedDeployment);
 
         if (deployment.isNew()) {
             if (!deploymentSettings.containsKey(DeploymentSettings.IS_DERIVED_DEPLOYMENT)) {
@@ -116,6 +120,30 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * Parses only the given BPMN resource of an existing deployment and caches the process definitions defined in it.
+     * This is used instead of redeploying the whole deployment when a process definition is not in the cache anymore,
+     * as that would parse all BPMN resources of the deployment.
+     */
+    public void deployResource(DeploymentEntity deployment, EngineResource resource) {
+        LOGGER.debug("Processing resource {} of deployment {}", resource.getName(), deployment.getName());
+
+        ParsedDeployment parsedDeployment = parsedDeploymentBuilderFactory
+                .getBuilderForDeployment(deployment)
+                .build(Collections.singletonList(resource));
+
+        bpmnDeploymentHelper.copyDeploymentValuesToProcessDefinitions(deployment, parsedDeployment.getAllProcessDefinitions());
+        bpmnDeploymentHelper.setResourceNamesOnProcessDefinitions(parsedDeployment);
+        makeProcessDefinitionsConsistentWithPersistedVersions(parsedDeployment);
+
+        cachingAndArtifactsManager.updateCachingAndArtifacts(parsedDeployment);
+
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
+            createLocalizationValues(processDefinition.getId(), bpmnModel.getProcessById(processDefinition.getKey()));
+        }
+    }
+
     /**
      * Creates new diagrams for process definitions if the deployment is new, the process definition in question supports it, and the engine is configured to make new diagrams.
      *
@@ -139,6 +167,36 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * Persists the model snapshots created while parsing the BPMN resources of a new deployment, as generated resources of the deployment.
+     * The snapshot of a BPMN resource is read instead of its XML when the deployment is parsed again later on.
+     */
+    protected void createAndPersistModelSnapshotsIfNeeded(ParsedDeployment parsedDeployment) {
+        DeploymentEntity deploymentEntity = parsedDeployment.getDeployment();
+        if (!deploymentEntity.isNew()) {
+            return;
+        }
+
+        ResourceEntityManager resourceEntityManager = CommandContextUtil.getProcessEngineConfiguration().getResourceEntityManager();
+        Set<String> handledResourceNames = new HashSet<>();
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            EngineResource bpmnResource = parsedDeployment.getResourceForProcessDefinition(processDefinition);
+            byte[] modelSnapshot = parsedDeployment.getBpmnParseForProcessDefinition(processDefinition).getModelSnapshot();
+            if (modelSnapshot != null && handledResourceNames.add(bpmnResource.getName())) {
+                String snapshotResourceName = ResourceNameUtil.getModelSnapshotResourceName(bpmnResource.getName());
+                if (!deploymentEntity.getResources().containsKey(snapshotResourceName)) {
+                    ResourceEntity resource = resourceEntityManager.create();
+                    resource.setName(snapshotResourceName);
+                    resource.setBytes(modelSnapshot);
+                    resource.setDeploymentId(deploymentEntity.getId());
+                    resource.setGenerated(true);
+                    resourceEntityManager.insert(resource, false);
+                    deploymentEntity.addResource(resource);
+                }
+            }
+        }
+    }
+
     /**
      * Updates all the process definition entities to have the correct diagram resource name. Must be called after createAndPersistNewDiagramsAsNeeded to ensure that any newly-created diagrams already
      * have their resources attached to the deployment.
@@ -345,6 +403,10 @@ public class BpmnDeployer implements EngineDeployer {
                 processDefinition.setSuspensionState(persistedProcessDefinition.getSuspensionState());
                 processDefinition.setHasStartFormKey(persistedProcessDefinition.hasStartFormKey());
                 processDefinition.setGraphicalNotationDefined(persistedProcessDefinition.isGraphicalNotationDefined());
+                if (processDefinition.getDiagramResourceName() == null) {
+                    // Not determined when only a single resource of the deployment is deployed
+                    processDefinition.setDiagramResourceName(persistedProcessDefinition.getDiagramResourceName());
+                }
             }
         }
     }
@@ -14,17 +14,24 @@ package org.flowable.engine.impl.bpmn.deployer;
 
 import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.bpmn.converter.BpmnModelSnapshotConverter;
+import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
+import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,12 +51,19 @@ public class ParsedDeploymentBuilder {
     }
 
     public ParsedDeployment build() {
+        return build(((DeploymentEntity) deployment).getResources().values());
+    }
+
+    /**
+     * Builds the parsed deployment from the given resources of the deployment only.
+     */
+    public ParsedDeployment build(Collection<? extends EngineResource> resources) {
         List<ProcessDefinitionEntity> processDefinitions = new ArrayList<>();
         Map<ProcessDefinitionEntity, BpmnParse> processDefinitionsToBpmnParseMap = new LinkedHashMap<>();
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
-        for (EngineResource resource : deploymentEntity.getResources().values()) {
+        for (EngineResource resource : resources) {
             if (isBpmnResource(resource.getName())) {
                 LOGGER.debug("Processing BPMN resource {}", resource.getName());
                 BpmnParse parse = createBpmnParseFromResource(resource);
@@ -67,11 +81,21 @@ public class ParsedDeploymentBuilder {
 
     protected BpmnParse createBpmnParseFromResource(EngineResource resource) {
         String resourceName = resource.getName();
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(resource.getBytes());
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+
+        BpmnParse bpmnParse = bpmnParser.createParse();
+        boolean modelSnapshotsEnabled = processEngineConfiguration != null && processEngineConfiguration.isEnableBpmnModelSnapshots();
+        BpmnModel snapshotBpmnModel = !deployment.isNew() && modelSnapshotsEnabled ? readModelSnapshot(processEngineConfiguration, resource) : null;
+        if (snapshotBpmnModel != null) {
+            bpmnParse.sourceBpmnModel(snapshotBpmnModel);
+        } else {
+            bpmnParse.sourceInputStream(new ByteArrayInputStream(resource.getBytes()));
+            if (deployment.isNew() && modelSnapshotsEnabled) {
+                bpmnParse.setCreateModelSnapshot(true);
+            }
+        }
 
-        BpmnParse bpmnParse = bpmnParser.createParse()
-                .sourceInputStream(inputStream)
-                .setSourceSystemId(resourceName)
+        bpmnParse.setSourceSystemId(resourceName)
                 .deployment(deployment)
                 .name(resourceName);
 
@@ -102,6 +126,32 @@ public class ParsedDeploymentBuilder {
         return bpmnParse;
     }
 
+    /**
+     * Reads the model snapshot that was stored for the given BPMN resource when it was deployed.
+     * Only the snapshot resource is fetched, the other resources of the deployment are not loaded for this.
+     *
+     * @return the model, or null if there is no usable snapshot and the BPMN XML needs to be parsed instead.
+     */
+    protected BpmnModel readModelSnapshot(ProcessEngineConfigurationImpl processEngineConfiguration, EngineResource resource) {
+        ResourceEntity snapshotResource = processEngineConfiguration.getResourceEntityManager()
+                .findResourceByDeploymentIdAndResourceName(deployment.getId(), ResourceNameUtil.getModelSnapshotResourceName(resource.getName()));
+        if (snapshotResource == null || !snapshotResource.isGenerated()) {
+            return null;
+        }
+
+        try {
+            BpmnModel bpmnModel = new BpmnModelSnapshotConverter().convertToBpmnModel(snapshotResource.getBytes(), ProcessEngine.VERSION);
+            if (bpmnModel == null) {
+                LOGGER.debug("Model snapshot of resource {} was created by another engine version, parsing the XML instead", resource.getName());
+            }
+            return bpmnModel;
+
+        } catch (Exception e) {
+            LOGGER.warn("Could not read model snapshot of resource {}, parsing the XML instead", resource.getName(), e);
+            return null;
+        }
+    }
+
     protected boolean isBpmnResource(String resourceName) {
         for (String suffix : ResourceNameUtil.BPMN_RESOURCE_SUFFIXES) {
             if (resourceName.endsWith(suffix)) {
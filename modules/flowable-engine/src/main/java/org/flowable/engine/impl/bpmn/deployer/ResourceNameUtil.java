@@ -25,6 +25,7 @@ public class ResourceNameUtil {
 
     public static final String[] BPMN_RESOURCE_SUFFIXES = new String[] { "bpmn20.xml", "bpmn" };
     public static final String[] DIAGRAM_SUFFIXES = new String[] { "png", "jpg", "gif", "svg" };
+    public static final String MODEL_SNAPSHOT_SUFFIX = "snapshot";
 
     public static String stripBpmnFileSuffix(String bpmnFileResource) {
         for (String suffix : BPMN_RESOURCE_SUFFIXES) {
@@ -40,6 +41,13 @@ public class ResourceNameUtil {
         return bpmnFileResourceBase + processKey + "." + diagramSuffix;
     }
 
+    /**
+     * Returns the name of the generated resource holding the model snapshot of a BPMN resource, e.g. 'abc.bpmn20.xml.snapshot' for 'abc.bpmn20.xml'.
+     */
+    public static String getModelSnapshotResourceName(String bpmnFileResource) {
+        return bpmnFileResource + "." + MODEL_SNAPSHOT_SUFFIX;
+    }
+
     /**
      * Finds the name of a resource for the diagram for a process definition. Assumes that the process definition's key and (BPMN) resource name are already set.
      *
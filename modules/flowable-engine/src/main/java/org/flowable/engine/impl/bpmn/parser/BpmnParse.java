@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.bpmn.constants.BpmnXMLConstants;
+import org.flowable.bpmn.converter.BpmnModelSnapshotConverter;
 import org.flowable.bpmn.converter.BpmnXMLConverter;
 import org.flowable.bpmn.exceptions.XMLException;
 import org.flowable.bpmn.model.BoundaryEvent;
@@ -42,6 +43,7 @@ import org.flowable.common.engine.impl.util.io.InputStreamSource;
 import org.flowable.common.engine.impl.util.io.StreamSource;
 import org.flowable.common.engine.impl.util.io.StringStreamSource;
 import org.flowable.common.engine.impl.util.io.UrlStreamSource;
+import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.bpmn.parser.factory.ActivityBehaviorFactory;
 import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -85,6 +87,10 @@ public class BpmnParse implements BpmnXMLConstants {
 
     protected BpmnModel bpmnModel;
 
+    /** Whether a binary snapshot of the model should be created, before the parse handlers are applied to it. */
+    protected boolean createModelSnapshot;
+    protected byte[] modelSnapshot;
+
     protected String targetNamespace;
 
     /** The deployment to which the parsed process definitions will be added. */
@@ -134,56 +140,8 @@ public class BpmnParse implements BpmnXMLConstants {
     public BpmnParse execute() {
         try {
 
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-            BpmnXMLConverter converter = new BpmnXMLConverter();
-
-            boolean enableSafeBpmnXml = false;
-            String encoding = null;
-            if (processEngineConfiguration != null) {
-                enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
-                encoding = processEngineConfiguration.getXmlEncoding();
-            }
-
-            if (encoding != null) {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
-            } else {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
-            }
-
-            // XSD validation goes first, then process/semantic validation
-            if (validateProcess) {
-                ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
-                if (processValidator == null) {
-                    LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
-                } else {
-                    List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
-                    if (validationErrors != null && !validationErrors.isEmpty()) {
-
-                        StringBuilder warningBuilder = new StringBuilder();
-                        StringBuilder errorBuilder = new StringBuilder();
-
-                        for (ValidationError error : validationErrors) {
-                            if (error.isWarning()) {
-                                warningBuilder.append(error);
-                                warningBuilder.append("\n");
-                            } else {
-                                errorBuilder.append(error);
-                                errorBuilder.append("\n");
-                            }
-                        }
-
-                        // Throw exception if there is any error
-                        if (errorBuilder.length() > 0) {
-                            throw new FlowableException("Errors while parsing:\n" + errorBuilder);
-                        }
-
-                        // Write out warnings (if any)
-                        if (warningBuilder.length() > 0) {
-                            LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder);
-                        }
-
-                    }
-                }
+            if (bpmnModel == null) {
+                convertToBpmnModel();
             }
 
             bpmnModel.setSourceSystemId(sourceSystemId);
@@ -210,6 +168,72 @@ public class BpmnParse implements BpmnXMLConstants {
         return this;
     }
 
+    /**
+     * Converts the XML source to the {@link BpmnModel} and validates it. When a model snapshot is requested, it is created here,
+     * before any parse handler has changed the model.
+     */
+    protected void convertToBpmnModel() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        BpmnXMLConverter converter = new BpmnXMLConverter();
+
+        boolean enableSafeBpmnXml = false;
+        String encoding = null;
+        if (processEngineConfiguration != null) {
+            enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
+            encoding = processEngineConfiguration.getXmlEncoding();
+        }
+
+        if (encoding != null) {
+            bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
+        } else {
+            bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
+        }
+
+        // XSD validation goes first, then process/semantic validation
+        if (validateProcess) {
+            ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
+            if (processValidator == null) {
+                LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
+            } else {
+                List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
+                if (validationErrors != null && !validationErrors.isEmpty()) {
+
+                    StringBuilder warningBuilder = new StringBuilder();
+                    StringBuilder errorBuilder = new StringBuilder();
+
+                    for (ValidationError error : validationErrors) {
+                        if (error.isWarning()) {
+                            warningBuilder.append(error);
+                            warningBuilder.append("\n");
+                        } else {
+                            errorBuilder.append(error);
+                            errorBuilder.append("\n");
+                        }
+                    }
+
+                    // Throw exception if there is any error
+                    if (errorBuilder.length() > 0) {
+                        throw new FlowableException("Errors while parsing:\n" + errorBuilder);
+                    }
+
+                    // Write out warnings (if any)
+                    if (warningBuilder.length() > 0) {
+                        LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder);
+                    }
+
+                }
+            }
+        }
+
+        if (createModelSnapshot) {
+            try {
+                modelSnapshot = new BpmnModelSnapshotConverter().convertToSnapshot(bpmnModel, ProcessEngine.VERSION);
+            } catch (Exception e) { // if anything goes wrong, the XML will be parsed instead of the snapshot
+                LOGGER.warn("Error while creating model snapshot of {}, snapshot will not be stored in repository", name, e);
+            }
+        }
+    }
+
     public BpmnParse name(String name) {
         this.name = name;
         return this;
@@ -223,6 +247,17 @@ public class BpmnParse implements BpmnXMLConstants {
         return this;
     }
 
+    /**
+     * Uses an already converted and validated model (e.g. read from a model snapshot) instead of converting an XML source.
+     */
+    public BpmnParse sourceBpmnModel(BpmnModel bpmnModel) {
+        if (name == null) {
+            name("bpmnModel");
+        }
+        this.bpmnModel = bpmnModel;
+        return this;
+    }
+
     public BpmnParse sourceResource(String resource) {
         return sourceResource(resource, null);
     }
@@ -466,6 +501,18 @@ public class BpmnParse implements BpmnXMLConstants {
         this.bpmnModel = bpmnModel;
     }
 
+    public boolean isCreateModelSnapshot() {
+        return createModelSnapshot;
+    }
+
+    public void setCreateModelSnapshot(boolean createModelSnapshot) {
+        this.createModelSnapshot = createModelSnapshot;
+    }
+
+    public byte[] getModelSnapshot() {
+        return modelSnapshot;
+    }
+
     public ActivityBehaviorFactory getActivityBehaviorFactory() {
         return activityBehaviorFactory;
     }
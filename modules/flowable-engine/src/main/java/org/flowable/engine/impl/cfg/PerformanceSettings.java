@@ -61,6 +61,14 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * If true, the variables and identity links of queries that include them (e.g. <code>includeProcessVariables()</code>) are fetched
+     * in separate, batched queries on the ids of the returned instances, instead of being joined into the main query.
+     * This avoids the multiplication of the result rows when the instances have many variables or identity links.
+     * The separate fetching is always used when the included variables are limited to certain variable names.
+     */
+    protected boolean enableTwoPhaseRelatedEntityFetching = false;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -109,4 +117,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableTwoPhaseRelatedEntityFetching() {
+        return enableTwoPhaseRelatedEntityFetching;
+    }
+
+    public void setEnableTwoPhaseRelatedEntityFetching(boolean enableTwoPhaseRelatedEntityFetching) {
+        this.enableTwoPhaseRelatedEntityFetching = enableTwoPhaseRelatedEntityFetching;
+    }
+
 }
@@ -54,6 +54,7 @@ import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
 import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
 import org.flowable.common.engine.impl.ServiceConfigurator;
+import org.flowable.common.engine.impl.agenda.AgendaOperationElement;
 import org.flowable.common.engine.impl.async.AsyncTaskExecutorConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
@@ -95,6 +96,8 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.EventSubscriptionLookupCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
@@ -104,6 +107,7 @@ import org.flowable.common.engine.impl.persistence.entity.data.ByteArrayDataMana
 import org.flowable.common.engine.impl.persistence.entity.data.PropertyDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
 import org.flowable.common.engine.impl.scripting.ScriptBindingsFactory;
 import org.flowable.common.engine.impl.scripting.ScriptingEngines;
@@ -152,6 +156,7 @@ import org.flowable.engine.impl.RuntimeServiceImpl;
 import org.flowable.engine.impl.SchemaOperationProcessEngineClose;
 import org.flowable.engine.impl.SchemaOperationsProcessEngineBuild;
 import org.flowable.engine.impl.TaskServiceImpl;
+import org.flowable.engine.impl.agenda.AbstractOperation;
 import org.flowable.engine.impl.agenda.AgendaSessionFactory;
 import org.flowable.engine.impl.agenda.DefaultFlowableEngineAgendaFactory;
 import org.flowable.engine.impl.app.AppDeployer;
@@ -308,6 +313,7 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
@@ -321,6 +327,7 @@ import org.flowable.engine.impl.persistence.entity.DeploymentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManager;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntityManager;
@@ -418,6 +425,7 @@ import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.job.service.impl.history.async.codec.AsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.task.api.TaskQueryInterceptor;
 import org.flowable.task.api.history.HistoricTaskQueryInterceptor;
@@ -540,6 +548,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected boolean isAsyncHistoryEnabled;
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
@@ -594,7 +603,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DeploymentManager deploymentManager;
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+    protected long processDefinitionCacheMaxWeight = -1; // By default, no limit. Only used with the concurrent deployment cache
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
+    protected boolean enableSingleResourceProcessDefinitionLoading; // On a cache miss, only parse the resource of the process definition
+    protected boolean enableBpmnModelSnapshots; // Store a binary snapshot of the model next to each BPMN resource on deploy
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
@@ -786,6 +798,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    protected boolean isCompiledScriptCacheEnabled;
+    protected int compiledScriptCacheSize = CompiledScriptCache.DEFAULT_LIMIT;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected StartProcessInstanceInterceptor startProcessInstanceInterceptor;
@@ -830,6 +845,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected Duration eventRegistryUniqueProcessInstanceStartLockTime = Duration.ofMinutes(10);
 
+    /**
+     * Node local cache of event registry lookups that didn't find any event subscription (disabled when null).
+     * Subscriptions created on other nodes are only seen after the maximum staleness of the cache.
+     */
+    protected EventSubscriptionLookupCache eventSubscriptionLookupCache;
+
     /**
      * Set this to true if you want to have extra checks on the BPMN xml that is parsed. See http://www.jorambarrez.be/blog/2013/02/19/uploading-a-funny-xml -can-bring-down-your-server/
      * <p>
@@ -1062,6 +1083,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     @Override
     public void initCommandInvoker() {
         if (commandInvoker == null) {
+            initAgendaOperationProfiling(operation -> {
+                if (operation instanceof AbstractOperation && ((AbstractOperation) operation).getExecution() != null) {
+                    ExecutionEntity execution = ((AbstractOperation) operation).getExecution();
+                    return new AgendaOperationElement(execution.getProcessDefinitionId(), execution.getCurrentActivityId());
+                }
+                return null;
+            });
+
             if (enableVerboseExecutionTreeLogging) {
                 this.commandInvoker = new LoggingExecutionTreeCommandInvoker(agendaOperationRunner);
 
@@ -1543,6 +1572,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.eventSubscriptionServiceConfiguration.setEventSubscriptionLockTime(this.eventRegistryUniqueProcessInstanceStartLockTime);
+        this.eventSubscriptionServiceConfiguration.setEventSubscriptionLookupCache(this.eventSubscriptionLookupCache);
         
         this.eventSubscriptionServiceConfiguration.init();
         
@@ -1594,6 +1624,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.performanceSettings.isEnableTaskRelationshipCounts());
         this.taskServiceConfiguration.setEnableLocalization(this.performanceSettings.isEnableLocalization());
+        this.taskServiceConfiguration.setEnableTwoPhaseRelatedEntityFetching(this.performanceSettings.isEnableTwoPhaseRelatedEntityFetching());
         this.taskServiceConfiguration.setTaskQueryInterceptor(this.taskQueryInterceptor);
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
 
@@ -1659,6 +1690,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             jobServiceConfiguration.setJobTypeAsyncHistory(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             jobServiceConfiguration.setJobTypeAsyncHistoryZipped(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(asyncHistoryPayloadCodec);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
 
@@ -1778,10 +1810,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
+            if (concurrentDeploymentCacheEnabled && processDefinitionCacheMaxWeight > 0) {
+                processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheLimit, processDefinitionCacheMaxWeight,
+                        new ProcessDefinitionCacheEntryWeigher());
             } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
+                processDefinitionCache = createDeploymentCache(processDefinitionCacheLimit);
             }
         }
     }
@@ -2335,6 +2368,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (idGenerator == null) {
             DbIdGenerator dbIdGenerator = new DbIdGenerator();
             dbIdGenerator.setIdBlockSize(idBlockSize);
+            dbIdGenerator.setPrefetchEnabled(idBlockPrefetchEnabled);
             idGenerator = dbIdGenerator;
         }
 
@@ -2494,6 +2528,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(scriptBindingsFactory);
             scriptingEngines.setDefaultTraceEnhancer(new ProcessEngineScriptTraceEnhancer());
+
+            if (isCompiledScriptCacheEnabled) {
+                scriptingEngines.setCompiledScriptCache(new CompiledScriptCache(compiledScriptCacheSize));
+            }
         }
     }
 
@@ -2501,8 +2539,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (expressionManager == null) {
             ProcessExpressionManager processExpressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
 
-            if (isExpressionCacheEnabled) {
-                processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+            // An expression cache size of zero (or lower) disables the cache
+            if (isExpressionCacheEnabled && expressionCacheSize > 0) {
+                processExpressionManager.setExpressionCache(createDeploymentCache(expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
@@ -3400,6 +3439,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3856,6 +3913,48 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    /**
+     * Sets the maximum total weight of the process definition cache, where the weight of a process definition is estimated
+     * by the size of its BPMN model (see {@link ProcessDefinitionCacheEntryWeigher}).
+     * Only applied when the concurrent deployment cache is enabled.
+     */
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
+    public boolean isEnableSingleResourceProcessDefinitionLoading() {
+        return enableSingleResourceProcessDefinitionLoading;
+    }
+
+    /**
+     * When enabled, a process definition that is not in the process definition cache is loaded by parsing only
+     * the BPMN resource that defines it, instead of redeploying the whole deployment with all deployers.
+     * Disabled by default, as custom deployers are then not run on a cache miss.
+     */
+    public ProcessEngineConfigurationImpl setEnableSingleResourceProcessDefinitionLoading(boolean enableSingleResourceProcessDefinitionLoading) {
+        this.enableSingleResourceProcessDefinitionLoading = enableSingleResourceProcessDefinitionLoading;
+        return this;
+    }
+
+    public boolean isEnableBpmnModelSnapshots() {
+        return enableBpmnModelSnapshots;
+    }
+
+    /**
+     * When enabled, a binary snapshot of the converted and validated model of each BPMN resource is stored as a generated resource of a new deployment.
+     * On a cache miss or when the engine starts, that snapshot is read instead of parsing the BPMN XML again.
+     * Snapshots created by another engine version are ignored and the BPMN XML is parsed instead.
+     */
+    public ProcessEngineConfigurationImpl setEnableBpmnModelSnapshots(boolean enableBpmnModelSnapshots) {
+        this.enableBpmnModelSnapshots = enableBpmnModelSnapshots;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -4024,6 +4123,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public EventSubscriptionLookupCache getEventSubscriptionLookupCache() {
+        return eventSubscriptionLookupCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEventSubscriptionLookupCache(EventSubscriptionLookupCache eventSubscriptionLookupCache) {
+        this.eventSubscriptionLookupCache = eventSubscriptionLookupCache;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
@@ -4111,6 +4219,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableTwoPhaseRelatedEntityFetching(boolean enableTwoPhaseRelatedEntityFetching) {
+        this.performanceSettings.setEnableTwoPhaseRelatedEntityFetching(enableTwoPhaseRelatedEntityFetching);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -4449,6 +4562,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    /**
+     * Sets the codec used to encode the history data of async history jobs, e.g. a {@link org.flowable.job.service.impl.history.async.codec.SmileAsyncHistoryPayloadCodec}
+     * for a compact binary encoding. Defaults to JSON.
+     */
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
@@ -13,37 +13,91 @@
 
 package org.flowable.engine.impl.db;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.IdBlock;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
+ * {@link IdGenerator} handing out ids from blocks that are reserved in the database.
+ *
+ * Ids are taken from the current block with an atomic counter, only switching to a new block is synchronized.
+ * When prefetching is enabled, the next block is fetched in the background once half of the current block is used,
+ * so that threads don't need to wait for the database when the current block runs out.
+ *
  * @author Tom Baeyens
  */
 public class DbIdGenerator implements IdGenerator {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbIdGenerator.class);
+
     protected int idBlockSize;
-    protected long nextId;
-    protected long lastId = -1;
+    protected boolean prefetchEnabled;
+    protected Executor prefetchExecutor;
 
     protected CommandExecutor commandExecutor;
     protected CommandConfig commandConfig;
 
+    protected final AtomicReference<IdRange> currentRange = new AtomicReference<>();
+    protected final Object newBlockLock = new Object();
+
     @Override
-    public synchronized String getNextId() {
-        if (lastId < nextId) {
-            getNewBlock();
+    public String getNextId() {
+        while (true) {
+            IdRange range = currentRange.get();
+            if (range != null) {
+                long id = range.nextId.getAndIncrement();
+                if (id <= range.lastId) {
+                    if (id == range.prefetchId) {
+                        prefetchNextBlock(range);
+                    }
+                    return Long.toString(id);
+                }
+            }
+            getNewBlock(range);
+        }
+    }
+
+    protected void getNewBlock(IdRange exhaustedRange) {
+        synchronized (newBlockLock) {
+            if (currentRange.get() != exhaustedRange) {
+                // Another thread already switched to a new block
+                return;
+            }
+
+            IdBlock idBlock = null;
+            if (exhaustedRange != null && exhaustedRange.prefetchedBlock != null) {
+                try {
+                    idBlock = exhaustedRange.prefetchedBlock.join();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Prefetching id block failed, fetching a new id block", e);
+                }
+            }
+            if (idBlock == null) {
+                idBlock = fetchIdBlock();
+            }
+            currentRange.set(new IdRange(idBlock, prefetchEnabled));
         }
-        long _nextId = nextId++;
-        return Long.toString(_nextId);
     }
 
-    protected synchronized void getNewBlock() {
-        IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
-        this.nextId = idBlock.getNextId();
-        this.lastId = idBlock.getLastId();
+    protected void prefetchNextBlock(IdRange range) {
+        range.prefetchedBlock = CompletableFuture.supplyAsync(this::fetchIdBlock, getPrefetchExecutor());
+    }
+
+    protected IdBlock fetchIdBlock() {
+        return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
     }
 
     public int getIdBlockSize() {
@@ -54,6 +108,25 @@ public class DbIdGenerator implements IdGenerator {
         this.idBlockSize = idBlockSize;
     }
 
+    public boolean isPrefetchEnabled() {
+        return prefetchEnabled;
+    }
+
+    public void setPrefetchEnabled(boolean prefetchEnabled) {
+        this.prefetchEnabled = prefetchEnabled;
+    }
+
+    public Executor getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            prefetchExecutor = DefaultPrefetchExecutorHolder.EXECUTOR;
+        }
+        return prefetchExecutor;
+    }
+
+    public void setPrefetchExecutor(Executor prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
     public CommandExecutor getCommandExecutor() {
         return commandExecutor;
     }
@@ -69,4 +142,39 @@ public class DbIdGenerator implements IdGenerator {
     public void setCommandConfig(CommandConfig commandConfig) {
         this.commandConfig = commandConfig;
     }
+
+    /**
+     * The ids of one block that are handed out. A new instance is created for every block, so that a thread can never take an id
+     * of a block that was already replaced.
+     */
+    protected static class IdRange {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+        protected final long prefetchId;
+        protected volatile CompletableFuture<IdBlock> prefetchedBlock;
+
+        public IdRange(IdBlock idBlock, boolean prefetchEnabled) {
+            this.nextId = new AtomicLong(idBlock.getNextId());
+            this.lastId = idBlock.getLastId();
+            this.prefetchId = prefetchEnabled ? idBlock.getNextId() + (idBlock.getLastId() - idBlock.getNextId()) / 2 : -1;
+        }
+    }
+
+    // Lazily created, different engines on the same classloader share the prefetching thread.
+    protected static class DefaultPrefetchExecutorHolder {
+
+        protected static final Executor EXECUTOR = createExecutor();
+
+        protected static Executor createExecutor() {
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                    .namingPattern("flowable-id-block-prefetch-%d")
+                    .daemon(true)
+                    .build();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
 }
@@ -92,10 +92,13 @@ public class DeleteHistoricProcessInstanceIdsJobHandler implements JobHandler {
 
         HistoryService historyService = engineConfiguration.getHistoryService();
         
+        long startTime = System.currentTimeMillis();
         try {
             historyService.bulkDeleteHistoricProcessInstances(processInstanceIdsToDelete);
             resultNode.withArray("processInstanceIdsDeleted")
                 .addAll((ArrayNode) idsToDelete);
+            resultNode.put("numberOfDeletedInstances", processInstanceIdsToDelete.size());
+            resultNode.put("deleteTimeInMillis", System.currentTimeMillis() - startTime);
             
         } catch (FlowableException ex) {
             status = DeleteProcessInstanceBatchConstants.STATUS_FAILED;
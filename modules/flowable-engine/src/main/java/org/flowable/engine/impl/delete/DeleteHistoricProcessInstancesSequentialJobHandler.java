@@ -86,10 +86,13 @@ public class DeleteHistoricProcessInstancesSequentialJobHandler implements JobHa
 
         HistoryService historyService = engineConfiguration.getHistoryService();
 
+        long startTime = System.currentTimeMillis();
         try {
             historyService.bulkDeleteHistoricProcessInstances(processInstanceIdsToDelete);
             ArrayNode deletedProcessInstanceIdsNode = resultNode.withArray("processInstanceIdsDeleted");
             processInstanceIdsToDelete.forEach(deletedProcessInstanceIdsNode::add);
+            resultNode.put("numberOfDeletedInstances", processInstanceIdsToDelete.size());
+            resultNode.put("deleteTimeInMillis", System.currentTimeMillis() - startTime);
 
         } catch (FlowableException ex) {
             status = DeleteProcessInstanceBatchConstants.STATUS_FAILED;
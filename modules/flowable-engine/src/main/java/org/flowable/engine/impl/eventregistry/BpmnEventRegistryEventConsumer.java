@@ -27,6 +27,7 @@ import org.flowable.bpmn.model.StartEvent;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.lock.LockManager;
+import org.flowable.common.engine.impl.persistence.cache.EventSubscriptionLookupCache;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -85,6 +86,28 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return eventRegistryProcessingInfo;
     }
 
+    @Override
+    protected String getScopeType() {
+        return ScopeTypes.BPMN;
+    }
+
+    @Override
+    protected EventConsumerInfo createEventConsumerInfo(EventSubscription eventSubscription) {
+        return new EventConsumerInfo(eventSubscription.getId(), eventSubscription.getExecutionId(),
+                eventSubscription.getProcessDefinitionId(), ScopeTypes.BPMN);
+    }
+
+    @Override
+    protected boolean isWaitingInstanceEventSubscription(EventSubscription eventSubscription) {
+        return eventSubscription.getExecutionId() != null;
+    }
+
+    @Override
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance,
+            Collection<CorrelationKey> correlationKeys, EventConsumerInfo eventConsumerInfo) {
+        handleEventSubscription(processEngineConfiguration.getRuntimeService(), eventSubscription, eventInstance, correlationKeys, eventConsumerInfo);
+    }
+
     protected void handleEventSubscription(RuntimeService runtimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys, EventConsumerInfo eventConsumerInfo) {
 
@@ -264,4 +287,9 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return new EventSubscriptionQueryImpl(commandExecutor, processEngineConfiguration.getEventSubscriptionServiceConfiguration());
     }
 
+    @Override
+    protected EventSubscriptionLookupCache getEventSubscriptionLookupCache() {
+        return processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionLookupCache();
+    }
+
 }
@@ -201,6 +201,9 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
                 if (correspondingActivityStartData == null) {
                     getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_ACTIVITY_END, data);
                 } else {
+                    putIfNotNull(data, HistoryJsonConstants.TASK_ID, activityInstance.getTaskId());
+                    putIfNotNull(data, HistoryJsonConstants.ASSIGNEE, activityInstance.getAssignee());
+                    putIfNotNull(data, HistoryJsonConstants.CALLED_PROCESS_INSTANCE_ID, activityInstance.getCalledProcessInstanceId());
                     getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_ACTIVITY_FULL, data);
                 }
             }
@@ -327,7 +330,7 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
             
             putIfNotNull(data, HistoryJsonConstants.CREATE_TIME, createTime);
             
-            getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_CREATED, data);
+            getAsyncHistorySession().addEntityHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_CREATED, variable.getId(), data);
         }
     }
 
@@ -367,8 +370,23 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
             addCommonVariableFields(variable, data);
             
             putIfNotNull(data, HistoryJsonConstants.LAST_UPDATED_TIME, updateTime);
-            
-            getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_UPDATED, data);
+
+            // Changes of a variable within the same transaction are coalesced: only the latest value needs to end up in the history
+            ObjectNode variableCreatedData = getAsyncHistorySession().findEntityHistoricData(getJobServiceConfiguration(),
+                    HistoryJsonConstants.TYPE_VARIABLE_CREATED, variable.getId());
+            if (variableCreatedData != null) {
+                putIfNotNull(data, HistoryJsonConstants.CREATE_TIME, getStringFromJson(variableCreatedData, HistoryJsonConstants.CREATE_TIME));
+                getAsyncHistorySession().replaceHistoricData(getJobServiceConfiguration(), variableCreatedData, data);
+                return;
+            }
+
+            ObjectNode variableUpdatedData = getAsyncHistorySession().findEntityHistoricData(getJobServiceConfiguration(),
+                    HistoryJsonConstants.TYPE_VARIABLE_UPDATED, variable.getId());
+            if (variableUpdatedData != null) {
+                getAsyncHistorySession().replaceHistoricData(getJobServiceConfiguration(), variableUpdatedData, data);
+            } else {
+                getAsyncHistorySession().addEntityHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_VARIABLE_UPDATED, variable.getId(), data);
+            }
         }
     }
 
@@ -489,7 +507,14 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
                 putIfNotNull(data, HistoryJsonConstants.TASK_ID, activityInstance.getTaskId());
                 putIfNotNull(data, HistoryJsonConstants.ASSIGNEE, activityInstance.getAssignee());
                 putIfNotNull(data, HistoryJsonConstants.CALLED_PROCESS_INSTANCE_ID, activityInstance.getCalledProcessInstanceId());
-                getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_UPDATE_HISTORIC_ACTIVITY_INSTANCE, data);
+
+                // An activity instance that was started or updated in the same transaction gets the changes directly
+                ObjectNode activityData = findActivityData(activityInstance.getId());
+                if (activityData != null) {
+                    activityData.setAll(data);
+                } else {
+                    getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_UPDATE_HISTORIC_ACTIVITY_INSTANCE, data);
+                }
             }
         }
     }
@@ -582,6 +607,23 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
         return null;
     }
 
+    protected ObjectNode findHistoricData(String type, String fieldName, String value) {
+        return getAsyncHistorySession().findHistoricData(getJobServiceConfiguration(), type,
+                historicData -> value.equals(getStringFromJson(historicData, fieldName)));
+    }
+
+    protected ObjectNode findActivityData(String runtimeActivityInstanceId) {
+        ObjectNode activityData = findHistoricData(HistoryJsonConstants.TYPE_ACTIVITY_START, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID, runtimeActivityInstanceId);
+        if (activityData == null) {
+            activityData = findHistoricData(HistoryJsonConstants.TYPE_ACTIVITY_FULL, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID, runtimeActivityInstanceId);
+        }
+        if (activityData == null) {
+            activityData = findHistoricData(HistoryJsonConstants.TYPE_UPDATE_HISTORIC_ACTIVITY_INSTANCE, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID,
+                    runtimeActivityInstanceId);
+        }
+        return activityData;
+    }
+
     protected JobServiceConfiguration getJobServiceConfiguration() {
         return getProcessEngineConfiguration().getJobServiceConfiguration();
     }
@@ -15,6 +15,8 @@ package org.flowable.engine.impl.persistence.deploy;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.FlowableException;
@@ -27,11 +29,13 @@ import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.app.AppModel;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.ProcessDefinition;
@@ -48,6 +52,7 @@ public class DeploymentManager {
     protected DeploymentCache<Object> appResourceCache;
     protected DeploymentCache<Object> knowledgeBaseCache; // Needs to be object to avoid an import to Drools in this core class
     protected List<EngineDeployer> deployers;
+    protected final ConcurrentMap<String, Object> processDefinitionLoadLocks = new ConcurrentHashMap<>();
 
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
     protected ProcessDefinitionEntityManager processDefinitionEntityManager;
@@ -116,7 +121,6 @@ public class DeploymentManager {
      */
     public ProcessDefinitionCacheEntry resolveProcessDefinition(ProcessDefinition processDefinition) {
         String processDefinitionId = processDefinition.getId();
-        String deploymentId = processDefinition.getDeploymentId();
 
         ProcessDefinitionCacheEntry cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
 
@@ -125,16 +129,64 @@ public class DeploymentManager {
                 return Flowable5Util.getFlowable5CompatibilityHandler().resolveProcessDefinition(processDefinition);
             }
 
-            DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
-            deployment.setNew(false);
-            deploy(deployment, null);
-            cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+            cachedProcessDefinition = loadProcessDefinition(processDefinition);
+        }
+        return cachedProcessDefinition;
+    }
+
+    /**
+     * Puts the process definition in the cache, by deploying the resource that defines it (or the whole deployment if needed).
+     * Concurrent cache misses for the same process definition are coalesced: only one thread loads the process definition,
+     * while the other threads wait for it and then get the process definition from the cache.
+     */
+    protected ProcessDefinitionCacheEntry loadProcessDefinition(ProcessDefinition processDefinition) {
+        String processDefinitionId = processDefinition.getId();
+        String deploymentId = processDefinition.getDeploymentId();
+
+        Object loadLock = processDefinitionLoadLocks.computeIfAbsent(processDefinitionId, key -> new Object());
+        try {
+            synchronized (loadLock) {
+                ProcessDefinitionCacheEntry cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+                if (cachedProcessDefinition != null) {
+                    return cachedProcessDefinition; // Loaded by another thread in the meantime
+                }
+
+                DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
+                deployment.setNew(false);
+                if (!deployProcessDefinitionResource(deployment, processDefinition)) {
+                    deploy(deployment, null);
+                }
+                cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
 
-            if (cachedProcessDefinition == null) {
-                throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
+                if (cachedProcessDefinition == null) {
+                    throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
+                }
+                return cachedProcessDefinition;
             }
+
+        } finally {
+            processDefinitionLoadLocks.remove(processDefinitionId, loadLock);
         }
-        return cachedProcessDefinition;
+    }
+
+    /**
+     * @return false if the resource of the process definition can't be deployed on its own and the whole deployment needs to be deployed
+     */
+    protected boolean deployProcessDefinitionResource(DeploymentEntity deployment, ProcessDefinition processDefinition) {
+        BpmnDeployer bpmnDeployer = processEngineConfiguration.getBpmnDeployer();
+        if (!processEngineConfiguration.isEnableSingleResourceProcessDefinitionLoading() || bpmnDeployer == null
+                || !deployers.contains(bpmnDeployer) || processDefinition.getResourceName() == null) {
+            return false;
+        }
+
+        ResourceEntity resource = processEngineConfiguration.getResourceEntityManager()
+                .findResourceByDeploymentIdAndResourceName(deployment.getId(), processDefinition.getResourceName());
+        if (resource == null) {
+            return false;
+        }
+
+        bpmnDeployer.deployResource(deployment, resource);
+        return true;
     }
 
     public Object getAppResourceObject(String deploymentId) {
@@ -153,4 +153,6 @@ public interface ExecutionEntity extends DelegateExecution, Execution, ProcessIn
     void setOriginatingCurrentFlowElement(FlowElement flowElement);
 
     List<VariableInstanceEntity> getQueryVariables();
+
+    void setQueryVariables(List<VariableInstanceEntity> queryVariables);
 }
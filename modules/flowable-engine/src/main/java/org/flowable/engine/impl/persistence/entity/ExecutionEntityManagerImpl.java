@@ -20,6 +20,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.bpmn.model.CaseServiceTask;
 import org.flowable.bpmn.model.FlowElement;
@@ -147,6 +148,11 @@ public class ExecutionEntityManagerImpl
         return dataManager.findProcessInstanceByQueryCriteria(executionQuery);
     }
 
+    @Override
+    public void forEachProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery, Consumer<? super ProcessInstance> consumer) {
+        dataManager.forEachProcessInstanceByQueryCriteria(executionQuery, consumer);
+    }
+
     @Override
     public ExecutionEntity findByRootProcessInstanceId(String rootProcessInstanceId) {
         List<ExecutionEntity> executions = dataManager.findExecutionsByRootProcessInstanceId(rootProcessInstanceId);
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -45,6 +46,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    void forEachProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery, Consumer<? super ProcessInstance> consumer);
+
     List<ExecutionEntity> findExecutionsByRootProcessInstanceId(String rootProcessInstanceId);
 
     List<ExecutionEntity> findExecutionsByProcessInstanceId(String processInstanceId);
@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
@@ -258,6 +259,12 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public void forEachProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery, Consumer<? super ProcessInstance> consumer) {
+        setSafeInValueLists(processInstanceQuery);
+        getDbSqlSession().selectForEach("selectProcessInstanceByQueryCriteria", processInstanceQuery, consumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery) {
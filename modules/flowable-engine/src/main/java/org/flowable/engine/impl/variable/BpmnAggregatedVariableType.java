@@ -46,6 +46,11 @@ public class BpmnAggregatedVariableType implements VariableType {
         return value instanceof BpmnAggregation;
     }
 
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
+
     @Override
     public boolean isReadOnly() {
         return true;
@@ -13,10 +13,12 @@
 package org.flowable.engine.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
+import org.flowable.common.engine.api.query.CursorQuery;
 import org.flowable.common.engine.api.query.Query;
 
 /**
@@ -27,7 +29,7 @@ import org.flowable.common.engine.api.query.Query;
  * @author Frederik Heremans
  * @author Falko Menge
  */
-public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance> {
+public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance>, CursorQuery<ProcessInstance> {
 
     /** Select the process instance with the given id */
     ProcessInstanceQuery processInstanceId(String processInstanceId);
@@ -357,6 +359,12 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
      */
     ProcessInstanceQuery includeProcessVariables();
 
+    /**
+     * Only include the process variables with the given names in the query result, when process variables are included with {@link #includeProcessVariables()}.
+     * The variables are then fetched with separate queries after the process instances, instead of being joined with the process instances.
+     */
+    ProcessInstanceQuery limitIncludedVariables(Collection<String> variableNames);
+
     /**
      * Limit process instance variables
      * @deprecated no longer needed, this is a noop
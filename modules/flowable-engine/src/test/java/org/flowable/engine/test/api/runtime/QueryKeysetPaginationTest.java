@@ -0,0 +1,210 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.CursorPage;
+import org.flowable.common.engine.api.query.CursorQuery;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.query.AbstractQuery;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class QueryKeysetPaginationTest extends PluggableFlowableTestCase {
+
+    protected List<String> taskIds = new ArrayList<>();
+
+    @AfterEach
+    protected void tearDown() {
+        for (String taskId : taskIds) {
+            taskService.deleteTask(taskId, true);
+        }
+    }
+
+    @Test
+    public void testTaskPagesWithEqualSortValues() {
+        for (int i = 0; i < 11; i++) {
+            createTask("task" + i, i % 3, null);
+        }
+
+        Supplier<TaskQuery> query = () -> taskService.createTaskQuery().orderByTaskPriority().desc();
+        List<String> expectedIds = taskService.createTaskQuery().orderByTaskPriority().desc().orderByTaskId().asc().list().stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertThat(walkPages(query.get(), 4, Task::getId)).containsExactlyElementsOf(expectedIds);
+        assertThat(walkPages(query.get(), 11, Task::getId)).containsExactlyElementsOf(expectedIds);
+        assertThat(walkPages(query.get(), 100, Task::getId)).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    public void testTaskPagesWithNullSortValues() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 9; i++) {
+            createTask("task" + i, 50, i % 2 == 0 ? null : new Date(now + (i % 5) * 60000L));
+        }
+
+        List<String> expectedIds = taskService.createTaskQuery().orderByDueDateNullsLast().asc().orderByTaskId().asc().list().stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+        assertThat(walkPages(taskService.createTaskQuery().orderByDueDateNullsLast().asc(), 2, Task::getId)).containsExactlyElementsOf(expectedIds);
+
+        expectedIds = taskService.createTaskQuery().orderByDueDateNullsFirst().desc().orderByTaskId().asc().list().stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+        assertThat(walkPages(taskService.createTaskQuery().orderByDueDateNullsFirst().desc(), 3, Task::getId)).containsExactlyElementsOf(expectedIds);
+
+        // Without a null handling, the null values are paged as the largest values
+        expectedIds = taskService.createTaskQuery().orderByDueDateNullsLast().asc().orderByTaskId().asc().list().stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+        assertThat(walkPages(taskService.createTaskQuery().orderByTaskDueDate().asc(), 2, Task::getId)).containsExactlyElementsOf(expectedIds);
+
+        expectedIds = taskService.createTaskQuery().orderByDueDateNullsFirst().desc().orderByTaskId().asc().list().stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+        assertThat(walkPages(taskService.createTaskQuery().orderByTaskDueDate().desc(), 4, Task::getId)).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    public void testListPageAfterKeepsQueryOrder() {
+        for (int i = 0; i < 5; i++) {
+            createTask("task" + i, i % 2, null);
+        }
+
+        TaskQuery query = taskService.createTaskQuery().orderByTaskPriority().desc();
+        String orderBy = ((AbstractQuery<?, ?>) query).getOrderBy();
+
+        assertThat(walkPages(query, 2, Task::getId)).hasSize(5);
+        assertThat(((AbstractQuery<?, ?>) query).getOrderBy()).isEqualTo(orderBy);
+
+        // The same query can be paged again
+        assertThat(walkPages(query, 3, Task::getId)).hasSize(5);
+        assertThat(((AbstractQuery<?, ?>) query).getOrderBy()).isEqualTo(orderBy);
+    }
+
+    @Test
+    public void testTaskForEachAndStream() {
+        for (int i = 0; i < 7; i++) {
+            createTask("task" + i, i, null);
+        }
+
+        List<String> expectedIds = taskService.createTaskQuery().taskMinPriority(3).orderByTaskPriority().asc().list().stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+        assertThat(expectedIds).hasSize(4);
+
+        List<String> forEachIds = new ArrayList<>();
+        taskService.createTaskQuery().taskMinPriority(3).orderByTaskPriority().asc().forEach(task -> forEachIds.add(task.getId()));
+        assertThat(forEachIds).containsExactlyElementsOf(expectedIds);
+
+        assertThat(taskService.createTaskQuery().orderByTaskPriority().asc().stream(2).map(Task::getId))
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByTaskPriority().asc().list().stream()
+                        .map(Task::getId)
+                        .collect(Collectors.toList()));
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().includeProcessVariables().forEach(task -> { }))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    public void testInvalidCursor() {
+        createTask("task", 50, null);
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().listPageAfter("invalid", 10))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        // A cursor of a query with a different order by
+        createTask("task2", 50, null);
+        String cursor = taskService.createTaskQuery().orderByTaskPriority().asc().listPageAfter(null, 1).getNextCursor();
+        assertThat(cursor).isNotNull();
+        assertThatThrownBy(() -> taskService.createTaskQuery().listPageAfter(cursor, 10))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    public void testUnsupportedOrderBy() {
+        createTask("task1", 50, null);
+        createTask("task2", 50, null);
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskName().asc().listPageAfter(null, 1))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("RES.NAME_");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testProcessInstancePages() {
+        for (int i = 0; i < 8; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        List<String> expectedIds = runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().list().stream()
+                .map(ProcessInstance::getId)
+                .collect(Collectors.toList());
+        assertThat(walkPages(runtimeService.createProcessInstanceQuery(), 3, ProcessInstance::getId)).containsExactlyElementsOf(expectedIds);
+        assertThat(runtimeService.createProcessInstanceQuery().orderByStartTime().desc().stream(3).map(ProcessInstance::getId))
+                .containsExactlyInAnyOrderElementsOf(expectedIds);
+
+        List<String> forEachIds = new ArrayList<>();
+        runtimeService.createProcessInstanceQuery().processDefinitionKey("oneTaskProcess").forEach(processInstance -> forEachIds.add(processInstance.getId()));
+        assertThat(forEachIds).containsExactlyInAnyOrderElementsOf(expectedIds);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThat(walkPages(historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc(), 5, HistoricProcessInstance::getId))
+                    .containsExactlyElementsOf(historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc()
+                            .orderByProcessInstanceId().asc().list().stream()
+                            .map(HistoricProcessInstance::getId)
+                            .collect(Collectors.toList()));
+        }
+    }
+
+    protected void createTask(String name, int priority, Date dueDate) {
+        Task task = taskService.newTask();
+        task.setName(name);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        taskService.saveTask(task);
+        taskIds.add(task.getId());
+    }
+
+    protected <U> List<String> walkPages(CursorQuery<U> query, int pageSize, Function<U, String> idFunction) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<U> page = query.listPageAfter(cursor, pageSize);
+            assertThat(page.getResults()).hasSizeLessThanOrEqualTo(pageSize);
+            page.getResults().forEach(result -> ids.add(idFunction.apply(result)));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+}
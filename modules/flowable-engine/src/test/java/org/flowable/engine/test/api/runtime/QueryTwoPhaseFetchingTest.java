@@ -0,0 +1,168 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class QueryTwoPhaseFetchingTest extends PluggableFlowableTestCase {
+
+    protected void startProcessInstances() {
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("a", "a" + i);
+            variables.put("b", i);
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.setVariableLocal(task.getId(), "c", "c" + i);
+            taskService.addCandidateUser(task.getId(), "kermit");
+            taskService.addCandidateGroup(task.getId(), "management");
+        }
+    }
+
+    @AfterEach
+    protected void resetTwoPhaseFetching() {
+        setTwoPhaseFetching(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTaskQuery() {
+        startProcessInstances();
+
+        Map<String, Map<String, Object>> joinedVariables = toMap(taskService.createTaskQuery()
+                .includeProcessVariables().includeTaskLocalVariables().includeIdentityLinks().list(), Task::getId, Task::getProcessVariables);
+        Map<String, Map<String, Object>> joinedLocalVariables = toMap(taskService.createTaskQuery()
+                .includeTaskLocalVariables().list(), Task::getId, Task::getTaskLocalVariables);
+        Map<String, List<String>> joinedIdentityLinks = toMap(taskService.createTaskQuery()
+                .includeIdentityLinks().list(), Task::getId, this::getIdentityLinkIds);
+        assertThat(joinedVariables).hasSize(3);
+
+        setTwoPhaseFetching(true);
+
+        List<Task> tasks = taskService.createTaskQuery().includeProcessVariables().includeTaskLocalVariables().includeIdentityLinks().list();
+        assertThat(toMap(tasks, Task::getId, Task::getProcessVariables)).isEqualTo(joinedVariables);
+        assertThat(toMap(tasks, Task::getId, Task::getTaskLocalVariables)).isEqualTo(joinedLocalVariables);
+        assertThat(toMap(tasks, Task::getId, this::getIdentityLinkIds)).isEqualTo(joinedIdentityLinks);
+        for (Task task : tasks) {
+            assertThat(task.getProcessVariables()).containsOnlyKeys("a", "b");
+            assertThat(task.getTaskLocalVariables()).containsOnlyKeys("c");
+            assertThat(task.getIdentityLinks()).hasSize(2);
+        }
+
+        // Paging is applied on the tasks only
+        tasks = taskService.createTaskQuery().includeProcessVariables().includeIdentityLinks().orderByTaskId().asc().listPage(1, 2);
+        assertThat(tasks).hasSize(2);
+        for (Task task : tasks) {
+            assertThat(task.getProcessVariables()).isEqualTo(joinedVariables.get(task.getId()));
+            assertThat(task.getIdentityLinks()).hasSize(2);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTaskQueryLimitIncludedVariables() {
+        startProcessInstances();
+
+        List<Task> tasks = taskService.createTaskQuery()
+                .includeProcessVariables()
+                .includeTaskLocalVariables()
+                .limitIncludedVariables(Arrays.asList("a", "c"))
+                .list();
+        assertThat(tasks).hasSize(3);
+        for (Task task : tasks) {
+            assertThat(task.getProcessVariables()).containsOnlyKeys("a");
+            assertThat(task.getTaskLocalVariables()).containsOnlyKeys("c");
+        }
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().limitIncludedVariables(null))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testProcessInstanceQuery() {
+        startProcessInstances();
+
+        Map<String, Map<String, Object>> joinedVariables = toMap(runtimeService.createProcessInstanceQuery()
+                .includeProcessVariables().list(), ProcessInstance::getId, ProcessInstance::getProcessVariables);
+        assertThat(joinedVariables).hasSize(3);
+
+        setTwoPhaseFetching(true);
+
+        List<ProcessInstance> processInstances = runtimeService.createProcessInstanceQuery().includeProcessVariables().list();
+        assertThat(toMap(processInstances, ProcessInstance::getId, ProcessInstance::getProcessVariables)).isEqualTo(joinedVariables);
+
+        processInstances = runtimeService.createProcessInstanceQuery().includeProcessVariables().limitIncludedVariables(Arrays.asList("b")).listPage(0, 2);
+        assertThat(processInstances).hasSize(2);
+        for (ProcessInstance processInstance : processInstances) {
+            assertThat(processInstance.getProcessVariables()).containsOnlyKeys("b");
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            setTwoPhaseFetching(false);
+            Map<String, Map<String, Object>> joinedHistoricVariables = toMap(historyService.createHistoricProcessInstanceQuery()
+                    .includeProcessVariables().list(), HistoricProcessInstance::getId, HistoricProcessInstance::getProcessVariables);
+            assertThat(joinedHistoricVariables).isEqualTo(joinedVariables);
+
+            setTwoPhaseFetching(true);
+            List<HistoricProcessInstance> historicProcessInstances = historyService.createHistoricProcessInstanceQuery().includeProcessVariables().list();
+            assertThat(toMap(historicProcessInstances, HistoricProcessInstance::getId, HistoricProcessInstance::getProcessVariables))
+                    .isEqualTo(joinedHistoricVariables);
+
+            historicProcessInstances = historyService.createHistoricProcessInstanceQuery().includeProcessVariables()
+                    .limitIncludedVariables(Arrays.asList("a")).list();
+            assertThat(historicProcessInstances).hasSize(3);
+            for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+                assertThat(historicProcessInstance.getProcessVariables()).containsOnlyKeys("a");
+            }
+        }
+    }
+
+    protected void setTwoPhaseFetching(boolean enabled) {
+        processEngineConfiguration.getPerformanceSettings().setEnableTwoPhaseRelatedEntityFetching(enabled);
+        processEngineConfiguration.getTaskServiceConfiguration().setEnableTwoPhaseRelatedEntityFetching(enabled);
+    }
+
+    protected List<String> getIdentityLinkIds(Task task) {
+        return task.getIdentityLinks().stream()
+                .map(identityLink -> identityLink.getType() + ":"
+                        + (identityLink.getUserId() != null ? identityLink.getUserId() : identityLink.getGroupId()))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    protected <T, V> Map<String, V> toMap(List<T> results, Function<T, String> idFunction, Function<T, V> valueFunction) {
+        return results.stream().collect(Collectors.toMap(idFunction, valueFunction));
+    }
+
+}
@@ -0,0 +1,164 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.impl.types.BooleanType;
+import org.flowable.variable.service.impl.types.DateType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.EmptyCollectionType;
+import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.StringType;
+import org.flowable.variable.service.impl.types.UUIDType;
+import org.junit.jupiter.api.Test;
+
+public class DefaultVariableTypesTest extends PluggableFlowableTestCase {
+
+    @Test
+    public void testFindVariableTypeIsStableForSameClass() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(variableTypes.findVariableType(null).getTypeName()).isEqualTo(NullType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(true).getTypeName()).isEqualTo(BooleanType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(i).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(new Date()).getTypeName()).isEqualTo(DateType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(UUID.randomUUID()).getTypeName()).isEqualTo(UUIDType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(processEngineConfiguration.getObjectMapper().createObjectNode()).getTypeName())
+                    .isEqualTo(JsonType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(Collections.emptyList()).getTypeName()).isEqualTo(EmptyCollectionType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(new ArrayList<>()).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+        }
+    }
+
+    @Test
+    public void testFindVariableTypeForValueDependentType() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        String longString = StringUtils.repeat('a', processEngineConfiguration.getMaxLengthString() + 1);
+
+        // The string types depend on the length of the value, and not only on its class
+        assertThat(variableTypes.findVariableType("short").getTypeName()).isEqualTo(StringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(longString).getTypeName()).isEqualTo(LongStringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType("short").getTypeName()).isEqualTo(StringType.TYPE_NAME);
+    }
+
+    @Test
+    public void testTypeChangesAreTakenIntoAccount() {
+        DefaultVariableTypes variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new IntegerType());
+        variableTypes.addType(new SerializableType());
+
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+        assertThat(variableTypes.getTypeIndex(IntegerType.TYPE_NAME)).isEqualTo(1);
+
+        VariableType positiveIntegerType = new PositiveIntegerType();
+        variableTypes.addType(positiveIntegerType, 0);
+        assertThat(variableTypes.findVariableType(1)).isSameAs(positiveIntegerType);
+        assertThat(variableTypes.findVariableType(-1).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+        assertThat(variableTypes.getTypeIndex(IntegerType.TYPE_NAME)).isEqualTo(2);
+        assertThat(variableTypes.getTypeIndex(positiveIntegerType)).isZero();
+
+        variableTypes.removeType(variableTypes.getVariableType(IntegerType.TYPE_NAME));
+        assertThat(variableTypes.findVariableType(-1).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+        assertThat(variableTypes.getTypeIndex(IntegerType.TYPE_NAME)).isEqualTo(-1);
+        assertThat(variableTypes.getTypeIndex(SerializableType.TYPE_NAME)).isEqualTo(2);
+
+        List<VariableType> typesList = new ArrayList<>();
+        typesList.add(new NullType());
+        typesList.add(new SerializableType());
+        variableTypes.setTypesList(typesList);
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+        assertThat(variableTypes.getTypeIndex(SerializableType.TYPE_NAME)).isEqualTo(1);
+    }
+
+    @Test
+    public void testSubclassOfClassBasedTypeIsValueDependent() {
+        DefaultVariableTypes variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new NonEmptyListType());
+        variableTypes.addType(new SerializableType());
+
+        // The subclass overrides isAbleToStore and doesn't opt in to being resolved by class itself
+        assertThat(variableTypes.isAbleToStoreByClass(new NonEmptyListType())).isFalse();
+        assertThat(variableTypes.isAbleToStoreByClass(new SerializableType())).isTrue();
+        assertThat(variableTypes.isAbleToStoreByClass(new LongStringType(10))).isFalse();
+
+        assertThat(variableTypes.findVariableType(new ArrayList<>(List.of("kermit"))).getTypeName()).isEqualTo(NonEmptyListType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(new ArrayList<>()).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(new ArrayList<>(List.of("gonzo"))).getTypeName()).isEqualTo(NonEmptyListType.TYPE_NAME);
+    }
+
+    protected static class NonEmptyListType extends SerializableType {
+
+        public static final String TYPE_NAME = "nonEmptyList";
+
+        @Override
+        public String getTypeName() {
+            return TYPE_NAME;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof List && !((List<?>) value).isEmpty();
+        }
+    }
+
+    protected static class PositiveIntegerType implements VariableType, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String getTypeName() {
+            return "positiveInteger";
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof Integer && (Integer) value > 0;
+        }
+
+        @Override
+        public void setValue(Object value, ValueFields valueFields) {
+            valueFields.setLongValue(((Integer) value).longValue());
+        }
+
+        @Override
+        public Object getValue(ValueFields valueFields) {
+            return valueFields.getLongValue().intValue();
+        }
+    }
+
+}
@@ -1196,6 +1196,7 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
         methodNameToExpectedQueryPropertyName.put("processInstanceTenantIdLike", "tenantIdLike");
         Set<String> methodsToIgnore = new HashSet<>();
         methodsToIgnore.add("limitProcessInstanceVariables");
+        methodsToIgnore.add("limitIncludedVariables");
         methodsToIgnore.add("includeProcessVariables");
         methodsToIgnore.add("locale");
         methodsToIgnore.add("withLocalizationFallback");
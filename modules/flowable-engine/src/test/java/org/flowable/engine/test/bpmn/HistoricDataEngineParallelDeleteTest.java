@@ -0,0 +1,155 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.delete.ComputeDeleteHistoricProcessInstanceIdsJobHandler;
+import org.flowable.engine.impl.delete.ComputeDeleteHistoricProcessInstanceStatusJobHandler;
+import org.flowable.engine.impl.delete.DeleteHistoricProcessInstanceIdsJobHandler;
+import org.flowable.engine.impl.delete.DeleteHistoricProcessInstanceIdsStatusJobHandler;
+import org.flowable.engine.impl.delete.DeleteProcessInstanceBatchConstants;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class HistoricDataEngineParallelDeleteTest extends ResourceFlowableTestCase {
+
+    public HistoricDataEngineParallelDeleteTest() {
+        super("org/flowable/engine/test/bpmn/HistoricDataEngineParallelDeleteTest.flowable.cfg.xml");
+    }
+
+    @AfterEach
+    void tearDown() {
+        managementService.createBatchQuery().list().forEach(batch -> managementService.deleteBatch(batch.getId()));
+        Job historyCleanupTimerJob = managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult();
+        if (historyCleanupTimerJob != null) {
+            managementService.deleteTimerJob(historyCleanupTimerJob.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupInParallel() throws JsonProcessingException {
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                processInstanceIds.add(processInstance.getId());
+                runtimeService.setVariable(processInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                for (int i = 0; i < 6; i++) {
+                    // Distinct end times give the compute parts a stable order to page through
+                    cal.add(Calendar.MINUTE, 1);
+                    clock.setCurrentCalendar(cal);
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+                    taskService.complete(task.getId());
+                }
+
+                Job executableJob = managementService.moveTimerToExecutableJob(
+                        managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                Batch batch = managementService.createBatchQuery().searchKey("Flowable BPMN History Cleanup").singleResult();
+                assertThat(batch).isNotNull();
+                assertThat(batch.getStatus()).isEqualTo(DeleteProcessInstanceBatchConstants.STATUS_IN_PROGRESS);
+
+                assertThat(managementService.createBatchPartQuery().batchId(batch.getId()).list())
+                        .extracting(BatchPart::getType)
+                        .containsOnly(DeleteProcessInstanceBatchConstants.BATCH_PART_COMPUTE_IDS_TYPE)
+                        .hasSize(3);
+                assertThat(managementService.createJobQuery().list())
+                        .extracting(Job::getJobHandlerType)
+                        .containsOnly(ComputeDeleteHistoricProcessInstanceIdsJobHandler.TYPE)
+                        .hasSize(3);
+
+                // The batch parts are independent of each other and can be executed by different async executors
+                executeAllJobs();
+                executeTimerJob(ComputeDeleteHistoricProcessInstanceStatusJobHandler.TYPE);
+
+                assertThat(managementService.createJobQuery().list())
+                        .extracting(Job::getJobHandlerType)
+                        .containsOnly(DeleteHistoricProcessInstanceIdsJobHandler.TYPE)
+                        .hasSize(3);
+                executeAllJobs();
+                executeTimerJob(DeleteHistoricProcessInstanceIdsStatusJobHandler.TYPE);
+
+                batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED);
+
+                List<BatchPart> deleteParts = managementService.createBatchPartQuery()
+                        .batchId(batch.getId())
+                        .type(DeleteProcessInstanceBatchConstants.BATCH_PART_DELETE_PROCESS_INSTANCES_TYPE)
+                        .list();
+                assertThat(deleteParts).hasSize(3);
+                for (BatchPart deletePart : deleteParts) {
+                    assertThat(deletePart.getStatus()).isEqualTo(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED);
+                    JsonNode result = processEngineConfiguration.getObjectMapper().readTree(deletePart.getResultDocumentJson(ScopeTypes.BPMN));
+                    assertThat(result.path("numberOfDeletedInstances").intValue()).isEqualTo(2);
+                    assertThat(result.path("deleteTimeInMillis").isNumber()).isTrue();
+                }
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().list())
+                        .extracting(HistoricProcessInstance::getId)
+                        .containsExactlyInAnyOrderElementsOf(processInstanceIds.subList(6, 10));
+                for (int i = 0; i < 6; i++) {
+                    String processInstanceId = processInstanceIds.get(i);
+                    assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+                    assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+                    assertThat(historyService.getHistoricIdentityLinksForProcessInstance(processInstanceId)).isEmpty();
+                }
+            }
+
+        } finally {
+            processEngineConfiguration.resetClock();
+        }
+    }
+
+    protected void executeAllJobs() {
+        for (Job job : managementService.createJobQuery().list()) {
+            managementService.executeJob(job.getId());
+        }
+    }
+
+    protected void executeTimerJob(String handlerType) {
+        Job timerJob = managementService.createTimerJobQuery().handlerType(handlerType).singleResult();
+        assertThat(timerJob).isNotNull();
+        managementService.executeJob(managementService.moveTimerToExecutableJob(timerJob.getId()).getId());
+    }
+}
@@ -17,24 +17,36 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.flowable.bpmn.converter.BpmnModelSnapshotConverter;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.common.engine.impl.util.ReflectUtil;
+import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.RepositoryServiceImpl;
+import org.flowable.engine.impl.bpmn.deployer.ParsedDeployment;
+import org.flowable.engine.impl.bpmn.deployer.ParsedDeploymentBuilder;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.DeploymentProperties;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.engine.test.DeploymentId;
+import org.flowable.task.api.Task;
 import org.flowable.validation.validator.Problems;
 import org.junit.jupiter.api.Test;
 
@@ -324,6 +336,87 @@ public class BpmnDeploymentTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testModelSnapshot() {
+        String bpmnResourceName = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml";
+        String snapshotResourceName = bpmnResourceName + ".snapshot";
+        processEngineConfiguration.setEnableBpmnModelSnapshots(true);
+        try {
+            String deploymentId = repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("snapshot").deploy().getId();
+            assertThat(repositoryService.getDeploymentResourceNames(deploymentId))
+                    .containsExactlyInAnyOrder(bpmnResourceName, snapshotResourceName);
+
+            byte[] snapshot = IoUtil.readInputStream(repositoryService.getResourceAsStream(deploymentId, snapshotResourceName), "snapshot");
+            assertThat(new BpmnModelSnapshotConverter().convertToBpmnModel(snapshot, ProcessEngine.VERSION)).isNotNull();
+            assertThat(new BpmnModelSnapshotConverter().convertToBpmnModel(snapshot, "other")).isNull();
+
+            // The generated snapshot is not taken into account when filtering duplicates
+            repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("snapshot").deploy();
+            assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(1);
+
+            // The process definition is now loaded from the snapshot
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertThat(task.getTaskDefinitionKey()).isEqualTo("theTask");
+            taskService.complete(task.getId());
+            assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+            BpmnModel bpmnModel = repositoryService.getBpmnModel(processInstance.getProcessDefinitionId());
+            UserTask userTask = (UserTask) bpmnModel.getMainProcess().getFlowElement("theTask");
+            assertThat(userTask.getIncomingFlows()).extracting(SequenceFlow::getSourceRef).containsExactly("theStart");
+            assertThat(userTask.getOutgoingFlows()).extracting(SequenceFlow::getTargetRef).containsExactly("theEnd");
+
+            repositoryService.deleteDeployment(deploymentId, true);
+
+        } finally {
+            processEngineConfiguration.setEnableBpmnModelSnapshots(false);
+        }
+    }
+
+    @Test
+    public void testModelSnapshotLookupDoesNotLoadOtherResources() {
+        String bpmnResourceName = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml";
+        String otherBpmnResourceName = "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml";
+        processEngineConfiguration.setEnableBpmnModelSnapshots(true);
+        String deploymentId = repositoryService.createDeployment().addClasspathResource(bpmnResourceName).addClasspathResource(otherBpmnResourceName)
+                .deploy().getId();
+
+        try {
+            // The snapshot is looked up on its own
+            assertThat(parseResourceWithoutLoadingDeploymentResources(deploymentId, bpmnResourceName).getAllProcessDefinitions())
+                    .extracting(ProcessDefinition::getKey)
+                    .containsExactly("oneTaskProcess");
+
+            // Without model snapshots, there is no lookup at all
+            processEngineConfiguration.setEnableBpmnModelSnapshots(false);
+            assertThat(parseResourceWithoutLoadingDeploymentResources(deploymentId, bpmnResourceName).getAllProcessDefinitions())
+                    .extracting(ProcessDefinition::getKey)
+                    .containsExactly("oneTaskProcess");
+
+        } finally {
+            processEngineConfiguration.setEnableBpmnModelSnapshots(false);
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    protected ParsedDeployment parseResourceWithoutLoadingDeploymentResources(String deploymentId, String resourceName) {
+        return managementService.executeCommand(commandContext -> {
+            DeploymentEntityImpl deployment = new DeploymentEntityImpl() {
+
+                @Override
+                public Map<String, EngineResource> getResources() {
+                    throw new AssertionError("All resources of the deployment are loaded");
+                }
+            };
+            deployment.setId(deploymentId);
+            deployment.setNew(false);
+
+            ResourceEntity resource = processEngineConfiguration.getResourceEntityManager().findResourceByDeploymentIdAndResourceName(deploymentId, resourceName);
+            return new ParsedDeploymentBuilder(deployment, processEngineConfiguration.getBpmnParser(), null).build(Collections.singletonList(resource));
+        });
+    }
+
     @Test
     public void testV5Deployment() {
         String bpmnResourceName = "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcBatchUpdateAndDeleteTest extends PluggableFlowableTestCase {
+
+    protected boolean oldJdbcBatchUpdateAndDeleteEnabled;
+
+    @BeforeEach
+    protected void enableJdbcBatching() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        oldJdbcBatchUpdateAndDeleteEnabled = dbSqlSessionFactory.isJdbcBatchUpdateAndDeleteEnabled();
+        dbSqlSessionFactory.setJdbcBatchUpdateAndDeleteEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetJdbcBatching() {
+        processEngineConfiguration.getDbSqlSessionFactory().setJdbcBatchUpdateAndDeleteEnabled(oldJdbcBatchUpdateAndDeleteEnabled);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testBatchedUpdatesAndDeletes() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            for (int j = 0; j < 10; j++) {
+                variables.put("var" + j, "initial");
+            }
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+            processInstanceIds.add(processInstance.getId());
+        }
+
+        // One command updating the variables of all process instances
+        managementService.executeCommand(commandContext -> {
+            for (String processInstanceId : processInstanceIds) {
+                for (int j = 0; j < 10; j++) {
+                    runtimeService.setVariable(processInstanceId, "var" + j, "updated" + j);
+                }
+            }
+            return null;
+        });
+
+        for (String processInstanceId : processInstanceIds) {
+            Map<String, Object> variables = runtimeService.getVariables(processInstanceId);
+            assertThat(variables).hasSize(10);
+            for (int j = 0; j < 10; j++) {
+                assertThat(variables).containsEntry("var" + j, "updated" + j);
+            }
+        }
+
+        // Updating again needs the revisions to be correctly incremented after the batch
+        runtimeService.setVariable(processInstanceIds.get(0), "var0", "updatedAgain");
+        assertThat(runtimeService.getVariable(processInstanceIds.get(0), "var0")).isEqualTo("updatedAgain");
+
+        managementService.executeCommand(commandContext -> {
+            for (String processInstanceId : processInstanceIds) {
+                runtimeService.deleteProcessInstance(processInstanceId, "test");
+            }
+            return null;
+        });
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(runtimeService.createExecutionQuery().count()).isZero();
+        assertThat(taskService.createTaskQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testBatchedUpdateOptimisticLocking() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        Task task1 = taskService.createTaskQuery().singleResult();
+        Task task2 = taskService.createTaskQuery().singleResult();
+
+        task1.setDescription("test description one");
+        taskService.saveTask(task1);
+
+        assertThatThrownBy(() -> {
+            task2.setDescription("test description two");
+            taskService.saveTask(task2);
+        })
+                .isExactlyInstanceOf(FlowableOptimisticLockingException.class);
+    }
+
+}
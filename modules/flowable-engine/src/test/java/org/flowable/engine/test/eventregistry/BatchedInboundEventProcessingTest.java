@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventBatchResult;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.impl.DefaultInboundEvent;
+import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
+import org.flowable.eventregistry.impl.event.FlowableEventRegistryEvent;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
+import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
+import org.junit.jupiter.api.Test;
+
+public class BatchedInboundEventProcessingTest extends AbstractBpmnEventRegistryConsumerTest {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBatchOfEvents() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+        ProcessInstance fozzieProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "fozzie"));
+
+        InboundEventBatchResult result = getEventRegistry().eventsReceived(inboundEventChannelAdapter.inboundChannelModel,
+                Arrays.asList(createEvent("kermit"), createEvent("gonzo"), createEvent("piggy")));
+
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.getProcessedEventCount()).isEqualTo(3);
+        assertThat(getTaskDefinitionKey(kermitProcessInstance)).isEqualTo("taskAfterBoundary");
+        assertThat(getTaskDefinitionKey(gonzoProcessInstance)).isEqualTo("taskAfterBoundary");
+        assertThat(getTaskDefinitionKey(fozzieProcessInstance)).isEqualTo("task");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testInvalidEventIsIsolated() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+
+        InboundEvent invalidEvent = new DefaultInboundEvent("{ not json");
+        InboundEventBatchResult result = getEventRegistry().eventsReceived(inboundEventChannelAdapter.inboundChannelModel,
+                Arrays.asList(invalidEvent, createEvent("kermit")));
+
+        assertThat(result.getFailures()).containsOnlyKeys(invalidEvent);
+        assertThat(result.getProcessedEventCount()).isEqualTo(1);
+        assertThat(getTaskDefinitionKey(kermitProcessInstance)).isEqualTo("taskAfterBoundary");
+    }
+
+    @Test
+    @Deployment
+    public void testFailingEventIsIsolated() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+        ProcessInstance fozzieProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "fozzie"));
+
+        InboundEvent gonzoEvent = createEvent("gonzo");
+        InboundEventBatchResult result = getEventRegistry().eventsReceived(inboundEventChannelAdapter.inboundChannelModel,
+                Arrays.asList(createEvent("kermit"), gonzoEvent, createEvent("fozzie")));
+
+        // The failure of the gonzo event rolls back the grouped transaction, after which the events are handled one by one
+        assertThat(result.getFailures()).containsOnlyKeys(gonzoEvent);
+        assertThat(result.getProcessedEventCount()).isEqualTo(2);
+        assertThat(getTaskDefinitionKey(kermitProcessInstance)).isEqualTo("taskAfterTask");
+        assertThat(getTaskDefinitionKey(fozzieProcessInstance)).isEqualTo("taskAfterTask");
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(gonzoProcessInstance.getId()).activityId("task").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testConsumerWithoutBatchSupportHandlesEventsOneByOne() {
+        SingleEventConsumer consumer = new SingleEventConsumer();
+        EventInstance firstEventInstance = new EventInstanceImpl("myEvent", Collections.emptyList());
+        EventInstance secondEventInstance = new EventInstanceImpl("myEvent", Collections.emptyList());
+
+        List<EventRegistryProcessingInfo> processingInfos = consumer.eventsReceived(Arrays.asList(
+                new FlowableEventRegistryEvent(firstEventInstance), new EventRegistryEvent() {
+
+                    @Override
+                    public String getType() {
+                        return "myEvent";
+                    }
+
+                    @Override
+                    public Object getEventObject() {
+                        return null;
+                    }
+                }, new FlowableEventRegistryEvent(secondEventInstance)));
+
+        assertThat(consumer.receivedEventInstances).containsExactly(firstEventInstance, secondEventInstance);
+        assertThat(processingInfos)
+                .extracting(EventRegistryProcessingInfo::hasFailed)
+                .containsExactly(false, true, false);
+    }
+
+    protected InboundEvent createEvent(String customerId) {
+        return new DefaultInboundEvent(inboundEventChannelAdapter.createTestEventNode(customerId, null).toString());
+    }
+
+    protected String getTaskDefinitionKey(ProcessInstance processInstance) {
+        return taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey();
+    }
+
+    // A consumer as written before batch processing was introduced
+    protected class SingleEventConsumer extends BaseEventRegistryEventConsumer {
+
+        protected List<EventInstance> receivedEventInstances = new ArrayList<>();
+
+        public SingleEventConsumer() {
+            super(processEngineConfiguration);
+        }
+
+        @Override
+        public String getConsumerKey() {
+            return "singleEventConsumer";
+        }
+
+        @Override
+        protected EventRegistryProcessingInfo eventReceived(EventInstance eventInstance) {
+            receivedEventInstances.add(eventInstance);
+            return new EventRegistryProcessingInfo();
+        }
+
+        @Override
+        protected EventSubscriptionQuery createEventSubscriptionQuery() {
+            return new EventSubscriptionQueryImpl(commandExecutor, processEngineConfiguration.getEventSubscriptionServiceConfiguration());
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.flowable.common.engine.impl.persistence.cache.EventSubscriptionLookupCache;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EventSubscriptionLookupCacheTest extends AbstractBpmnEventRegistryConsumerTest {
+
+    protected EventSubscriptionLookupCache eventSubscriptionLookupCache;
+
+    @BeforeEach
+    public void enableLookupCache() {
+        eventSubscriptionLookupCache = new EventSubscriptionLookupCache(Duration.ofMinutes(1), 100);
+        processEngineConfiguration.getEventSubscriptionServiceConfiguration().setEventSubscriptionLookupCache(eventSubscriptionLookupCache);
+    }
+
+    @AfterEach
+    public void disableLookupCache() {
+        processEngineConfiguration.getEventSubscriptionServiceConfiguration().setEventSubscriptionLookupCache(null);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testEventWithoutSubscriptionsIsCached() {
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        assertThat(eventSubscriptionLookupCache.size()).isEqualTo(1);
+        assertThat(eventSubscriptionLookupCache.getHitCount()).isZero();
+
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        assertThat(eventSubscriptionLookupCache.getHitCount()).isEqualTo(1);
+
+        // Another correlation value is another lookup
+        inboundEventChannelAdapter.triggerTestEvent("gonzo");
+        assertThat(eventSubscriptionLookupCache.size()).isEqualTo(2);
+        assertThat(eventSubscriptionLookupCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testInsertedSubscriptionInvalidatesCachedLookups() {
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        assertThat(eventSubscriptionLookupCache.getHitCount()).isEqualTo(1);
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        assertThat(eventSubscriptionLookupCache.size()).isZero();
+
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey())
+                .isEqualTo("taskAfterBoundary");
+        assertThat(eventSubscriptionLookupCache.getHitCount()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,157 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.externalworker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.AcquiredExternalWorkerJob;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ExternalWorkerLongPollingAcquireTest extends PluggableFlowableTestCase {
+
+    protected ExecutorService executorService;
+    protected long originalPollingInterval;
+    protected long originalMaxWaitTime;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+        originalPollingInterval = getJobServiceConfiguration().getExternalWorkerJobLongPollingIntervalInMillis();
+        originalMaxWaitTime = getJobServiceConfiguration().getExternalWorkerJobMaxWaitTimeInMillis();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        getJobServiceConfiguration().setExternalWorkerJobLongPollingIntervalInMillis(originalPollingInterval);
+        getJobServiceConfiguration().setExternalWorkerJobMaxWaitTimeInMillis(originalMaxWaitTime);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireReturnsAvailableJobsWithoutWaiting() {
+        runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        long start = System.currentTimeMillis();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLock(1, "testWorker", 5, Duration.ofSeconds(30));
+
+        assertThat(acquiredJobs).extracting(AcquiredExternalWorkerJob::getLockOwner).containsExactly("testWorker");
+        assertThat(System.currentTimeMillis() - start).isLessThan(10000);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testWaitingAcquireIsWokenUpWhenJobIsCreated() throws Exception {
+        // The polling interval is longer than the test timeout, so the job can only be acquired because of the notification
+        getJobServiceConfiguration().setExternalWorkerJobLongPollingIntervalInMillis(60000);
+
+        Future<List<AcquiredExternalWorkerJob>> acquire = executorService.submit(() -> managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLock(1, "testWorker", 5, Duration.ofSeconds(60)));
+
+        // Give the acquire the time to start waiting
+        Thread.sleep(200);
+        assertThat(acquire.isDone()).isFalse();
+
+        runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        assertThat(acquire.get(20, TimeUnit.SECONDS))
+                .extracting(AcquiredExternalWorkerJob::getJobHandlerConfiguration)
+                .containsExactly("simple");
+
+        // The monitor of the topic is removed once nobody waits for it anymore
+        assertThat(getJobServiceConfiguration().getExternalWorkerJobNotifier().getTopicMonitorCount()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testWaitingAcquirePollsForJobsCreatedElsewhere() throws Exception {
+        getJobServiceConfiguration().setExternalWorkerJobLongPollingIntervalInMillis(100);
+        ExternalWorkerJobNotifier notifier = getJobServiceConfiguration().getExternalWorkerJobNotifier();
+
+        Future<List<AcquiredExternalWorkerJob>> acquire = executorService.submit(() -> managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLock(1, "testWorker", 5, Duration.ofSeconds(60)));
+        Thread.sleep(200);
+
+        // Creating the job without notifying simulates a job created on another node
+        getJobServiceConfiguration().setExternalWorkerJobNotifier(null);
+        try {
+            runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+        } finally {
+            getJobServiceConfiguration().setExternalWorkerJobNotifier(notifier);
+        }
+
+        assertThat(acquire.get(20, TimeUnit.SECONDS)).hasSize(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testWaitingAcquireIsNotWokenUpByOtherTopic() {
+        getJobServiceConfiguration().getExternalWorkerJobNotifier().notifyJobAvailable("otherTopic");
+
+        long start = System.currentTimeMillis();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLock(1, "testWorker", 5, Duration.ofMillis(300));
+
+        assertThat(acquiredJobs).isEmpty();
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(300);
+        assertThat(getJobServiceConfiguration().getExternalWorkerJobNotifier().getTopicMonitorCount()).isZero();
+    }
+
+    @Test
+    void testMaxWaitTimeIsLimitedByConfiguration() {
+        getJobServiceConfiguration().setExternalWorkerJobMaxWaitTimeInMillis(300);
+
+        long start = System.currentTimeMillis();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLock(1, "testWorker", 5, Duration.ofMinutes(10));
+
+        assertThat(acquiredJobs).isEmpty();
+        assertThat(System.currentTimeMillis() - start)
+                .isGreaterThanOrEqualTo(300)
+                .isLessThan(10000);
+    }
+
+    @Test
+    void testInvalidMaxWaitTime() {
+        assertThatThrownBy(() -> managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .acquireAndLock(1, "testWorker", 5, Duration.ofSeconds(-1)))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("maxWaitTime must not be null or negative");
+    }
+
+    protected JobServiceConfiguration getJobServiceConfiguration() {
+        return processEngineConfiguration.getJobServiceConfiguration();
+    }
+}
@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsWithSkipLockedCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AcquireJobsWithSkipLockedTest extends JobExecutorTestCase {
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super.configureConfiguration(processEngineConfiguration);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setSkipLockedAcquireEnabled(true);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        // Locked jobs can't be deleted through the management service
+        managementService.executeCommand(commandContext -> {
+            for (Job job : managementService.createJobQuery().list()) {
+                processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager().delete(job.getId());
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testAcquireJobsInBatches() {
+        scheduleTweetMessages(10);
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+
+        Set<String> acquiredJobIds = new HashSet<>();
+        for (int expectedJobs : new int[] { 4, 4, 2, 0 }) {
+            List<? extends JobInfoEntity> jobs = managementService.executeCommand(
+                    new AcquireJobsWithSkipLockedCmd(asyncExecutor, 4, jobServiceConfiguration.getJobEntityManager()));
+            assertThat(jobs).hasSize(expectedJobs);
+            for (JobInfoEntity job : jobs) {
+                assertThat(acquiredJobIds.add(job.getId())).isTrue();
+            }
+        }
+
+        List<Job> jobs = managementService.createJobQuery().list();
+        assertThat(jobs)
+                .extracting(Job::getId)
+                .containsExactlyInAnyOrderElementsOf(acquiredJobIds);
+        assertThat(jobs)
+                .allSatisfy(job -> {
+                    assertThat(((JobEntity) job).getLockOwner()).isEqualTo(asyncExecutor.getLockOwner());
+                    assertThat(((JobEntity) job).getLockExpirationTime()).isNotNull();
+                });
+    }
+
+    @Test
+    public void testJobExecutionWithSkipLockedAcquisition() {
+        scheduleTweetMessages(20);
+
+        waitForJobExecutorToProcessAllJobs(10000L, 200L);
+
+        assertThat(tweetHandler.getMessages().stream().collect(Collectors.toSet())).hasSize(20);
+        assertThat(managementService.createJobQuery().count()).isZero();
+    }
+
+    @Test
+    public void testSkipLockedSupportByDatabaseType() {
+        assertThat(AcquireJobsWithSkipLockedCmd.isSkipLockedSupported("postgres")).isTrue();
+        assertThat(AcquireJobsWithSkipLockedCmd.isSkipLockedSupported("mssql")).isTrue();
+
+        // H2 has no SKIP LOCKED, it acquires with the default (revision checked) acquisition
+        assertThat(AcquireJobsWithSkipLockedCmd.isSkipLockedSupported("h2")).isFalse();
+        assertThat(AcquireJobsWithSkipLockedCmd.isSkipLockedSupported(null)).isFalse();
+    }
+
+    @Test
+    public void testMySqlSkipLockedSupportByVersion() {
+        assertThat(AcquireJobsWithSkipLockedCmd.isMySqlSkipLockedSupported("MySQL", "8.0.32")).isTrue();
+        assertThat(AcquireJobsWithSkipLockedCmd.isMySqlSkipLockedSupported("MySQL", "9.1.0")).isTrue();
+        assertThat(AcquireJobsWithSkipLockedCmd.isMySqlSkipLockedSupported("MySQL", "5.7.41")).isFalse();
+
+        // MariaDB through the MySQL driver
+        assertThat(AcquireJobsWithSkipLockedCmd.isMySqlSkipLockedSupported("MySQL", "5.5.5-10.5.8-MariaDB")).isFalse();
+        assertThat(AcquireJobsWithSkipLockedCmd.isMySqlSkipLockedSupported("MySQL", "5.5.5-10.11.2-MariaDB")).isTrue();
+
+        // MariaDB through the MariaDB driver
+        assertThat(AcquireJobsWithSkipLockedCmd.isMySqlSkipLockedSupported("MariaDB", "10.6.12-MariaDB")).isTrue();
+        assertThat(AcquireJobsWithSkipLockedCmd.isMySqlSkipLockedSupported("MariaDB", "10.4.32-MariaDB")).isFalse();
+        assertThat(AcquireJobsWithSkipLockedCmd.isMySqlSkipLockedSupported("MariaDB", "11.4.2")).isTrue();
+
+        assertThat(AcquireJobsWithSkipLockedCmd.isMySqlSkipLockedSupported("MySQL", null)).isFalse();
+    }
+
+    protected void scheduleTweetMessages(int nrOfJobs) {
+        managementService.executeCommand(commandContext -> {
+            for (int i = 0; i < nrOfJobs; i++) {
+                processEngineConfiguration.getJobServiceConfiguration().getJobService().scheduleAsyncJob(createTweetMessage("message-" + i));
+            }
+            return null;
+        });
+    }
+
+}
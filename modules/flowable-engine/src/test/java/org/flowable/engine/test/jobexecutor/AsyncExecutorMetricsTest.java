@@ -0,0 +1,425 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutorMetrics;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs async and timer jobs through the async executor and verifies the callbacks of the {@link AsyncExecutorMetrics}.
+ */
+public class AsyncExecutorMetricsTest {
+
+    protected static final String ASYNC_CONTINUATION = "async-continuation";
+    protected static final String TRIGGER_TIMER = "trigger-timer";
+
+    protected static final long SLEEP_MILLIS = 50;
+
+    protected RecordingAsyncExecutorMetrics metrics = new RecordingAsyncExecutorMetrics();
+    protected ProcessEngine processEngine;
+
+    @AfterEach
+    public void tearDown() {
+        if (processEngine != null) {
+            for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+                processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            }
+            processEngine.close();
+        }
+        BlockingDelegate.SEMAPHORE.drainPermits();
+    }
+
+    @Test
+    public void testAsyncJobExecuted() {
+        processEngine = createProcessEngine(null);
+        AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        assertThat(metrics.getEvents("asyncExecutorStarted"))
+                .extracting(MetricsEvent::getEngineName, MetricsEvent::getAsyncExecutor)
+                .containsExactly(tuple(ScopeTypes.BPMN, asyncExecutor));
+
+        deploy("AsyncExecutorMetricsTest.testAsyncJobExecuted.bpmn20.xml");
+        processEngine.getRuntimeService().startProcessInstanceByKey("asyncJob");
+        await().atMost(Duration.ofSeconds(10)).until(() -> !metrics.getEvents("jobExecuted").isEmpty());
+
+        assertThat(metrics.getEvents("jobExecuted"))
+                .extracting(MetricsEvent::getEngineName, MetricsEvent::getName)
+                .containsExactly(tuple(ScopeTypes.BPMN, ASYNC_CONTINUATION));
+        assertThat(metrics.getEvents("jobExecuted").get(0).getDurationNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(SLEEP_MILLIS));
+        assertThat(metrics.getEvents("jobFailed", "jobRejected", "jobOptimisticLockingException", "acquisitionOptimisticLockingException")).isEmpty();
+
+        // Both acquisition threads report every cycle in which they queried for jobs, even when nothing was acquired
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> metrics.getEvents("acquisitionCompleted").stream().map(MetricsEvent::getName).distinct().count() == 2);
+        assertThat(metrics.getEvents("acquisitionCompleted"))
+                .allSatisfy(event -> {
+                    assertThat(event.getEngineName()).isEqualTo(ScopeTypes.BPMN);
+                    assertThat(event.getDurationNanos()).isPositive();
+                })
+                .extracting(MetricsEvent::getName, MetricsEvent::getMaxJobs)
+                .contains(tuple(AsyncExecutorMetrics.ACQUISITION_TYPE_ASYNC_JOBS, 2), tuple(AsyncExecutorMetrics.ACQUISITION_TYPE_TIMER_JOBS, 3));
+
+        assertThat(metrics.getEvents("asyncExecutorShutdown")).isEmpty();
+        processEngine.getProcessEngineConfiguration().getAsyncExecutor().shutdown();
+        assertThat(metrics.getEvents("asyncExecutorShutdown"))
+                .extracting(MetricsEvent::getEngineName, MetricsEvent::getAsyncExecutor)
+                .containsExactly(tuple(ScopeTypes.BPMN, asyncExecutor));
+    }
+
+    @Test
+    public void testAsyncJobFailedAndRetried() {
+        // The failed job is retried as soon as the timer acquisition picks it up
+        processEngine = createProcessEngine(configuration -> configuration.setAsyncFailedJobWaitTime(0));
+
+        deploy("AsyncExecutorMetricsTest.testAsyncJobFailedAndRetried.bpmn20.xml");
+        processEngine.getRuntimeService().startProcessInstanceByKey("failingAsyncJob");
+        await().atMost(Duration.ofSeconds(20)).until(() -> processEngine.getManagementService().createDeadLetterJobQuery().count() == 1);
+
+        // The job has 3 retries, only the last failure doesn't retry the job anymore
+        assertThat(metrics.getEvents("jobFailed"))
+                .allSatisfy(event -> assertThat(event.getDurationNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(SLEEP_MILLIS)))
+                .extracting(MetricsEvent::getEngineName, MetricsEvent::getName, MetricsEvent::getRetry)
+                .containsExactly(
+                        tuple(ScopeTypes.BPMN, ASYNC_CONTINUATION, true),
+                        tuple(ScopeTypes.BPMN, ASYNC_CONTINUATION, true),
+                        tuple(ScopeTypes.BPMN, ASYNC_CONTINUATION, false)
+                );
+        assertThat(metrics.getEvents("jobExecuted", "jobRejected", "jobOptimisticLockingException")).isEmpty();
+
+        // Both retries went through the timer acquisition
+        assertThat(metrics.getAcquisitionsWithJobs(AsyncExecutorMetrics.ACQUISITION_TYPE_TIMER_JOBS))
+                .extracting(MetricsEvent::getCount, MetricsEvent::getMaxJobs)
+                .containsExactly(tuple(1, 3), tuple(1, 3));
+    }
+
+    @Test
+    public void testTimerJobAcquiredAndExecuted() {
+        processEngine = createProcessEngine(null);
+        Date now = new Date();
+        processEngine.getProcessEngineConfiguration().getClock().setCurrentTime(now);
+
+        deploy("AsyncExecutorMetricsTest.testTimerJobAcquiredAndExecuted.bpmn20.xml");
+        processEngine.getRuntimeService().startProcessInstanceByKey("timer");
+        assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isEqualTo(1);
+
+        processEngine.getProcessEngineConfiguration().getClock().setCurrentTime(new Date(now.getTime() + TimeUnit.MINUTES.toMillis(6)));
+        await().atMost(Duration.ofSeconds(10)).until(() -> processEngine.getRuntimeService().createProcessInstanceQuery().count() == 0);
+
+        assertThat(metrics.getAcquisitionsWithJobs(AsyncExecutorMetrics.ACQUISITION_TYPE_TIMER_JOBS))
+                .extracting(MetricsEvent::getEngineName, MetricsEvent::getCount, MetricsEvent::getMaxJobs)
+                .containsExactly(tuple(ScopeTypes.BPMN, 1, 3));
+        assertThat(metrics.getEvents("jobExecuted"))
+                .extracting(MetricsEvent::getEngineName, MetricsEvent::getName)
+                .containsExactly(tuple(ScopeTypes.BPMN, TRIGGER_TIMER));
+    }
+
+    @Test
+    public void testAsyncJobRejected() {
+        // 1 thread and 1 queue spot: the first job blocks the thread, the second one is queued and the third one is rejected
+        processEngine = createProcessEngine(configuration -> {
+            configuration.setAsyncExecutorCorePoolSize(1);
+            configuration.setAsyncExecutorMaxPoolSize(1);
+            configuration.setAsyncExecutorThreadPoolQueueSize(1);
+        });
+
+        deploy("AsyncExecutorMetricsTest.testAsyncJobRejected.bpmn20.xml");
+        for (int i = 0; i < 3; i++) {
+            processEngine.getRuntimeService().startProcessInstanceByKey("blockingAsyncJob");
+        }
+
+        assertThat(metrics.getEvents("jobRejected"))
+                .extracting(MetricsEvent::getEngineName, MetricsEvent::getName)
+                .containsExactly(tuple(ScopeTypes.BPMN, ASYNC_CONTINUATION));
+        assertThat(metrics.getEvents("jobExecuted")).isEmpty();
+
+        // The rejected job is unacquired and acquired again once there is capacity
+        BlockingDelegate.SEMAPHORE.release(3);
+        await().atMost(Duration.ofSeconds(10)).until(() -> processEngine.getRuntimeService().createProcessInstanceQuery().count() == 0);
+
+        assertThat(metrics.getEvents("jobRejected")).hasSize(1);
+        assertThat(metrics.getEvents("jobExecuted"))
+                .extracting(MetricsEvent::getName)
+                .containsExactly(ASYNC_CONTINUATION, ASYNC_CONTINUATION, ASYNC_CONTINUATION);
+        assertThat(metrics.getAcquisitionsWithJobs(AsyncExecutorMetrics.ACQUISITION_TYPE_ASYNC_JOBS))
+                .extracting(MetricsEvent::getCount)
+                .containsExactly(1);
+    }
+
+    @Test
+    public void testExpiredJobsReset() {
+        TweetHandler tweetHandler = new TweetHandler();
+        processEngine = createProcessEngine(configuration -> {
+            configuration.addCustomJobHandler(tweetHandler);
+            configuration.getAsyncExecutorConfiguration().setResetExpiredJobsInterval(Duration.ofMillis(100));
+        });
+
+        // A job that was acquired by a node that didn't execute it before its lock expired
+        processEngine.getManagementService().executeCommand(commandContext -> {
+            JobService jobService = CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration().getJobService();
+            JobEntity job = jobService.createJob();
+            job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+            job.setJobHandlerType(tweetHandler.getType());
+            job.setJobHandlerConfiguration("expired");
+            job.setLockOwner("otherNode");
+            job.setLockExpirationTime(new Date(processEngine.getProcessEngineConfiguration().getClock().getCurrentTime().getTime() - 60000));
+            jobService.insertJob(job);
+            return null;
+        });
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> !metrics.getEvents("jobExecuted").isEmpty());
+
+        assertThat(metrics.getEvents("expiredJobsReset"))
+                .extracting(MetricsEvent::getEngineName, MetricsEvent::getCount)
+                .containsExactly(tuple(ScopeTypes.BPMN, 1));
+        assertThat(metrics.getAcquisitionsWithJobs(AsyncExecutorMetrics.ACQUISITION_TYPE_ASYNC_JOBS))
+                .extracting(MetricsEvent::getCount, MetricsEvent::getMaxJobs)
+                .containsExactly(tuple(1, 2));
+        assertThat(metrics.getEvents("jobExecuted"))
+                .extracting(MetricsEvent::getEngineName, MetricsEvent::getName)
+                .containsExactly(tuple(ScopeTypes.BPMN, tweetHandler.getType()));
+        assertThat(tweetHandler.getMessages()).containsExactly("expired");
+    }
+
+    protected ProcessEngine createProcessEngine(Consumer<ProcessEngineConfigurationImpl> configurer) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncExecutorMetricsTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setDefaultAsyncJobAcquireWaitTime(Duration.ofMillis(50));
+        processEngineConfiguration.getAsyncExecutorConfiguration().setDefaultTimerJobAcquireWaitTime(Duration.ofMillis(50));
+        processEngineConfiguration.getAsyncExecutorConfiguration().setMaxAsyncJobsDuePerAcquisition(2);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setMaxTimerJobsPerAcquisition(3);
+        if (configurer != null) {
+            configurer.accept(processEngineConfiguration);
+        }
+
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor(processEngineConfiguration.getAsyncExecutorConfiguration());
+        asyncExecutor.setAsyncExecutorMetrics(metrics);
+        processEngineConfiguration.setAsyncExecutor(asyncExecutor);
+
+        return processEngineConfiguration.buildProcessEngine();
+    }
+
+    protected void deploy(String resource) {
+        processEngine.getRepositoryService().createDeployment().addClasspathResource("org/flowable/engine/test/jobexecutor/" + resource).deploy();
+    }
+
+    public static class SleepingDelegate implements JavaDelegate {
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            sleep();
+        }
+    }
+
+    public static class FailingDelegate implements JavaDelegate {
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            sleep();
+            throw new FlowableException("Failing on purpose");
+        }
+    }
+
+    public static class BlockingDelegate implements JavaDelegate {
+
+        static final Semaphore SEMAPHORE = new Semaphore(0);
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            try {
+                SEMAPHORE.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowableException("Interrupted while waiting for the semaphore", e);
+            }
+        }
+    }
+
+    protected static void sleep() {
+        try {
+            Thread.sleep(SLEEP_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while sleeping", e);
+        }
+    }
+
+    static class RecordingAsyncExecutorMetrics implements AsyncExecutorMetrics {
+
+        protected final List<MetricsEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void asyncExecutorStarted(String engineName, AsyncExecutor asyncExecutor) {
+            events.add(new MetricsEvent("asyncExecutorStarted", engineName).asyncExecutor(asyncExecutor));
+        }
+
+        @Override
+        public void asyncExecutorShutdown(String engineName, AsyncExecutor asyncExecutor) {
+            events.add(new MetricsEvent("asyncExecutorShutdown", engineName).asyncExecutor(asyncExecutor));
+        }
+
+        @Override
+        public void acquisitionCompleted(String engineName, String acquisitionType, long durationNanos, int jobsAcquired, int maxJobsPerAcquisition) {
+            events.add(new MetricsEvent("acquisitionCompleted", engineName).name(acquisitionType).durationNanos(durationNanos)
+                    .count(jobsAcquired).maxJobs(maxJobsPerAcquisition));
+        }
+
+        @Override
+        public void acquisitionOptimisticLockingException(String engineName, String acquisitionType) {
+            events.add(new MetricsEvent("acquisitionOptimisticLockingException", engineName).name(acquisitionType));
+        }
+
+        @Override
+        public void jobRejected(String engineName, String jobHandlerType) {
+            events.add(new MetricsEvent("jobRejected", engineName).name(jobHandlerType));
+        }
+
+        @Override
+        public void jobExecuted(String engineName, String jobHandlerType, long durationNanos) {
+            events.add(new MetricsEvent("jobExecuted", engineName).name(jobHandlerType).durationNanos(durationNanos));
+        }
+
+        @Override
+        public void jobFailed(String engineName, String jobHandlerType, long durationNanos, boolean retry) {
+            events.add(new MetricsEvent("jobFailed", engineName).name(jobHandlerType).durationNanos(durationNanos).retry(retry));
+        }
+
+        @Override
+        public void jobOptimisticLockingException(String engineName, String jobHandlerType) {
+            events.add(new MetricsEvent("jobOptimisticLockingException", engineName).name(jobHandlerType));
+        }
+
+        @Override
+        public void expiredJobsReset(String engineName, int jobsReset) {
+            events.add(new MetricsEvent("expiredJobsReset", engineName).count(jobsReset));
+        }
+
+        public List<MetricsEvent> getEvents(String... callbacks) {
+            List<String> callbackList = List.of(callbacks);
+            return events.stream()
+                    .filter(event -> callbackList.contains(event.getCallback()))
+                    .collect(Collectors.toList());
+        }
+
+        public List<MetricsEvent> getAcquisitionsWithJobs(String acquisitionType) {
+            return getEvents("acquisitionCompleted").stream()
+                    .filter(event -> acquisitionType.equals(event.getName()) && event.getCount() > 0)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    static class MetricsEvent {
+
+        protected final String callback;
+        protected final String engineName;
+        protected String name;
+        protected long durationNanos;
+        protected int count;
+        protected int maxJobs;
+        protected Boolean retry;
+        protected AsyncExecutor asyncExecutor;
+
+        MetricsEvent(String callback, String engineName) {
+            this.callback = callback;
+            this.engineName = engineName;
+        }
+
+        MetricsEvent name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        MetricsEvent durationNanos(long durationNanos) {
+            this.durationNanos = durationNanos;
+            return this;
+        }
+
+        MetricsEvent count(int count) {
+            this.count = count;
+            return this;
+        }
+
+        MetricsEvent maxJobs(int maxJobs) {
+            this.maxJobs = maxJobs;
+            return this;
+        }
+
+        MetricsEvent retry(boolean retry) {
+            this.retry = retry;
+            return this;
+        }
+
+        MetricsEvent asyncExecutor(AsyncExecutor asyncExecutor) {
+            this.asyncExecutor = asyncExecutor;
+            return this;
+        }
+
+        public String getCallback() {
+            return callback;
+        }
+
+        public String getEngineName() {
+            return engineName;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getMaxJobs() {
+            return maxJobs;
+        }
+
+        public Boolean getRetry() {
+            return retry;
+        }
+
+        public AsyncExecutor getAsyncExecutor() {
+            return asyncExecutor;
+        }
+    }
+}
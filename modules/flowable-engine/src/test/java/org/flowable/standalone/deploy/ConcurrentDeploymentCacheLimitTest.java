@@ -0,0 +1,182 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.bpmn.model.BpmnModel;
+
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentDeploymentCacheLimitTest extends ResourceFlowableTestCase {
+
+    public ConcurrentDeploymentCacheLimitTest() {
+        super("org/flowable/standalone/deploy/concurrent.deployment.cache.limit.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testOnlyResourceOfProcessDefinitionLoadedOnCacheMiss() throws IOException {
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration
+                .getProcessDefinitionCache();
+
+        // Two deployments with three process definitions each, the second one evicts the process definitions of the first one
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        String[] deploymentIds = new String[2];
+        for (int i = 0; i < 2; i++) {
+            DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+            for (int j = 1; j <= 3; j++) {
+                int processNumber = i * 3 + j;
+                deploymentBuilder.addString("Process " + processNumber + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, processNumber));
+            }
+            deploymentIds[i] = deploymentBuilder.deploy().getId();
+        }
+        assertThat(processDefinitionCache.size()).isEqualTo(3);
+
+        try {
+            for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().deploymentId(deploymentIds[0]).list()) {
+                assertThat(processDefinitionCache.contains(processDefinition.getId())).isFalse();
+                long evictionCount = processDefinitionCache.getEvictionCount();
+                assertThat(repositoryService.getBpmnModel(processDefinition.getId()).getProcessById(processDefinition.getKey())).isNotNull();
+
+                // Only the evicted process definition is parsed and added to the cache, which evicts exactly one other process definition
+                assertThat(processDefinitionCache.getEvictionCount()).isEqualTo(evictionCount + 1);
+                ProcessDefinition cachedProcessDefinition = processDefinitionCache.get(processDefinition.getId()).getProcessDefinition();
+                assertThat(cachedProcessDefinition.getVersion()).isEqualTo(processDefinition.getVersion());
+                assertThat(cachedProcessDefinition.getResourceName()).isEqualTo(processDefinition.getResourceName());
+                assertThat(cachedProcessDefinition.getDeploymentId()).isEqualTo(deploymentIds[0]);
+            }
+
+        } finally {
+            for (String deploymentId : deploymentIds) {
+                repositoryService.deleteDeployment(deploymentId, true);
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentCacheMissesParseProcessDefinitionOnce() throws Exception {
+        assertThat(new StandaloneInMemProcessEngineConfiguration().isEnableSingleResourceProcessDefinitionLoading()).isFalse();
+
+        // The second deployment evicts the process definitions of the first one
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        String[] deploymentIds = new String[2];
+        for (int i = 0; i < 2; i++) {
+            DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+            for (int j = 1; j <= 3; j++) {
+                int processNumber = i * 3 + j;
+                deploymentBuilder.addString("Process " + processNumber + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, processNumber));
+            }
+            deploymentIds[i] = deploymentBuilder.deploy().getId();
+        }
+
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentIds[0]).list().get(0);
+        assertThat(processEngineConfiguration.getProcessDefinitionCache().contains(processDefinition.getId())).isFalse();
+
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountingProcessParseHandler.PARSE_COUNT.set(0);
+        CountingProcessParseHandler.parseDelayMillis = 200;
+        try {
+            List<Future<BpmnModel>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return repositoryService.getBpmnModel(processDefinition.getId());
+                }));
+            }
+            startLatch.countDown();
+
+            for (Future<BpmnModel> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS).getProcessById(processDefinition.getKey())).isNotNull();
+            }
+
+            // Only one of the threads parsed the process definition, the others got it from the cache
+            assertThat(CountingProcessParseHandler.PARSE_COUNT.get()).isEqualTo(1);
+
+        } finally {
+            CountingProcessParseHandler.parseDelayMillis = 0;
+            executorService.shutdownNow();
+            for (String deploymentId : deploymentIds) {
+                repositoryService.deleteDeployment(deploymentId, true);
+            }
+        }
+    }
+
+    @Test
+    public void testDeploymentCacheLimit() throws IOException {
+        int processDefinitionCacheLimit = 3; // This is set in the configuration above
+
+        assertThat(processEngineConfiguration.getProcessDefinitionCache()).isInstanceOf(ConcurrentDeploymentCache.class);
+        assertThat(((DefaultExpressionManager) processEngineConfiguration.getExpressionManager()).getExpressionCache())
+                .isInstanceOf(ConcurrentDeploymentCache.class);
+
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration
+                .getProcessDefinitionCache();
+        assertThat(processDefinitionCache.size()).isZero();
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        for (int i = 1; i <= 5; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+
+            if (i < processDefinitionCacheLimit) {
+                assertThat(processDefinitionCache.size()).isEqualTo(i);
+            } else {
+                assertThat(processDefinitionCache.size()).isEqualTo(processDefinitionCacheLimit);
+            }
+        }
+        assertThat(processDefinitionCache.getEvictionCount()).isEqualTo(2);
+
+        // Evicted process definitions are loaded again when used
+        for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().list()) {
+            assertThat(repositoryService.getBpmnModel(processDefinition.getId())).isNotNull();
+        }
+        assertThat(processDefinitionCache.size()).isEqualTo(processDefinitionCacheLimit);
+
+        // Cleanup
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testExpressionCacheSizeZeroDisablesExpressionCache() {
+        StandaloneInMemProcessEngineConfiguration configuration = new StandaloneInMemProcessEngineConfiguration();
+        configuration.setConcurrentDeploymentCacheEnabled(true);
+        configuration.setExpressionCacheSize(0);
+        configuration.initFunctionDelegates();
+        configuration.initAstFunctionCreators();
+        configuration.initExpressionManager();
+
+        assertThat(((DefaultExpressionManager) configuration.getExpressionManager()).getExpressionCache()).isNull();
+    }
+
+}
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.bpmn.model.BaseElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.engine.impl.bpmn.parser.BpmnParse;
+import org.flowable.engine.impl.bpmn.parser.handler.AbstractBpmnParseHandler;
+
+/**
+ * Counts the parsed processes, optionally slowing down the parsing to make concurrent cache misses overlap.
+ */
+public class CountingProcessParseHandler extends AbstractBpmnParseHandler<Process> {
+
+    public static final AtomicInteger PARSE_COUNT = new AtomicInteger();
+
+    public static volatile long parseDelayMillis;
+
+    @Override
+    protected Class<? extends BaseElement> getHandledType() {
+        return Process.class;
+    }
+
+    @Override
+    protected void executeParse(BpmnParse bpmnParse, Process process) {
+        PARSE_COUNT.incrementAndGet();
+        if (parseDelayMillis > 0) {
+            try {
+                Thread.sleep(parseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.codec.AsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.codec.JsonAsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.codec.SmileAsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+
+public class AsyncHistoryPayloadCodecTest extends CustomConfigurationFlowableTestCase {
+
+    public AsyncHistoryPayloadCodecTest() {
+        super("asyncHistoryPayloadCodecTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        processEngineConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(false);
+        processEngineConfiguration.setAsyncHistoryPayloadCodec(new SmileAsyncHistoryPayloadCodec(new ObjectMapper()));
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            deleteDeployment(autoDeletedDeploymentId);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testSmilePayload() {
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        taskService.complete(task.getId());
+
+        List<HistoryJob> jobs = managementService.createHistoryJobQuery().list();
+        assertThat(jobs).isNotEmpty();
+        for (HistoryJob job : jobs) {
+            assertThat(getPayload(job)).startsWith(SmileConstants.HEADER_BYTE_1, SmileConstants.HEADER_BYTE_2, SmileConstants.HEADER_BYTE_3);
+
+            // The payload is still exposed as JSON
+            JsonNode historyJson = readJson(managementService.getHistoryJobHistoryJson(job.getId()));
+            assertThat(historyJson.isArray()).isTrue();
+            assertThat(historyJson.size()).isPositive();
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000L, 100L);
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+        assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).finished().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testJsonPayloadOfExistingJobs() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        AsyncHistoryPayloadCodec smileCodec = jobServiceConfiguration.getAsyncHistoryPayloadCodec();
+        try {
+            // Jobs created before the Smile codec was configured
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(new JsonAsyncHistoryPayloadCodec(processEngineConfiguration.getObjectMapper()));
+            deployOneTaskTestProcess();
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+            List<HistoryJob> jobs = managementService.createHistoryJobQuery().list();
+            assertThat(jobs).isNotEmpty();
+            assertThat(getPayload(jobs.get(0))).startsWith((byte) '[');
+
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(smileCodec);
+            assertThat(readJson(managementService.getHistoryJobHistoryJson(jobs.get(0).getId())).isArray()).isTrue();
+
+            waitForHistoryJobExecutorToProcessAllJobs(10000L, 100L);
+            assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+            assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).unfinished().count()).isEqualTo(1);
+
+        } finally {
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(smileCodec);
+        }
+    }
+
+    protected byte[] getPayload(HistoryJob job) {
+        return managementService.executeCommand(commandContext -> {
+            HistoryJobEntity historyJobEntity = processEngineConfiguration.getJobServiceConfiguration().getHistoryJobEntityManager().findById(job.getId());
+            return historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(historyJobEntity.getScopeType());
+        });
+    }
+
+    protected JsonNode readJson(String json) {
+        try {
+            return processEngineConfiguration.getObjectMapper().readTree(json);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.flowable.engine.impl.db.DbIdGenerator;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class DbIdGeneratorTest {
+
+    protected AtomicLong nextDbId = new AtomicLong(1);
+    protected AtomicLong fetchedBlocks = new AtomicLong();
+
+    @Test
+    void idsWithoutPrefetching() {
+        DbIdGenerator idGenerator = createIdGenerator(10, false);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+
+        assertThat(ids).startsWith("1", "2", "3").endsWith("25").doesNotHaveDuplicates();
+        assertThat(fetchedBlocks).hasValue(3);
+    }
+
+    @Test
+    void nextBlockIsPrefetched() {
+        DbIdGenerator idGenerator = createIdGenerator(10, true);
+        idGenerator.setPrefetchExecutor(Runnable::run);
+
+        for (int i = 0; i < 4; i++) {
+            idGenerator.getNextId();
+        }
+        assertThat(fetchedBlocks).hasValue(1);
+
+        // Half of the block is used
+        idGenerator.getNextId();
+        assertThat(fetchedBlocks).hasValue(2);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+        assertThat(ids).containsExactly("6", "7", "8", "9", "10", "11");
+        assertThat(fetchedBlocks).hasValue(2);
+    }
+
+    @Test
+    void concurrentIdsAreUnique() throws Exception {
+        DbIdGenerator idGenerator = createIdGenerator(50, true);
+        Set<String> ids = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(ids).hasSize(8000);
+    }
+
+    protected DbIdGenerator createIdGenerator(int idBlockSize, boolean prefetchEnabled) {
+        CommandExecutor commandExecutor = Mockito.mock(CommandExecutor.class);
+        Mockito.when(commandExecutor.execute(Mockito.any(CommandConfig.class), Mockito.any(GetNextIdBlockCmd.class))).thenAnswer(invocation -> {
+            fetchedBlocks.incrementAndGet();
+            long nextId = nextDbId.getAndAdd(idBlockSize);
+            return new IdBlock(nextId, nextId + idBlockSize - 1);
+        });
+
+        DbIdGenerator idGenerator = new DbIdGenerator();
+        idGenerator.setIdBlockSize(idBlockSize);
+        idGenerator.setPrefetchEnabled(prefetchEnabled);
+        idGenerator.setCommandExecutor(commandExecutor);
+        idGenerator.setCommandConfig(new CommandConfig());
+        return idGenerator;
+    }
+
+}
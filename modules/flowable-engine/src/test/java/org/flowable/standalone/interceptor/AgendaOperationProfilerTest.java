@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationElement;
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
+import org.flowable.common.engine.impl.agenda.AgendaOperationStatistics;
+import org.flowable.common.engine.impl.agenda.ProfilingAgendaOperationRunner;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AgendaOperationProfilerTest extends CustomConfigurationFlowableTestCase {
+
+    public AgendaOperationProfilerTest() {
+        super("agendaOperationProfilerTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAgendaOperationProfiler(new AgendaOperationProfiler());
+    }
+
+    @AfterEach
+    protected void resetProfiler() {
+        AgendaOperationProfiler profiler = processEngineConfiguration.getAgendaOperationProfiler();
+        profiler.setEnabled(true);
+        profiler.setSamplingRate(1.0);
+        profiler.reset();
+    }
+
+    @Test
+    public void testOperationsAreProfiled() {
+        assertThat(processEngineConfiguration.getAgendaOperationRunner()).isInstanceOf(ProfilingAgendaOperationRunner.class);
+
+        deployOneTaskTestProcess();
+        AgendaOperationProfiler profiler = processEngineConfiguration.getAgendaOperationProfiler();
+        profiler.reset();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().singleResult();
+        taskService.complete(task.getId());
+
+        assertThat(profiler.getOperationTypeStatistics())
+                .containsKeys("ContinueProcessOperation", "TakeOutgoingSequenceFlowsOperation", "TriggerExecutionOperation");
+        AgendaOperationStatistics continueProcessStatistics = profiler.getOperationTypeStatistics().get("ContinueProcessOperation");
+        assertThat(continueProcessStatistics.getCount()).isPositive();
+        assertThat(continueProcessStatistics.getTotalWallTimeNanos()).isPositive();
+        assertThat(continueProcessStatistics.getMaxWallTimeNanos()).isLessThanOrEqualTo(continueProcessStatistics.getTotalWallTimeNanos());
+        assertThat(continueProcessStatistics.getWallTimeHistogram()).hasSize(AgendaOperationStatistics.WALL_TIME_HISTOGRAM_BOUNDS_MICROS.length + 1);
+        assertThat(sum(continueProcessStatistics.getWallTimeHistogram())).isEqualTo(continueProcessStatistics.getCount());
+
+        String processDefinitionId = processInstance.getProcessDefinitionId();
+        assertThat(profiler.getElementStatistics()).containsKeys(element(processDefinitionId, "start"), element(processDefinitionId, "theTask"),
+                element(processDefinitionId, "theEnd"));
+        // The user task is entered when the process starts and triggered when the task is completed
+        assertThat(profiler.getElementStatistics().get(element(processDefinitionId, "theTask")).getCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    public void testElementsAreProfiledPerDefinition() {
+        String firstProcessDefinitionId = deployOneTaskTestProcess();
+        String secondProcessDefinitionId = deployOneTaskTestProcess();
+        AgendaOperationProfiler profiler = processEngineConfiguration.getAgendaOperationProfiler();
+        profiler.reset();
+
+        runtimeService.startProcessInstanceById(firstProcessDefinitionId);
+        runtimeService.startProcessInstanceById(secondProcessDefinitionId);
+        runtimeService.startProcessInstanceById(secondProcessDefinitionId);
+
+        // The same element id of both versions is kept apart
+        long firstVersionTaskOperations = profiler.getElementStatistics().get(element(firstProcessDefinitionId, "theTask")).getCount();
+        long secondVersionTaskOperations = profiler.getElementStatistics().get(element(secondProcessDefinitionId, "theTask")).getCount();
+        assertThat(secondVersionTaskOperations).isEqualTo(2 * firstVersionTaskOperations);
+    }
+
+    @Test
+    public void testDisabledProfiler() {
+        deployOneTaskTestProcess();
+        AgendaOperationProfiler profiler = processEngineConfiguration.getAgendaOperationProfiler();
+        profiler.reset();
+        profiler.setEnabled(false);
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        assertThat(profiler.getOperationTypeStatistics()).isEmpty();
+        assertThat(profiler.getElementStatistics()).isEmpty();
+    }
+
+    @Test
+    public void testSampling() {
+        deployOneTaskTestProcess();
+        AgendaOperationProfiler profiler = processEngineConfiguration.getAgendaOperationProfiler();
+        profiler.reset();
+        profiler.setSamplingRate(0.0);
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertThat(profiler.getOperationTypeStatistics()).isEmpty();
+
+        // Count the operations of one process instance start
+        profiler.setSamplingRate(1.0);
+        String processDefinitionId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId();
+        AgendaOperationElement startElement = element(processDefinitionId, "start");
+        AgendaOperationElement taskElement = element(processDefinitionId, "theTask");
+        long startOperations = profiler.getElementStatistics().get(startElement).getCount();
+        long taskOperations = profiler.getElementStatistics().get(taskElement).getCount();
+        profiler.reset();
+
+        profiler.setSamplingRate(0.5);
+        for (int i = 0; i < 20; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        // Either all operations of a command are profiled or none
+        long sampledStartOperations = profiler.getElementStatistics().containsKey(startElement) ? profiler.getElementStatistics().get(startElement).getCount() : 0;
+        long sampledTaskOperations = profiler.getElementStatistics().containsKey(taskElement) ? profiler.getElementStatistics().get(taskElement).getCount() : 0;
+        long sampledCommands = sampledStartOperations / startOperations;
+        assertThat(sampledCommands).isLessThan(20);
+        assertThat(sampledStartOperations).isEqualTo(sampledCommands * startOperations);
+        assertThat(sampledTaskOperations).isEqualTo(sampledCommands * taskOperations);
+    }
+
+    protected AgendaOperationElement element(String processDefinitionId, String activityId) {
+        return new AgendaOperationElement(processDefinitionId, activityId);
+    }
+
+    protected long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
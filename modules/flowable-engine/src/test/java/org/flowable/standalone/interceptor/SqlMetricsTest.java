@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.management.SlowSqlStatement;
+import org.flowable.common.engine.api.management.SqlFlushStatistics;
+import org.flowable.common.engine.api.management.SqlStatementStatistics;
+import org.flowable.common.engine.impl.db.metrics.InMemorySqlMetricsCollector;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SqlMetricsTest extends CustomConfigurationFlowableTestCase {
+
+    public SqlMetricsTest() {
+        super("sqlMetricsTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        InMemorySqlMetricsCollector sqlMetricsCollector = new InMemorySqlMetricsCollector();
+        sqlMetricsCollector.setMaxSlowStatements(10);
+        processEngineConfiguration.setSqlMetricsCollector(sqlMetricsCollector);
+        // Report every statement as slow
+        processEngineConfiguration.setSqlSlowStatementThreshold(0);
+    }
+
+    @AfterEach
+    protected void resetMetrics() {
+        managementService.resetSqlMetrics();
+    }
+
+    @Test
+    public void testStatementStatistics() {
+        deployOneTaskTestProcess();
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        managementService.resetSqlMetrics();
+
+        List<Task> tasks = taskService.createTaskQuery().list();
+        assertThat(tasks).hasSize(1);
+
+        assertThat(managementService.getSqlStatementStatistics()).containsOnlyKeys("selectTaskByQueryCriteria");
+        SqlStatementStatistics statistics = managementService.getSqlStatementStatistics().get("selectTaskByQueryCriteria");
+        assertThat(statistics.getStatementId()).isEqualTo("selectTaskByQueryCriteria");
+        assertThat(statistics.getCount()).isEqualTo(1);
+        assertThat(statistics.getTotalRows()).isEqualTo(1);
+        assertThat(statistics.getMaxRows()).isEqualTo(1);
+        assertThat(statistics.getTotalDurationNanos()).isPositive();
+        assertThat(statistics.getMaxDurationNanos()).isEqualTo(statistics.getTotalDurationNanos());
+        assertThat(statistics.getDurationHistogram())
+                .hasSize(SqlStatementStatistics.DURATION_HISTOGRAM_BOUNDS_MILLIS.length + 1)
+                .containsOnlyOnce(1);
+
+        taskService.complete(tasks.get(0).getId());
+        assertThat(managementService.getSqlStatementStatistics()).containsKeys("updateExecution", "deleteTask");
+    }
+
+    @Test
+    public void testFlushStatistics() {
+        deployOneTaskTestProcess();
+        managementService.resetSqlMetrics();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        assertThat(managementService.getSqlFlushStatistics()).containsKey("StartProcessInstanceCmd");
+        SqlFlushStatistics statistics = managementService.getSqlFlushStatistics().get("StartProcessInstanceCmd");
+        assertThat(statistics.getFlushCount()).isEqualTo(2);
+        assertThat(statistics.getInsertedEntities()).isPositive();
+        assertThat(statistics.getStatementCount()).isPositive();
+        // Entities of the same type are inserted with one bulk insert statement
+        assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(
+                statistics.getInsertedEntities() + statistics.getUpdatedEntities() + statistics.getDeletedEntities());
+        assertThat(statistics.getMaxStatementCount()).isLessThanOrEqualTo(statistics.getStatementCount());
+
+        // Queries without changes don't flush any entities and are not reported
+        taskService.createTaskQuery().list();
+        assertThat(managementService.getSqlFlushStatistics()).doesNotContainKey("TaskQueryImpl");
+    }
+
+    @Test
+    public void testSlowStatements() {
+        deployOneTaskTestProcess();
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        managementService.resetSqlMetrics();
+
+        taskService.createTaskQuery().processDefinitionKey("oneTaskProcess").list();
+        runtimeService.createProcessInstanceQuery().list();
+
+        assertThat(managementService.getSlowSqlStatements())
+                .extracting(SlowSqlStatement::getStatementId, SlowSqlStatement::getParameterShape)
+                .containsExactly(
+                        tuple("selectTaskByQueryCriteria", "TaskQueryImpl"),
+                        tuple("selectProcessInstanceByQueryCriteria", "ProcessInstanceQueryImpl")
+                );
+        assertThat(managementService.getSlowSqlStatements().get(0).getTime()).isNotNull();
+
+        for (int i = 0; i < 20; i++) {
+            taskService.createTaskQuery().list();
+        }
+        assertThat(managementService.getSlowSqlStatements()).hasSize(10);
+    }
+
+}
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+public class CompiledScriptCacheTest extends CustomConfigurationFlowableTestCase {
+
+    public CompiledScriptCacheTest() {
+        super("compiledScriptCacheTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setCompiledScriptCacheEnabled(true);
+        processEngineConfiguration.setCompiledScriptCacheSize(10);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/examples/groovy/GroovyScriptTest.testScriptExecution.bpmn20.xml")
+    public void testCompiledScriptIsReused() {
+        CompiledScriptCache compiledScriptCache = processEngineConfiguration.getScriptingEngines().getCompiledScriptCache();
+        assertThat(compiledScriptCache.getLimit()).isEqualTo(10);
+
+        for (int i = 1; i <= 3; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("scriptExecution",
+                    CollectionUtil.singletonMap("inputArray", new int[] { i, 2, 3 }));
+            assertThat(runtimeService.getVariable(processInstance.getId(), "sum")).isEqualTo(i + 5);
+        }
+
+        assertThat(compiledScriptCache.size()).isEqualTo(1);
+        assertThat(compiledScriptCache.getMissCount()).isEqualTo(1);
+        assertThat(compiledScriptCache.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/examples/bpmn/scripttask/ScriptTaskTest.testSetScriptResultToProcessVariable.bpmn20.xml")
+    public void testJuelScriptIsNotCompiled() {
+        CompiledScriptCache compiledScriptCache = processEngineConfiguration.getScriptingEngines().getCompiledScriptCache();
+
+        for (String echo : new String[] { "hello", "world" }) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("setScriptResultToProcessVariable",
+                    CollectionUtil.singletonMap("echo", echo));
+            assertThat(runtimeService.getVariable(processInstance.getId(), "existingProcessVariableName")).isEqualTo(echo);
+        }
+
+        assertThat(compiledScriptCache.size()).isZero();
+        assertThat(compiledScriptCache.getMissCount()).isZero();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedScriptIsEvicted() {
+        CompiledScriptCache compiledScriptCache = new CompiledScriptCache(2);
+        compiledScriptCache.add("groovy", "a", null);
+        compiledScriptCache.add("groovy", "b", null);
+        compiledScriptCache.get("groovy", "a");
+        compiledScriptCache.add("groovy", "c", null);
+
+        assertThat(compiledScriptCache.size()).isEqualTo(2);
+        assertThat(compiledScriptCache.getEvictionCount()).isEqualTo(1);
+    }
+
+}
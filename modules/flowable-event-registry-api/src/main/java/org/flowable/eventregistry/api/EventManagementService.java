@@ -15,6 +15,8 @@ package org.flowable.eventregistry.api;
 import java.util.Collection;
 import java.util.Map;
 
+import org.flowable.eventregistry.api.management.OutboundEventOutboxStatistics;
+
 public interface EventManagementService {
 
     /**
@@ -34,4 +36,9 @@ public interface EventManagementService {
      */
     void executeEventRegistryChangeDetection();
 
+    /**
+     * Returns the statistics of the outbound event outbox, only available when the outbox is enabled.
+     */
+    OutboundEventOutboxStatistics getOutboundEventOutboxStatistics();
+
 }
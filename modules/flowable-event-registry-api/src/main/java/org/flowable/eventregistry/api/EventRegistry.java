@@ -13,6 +13,8 @@
 package org.flowable.eventregistry.api;
 
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.runtime.EventInstance;
@@ -73,11 +75,44 @@ public interface EventRegistry {
      */
     void eventReceived(InboundChannelModel channelModel, InboundEvent event);
 
+    /**
+     * Adapters that receive events in batches (e.g. the records of a poll) can call this method to process them together.
+     * A failure in one event doesn't prevent processing the other events, the failed events are reported in the result.
+     */
+    default InboundEventBatchResult eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        InboundEventBatchResult result = new InboundEventBatchResult(events.size());
+        for (InboundEvent event : events) {
+            try {
+                eventReceived(channelModel, event);
+            } catch (RuntimeException e) {
+                result.addFailure(event, e);
+            }
+        }
+        return result;
+    }
+
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     *
+     * @return the failure of every event that couldn't be handled, keyed by the event; empty when all events were handled
+     */
+    default Map<EventRegistryEvent, RuntimeException> sendEventsToConsumers(List<EventRegistryEvent> eventRegistryEvents) {
+        Map<EventRegistryEvent, RuntimeException> failures = new IdentityHashMap<>();
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            try {
+                sendEventToConsumers(eventRegistryEvent);
+            } catch (RuntimeException e) {
+                failures.put(eventRegistryEvent, e);
+            }
+        }
+        return failures;
+    }
+
     /**
      * Send out the {@code eventInstance} via the given system {@link OutboundEventProcessor}.
      */
@@ -12,12 +12,38 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     EventRegistryProcessingInfo eventReceived(EventRegistryEvent event);
+
+    /**
+     * Handles a batch of events. The returned list contains the processing info of every event, in the order of the given events.
+     * A failure while handling an event doesn't prevent handling the other events: it is reported through {@link EventRegistryProcessingInfo#getFailure()}.
+     */
+    default List<EventRegistryProcessingInfo> eventsReceived(List<EventRegistryEvent> events) {
+        List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            EventRegistryProcessingInfo processingInfo;
+            try {
+                processingInfo = eventReceived(event);
+                if (processingInfo == null) {
+                    processingInfo = new EventRegistryProcessingInfo();
+                }
+
+            } catch (RuntimeException e) {
+                processingInfo = new EventRegistryProcessingInfo();
+                processingInfo.setFailure(e);
+            }
+            processingInfos.add(processingInfo);
+        }
+        return processingInfos;
+    }
     
     String getConsumerKey();
 }
@@ -18,6 +18,7 @@ import java.util.List;
 public class EventRegistryProcessingInfo {
 
     protected List<EventConsumerInfo> eventConsumerInfos;
+    protected RuntimeException failure;
     
     public boolean eventHandled() {
         return eventConsumerInfos != null && !eventConsumerInfos.isEmpty();
@@ -38,4 +39,19 @@ public class EventRegistryProcessingInfo {
     public void setEventConsumerInfos(List<EventConsumerInfo> eventConsumerInfos) {
         this.eventConsumerInfos = eventConsumerInfos;
     }
+
+    /**
+     * @return true if the handling of the event failed, which is only reported this way when events are handled in a batch
+     */
+    public boolean hasFailed() {
+        return failure != null;
+    }
+
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    public void setFailure(RuntimeException failure) {
+        this.failure = failure;
+    }
 }
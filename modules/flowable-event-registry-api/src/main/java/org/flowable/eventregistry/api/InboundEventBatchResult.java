@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.api;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The outcome of processing a batch of {@link InboundEvent inbound events}.
+ * Events that could not be processed are reported with their failure, all other events of the batch were processed.
+ */
+public class InboundEventBatchResult {
+
+    protected int eventCount;
+    protected Map<InboundEvent, RuntimeException> failures;
+
+    public InboundEventBatchResult(int eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    public void addFailure(InboundEvent event, RuntimeException failure) {
+        if (failures == null) {
+            failures = new IdentityHashMap<>();
+        }
+
+        failures.putIfAbsent(event, failure);
+    }
+
+    public boolean hasFailures() {
+        return failures != null && !failures.isEmpty();
+    }
+
+    public boolean hasFailed(InboundEvent event) {
+        return failures != null && failures.containsKey(event);
+    }
+
+    /**
+     * @return the failed events with their failure
+     */
+    public Map<InboundEvent, RuntimeException> getFailures() {
+        return failures != null ? Collections.unmodifiableMap(failures) : Collections.emptyMap();
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getProcessedEventCount() {
+        return eventCount - (failures != null ? failures.size() : 0);
+    }
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 import org.flowable.eventregistry.model.InboundChannelModel;
 
 /**
@@ -21,4 +23,20 @@ public interface InboundEventProcessor {
 
     void eventReceived(InboundChannelModel channelModel, InboundEvent event);
 
+    /**
+     * Processes a batch of events received on the same channel.
+     * A failure in one event doesn't prevent processing the other events, the failed events are reported in the result.
+     */
+    default InboundEventBatchResult eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        InboundEventBatchResult result = new InboundEventBatchResult(events.size());
+        for (InboundEvent event : events) {
+            try {
+                eventReceived(channelModel, event);
+            } catch (RuntimeException e) {
+                result.addFailure(event, e);
+            }
+        }
+        return result;
+    }
+
 }
@@ -13,6 +13,7 @@
 package org.flowable.eventregistry.api;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Joram Barrez
@@ -25,4 +26,18 @@ public interface OutboundEventChannelAdapter<T> {
 
     void sendEvent(T rawEvent, Map<String, Object> headerMap);
 
+    /**
+     * Sends the event without waiting for the delivery to be acknowledged, the returned future completes once it is.
+     * Used when dispatching the events of the outbound event outbox, such that multiple events can be in flight at the same time.
+     * The default implementation sends the event synchronously.
+     */
+    default CompletableFuture<Void> sendEventAsync(OutboundEvent<T> event) {
+        try {
+            sendEvent(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
 }
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.api.management;
+
+import java.util.Date;
+
+/**
+ * Statistics of the outbound event outbox: the events that are waiting to be dispatched
+ * and the delivery lag of the events dispatched by this engine since it was started.
+ */
+public interface OutboundEventOutboxStatistics {
+
+    /**
+     * @return the number of events in the outbox that haven't been delivered yet.
+     */
+    long getPendingEventCount();
+
+    /**
+     * @return the creation time of the oldest event that hasn't been delivered yet, or null if the outbox is empty.
+     */
+    Date getOldestPendingEventTime();
+
+    /**
+     * @return the time in milliseconds the oldest pending event is waiting for its delivery, 0 if the outbox is empty.
+     */
+    long getCurrentLagInMillis();
+
+    /**
+     * @return the number of events delivered by the dispatcher of this engine.
+     */
+    long getDispatchedEventCount();
+
+    /**
+     * @return the number of failed delivery attempts by the dispatcher of this engine.
+     */
+    long getFailedDispatchCount();
+
+    /**
+     * @return the average time in milliseconds between the creation of an event and the acknowledgement of its delivery.
+     */
+    long getAverageDispatchLagInMillis();
+
+    /**
+     * @return the maximum time in milliseconds between the creation of an event and the acknowledgement of its delivery.
+     */
+    long getMaxDispatchLagInMillis();
+
+}
@@ -188,6 +188,13 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder concurrency(String concurrency);
 
+        /**
+         * Sets the number of worker threads (an integer) processing the records of a poll in parallel.
+         * Records with the same Kafka key are processed in order and offsets are only committed up to the last contiguously processed record.
+         * When not set, the records are processed one by one on the listener thread.
+         */
+        InboundKafkaChannelBuilder parallelism(String parallelism);
+
         /**
          * Sets custom properties for this Kafka adapter. See the Spring Kafka docs for more information.
          */
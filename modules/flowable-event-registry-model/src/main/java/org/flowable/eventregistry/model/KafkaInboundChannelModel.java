@@ -31,6 +31,7 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
     protected Collection<TopicPartition> topicPartitions;
     protected String clientIdPrefix;
     protected String concurrency;
+    protected String parallelism;
     protected RetryConfiguration retry;
     protected List<CustomProperty> customProperties;
 
@@ -91,6 +92,14 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         this.concurrency = concurrency;
     }
 
+    public String getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(String parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public RetryConfiguration getRetry() {
         return retry;
     }
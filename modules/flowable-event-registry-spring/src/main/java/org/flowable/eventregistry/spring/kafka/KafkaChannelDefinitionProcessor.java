@@ -69,6 +69,7 @@ import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 import org.springframework.kafka.listener.ContainerPartitionPausingBackOffManagerFactory;
 import org.springframework.kafka.listener.ContainerPausingBackOffHandler;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.listener.ExceptionClassifier;
 import org.springframework.kafka.listener.FailedRecordProcessor;
@@ -195,7 +196,12 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         endpoint.setConcurrency(resolveExpressionAsInteger(channelModel.getConcurrency(), "concurrency"));
         endpoint.setConsumerProperties(resolveProperties(channelModel.getCustomProperties()));
 
-        endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        Integer parallelism = resolveParallelism(channelModel);
+        if (parallelism != null) {
+            endpoint.setMessageListener(createParallelMessageListener(eventRegistry, channelModel, parallelism));
+        } else {
+            endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        }
 
         return endpoint;
     }
@@ -231,7 +237,16 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
 
         RetryTopicConfiguration retryTopicConfiguration = createRetryTopicConfiguration(retryConfiguration);
 
-        if (retryTopicConfiguration != null) {
+        if (resolveParallelism(channelModel) != null) {
+            if (retryTopicConfiguration != null) {
+                throw new FlowableException("Channel model " + channelModel.getKey() + " in tenant " + tenantId
+                        + " has a parallelism and a retry or dead letter topic configured, which is not supported");
+            }
+
+            // The parallel listener retries the failed records itself and commits the offsets of the processed records
+            return Collections.singleton(new Configuration(mainEndpoint, new ParallelConsumptionContainerFactoryDecorator(containerFactory)));
+
+        } else if (retryTopicConfiguration != null) {
 
             Collection<String> topics;
             if (mainEndpoint.getTopics().isEmpty()) {
@@ -727,6 +742,26 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         return kafkaChannelMessageListenerAdapter;
     }
 
+    @SuppressWarnings("unchecked")
+    protected GenericMessageListener<ConsumerRecord<Object, Object>> createParallelMessageListener(EventRegistry eventRegistry,
+            KafkaInboundChannelModel channelModel, int parallelism) {
+
+        KafkaChannelParallelMessageListenerAdapter listenerAdapter = new KafkaChannelParallelMessageListenerAdapter(eventRegistry, channelModel, parallelism);
+        ResolvedRetryConfiguration retryConfiguration = resolveRetryConfiguration(channelModel);
+        if (retryConfiguration != null && retryConfiguration.attempts != null) {
+            listenerAdapter.setMaxAttempts(retryConfiguration.attempts);
+        }
+
+        @SuppressWarnings("rawtypes")
+        GenericMessageListener parallelMessageListener = listenerAdapter;
+        return parallelMessageListener;
+    }
+
+    protected Integer resolveParallelism(KafkaInboundChannelModel channelModel) {
+        Integer parallelism = resolveExpressionAsInteger(channelModel.getParallelism(), "parallelism");
+        return parallelism != null && parallelism > 0 ? parallelism : null;
+    }
+
     @Override
     public void unregisterChannelModel(ChannelModel channelModel, String tenantId, EventRepositoryService eventRepositoryService) {
         logger.info("Starting to unregister channel {} in tenant {}", channelModel.getKey(), tenantId);
@@ -747,6 +782,11 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         if (listenerContainer != null) {
             logger.debug("Stopping message listener {} for channel {} in tenant {}", listenerContainer, channelModel.getKey(), tenantId);
             listenerContainer.stop();
+
+            Object messageListener = listenerContainer.getContainerProperties().getMessageListener();
+            if (messageListener instanceof KafkaChannelParallelMessageListenerAdapter) {
+                ((KafkaChannelParallelMessageListenerAdapter) messageListener).shutdown();
+            }
         }
 
         if (listenerContainer instanceof DisposableBean) {
@@ -969,6 +1009,42 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
 
     }
 
+    protected static class ParallelConsumptionContainerFactoryDecorator implements KafkaListenerContainerFactory<MessageListenerContainer> {
+        // We need this class in order to let the parallel listener commit the offsets instead of the container
+
+        private final KafkaListenerContainerFactory<?> delegate;
+
+        private ParallelConsumptionContainerFactoryDecorator(KafkaListenerContainerFactory<?> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public MessageListenerContainer createListenerContainer(KafkaListenerEndpoint endpoint) {
+            return decorate(this.delegate.createListenerContainer(endpoint));
+        }
+
+        @Override
+        public MessageListenerContainer createContainer(TopicPartitionOffset... topicPartitions) {
+            return decorate(this.delegate.createContainer(topicPartitions));
+        }
+
+        @Override
+        public MessageListenerContainer createContainer(String... topics) {
+            return decorate(this.delegate.createContainer(topics));
+        }
+
+        @Override
+        public MessageListenerContainer createContainer(Pattern topicPattern) {
+            return decorate(this.delegate.createContainer(topicPattern));
+        }
+
+        protected MessageListenerContainer decorate(MessageListenerContainer listenerContainer) {
+            listenerContainer.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+            return listenerContainer;
+        }
+
+    }
+
     protected static class Configuration {
 
         protected final KafkaListenerEndpoint endpoint;
@@ -0,0 +1,323 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.BatchAcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * A batch listener that processes the records of a poll in parallel on a bounded pool of worker threads.
+ * <p>
+ * The records are grouped by their Kafka key (records without a key are grouped by partition) and the records of one group
+ * are processed in order by a single worker. When a record fails, the remaining records of its group are not processed in this poll.
+ * <p>
+ * The offsets are committed by this listener (the container must use a manual ack mode): per partition only up to the last record
+ * for which all preceding records have been processed. The consumer is positioned back on the first record that was not processed,
+ * records after it that were already processed are skipped when they are redelivered.
+ * A failing record is retried until the max attempts are reached, after which it is logged and skipped.
+ * <p>
+ * With a concurrency, the child consumers of the container share this listener and its worker threads.
+ * A partition is only assigned to one child consumer at a time, so the state of a partition is only accessed by one consumer thread.
+ */
+public class KafkaChannelParallelMessageListenerAdapter implements BatchAcknowledgingConsumerAwareMessageListener<Object, Object>, ConsumerSeekAware {
+
+    // Same default as the DefaultErrorHandler of Spring Kafka
+    public static final int DEFAULT_MAX_ATTEMPTS = 10;
+
+    protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+    protected EventRegistry eventRegistry;
+    protected InboundChannelModel inboundChannelModel;
+    protected ExecutorService executorService;
+    protected int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    // The state per partition is only accessed from the consumer thread the partition is assigned to
+    protected final Map<TopicPartition, NavigableSet<Long>> processedOffsetsAheadOfCommit = new ConcurrentHashMap<>();
+    protected final Map<TopicPartition, Map<Long, Integer>> failedAttempts = new ConcurrentHashMap<>();
+
+    public KafkaChannelParallelMessageListenerAdapter(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel, int parallelism) {
+        this(eventRegistry, inboundChannelModel, Executors.newFixedThreadPool(parallelism, createThreadFactory(inboundChannelModel)));
+    }
+
+    public KafkaChannelParallelMessageListenerAdapter(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel, ExecutorService executorService) {
+        this.eventRegistry = eventRegistry;
+        this.inboundChannelModel = inboundChannelModel;
+        this.executorService = executorService;
+    }
+
+    protected static CustomizableThreadFactory createThreadFactory(InboundChannelModel inboundChannelModel) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("flowable-kafka-" + inboundChannelModel.getKey() + "-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<Object, Object>> records, Acknowledgment acknowledgment, Consumer<?, ?> consumer) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> recordsByPartition = new LinkedHashMap<>();
+        Map<Object, List<ConsumerRecord<Object, Object>>> recordsByOrderingKey = new LinkedHashMap<>();
+        for (ConsumerRecord<Object, Object> record : records) {
+            TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+            recordsByPartition.computeIfAbsent(topicPartition, key -> new ArrayList<>()).add(record);
+            if (!isProcessed(topicPartition, record.offset())) {
+                recordsByOrderingKey.computeIfAbsent(getOrderingKey(record), key -> new ArrayList<>()).add(record);
+            }
+        }
+
+        Map<Future<?>, RecordGroupResult> results = new LinkedHashMap<>();
+        for (List<ConsumerRecord<Object, Object>> recordGroup : recordsByOrderingKey.values()) {
+            RecordGroupResult recordGroupResult = new RecordGroupResult();
+            results.put(executorService.submit(() -> processRecords(recordGroup, recordGroupResult)), recordGroupResult);
+        }
+
+        // All record groups are waited for, such that the records that were processed are known even when one of them failed unexpectedly
+        Throwable unexpectedFailure = null;
+        boolean interrupted = false;
+        for (Future<?> result : results.keySet()) {
+            if (interrupted) {
+                result.cancel(true);
+                continue;
+            }
+
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+                result.cancel(true);
+                unexpectedFailure = new FlowableException("Interrupted while processing the records of channel " + inboundChannelModel.getKey(), e);
+            } catch (ExecutionException e) {
+                // Runtime exceptions are handled while processing the records, so this can only be an error
+                if (unexpectedFailure == null) {
+                    unexpectedFailure = e.getCause() instanceof Error ? e.getCause()
+                            : new FlowableException("Failed to process the records of channel " + inboundChannelModel.getKey(), e.getCause());
+                }
+            }
+        }
+
+        for (Map.Entry<Future<?>, RecordGroupResult> entry : results.entrySet()) {
+            // The records of a cancelled group might still be processed, those are redelivered
+            if (!entry.getKey().isCancelled()) {
+                RecordGroupResult recordGroupResult = entry.getValue();
+                for (ConsumerRecord<Object, Object> processedRecord : recordGroupResult.getProcessedRecords()) {
+                    markProcessed(processedRecord);
+                }
+
+                if (recordGroupResult.getFailedRecord() != null) {
+                    handleFailure(recordGroupResult.getFailedRecord(), recordGroupResult.getFailure());
+                }
+            }
+        }
+
+        if (!interrupted) {
+            commitProcessedOffsets(recordsByPartition, consumer);
+        }
+
+        if (unexpectedFailure instanceof Error) {
+            throw (Error) unexpectedFailure;
+        } else if (unexpectedFailure != null) {
+            throw (RuntimeException) unexpectedFailure;
+        }
+    }
+
+    protected void processRecords(List<ConsumerRecord<Object, Object>> records, RecordGroupResult result) {
+        for (ConsumerRecord<Object, Object> record : records) {
+            try {
+                eventRegistry.eventReceived(inboundChannelModel, new KafkaConsumerRecordInboundEvent(record));
+                result.processedRecords.add(record);
+            } catch (RuntimeException e) {
+                // The next records with the same key are not processed, in order to keep their order they are redelivered with the failed one
+                result.failedRecord = record;
+                result.failure = e;
+                break;
+            }
+        }
+    }
+
+    protected void handleFailure(ConsumerRecord<Object, Object> record, RuntimeException failure) {
+        TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+        Map<Long, Integer> attemptsByOffset = failedAttempts.computeIfAbsent(topicPartition, key -> new HashMap<>());
+        int attempts = attemptsByOffset.merge(record.offset(), 1, Integer::sum);
+        if (attempts >= maxAttempts) {
+            logger.error("Failed to process record {}@{} of channel {} after {} attempts, the record is skipped",
+                    topicPartition, record.offset(), inboundChannelModel.getKey(), attempts, failure);
+            attemptsByOffset.remove(record.offset());
+            markProcessed(record);
+        } else {
+            logger.warn("Failed to process record {}@{} of channel {} (attempt {} of {}), the record will be redelivered",
+                    topicPartition, record.offset(), inboundChannelModel.getKey(), attempts, maxAttempts, failure);
+        }
+    }
+
+    protected void commitProcessedOffsets(Map<TopicPartition, List<ConsumerRecord<Object, Object>>> recordsByPartition, Consumer<?, ?> consumer) {
+        Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = new HashMap<>();
+        for (Map.Entry<TopicPartition, List<ConsumerRecord<Object, Object>>> entry : recordsByPartition.entrySet()) {
+            TopicPartition topicPartition = entry.getKey();
+            List<ConsumerRecord<Object, Object>> partitionRecords = entry.getValue();
+            long firstOffset = partitionRecords.get(0).offset();
+
+            // Offsets are not necessarily contiguous (e.g. for compacted topics), so the watermark is determined by going over the records
+            long watermark = firstOffset;
+            boolean allProcessed = true;
+            for (ConsumerRecord<Object, Object> record : partitionRecords) {
+                if (!isProcessed(topicPartition, record.offset())) {
+                    allProcessed = false;
+                    break;
+                }
+                watermark = record.offset() + 1;
+            }
+
+            if (watermark > firstOffset) {
+                offsetsToCommit.put(topicPartition, new OffsetAndMetadata(watermark));
+            }
+
+            if (!allProcessed) {
+                consumer.seek(topicPartition, watermark);
+            }
+
+            discardOffsetsBefore(topicPartition, watermark);
+        }
+
+        if (!offsetsToCommit.isEmpty()) {
+            consumer.commitSync(offsetsToCommit);
+        }
+    }
+
+    protected boolean isProcessed(TopicPartition topicPartition, long offset) {
+        NavigableSet<Long> processedOffsets = processedOffsetsAheadOfCommit.get(topicPartition);
+        return processedOffsets != null && processedOffsets.contains(offset);
+    }
+
+    protected void markProcessed(ConsumerRecord<Object, Object> record) {
+        processedOffsetsAheadOfCommit.computeIfAbsent(new TopicPartition(record.topic(), record.partition()), key -> new TreeSet<>())
+                .add(record.offset());
+    }
+
+    protected void discardOffsetsBefore(TopicPartition topicPartition, long watermark) {
+        NavigableSet<Long> processedOffsets = processedOffsetsAheadOfCommit.get(topicPartition);
+        if (processedOffsets != null) {
+            processedOffsets.headSet(watermark).clear();
+            if (processedOffsets.isEmpty()) {
+                processedOffsetsAheadOfCommit.remove(topicPartition);
+            }
+        }
+
+        Map<Long, Integer> attemptsByOffset = failedAttempts.get(topicPartition);
+        if (attemptsByOffset != null) {
+            attemptsByOffset.keySet().removeIf(offset -> offset < watermark);
+            if (attemptsByOffset.isEmpty()) {
+                failedAttempts.remove(topicPartition);
+            }
+        }
+    }
+
+    protected Object getOrderingKey(ConsumerRecord<Object, Object> record) {
+        Object key = record.key();
+        if (key == null) {
+            return new TopicPartition(record.topic(), record.partition());
+        } else if (key instanceof byte[]) {
+            // Arrays do not implement equals, a byte buffer compares the content
+            return ByteBuffer.wrap((byte[]) key);
+        }
+        return key;
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        // Another consumer continues from the committed offsets, the records processed ahead of it might be processed again
+        for (TopicPartition partition : partitions) {
+            processedOffsetsAheadOfCommit.remove(partition);
+            failedAttempts.remove(partition);
+        }
+    }
+
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    public EventRegistry getEventRegistry() {
+        return eventRegistry;
+    }
+
+    public void setEventRegistry(EventRegistry eventRegistry) {
+        this.eventRegistry = eventRegistry;
+    }
+
+    public InboundChannelModel getInboundChannelModel() {
+        return inboundChannelModel;
+    }
+
+    public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    protected static class RecordGroupResult {
+
+        protected final List<ConsumerRecord<Object, Object>> processedRecords = new ArrayList<>();
+        protected ConsumerRecord<Object, Object> failedRecord;
+        protected RuntimeException failure;
+
+        public List<ConsumerRecord<Object, Object>> getProcessedRecords() {
+            return processedRecords;
+        }
+
+        public ConsumerRecord<Object, Object> getFailedRecord() {
+            return failedRecord;
+        }
+
+        public RuntimeException getFailure() {
+            return failure;
+        }
+    }
+}
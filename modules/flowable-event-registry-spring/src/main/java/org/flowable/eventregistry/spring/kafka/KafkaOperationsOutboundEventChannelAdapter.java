@@ -16,6 +16,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -46,21 +47,8 @@ public class KafkaOperationsOutboundEventChannelAdapter implements OutboundEvent
     @Override
     public void sendEvent(OutboundEvent<String> event) {
         try {
-            String rawEvent = event.getBody();
-            Map<String, Object> headerMap = event.getHeaders();
-            List<Header> headers = new ArrayList<>();
-            for (String headerKey : headerMap.keySet()) {
-                Object headerValue = headerMap.get(headerKey);
-                if (headerValue != null) {
-                    headers.add(new RecordHeader(headerKey, headerValue.toString().getBytes(StandardCharsets.UTF_8)));
-                }
-            }
-
-            Integer partition = partitionProvider == null ? null : partitionProvider.determinePartition(event);
+            sendEventAsync(event).get();
 
-            ProducerRecord<Object, Object> producerRecord = new ProducerRecord<>(topic, partition, key, rawEvent, headers);
-            kafkaOperations.send(producerRecord).get();
-            
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new FlowableException("Sending the event was interrupted", e);
@@ -73,6 +61,24 @@ public class KafkaOperationsOutboundEventChannelAdapter implements OutboundEvent
         }
     }
 
+    @Override
+    public CompletableFuture<Void> sendEventAsync(OutboundEvent<String> event) {
+        String rawEvent = event.getBody();
+        Map<String, Object> headerMap = event.getHeaders();
+        List<Header> headers = new ArrayList<>();
+        for (String headerKey : headerMap.keySet()) {
+            Object headerValue = headerMap.get(headerKey);
+            if (headerValue != null) {
+                headers.add(new RecordHeader(headerKey, headerValue.toString().getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        Integer partition = partitionProvider == null ? null : partitionProvider.determinePartition(event);
+
+        ProducerRecord<Object, Object> producerRecord = new ProducerRecord<>(topic, partition, key, rawEvent, headers);
+        return kafkaOperations.send(producerRecord).thenApply(result -> null);
+    }
+
     @Override
     public void sendEvent(String rawEvent, Map<String, Object> headerMap) {
         throw new UnsupportedOperationException("Outbound processor should never call this");
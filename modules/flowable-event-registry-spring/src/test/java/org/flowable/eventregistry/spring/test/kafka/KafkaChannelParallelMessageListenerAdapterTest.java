@@ -0,0 +1,286 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.test.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.flowable.eventregistry.model.KafkaInboundChannelModel;
+import org.flowable.eventregistry.spring.kafka.KafkaChannelParallelMessageListenerAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaChannelParallelMessageListenerAdapterTest {
+
+    protected static final TopicPartition PARTITION_0 = new TopicPartition("test", 0);
+    protected static final TopicPartition PARTITION_1 = new TopicPartition("test", 1);
+
+    protected List<ConsumerRecord<Object, Object>> processedRecords = Collections.synchronizedList(new ArrayList<>());
+    // The number of times processing a record value should fail
+    protected Map<String, Integer> failuresToThrow = new ConcurrentHashMap<>();
+    // The record values for which processing throws an error
+    protected Set<String> errorsToThrow = ConcurrentHashMap.newKeySet();
+    // The time in milliseconds processing a record value takes
+    protected Map<String, Long> processingTimes = new ConcurrentHashMap<>();
+    protected MockConsumer<Object, Object> consumer;
+    protected KafkaChannelParallelMessageListenerAdapter listenerAdapter;
+
+    @BeforeEach
+    void setUp() {
+        EventRegistry eventRegistry = mock(EventRegistry.class);
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            ConsumerRecord<Object, Object> record = (ConsumerRecord<Object, Object>) invocation.getArgument(1, InboundEvent.class).getRawEvent();
+            if (errorsToThrow.contains(record.value())) {
+                throw new AssertionError("Error while processing " + record.value());
+            }
+            Long processingTime = processingTimes.get(record.value());
+            if (processingTime != null) {
+                Thread.sleep(processingTime);
+            }
+            Integer remainingFailures = failuresToThrow.get(record.value());
+            if (remainingFailures != null && remainingFailures > 0) {
+                failuresToThrow.put((String) record.value(), remainingFailures - 1);
+                throw new FlowableException("Failed to process " + record.value());
+            }
+            processedRecords.add(record);
+            return null;
+        }).when(eventRegistry).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+
+        KafkaInboundChannelModel channelModel = new KafkaInboundChannelModel();
+        channelModel.setKey("testChannel");
+        listenerAdapter = new KafkaChannelParallelMessageListenerAdapter(eventRegistry, channelModel, 4);
+
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(Arrays.asList(PARTITION_0, PARTITION_1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        listenerAdapter.shutdown();
+    }
+
+    @Test
+    void recordsWithTheSameKeyAreProcessedInOrder() {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            records.add(new ConsumerRecord<>("test", 0, i, "key" + (i % 3), "value" + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            records.add(new ConsumerRecord<>("test", 1, i, null, "partitionValue" + i));
+        }
+
+        listenerAdapter.onMessage(records, null, consumer);
+
+        assertThat(processedRecords).hasSize(40);
+        for (String key : Arrays.asList("key0", "key1", "key2")) {
+            assertThat(processedRecords)
+                    .filteredOn(record -> key.equals(record.key()))
+                    .extracting(ConsumerRecord::offset)
+                    .isSorted()
+                    .hasSize(10);
+        }
+        // Records without a key are processed in the order of their partition
+        assertThat(processedRecords)
+                .filteredOn(record -> record.key() == null)
+                .extracting(ConsumerRecord::offset)
+                .containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+
+        assertThat(consumer.committed(new HashSet<>(Arrays.asList(PARTITION_0, PARTITION_1))))
+                .containsEntry(PARTITION_0, new OffsetAndMetadata(30))
+                .containsEntry(PARTITION_1, new OffsetAndMetadata(10));
+    }
+
+    @Test
+    void offsetsAreCommittedUpToTheFirstFailedRecord() {
+        failuresToThrow.put("b1", 1);
+
+        List<ConsumerRecord<Object, Object>> records = Arrays.asList(
+                new ConsumerRecord<>("test", 0, 0, "a", "a0"),
+                new ConsumerRecord<>("test", 0, 1, "b", "b1"),
+                new ConsumerRecord<>("test", 0, 2, "a", "a2"),
+                new ConsumerRecord<>("test", 0, 3, "b", "b3")
+        );
+        listenerAdapter.onMessage(records, null, consumer);
+
+        // b3 is not processed as it has the same key as the failed record
+        assertThat(processedRecords)
+                .extracting(ConsumerRecord::value)
+                .containsExactlyInAnyOrder("a0", "a2");
+        assertThat(consumer.committed(Collections.singleton(PARTITION_0)))
+                .containsEntry(PARTITION_0, new OffsetAndMetadata(1));
+        assertThat(consumer.position(PARTITION_0)).isEqualTo(1);
+
+        // The redelivered a2 has already been processed and is skipped
+        listenerAdapter.onMessage(records.subList(1, 4), null, consumer);
+
+        assertThat(processedRecords)
+                .extracting(ConsumerRecord::value)
+                .containsExactlyInAnyOrder("a0", "a2", "b1", "b3");
+        assertThat(processedRecords)
+                .filteredOn(record -> "b".equals(record.key()))
+                .extracting(ConsumerRecord::value)
+                .containsExactly("b1", "b3");
+        assertThat(consumer.committed(Collections.singleton(PARTITION_0)))
+                .containsEntry(PARTITION_0, new OffsetAndMetadata(4));
+    }
+
+    @Test
+    void failingRecordIsSkippedAfterMaxAttempts() {
+        listenerAdapter.setMaxAttempts(3);
+        failuresToThrow.put("a0", 3);
+
+        List<ConsumerRecord<Object, Object>> records = Arrays.asList(
+                new ConsumerRecord<>("test", 0, 0, "a", "a0"),
+                new ConsumerRecord<>("test", 0, 1, "a", "a1")
+        );
+
+        listenerAdapter.onMessage(records, null, consumer);
+        listenerAdapter.onMessage(records, null, consumer);
+        assertThat(processedRecords).isEmpty();
+        assertThat(consumer.committed(Collections.singleton(PARTITION_0))).isEmpty();
+        assertThat(consumer.position(PARTITION_0)).isZero();
+
+        // The third attempt fails as well, after which the record is skipped and the next record processed on redelivery
+        listenerAdapter.onMessage(records, null, consumer);
+        assertThat(consumer.committed(Collections.singleton(PARTITION_0)))
+                .containsEntry(PARTITION_0, new OffsetAndMetadata(1));
+
+        listenerAdapter.onMessage(records.subList(1, 2), null, consumer);
+        assertThat(processedRecords)
+                .extracting(ConsumerRecord::key, ConsumerRecord::value)
+                .containsExactly(tuple("a", "a1"));
+        assertThat(consumer.committed(Collections.singleton(PARTITION_0)))
+                .containsEntry(PARTITION_0, new OffsetAndMetadata(2));
+    }
+
+    @Test
+    void revokedPartitionsAreForgotten() {
+        failuresToThrow.put("b0", 1);
+
+        List<ConsumerRecord<Object, Object>> records = Arrays.asList(
+                new ConsumerRecord<>("test", 0, 0, "b", "b0"),
+                new ConsumerRecord<>("test", 0, 1, "a", "a1")
+        );
+        listenerAdapter.onMessage(records, null, consumer);
+        assertThat(processedRecords).extracting(ConsumerRecord::value).containsExactly("a1");
+
+        listenerAdapter.onPartitionsRevoked(Set.of(PARTITION_0));
+        listenerAdapter.onMessage(records, null, consumer);
+
+        assertThat(processedRecords).extracting(ConsumerRecord::value).containsExactlyInAnyOrder("a1", "b0", "a1");
+    }
+
+    @Test
+    void processedRecordsAreCommittedWhenAnotherGroupThrowsAnError() {
+        errorsToThrow.add("a0");
+        processingTimes.put("b1", 200L);
+
+        List<ConsumerRecord<Object, Object>> records = Arrays.asList(
+                new ConsumerRecord<>("test", 0, 0, "a", "a0"),
+                new ConsumerRecord<>("test", 0, 1, "b", "b1"),
+                new ConsumerRecord<>("test", 1, 0, "c", "c0")
+        );
+
+        // The error is only rethrown once the other groups are done
+        assertThatThrownBy(() -> listenerAdapter.onMessage(records, null, consumer))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Error while processing a0");
+        assertThat(processedRecords)
+                .extracting(ConsumerRecord::value)
+                .containsExactlyInAnyOrder("b1", "c0");
+        assertThat(consumer.committed(new HashSet<>(Arrays.asList(PARTITION_0, PARTITION_1))))
+                .doesNotContainKey(PARTITION_0)
+                .containsEntry(PARTITION_1, new OffsetAndMetadata(1));
+
+        // The redelivered b1 has already been processed and is skipped
+        errorsToThrow.clear();
+        listenerAdapter.onMessage(records.subList(0, 2), null, consumer);
+
+        assertThat(processedRecords)
+                .extracting(ConsumerRecord::value)
+                .containsExactlyInAnyOrder("b1", "c0", "a0");
+        assertThat(consumer.committed(Collections.singleton(PARTITION_0)))
+                .containsEntry(PARTITION_0, new OffsetAndMetadata(2));
+    }
+
+    @Test
+    void listenerIsSharedByConcurrentConsumers() throws Exception {
+        // With a concurrency, every child consumer of the container gets its own partitions and calls the same listener
+        MockConsumer<Object, Object> consumer0 = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer0.assign(Collections.singleton(PARTITION_0));
+        MockConsumer<Object, Object> consumer1 = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer1.assign(Collections.singleton(PARTITION_1));
+
+        ExecutorService consumerThreads = Executors.newFixedThreadPool(2);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Future<?> consumer0Polls = consumerThreads.submit(createPolls(PARTITION_0, consumer0, barrier));
+            Future<?> consumer1Polls = consumerThreads.submit(createPolls(PARTITION_1, consumer1, barrier));
+            consumer0Polls.get(30, TimeUnit.SECONDS);
+            consumer1Polls.get(30, TimeUnit.SECONDS);
+        } finally {
+            consumerThreads.shutdownNow();
+        }
+
+        assertThat(processedRecords).hasSize(2 * 50 * 20);
+        assertThat(consumer0.committed(Collections.singleton(PARTITION_0)))
+                .containsEntry(PARTITION_0, new OffsetAndMetadata(50 * 20));
+        assertThat(consumer1.committed(Collections.singleton(PARTITION_1)))
+                .containsEntry(PARTITION_1, new OffsetAndMetadata(50 * 20));
+    }
+
+    protected Callable<Void> createPolls(TopicPartition partition, MockConsumer<Object, Object> partitionConsumer, CyclicBarrier barrier) {
+        return () -> {
+            for (int poll = 0; poll < 50; poll++) {
+                List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    long offset = poll * 20L + i;
+                    records.add(new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key" + (offset % 5), "value" + offset));
+                }
+                barrier.await(10, TimeUnit.SECONDS);
+                listenerAdapter.onMessage(records, null, partitionConsumer);
+            }
+            return null;
+        };
+    }
+}
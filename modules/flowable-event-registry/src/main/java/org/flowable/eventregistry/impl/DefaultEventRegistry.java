@@ -12,8 +12,11 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.CorrelationKeyGenerator;
@@ -22,6 +25,7 @@ import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
 import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventBatchResult;
 import org.flowable.eventregistry.api.InboundEventProcessor;
 import org.flowable.eventregistry.api.OutboundEventProcessor;
 import org.flowable.eventregistry.api.runtime.EventInstance;
@@ -76,6 +80,11 @@ public class DefaultEventRegistry implements EventRegistry {
         inboundEventProcessor.eventReceived(channelModel, event);
     }
 
+    @Override
+    public InboundEventBatchResult eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        return inboundEventProcessor.eventsReceived(channelModel, events);
+    }
+
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
         Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
@@ -97,6 +106,50 @@ public class DefaultEventRegistry implements EventRegistry {
         }
     }
 
+    @Override
+    public Map<EventRegistryEvent, RuntimeException> sendEventsToConsumers(List<EventRegistryEvent> eventRegistryEvents) {
+        Map<EventRegistryEvent, RuntimeException> failures = new IdentityHashMap<>();
+        if (eventRegistryEvents.isEmpty()) {
+            return failures;
+        }
+
+        // The processing info of an event is only set once a consumer handled it
+        List<EventRegistryProcessingInfo> eventRegistryProcessingInfos = new ArrayList<>(Collections.nCopies(eventRegistryEvents.size(), null));
+
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            List<EventRegistryProcessingInfo> processingInfos = eventConsumer.eventsReceived(eventRegistryEvents);
+            for (int i = 0; i < eventRegistryEvents.size(); i++) {
+                EventRegistryProcessingInfo processingInfo = processingInfos.get(i);
+                if (processingInfo == null) {
+                    continue;
+                }
+
+                if (processingInfo.hasFailed()) {
+                    failures.putIfAbsent(eventRegistryEvents.get(i), processingInfo.getFailure());
+
+                } else if (processingInfo.eventHandled()) {
+                    eventRegistryProcessingInfos.set(i, processingInfo);
+                }
+            }
+        }
+
+        if (engineConfiguration.getNonMatchingEventConsumer() != null) {
+            for (int i = 0; i < eventRegistryEvents.size(); i++) {
+                EventRegistryEvent eventRegistryEvent = eventRegistryEvents.get(i);
+                if (eventRegistryProcessingInfos.get(i) == null && !failures.containsKey(eventRegistryEvent)) {
+                    try {
+                        engineConfiguration.getNonMatchingEventConsumer().handleNonMatchingEvent(eventRegistryEvent, null);
+                    } catch (RuntimeException e) {
+                        failures.put(eventRegistryEvent, e);
+                    }
+                }
+            }
+        }
+
+        return failures;
+    }
+
     @Override
     public void sendSystemEventOutbound(EventInstance eventInstance) {
         systemOutboundEventProcessor.sendEvent(eventInstance, Collections.emptyList());
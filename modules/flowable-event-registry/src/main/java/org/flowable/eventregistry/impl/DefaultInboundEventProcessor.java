@@ -12,11 +12,16 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventBatchResult;
 import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.InboundEventProcessor;
 import org.flowable.eventregistry.model.InboundChannelModel;
@@ -44,4 +49,35 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     }
 
+    /**
+     * Runs every event through the processing pipeline of the channel and sends the resulting events to the consumers as one batch.
+     * The consumers can then look up the event subscriptions of all events together and handle them in grouped transactions.
+     */
+    @Override
+    public InboundEventBatchResult eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        InboundEventBatchResult result = new InboundEventBatchResult(events.size());
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(events.size());
+        Map<EventRegistryEvent, InboundEvent> inboundEvents = new IdentityHashMap<>();
+        for (InboundEvent event : events) {
+            try {
+                for (EventRegistryEvent eventRegistryEvent : inboundEventProcessingPipeline.run(channelModel, event)) {
+                    eventRegistryEvents.add(eventRegistryEvent);
+                    inboundEvents.put(eventRegistryEvent, event);
+                }
+
+            } catch (RuntimeException e) {
+                result.addFailure(event, e);
+            }
+        }
+
+        Map<EventRegistryEvent, RuntimeException> failures = eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+        for (Map.Entry<EventRegistryEvent, RuntimeException> failure : failures.entrySet()) {
+            result.addFailure(inboundEvents.get(failure.getKey()), failure.getValue());
+        }
+
+        return result;
+    }
+
 }
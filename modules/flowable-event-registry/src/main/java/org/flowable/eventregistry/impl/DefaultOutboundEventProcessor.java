@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.OutboundEvent;
 import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
 import org.flowable.eventregistry.api.OutboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.OutboundEventProcessor;
@@ -62,8 +63,13 @@ public class DefaultOutboundEventProcessor implements OutboundEventProcessor {
                 throw new FlowableException("Could not find an outbound channel adapter for channel " + channelModel.getKey());
             }
             
-            outboundEventChannelAdapter.sendEvent(new DefaultOutboundEvent(rawEvent, eventInstance, headerMap));
+            sendEvent(outboundChannelModel, outboundEventChannelAdapter, new DefaultOutboundEvent(rawEvent, eventInstance, headerMap));
         }
     }
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected void sendEvent(OutboundChannelModel channelModel, OutboundEventChannelAdapter outboundEventChannelAdapter, OutboundEvent<?> outboundEvent) {
+        outboundEventChannelAdapter.sendEvent(outboundEvent);
+    }
+
 }
@@ -18,6 +18,8 @@ import java.util.Map;
 import org.flowable.common.engine.impl.cmd.GetTableCountCmd;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.eventregistry.api.EventManagementService;
+import org.flowable.eventregistry.api.management.OutboundEventOutboxStatistics;
+import org.flowable.eventregistry.impl.cmd.GetOutboundEventOutboxStatisticsCmd;
 import org.flowable.eventregistry.impl.cmd.GetTableNamesCmd;
 
 /**
@@ -44,4 +46,9 @@ public class EventManagementServiceImpl extends CommonEngineServiceImpl<EventReg
         configuration.getEventRegistryChangeDetectionManager().detectChanges();
     }
 
+    @Override
+    public OutboundEventOutboxStatistics getOutboundEventOutboxStatistics() {
+        return commandExecutor.execute(new GetOutboundEventOutboxStatisticsCmd());
+    }
+
 }
@@ -58,6 +58,7 @@ import org.flowable.eventregistry.impl.deployer.EventDefinitionDeploymentHelper;
 import org.flowable.eventregistry.impl.deployer.ParsedDeploymentBuilderFactory;
 import org.flowable.eventregistry.impl.management.DefaultEventRegistryChangeDetectionExecutor;
 import org.flowable.eventregistry.impl.management.DefaultEventRegistryChangeDetectionManager;
+import org.flowable.eventregistry.impl.outbox.OutboxEventDispatcher;
 import org.flowable.eventregistry.impl.parser.ChannelDefinitionParseFactory;
 import org.flowable.eventregistry.impl.parser.EventDefinitionParseFactory;
 import org.flowable.eventregistry.impl.payload.HeadersPayloadExtractor;
@@ -73,14 +74,18 @@ import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityM
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManagerImpl;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManager;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.data.ChannelDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventDeploymentDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventResourceDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.OutboxEventDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisChannelDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventDeploymentDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventResourceDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisOutboxEventDataManager;
 import org.flowable.eventregistry.impl.pipeline.DelegateExpressionInboundChannelModelProcessor;
 import org.flowable.eventregistry.impl.pipeline.DelegateExpressionOutboundChannelModelProcessor;
 import org.flowable.eventregistry.impl.pipeline.InMemoryOutboundEventChannelAdapter;
@@ -115,12 +120,14 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected EventDefinitionDataManager eventDefinitionDataManager;
     protected ChannelDefinitionDataManager channelDefinitionDataManager;
     protected EventResourceDataManager resourceDataManager;
+    protected OutboxEventDataManager outboxEventDataManager;
 
     // ENTITY MANAGERS /////////////////////////////////////////////////
     protected EventDeploymentEntityManager deploymentEntityManager;
     protected EventDefinitionEntityManager eventDefinitionEntityManager;
     protected ChannelDefinitionEntityManager channelDefinitionEntityManager;
     protected EventResourceEntityManager resourceEntityManager;
+    protected OutboxEventEntityManager outboxEventEntityManager;
 
     protected ExpressionManager expressionManager;
     protected Collection<ELResolver> preDefaultELResolvers;
@@ -168,6 +175,15 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected EventRegistryChangeDetectionManager eventRegistryChangeDetectionManager;
     protected EventRegistryChangeDetectionExecutor eventRegistryChangeDetectionExecutor;
     
+    // Outbound event outbox
+    protected boolean enableOutboundEventOutbox;
+    protected boolean outboundEventOutboxDispatcherActivate = true;
+    protected int outboundEventOutboxBatchSize = 100;
+    protected long outboundEventOutboxPollIntervalInMs = 1000L;
+    protected long outboundEventOutboxLockTimeInMs = 60000L;
+    protected long outboundEventOutboxRetryWaitTimeInMs = 10000L;
+    protected OutboxEventDispatcher outboxEventDispatcher;
+
     protected EventRegistryNonMatchingEventConsumer nonMatchingEventConsumer;
 
     protected boolean enableEventRegistryChangeDetectionAfterEngineCreate = true;
@@ -216,6 +232,10 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
             }
         }
 
+        if (enableOutboundEventOutbox && outboundEventOutboxDispatcherActivate) {
+            outboxEventDispatcher.start();
+        }
+
         return eventRegistryEngine;
     }
 
@@ -265,6 +285,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         initInboundChannelModelCacheManager();
         initChangeDetectionManager();
         initChangeDetectionExecutor();
+        initOutboxEventDispatcher();
     }
 
     // services
@@ -313,6 +334,9 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         if (resourceDataManager == null) {
             resourceDataManager = new MybatisEventResourceDataManager(this);
         }
+        if (outboxEventDataManager == null) {
+            outboxEventDataManager = new MybatisOutboxEventDataManager(this);
+        }
     }
 
     @Override
@@ -330,6 +354,9 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         if (resourceEntityManager == null) {
             resourceEntityManager = new EventResourceEntityManagerImpl(this, resourceDataManager);
         }
+        if (outboxEventEntityManager == null) {
+            outboxEventEntityManager = new OutboxEventEntityManagerImpl(this, outboxEventDataManager);
+        }
     }
 
     // data model ///////////////////////////////////////////////////////////////
@@ -541,7 +568,11 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
 
     public void initOutboundEventProcessor() {
         if (this.outboundEventProcessor == null) {
-            this.outboundEventProcessor = new DefaultOutboundEventProcessor(eventRepositoryService, fallbackToDefaultTenant);
+            if (enableOutboundEventOutbox) {
+                this.outboundEventProcessor = new OutboxOutboundEventProcessor(this);
+            } else {
+                this.outboundEventProcessor = new DefaultOutboundEventProcessor(eventRepositoryService, fallbackToDefaultTenant);
+            }
         }
         this.eventRegistry.setOutboundEventProcessor(outboundEventProcessor);
     }
@@ -582,6 +613,16 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         }
     }
 
+    public void initOutboxEventDispatcher() {
+        if (this.enableOutboundEventOutbox && this.outboxEventDispatcher == null) {
+            this.outboxEventDispatcher = new OutboxEventDispatcher(this)
+                    .setBatchSize(outboundEventOutboxBatchSize)
+                    .setPollIntervalInMillis(outboundEventOutboxPollIntervalInMs)
+                    .setLockTimeInMillis(outboundEventOutboxLockTimeInMs)
+                    .setRetryWaitTimeInMillis(outboundEventOutboxRetryWaitTimeInMs);
+        }
+    }
+
     // myBatis SqlSessionFactory
     // ////////////////////////////////////////////////
 
@@ -853,6 +894,15 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public OutboxEventDataManager getOutboxEventDataManager() {
+        return outboxEventDataManager;
+    }
+
+    public EventRegistryEngineConfiguration setOutboxEventDataManager(OutboxEventDataManager outboxEventDataManager) {
+        this.outboxEventDataManager = outboxEventDataManager;
+        return this;
+    }
+
     public EventDeploymentEntityManager getDeploymentEntityManager() {
         return deploymentEntityManager;
     }
@@ -889,6 +939,15 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public OutboxEventEntityManager getOutboxEventEntityManager() {
+        return outboxEventEntityManager;
+    }
+
+    public EventRegistryEngineConfiguration setOutboxEventEntityManager(OutboxEventEntityManager outboxEventEntityManager) {
+        this.outboxEventEntityManager = outboxEventEntityManager;
+        return this;
+    }
+
     @Override
     public EventRegistryEngineConfiguration setTableDataManager(TableDataManager tableDataManager) {
         this.tableDataManager = tableDataManager;
@@ -987,4 +1046,67 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public boolean isEnableOutboundEventOutbox() {
+        return enableOutboundEventOutbox;
+    }
+
+    public EventRegistryEngineConfiguration setEnableOutboundEventOutbox(boolean enableOutboundEventOutbox) {
+        this.enableOutboundEventOutbox = enableOutboundEventOutbox;
+        return this;
+    }
+
+    public boolean isOutboundEventOutboxDispatcherActivate() {
+        return outboundEventOutboxDispatcherActivate;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventOutboxDispatcherActivate(boolean outboundEventOutboxDispatcherActivate) {
+        this.outboundEventOutboxDispatcherActivate = outboundEventOutboxDispatcherActivate;
+        return this;
+    }
+
+    public int getOutboundEventOutboxBatchSize() {
+        return outboundEventOutboxBatchSize;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventOutboxBatchSize(int outboundEventOutboxBatchSize) {
+        this.outboundEventOutboxBatchSize = outboundEventOutboxBatchSize;
+        return this;
+    }
+
+    public long getOutboundEventOutboxPollIntervalInMs() {
+        return outboundEventOutboxPollIntervalInMs;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventOutboxPollIntervalInMs(long outboundEventOutboxPollIntervalInMs) {
+        this.outboundEventOutboxPollIntervalInMs = outboundEventOutboxPollIntervalInMs;
+        return this;
+    }
+
+    public long getOutboundEventOutboxLockTimeInMs() {
+        return outboundEventOutboxLockTimeInMs;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventOutboxLockTimeInMs(long outboundEventOutboxLockTimeInMs) {
+        this.outboundEventOutboxLockTimeInMs = outboundEventOutboxLockTimeInMs;
+        return this;
+    }
+
+    public long getOutboundEventOutboxRetryWaitTimeInMs() {
+        return outboundEventOutboxRetryWaitTimeInMs;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventOutboxRetryWaitTimeInMs(long outboundEventOutboxRetryWaitTimeInMs) {
+        this.outboundEventOutboxRetryWaitTimeInMs = outboundEventOutboxRetryWaitTimeInMs;
+        return this;
+    }
+
+    public OutboxEventDispatcher getOutboxEventDispatcher() {
+        return outboxEventDispatcher;
+    }
+
+    public EventRegistryEngineConfiguration setOutboxEventDispatcher(OutboxEventDispatcher outboxEventDispatcher) {
+        this.outboxEventDispatcher = outboxEventDispatcher;
+        return this;
+    }
+
 }
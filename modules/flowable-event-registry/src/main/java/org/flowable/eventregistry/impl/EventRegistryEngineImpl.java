@@ -77,6 +77,10 @@ public class EventRegistryEngineImpl implements EventRegistryEngine {
     public void close() {
         EventRegistryEngines.unregister(this);
 
+        if (engineConfiguration.getOutboxEventDispatcher() != null) {
+            engineConfiguration.getOutboxEventDispatcher().shutdown();
+        }
+
         if (engineConfiguration.getEventRegistryChangeDetectionExecutor() != null) {
             engineConfiguration.getEventRegistryChangeDetectionExecutor().shutdown();
         }
@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.eventregistry.api.OutboundEvent;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.outbox.OutboxEventDispatcher;
+import org.flowable.eventregistry.impl.outbox.OutboxEventUtil;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManager;
+import org.flowable.eventregistry.impl.util.CommandContextUtil;
+import org.flowable.eventregistry.model.OutboundChannelModel;
+
+/**
+ * {@link org.flowable.eventregistry.api.OutboundEventProcessor} that stores the serialized outbound events in the outbox table,
+ * as part of the transaction that sends the event, instead of delivering them to the channel adapter directly.
+ * The stored events are delivered after the transaction has committed by the {@link OutboxEventDispatcher}.
+ * <p>
+ * The events of a correlation key are delivered in the order of their sequence. The sequence is strictly increasing for the events stored
+ * by one engine. It is derived from the engine clock, so when multiple nodes share the database the order of the events stored by different
+ * nodes is only approximately their creation order: it depends on the clock skew between the nodes.
+ */
+public class OutboxOutboundEventProcessor extends DefaultOutboundEventProcessor {
+
+    protected static final String DISPATCHER_NOTIFIED_ATTRIBUTE = "outboxEventDispatcherNotified";
+
+    protected EventRegistryEngineConfiguration engineConfiguration;
+    protected AtomicLong lastSequence = new AtomicLong();
+
+    public OutboxOutboundEventProcessor(EventRegistryEngineConfiguration engineConfiguration) {
+        super(engineConfiguration.getEventRepositoryService(), engineConfiguration.isFallbackToDefaultTenant());
+        this.engineConfiguration = engineConfiguration;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    protected void sendEvent(OutboundChannelModel channelModel, OutboundEventChannelAdapter outboundEventChannelAdapter, OutboundEvent<?> outboundEvent) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            engineConfiguration.getCommandExecutor().execute(context -> {
+                storeOutboxEvent(context, channelModel, outboundEvent);
+                return null;
+            });
+        } else {
+            storeOutboxEvent(commandContext, channelModel, outboundEvent);
+        }
+    }
+
+    protected void storeOutboxEvent(CommandContext commandContext, OutboundChannelModel channelModel, OutboundEvent<?> outboundEvent) {
+        Object body = outboundEvent.getBody();
+        if (body != null && !(body instanceof String)) {
+            throw new FlowableException("The outbound event pipeline of channel " + channelModel.getKey()
+                    + " does not serialize to a String, which is required for storing the event in the outbox");
+        }
+
+        EventInstance eventInstance = outboundEvent.getEventInstance();
+        OutboxEventEntityManager outboxEventEntityManager = CommandContextUtil.getOutboxEventEntityManager(commandContext);
+        OutboxEventEntity outboxEvent = outboxEventEntityManager.create();
+        outboxEvent.setEventKey(eventInstance.getEventKey());
+        outboxEvent.setChannelKey(channelModel.getKey());
+        outboxEvent.setTenantId(eventInstance.getTenantId() != null ? eventInstance.getTenantId() : EventRegistryEngineConfiguration.NO_TENANT_ID);
+        outboxEvent.setCorrelationKey(generateCorrelationKey(eventInstance));
+        outboxEvent.setSequence(nextSequence());
+        outboxEvent.setCreateTime(engineConfiguration.getClock().getCurrentTime());
+        outboxEvent.setBody((String) body);
+        outboxEvent.setPayload(OutboxEventUtil.serializePayload(engineConfiguration.getObjectMapper(), eventInstance.getPayloadInstances()));
+        outboxEventEntityManager.insert(outboxEvent);
+
+        notifyDispatcherAfterCommit(commandContext);
+    }
+
+    protected String generateCorrelationKey(EventInstance eventInstance) {
+        if (eventInstance.getCorrelationParameterInstances().isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> correlationData = new HashMap<>();
+        for (EventPayloadInstance correlationParameterInstance : eventInstance.getCorrelationParameterInstances()) {
+            correlationData.put(correlationParameterInstance.getDefinitionName(), correlationParameterInstance.getValue());
+        }
+        return engineConfiguration.getEventRegistry().generateKey(correlationData);
+    }
+
+    /**
+     * The sequence is based on the current time of the engine clock, such that the events of different engines sharing the database are ordered
+     * close to their creation order, and increases for every event created by this engine.
+     */
+    protected long nextSequence() {
+        long timeBasedSequence = engineConfiguration.getClock().getCurrentTime().getTime() * 1000;
+        return lastSequence.updateAndGet(last -> Math.max(last + 1, timeBasedSequence));
+    }
+
+    protected void notifyDispatcherAfterCommit(CommandContext commandContext) {
+        OutboxEventDispatcher outboxEventDispatcher = engineConfiguration.getOutboxEventDispatcher();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (outboxEventDispatcher == null || transactionContext == null || commandContext.getAttribute(DISPATCHER_NOTIFIED_ATTRIBUTE) != null) {
+            return;
+        }
+
+        commandContext.addAttribute(DISPATCHER_NOTIFIED_ATTRIBUTE, Boolean.TRUE);
+        transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> outboxEventDispatcher.wakeUp());
+    }
+
+}
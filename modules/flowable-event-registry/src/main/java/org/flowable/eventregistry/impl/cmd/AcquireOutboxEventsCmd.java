@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.outbox.OutboxEventUtil;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManager;
+import org.flowable.eventregistry.impl.util.CommandContextUtil;
+
+/**
+ * Locks the next outbox events to dispatch for the given lock owner.
+ * When an event can't be locked, the later events with the same ordering key are skipped, to keep delivering them in order.
+ */
+public class AcquireOutboxEventsCmd implements Command<List<OutboxEventEntity>> {
+
+    protected String lockOwner;
+    protected int maxResults;
+    protected long lockTimeInMillis;
+
+    public AcquireOutboxEventsCmd(String lockOwner, int maxResults, long lockTimeInMillis) {
+        this.lockOwner = lockOwner;
+        this.maxResults = maxResults;
+        this.lockTimeInMillis = lockTimeInMillis;
+    }
+
+    @Override
+    public List<OutboxEventEntity> execute(CommandContext commandContext) {
+        EventRegistryEngineConfiguration engineConfiguration = CommandContextUtil.getEventRegistryConfiguration(commandContext);
+        OutboxEventEntityManager outboxEventEntityManager = engineConfiguration.getOutboxEventEntityManager();
+
+        Date now = engineConfiguration.getClock().getCurrentTime();
+        Date lockExpirationTime = new Date(now.getTime() + lockTimeInMillis);
+
+        List<OutboxEventEntity> acquiredOutboxEvents = new ArrayList<>();
+        Set<String> blockedOrderingKeys = new HashSet<>();
+        for (OutboxEventEntity outboxEvent : outboxEventEntityManager.findOutboxEventsToDispatch(now, maxResults)) {
+            String orderingKey = OutboxEventUtil.getOrderingKey(outboxEvent);
+            if (orderingKey != null && blockedOrderingKeys.contains(orderingKey)) {
+                continue;
+            }
+
+            if (outboxEventEntityManager.lockOutboxEvent(outboxEvent.getId(), lockOwner, lockExpirationTime, now)) {
+                outboxEvent.setLockOwner(lockOwner);
+                outboxEvent.setLockExpirationTime(lockExpirationTime);
+                acquiredOutboxEvents.add(outboxEvent);
+
+            } else if (orderingKey != null) {
+                blockedOrderingKeys.add(orderingKey);
+            }
+        }
+        return acquiredOutboxEvents;
+    }
+
+}
@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.cmd;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManager;
+import org.flowable.eventregistry.impl.util.CommandContextUtil;
+
+/**
+ * Stores the outcome of dispatching a batch of outbox events: delivered events are deleted,
+ * failed events are scheduled for a retry and the events that were not dispatched are unlocked.
+ */
+public class CompleteOutboxEventsCmd implements Command<Void> {
+
+    protected static final int MAX_EXCEPTION_MESSAGE_LENGTH = 4000;
+
+    protected String lockOwner;
+    protected Collection<String> deliveredOutboxEventIds;
+    protected Map<String, String> failedOutboxEventMessages;
+    protected Collection<String> releasedOutboxEventIds;
+    protected long retryWaitTimeInMillis;
+
+    public CompleteOutboxEventsCmd(String lockOwner, Collection<String> deliveredOutboxEventIds, Map<String, String> failedOutboxEventMessages,
+            Collection<String> releasedOutboxEventIds, long retryWaitTimeInMillis) {
+        this.lockOwner = lockOwner;
+        this.deliveredOutboxEventIds = deliveredOutboxEventIds;
+        this.failedOutboxEventMessages = failedOutboxEventMessages;
+        this.releasedOutboxEventIds = releasedOutboxEventIds;
+        this.retryWaitTimeInMillis = retryWaitTimeInMillis;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        EventRegistryEngineConfiguration engineConfiguration = CommandContextUtil.getEventRegistryConfiguration(commandContext);
+        OutboxEventEntityManager outboxEventEntityManager = engineConfiguration.getOutboxEventEntityManager();
+
+        for (String outboxEventId : deliveredOutboxEventIds) {
+            outboxEventEntityManager.deleteOutboxEvent(outboxEventId);
+        }
+
+        if (!failedOutboxEventMessages.isEmpty()) {
+            Date retryTime = new Date(engineConfiguration.getClock().getCurrentTime().getTime() + retryWaitTimeInMillis);
+            for (Map.Entry<String, String> failedOutboxEvent : failedOutboxEventMessages.entrySet()) {
+                outboxEventEntityManager.failOutboxEvent(failedOutboxEvent.getKey(), lockOwner, retryTime, truncate(failedOutboxEvent.getValue()));
+            }
+        }
+
+        for (String outboxEventId : releasedOutboxEventIds) {
+            outboxEventEntityManager.unlockOutboxEvent(outboxEventId, lockOwner);
+        }
+
+        return null;
+    }
+
+    protected String truncate(String exceptionMessage) {
+        if (exceptionMessage != null && exceptionMessage.length() > MAX_EXCEPTION_MESSAGE_LENGTH) {
+            return exceptionMessage.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+        }
+        return exceptionMessage;
+    }
+
+}
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.cmd;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.eventregistry.api.management.OutboundEventOutboxStatistics;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.outbox.OutboundEventOutboxStatisticsImpl;
+import org.flowable.eventregistry.impl.outbox.OutboxEventDispatcher;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManager;
+import org.flowable.eventregistry.impl.util.CommandContextUtil;
+
+public class GetOutboundEventOutboxStatisticsCmd implements Command<OutboundEventOutboxStatistics> {
+
+    @Override
+    public OutboundEventOutboxStatistics execute(CommandContext commandContext) {
+        EventRegistryEngineConfiguration engineConfiguration = CommandContextUtil.getEventRegistryConfiguration(commandContext);
+        OutboxEventEntityManager outboxEventEntityManager = engineConfiguration.getOutboxEventEntityManager();
+
+        OutboundEventOutboxStatisticsImpl statistics = new OutboundEventOutboxStatisticsImpl();
+        statistics.setPendingEventCount(outboxEventEntityManager.countOutboxEvents());
+        Date oldestPendingEventTime = outboxEventEntityManager.findOldestOutboxEventCreateTime();
+        statistics.setOldestPendingEventTime(oldestPendingEventTime);
+        if (oldestPendingEventTime != null) {
+            statistics.setCurrentLagInMillis(Math.max(0, engineConfiguration.getClock().getCurrentTime().getTime() - oldestPendingEventTime.getTime()));
+        }
+
+        OutboxEventDispatcher outboxEventDispatcher = engineConfiguration.getOutboxEventDispatcher();
+        if (outboxEventDispatcher != null) {
+            statistics.setDispatchedEventCount(outboxEventDispatcher.getDispatchedEventCount());
+            statistics.setFailedDispatchCount(outboxEventDispatcher.getFailedDispatchCount());
+            statistics.setAverageDispatchLagInMillis(outboxEventDispatcher.getAverageDispatchLagInMillis());
+            statistics.setMaxDispatchLagInMillis(outboxEventDispatcher.getMaxDispatchLagInMillis());
+        }
+        return statistics;
+    }
+
+}
@@ -18,15 +18,20 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.cache.EventSubscriptionLookupCache;
+import org.flowable.eventregistry.api.EventConsumerInfo;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
@@ -37,6 +42,8 @@ import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
@@ -44,6 +51,8 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseEventRegistryEventConsumer.class);
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -67,6 +76,156 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract EventRegistryProcessingInfo eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles a batch of events:
+     * <ul>
+     * <li>The event subscriptions of all events are looked up with one query per event type and tenant.</li>
+     * <li>The instances waiting for the events are triggered together in one transaction.
+     * When that transaction fails, the events are handled one by one, such that a failing event doesn't prevent handling the other events.</li>
+     * <li>All other event subscriptions (e.g. starting a new instance) are handled one by one, like for a single event.</li>
+     * </ul>
+     * Consumers that don't provide a {@link #getScopeType() scope type} handle the events one by one through {@link #eventReceived(EventInstance)}.
+     */
+    @Override
+    public List<EventRegistryProcessingInfo> eventsReceived(List<EventRegistryEvent> events) {
+        if (getScopeType() == null) {
+            return EventRegistryEventConsumer.super.eventsReceived(events);
+        }
+
+        List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(events.size());
+        List<BatchedEventInstance> batchedEventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            EventRegistryProcessingInfo processingInfo = new EventRegistryProcessingInfo();
+            processingInfos.add(processingInfo);
+
+            if (event.getEventObject() instanceof EventInstance) {
+                EventInstance eventInstance = (EventInstance) event.getEventObject();
+                batchedEventInstances.add(new BatchedEventInstance(eventInstance,
+                        generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()), processingInfo));
+
+            } else if (event.getEventObject() == null) {
+                processingInfo.setFailure(new FlowableIllegalArgumentException("No event object was passed to the consumer"));
+
+            } else {
+                processingInfo.setFailure(new FlowableIllegalArgumentException("Unsupported event object type: " + event.getEventObject().getClass()));
+
+            }
+        }
+
+        if (batchedEventInstances.isEmpty()) {
+            return processingInfos;
+        }
+
+        try {
+            findEventSubscriptions(getScopeType(), batchedEventInstances);
+
+        } catch (RuntimeException e) {
+            for (BatchedEventInstance batchedEventInstance : batchedEventInstances) {
+                batchedEventInstance.processingInfo.setFailure(e);
+            }
+            return processingInfos;
+        }
+
+        handleWaitingInstanceEventSubscriptions(batchedEventInstances);
+
+        for (BatchedEventInstance batchedEventInstance : batchedEventInstances) {
+            if (!batchedEventInstance.processingInfo.hasFailed()) {
+                try {
+                    handleEventSubscriptions(batchedEventInstance, batchedEventInstance.otherEventSubscriptions);
+                } catch (RuntimeException e) {
+                    batchedEventInstance.processingInfo.setFailure(e);
+                }
+            }
+        }
+
+        return processingInfos;
+    }
+
+    protected void handleWaitingInstanceEventSubscriptions(List<BatchedEventInstance> batchedEventInstances) {
+        List<BatchedEventInstance> eventInstancesWithWaitingInstances = new ArrayList<>();
+        for (BatchedEventInstance batchedEventInstance : batchedEventInstances) {
+            if (!batchedEventInstance.waitingInstanceEventSubscriptions.isEmpty()) {
+                eventInstancesWithWaitingInstances.add(batchedEventInstance);
+            }
+        }
+
+        if (eventInstancesWithWaitingInstances.isEmpty()) {
+            return;
+        }
+
+        try {
+            // The commands of the triggers reuse the command context, hence all waiting instances are triggered in one transaction
+            List<List<EventConsumerInfo>> eventConsumerInfos = commandExecutor.execute(commandContext -> {
+                List<List<EventConsumerInfo>> result = new ArrayList<>(eventInstancesWithWaitingInstances.size());
+                for (BatchedEventInstance batchedEventInstance : eventInstancesWithWaitingInstances) {
+                    List<EventConsumerInfo> eventInstanceConsumerInfos = new ArrayList<>();
+                    for (EventSubscription eventSubscription : batchedEventInstance.waitingInstanceEventSubscriptions) {
+                        EventConsumerInfo eventConsumerInfo = createEventConsumerInfo(eventSubscription);
+                        handleEventSubscription(eventSubscription, batchedEventInstance.eventInstance, batchedEventInstance.correlationKeys, eventConsumerInfo);
+                        eventInstanceConsumerInfos.add(eventConsumerInfo);
+                    }
+                    result.add(eventInstanceConsumerInfos);
+                }
+                return result;
+            });
+
+            for (int i = 0; i < eventInstancesWithWaitingInstances.size(); i++) {
+                EventRegistryProcessingInfo processingInfo = eventInstancesWithWaitingInstances.get(i).processingInfo;
+                for (EventConsumerInfo eventConsumerInfo : eventConsumerInfos.get(i)) {
+                    processingInfo.addEventConsumerInfo(eventConsumerInfo);
+                }
+            }
+
+        } catch (RuntimeException e) {
+            LOGGER.debug("Triggering the waiting instances of {} events in one transaction failed, triggering them per event", eventInstancesWithWaitingInstances.size(), e);
+
+            for (BatchedEventInstance batchedEventInstance : eventInstancesWithWaitingInstances) {
+                try {
+                    handleEventSubscriptions(batchedEventInstance, batchedEventInstance.waitingInstanceEventSubscriptions);
+                } catch (RuntimeException eventException) {
+                    batchedEventInstance.processingInfo.setFailure(eventException);
+                }
+            }
+        }
+    }
+
+    protected void handleEventSubscriptions(BatchedEventInstance batchedEventInstance, List<EventSubscription> eventSubscriptions) {
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            EventConsumerInfo eventConsumerInfo = createEventConsumerInfo(eventSubscription);
+            handleEventSubscription(eventSubscription, batchedEventInstance.eventInstance, batchedEventInstance.correlationKeys, eventConsumerInfo);
+            batchedEventInstance.processingInfo.addEventConsumerInfo(eventConsumerInfo);
+        }
+    }
+
+    /**
+     * @return the scope type of the event subscriptions handled by this consumer,
+     *         or null when the consumer doesn't support batch processing and handles batches event by event (the default)
+     */
+    protected String getScopeType() {
+        return null;
+    }
+
+    protected EventConsumerInfo createEventConsumerInfo(EventSubscription eventSubscription) {
+        return new EventConsumerInfo(eventSubscription.getId(), eventSubscription.getSubScopeId(), eventSubscription.getScopeDefinitionId(), getScopeType());
+    }
+
+    /**
+     * @return true if the event subscription belongs to an instance that is waiting for the event (and not e.g. to a start event).
+     *         By default, all event subscriptions are handled one by one.
+     */
+    protected boolean isWaitingInstanceEventSubscription(EventSubscription eventSubscription) {
+        return false;
+    }
+
+    /**
+     * Handles one event subscription of a batch. Consumers that support batch processing by providing a {@link #getScopeType() scope type}
+     * need to override this.
+     */
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance,
+            Collection<CorrelationKey> correlationKeys, EventConsumerInfo eventConsumerInfo) {
+        throw new FlowableException(getClass().getName() + " provides a scope type for batch processing, but doesn't handle event subscriptions");
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -116,58 +275,194 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     }
 
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
-        return commandExecutor.execute(commandContext -> {
+        EventSubscriptionLookupCache eventSubscriptionLookupCache = getEventSubscriptionLookupCache();
+        if (eventSubscriptionLookupCache == null) {
+            return findEventSubscriptionsInDatabase(scopeType, eventInstance, correlationKeys);
+        }
 
-            EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
-                .eventType(eventInstance.getEventKey())
-                .scopeType(scopeType);
+        String eventType = eventInstance.getEventKey();
+        String lookupKey = createEventSubscriptionLookupKey(scopeType, eventInstance, correlationKeys);
+        if (eventSubscriptionLookupCache.hasNoSubscriptions(eventType, lookupKey)) {
+            return Collections.emptyList();
+        }
 
-            if (!correlationKeys.isEmpty()) {
+        // The version needs to be retrieved before the query, such that an event subscription inserted during the query prevents caching its outcome
+        long version = eventSubscriptionLookupCache.getVersion(eventType);
+        List<EventSubscription> eventSubscriptions = findEventSubscriptionsInDatabase(scopeType, eventInstance, correlationKeys);
+        if (eventSubscriptions.isEmpty()) {
+            eventSubscriptionLookupCache.registerNoSubscriptions(eventType, lookupKey, version);
+        }
+        return eventSubscriptions;
+    }
 
-                Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+    /**
+     * Looks up the event subscriptions of a batch of event instances, with one query for all event instances of the same event type and tenant.
+     */
+    protected void findEventSubscriptions(String scopeType, List<BatchedEventInstance> batchedEventInstances) {
+        EventSubscriptionLookupCache eventSubscriptionLookupCache = getEventSubscriptionLookupCache();
+
+        Map<String, List<BatchedEventInstance>> eventInstancesByEventTypeAndTenant = new LinkedHashMap<>();
+        for (BatchedEventInstance batchedEventInstance : batchedEventInstances) {
+            EventInstance eventInstance = batchedEventInstance.eventInstance;
+            if (eventSubscriptionLookupCache != null) {
+                batchedEventInstance.lookupKey = createEventSubscriptionLookupKey(scopeType, eventInstance, batchedEventInstance.correlationKeys);
+                if (eventSubscriptionLookupCache.hasNoSubscriptions(eventInstance.getEventKey(), batchedEventInstance.lookupKey)) {
+                    continue;
+                }
+            }
 
-                eventSubscriptionQuery.or()
-                    .withoutConfiguration()
-                    .configurations(allCorrelationKeyValues)
-                    .endOr();
+            eventInstancesByEventTypeAndTenant
+                    .computeIfAbsent(eventInstance.getEventKey() + '|' + eventInstance.getTenantId(), key -> new ArrayList<>())
+                    .add(batchedEventInstance);
+        }
 
-            } else {
-                eventSubscriptionQuery.withoutConfiguration();
+        if (eventInstancesByEventTypeAndTenant.isEmpty()) {
+            return;
+        }
+
+        commandExecutor.execute(commandContext -> {
+            for (List<BatchedEventInstance> eventInstances : eventInstancesByEventTypeAndTenant.values()) {
+                EventInstance eventInstance = eventInstances.get(0).eventInstance;
+                long version = eventSubscriptionLookupCache != null ? eventSubscriptionLookupCache.getVersion(eventInstance.getEventKey()) : 0L;
+
+                Set<String> allCorrelationKeyValues = new HashSet<>();
+                for (BatchedEventInstance batchedEventInstance : eventInstances) {
+                    allCorrelationKeyValues.addAll(batchedEventInstance.correlationKeyValues);
+                }
+
+                List<EventSubscription> eventSubscriptions = createEventSubscriptionQuery(scopeType, eventInstance, allCorrelationKeyValues).list();
+                for (BatchedEventInstance batchedEventInstance : eventInstances) {
+                    for (EventSubscription eventSubscription : eventSubscriptions) {
+                        if (eventSubscription.getConfiguration() == null || batchedEventInstance.correlationKeyValues.contains(eventSubscription.getConfiguration())) {
+                            batchedEventInstance.addEventSubscription(eventSubscription, isWaitingInstanceEventSubscription(eventSubscription));
+                        }
+                    }
 
+                    if (eventSubscriptionLookupCache != null && !batchedEventInstance.hasEventSubscriptions()) {
+                        eventSubscriptionLookupCache.registerNoSubscriptions(eventInstance.getEventKey(), batchedEventInstance.lookupKey, version);
+                    }
+                }
             }
+            return null;
+        });
+    }
 
-            String eventInstanceTenantId = eventInstance.getTenantId();
-            if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+    protected List<EventSubscription> findEventSubscriptionsInDatabase(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
+        Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+        return commandExecutor.execute(commandContext -> createEventSubscriptionQuery(scopeType, eventInstance, allCorrelationKeyValues).list());
+    }
 
-                EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+    /**
+     * Creates the query for the event subscriptions of the event type and tenant of the event instance,
+     * which are either without configuration or have one of the given correlation key values as configuration.
+     */
+    protected EventSubscriptionQuery createEventSubscriptionQuery(String scopeType, EventInstance eventInstance, Set<String> correlationKeyValues) {
+        EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
+            .eventType(eventInstance.getEventKey())
+            .scopeType(scopeType);
 
-                if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
-                    String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
-                        .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+        if (!correlationKeyValues.isEmpty()) {
 
-                    if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
-                        eventSubscriptionQuery.or()
-                            .tenantId(eventInstance.getTenantId())
-                            .withoutTenantId()
-                        .endOr();
+            eventSubscriptionQuery.or()
+                .withoutConfiguration()
+                .configurations(correlationKeyValues)
+                .endOr();
 
-                    } else {
-                        eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
+        } else {
+            eventSubscriptionQuery.withoutConfiguration();
 
-                    }
+        }
+
+        String eventInstanceTenantId = eventInstance.getTenantId();
+        if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+
+            EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+
+            if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
+                String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
+                    .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+
+                if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
+                    eventSubscriptionQuery.or()
+                        .tenantId(eventInstance.getTenantId())
+                        .withoutTenantId()
+                    .endOr();
 
                 } else {
-                    eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+                    eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
 
                 }
 
+            } else {
+                eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+
             }
 
-            return eventSubscriptionQuery.list();
+        }
 
-        });
+        return eventSubscriptionQuery;
+    }
+
+    /**
+     * The key of a lookup contains everything the event subscription query depends on, besides the event type.
+     */
+    protected String createEventSubscriptionLookupKey(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        StringBuilder lookupKey = new StringBuilder()
+                .append(scopeType)
+                .append('|')
+                .append(eventInstance.getTenantId());
+
+        if (!correlationKeys.isEmpty()) {
+            Set<String> sortedCorrelationKeyValues = new TreeSet<>();
+            for (CorrelationKey correlationKey : correlationKeys) {
+                sortedCorrelationKeyValues.add(correlationKey.getValue());
+            }
+
+            for (String correlationKeyValue : sortedCorrelationKeyValues) {
+                lookupKey.append('|').append(correlationKeyValue);
+            }
+        }
+
+        return lookupKey.toString();
+    }
+
+    /**
+     * @return the cache of event subscription lookups without result, or null when lookups shouldn't be cached
+     */
+    protected EventSubscriptionLookupCache getEventSubscriptionLookupCache() {
+        return null;
     }
 
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
 
+    protected static class BatchedEventInstance {
+
+        protected final EventInstance eventInstance;
+        protected final Collection<CorrelationKey> correlationKeys;
+        protected final Set<String> correlationKeyValues;
+        protected final EventRegistryProcessingInfo processingInfo;
+        protected final List<EventSubscription> waitingInstanceEventSubscriptions = new ArrayList<>();
+        protected final List<EventSubscription> otherEventSubscriptions = new ArrayList<>();
+        protected String lookupKey;
+
+        protected BatchedEventInstance(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys, EventRegistryProcessingInfo processingInfo) {
+            this.eventInstance = eventInstance;
+            this.correlationKeys = correlationKeys;
+            this.correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+            this.processingInfo = processingInfo;
+        }
+
+        protected void addEventSubscription(EventSubscription eventSubscription, boolean waitingInstance) {
+            if (waitingInstance) {
+                waitingInstanceEventSubscriptions.add(eventSubscription);
+            } else {
+                otherEventSubscriptions.add(eventSubscription);
+            }
+        }
+
+        protected boolean hasEventSubscriptions() {
+            return !waitingInstanceEventSubscriptions.isEmpty() || !otherEventSubscriptions.isEmpty();
+        }
+    }
+
 }
@@ -22,6 +22,7 @@ import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntit
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityImpl;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityImpl;
 
 public class EntityDependencyOrder {
 
@@ -35,6 +36,7 @@ public class EntityDependencyOrder {
         DELETE_ORDER.add(EventDeploymentEntityImpl.class);
         DELETE_ORDER.add(EventDefinitionEntityImpl.class);
         DELETE_ORDER.add(ChannelDefinitionEntityImpl.class);
+        DELETE_ORDER.add(OutboxEventEntityImpl.class);
         
         INSERT_ORDER = new ArrayList<>(DELETE_ORDER);
         Collections.reverse(INSERT_ORDER);
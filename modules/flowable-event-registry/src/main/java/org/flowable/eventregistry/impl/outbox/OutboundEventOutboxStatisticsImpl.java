@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.outbox;
+
+import java.util.Date;
+
+import org.flowable.eventregistry.api.management.OutboundEventOutboxStatistics;
+
+public class OutboundEventOutboxStatisticsImpl implements OutboundEventOutboxStatistics {
+
+    protected long pendingEventCount;
+    protected Date oldestPendingEventTime;
+    protected long currentLagInMillis;
+    protected long dispatchedEventCount;
+    protected long failedDispatchCount;
+    protected long averageDispatchLagInMillis;
+    protected long maxDispatchLagInMillis;
+
+    @Override
+    public long getPendingEventCount() {
+        return pendingEventCount;
+    }
+
+    public void setPendingEventCount(long pendingEventCount) {
+        this.pendingEventCount = pendingEventCount;
+    }
+
+    @Override
+    public Date getOldestPendingEventTime() {
+        return oldestPendingEventTime;
+    }
+
+    public void setOldestPendingEventTime(Date oldestPendingEventTime) {
+        this.oldestPendingEventTime = oldestPendingEventTime;
+    }
+
+    @Override
+    public long getCurrentLagInMillis() {
+        return currentLagInMillis;
+    }
+
+    public void setCurrentLagInMillis(long currentLagInMillis) {
+        this.currentLagInMillis = currentLagInMillis;
+    }
+
+    @Override
+    public long getDispatchedEventCount() {
+        return dispatchedEventCount;
+    }
+
+    public void setDispatchedEventCount(long dispatchedEventCount) {
+        this.dispatchedEventCount = dispatchedEventCount;
+    }
+
+    @Override
+    public long getFailedDispatchCount() {
+        return failedDispatchCount;
+    }
+
+    public void setFailedDispatchCount(long failedDispatchCount) {
+        this.failedDispatchCount = failedDispatchCount;
+    }
+
+    @Override
+    public long getAverageDispatchLagInMillis() {
+        return averageDispatchLagInMillis;
+    }
+
+    public void setAverageDispatchLagInMillis(long averageDispatchLagInMillis) {
+        this.averageDispatchLagInMillis = averageDispatchLagInMillis;
+    }
+
+    @Override
+    public long getMaxDispatchLagInMillis() {
+        return maxDispatchLagInMillis;
+    }
+
+    public void setMaxDispatchLagInMillis(long maxDispatchLagInMillis) {
+        this.maxDispatchLagInMillis = maxDispatchLagInMillis;
+    }
+}
@@ -0,0 +1,379 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.outbox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.DefaultOutboundEvent;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.cmd.AcquireOutboxEventsCmd;
+import org.flowable.eventregistry.impl.cmd.CompleteOutboxEventsCmd;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
+import org.flowable.eventregistry.model.ChannelModel;
+import org.flowable.eventregistry.model.OutboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers the events stored in the outbox by the {@link org.flowable.eventregistry.impl.OutboxOutboundEventProcessor} to their channel adapters.
+ *
+ * The dispatcher locks a batch of events, hands them to the channel adapters using {@link OutboundEventChannelAdapter#sendEventAsync},
+ * and waits for all of them to be acknowledged before deleting the delivered events in one transaction.
+ * Events with the same ordering key (channel and correlation key) are sent one after the other, in the order they were created,
+ * while events with different ordering keys are sent concurrently. When the delivery of an event fails,
+ * the later events with the same ordering key are kept until the failed event has been delivered on a retry.
+ *
+ * The dispatcher runs in its own thread, polling the outbox at a fixed interval and being woken up after a transaction storing events has committed.
+ */
+public class OutboxEventDispatcher implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxEventDispatcher.class);
+
+    protected EventRegistryEngineConfiguration engineConfiguration;
+
+    protected String lockOwner = UUID.randomUUID().toString();
+    protected int batchSize = 100;
+    protected long pollIntervalInMillis = 1000L;
+    protected long lockTimeInMillis = 60000L;
+    protected long retryWaitTimeInMillis = 10000L;
+    protected String threadName = "flowable-event-outbox-dispatcher";
+
+    protected final Object monitor = new Object();
+    protected volatile boolean active;
+    protected boolean wakeUpRequested;
+    protected Thread thread;
+
+    protected final AtomicLong dispatchedEventCount = new AtomicLong();
+    protected final AtomicLong failedDispatchCount = new AtomicLong();
+    protected final AtomicLong totalDispatchLagInMillis = new AtomicLong();
+    protected final AtomicLong maxDispatchLagInMillis = new AtomicLong();
+
+    public OutboxEventDispatcher(EventRegistryEngineConfiguration engineConfiguration) {
+        this.engineConfiguration = engineConfiguration;
+    }
+
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+
+        active = true;
+        thread = new Thread(this, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void shutdown() {
+        if (!active) {
+            return;
+        }
+
+        active = false;
+        wakeUp();
+        try {
+            thread.join(pollIntervalInMillis + lockTimeInMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    /**
+     * Triggers a dispatch cycle without waiting for the poll interval to pass, e.g. after events have been stored in the outbox.
+     */
+    public void wakeUp() {
+        synchronized (monitor) {
+            wakeUpRequested = true;
+            monitor.notifyAll();
+        }
+    }
+
+    @Override
+    public void run() {
+        LOGGER.info("starting outbox event dispatcher {}", lockOwner);
+
+        boolean fullBatch = false;
+        while (active) {
+            if (!fullBatch) {
+                waitForNextCycle();
+                if (!active) {
+                    break;
+                }
+            }
+
+            try {
+                fullBatch = dispatchOutboxEvents() >= batchSize;
+            } catch (Throwable t) {
+                fullBatch = false;
+                LOGGER.warn("exception while dispatching outbox events", t);
+            }
+        }
+
+        LOGGER.info("outbox event dispatcher {} stopped", lockOwner);
+    }
+
+    protected void waitForNextCycle() {
+        synchronized (monitor) {
+            try {
+                if (!wakeUpRequested) {
+                    monitor.wait(pollIntervalInMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                active = false;
+            }
+            wakeUpRequested = false;
+        }
+    }
+
+    /**
+     * Dispatches one batch of outbox events and waits until they have all been acknowledged or have failed.
+     *
+     * @return the number of events that were locked for dispatching
+     */
+    public int dispatchOutboxEvents() {
+        List<OutboxEventEntity> outboxEvents = engineConfiguration.getCommandExecutor()
+                .execute(new AcquireOutboxEventsCmd(lockOwner, batchSize, lockTimeInMillis));
+        if (outboxEvents.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, ChannelModel> channelModels = new HashMap<>();
+        Map<String, CompletableFuture<Boolean>> lastDeliveryByOrderingKey = new HashMap<>();
+        Map<OutboxEventEntity, CompletableFuture<Boolean>> deliveries = new LinkedHashMap<>();
+        Map<String, String> failedOutboxEventMessages = new HashMap<>();
+
+        for (OutboxEventEntity outboxEvent : outboxEvents) {
+            String orderingKey = OutboxEventUtil.getOrderingKey(outboxEvent);
+            CompletableFuture<Boolean> previousDelivery = orderingKey != null ? lastDeliveryByOrderingKey.get(orderingKey) : null;
+
+            CompletableFuture<Boolean> delivery;
+            if (previousDelivery == null) {
+                delivery = sendOutboxEvent(outboxEvent, channelModels, failedOutboxEventMessages);
+            } else {
+                // Only send the event once the previous event with the same ordering key has been delivered
+                delivery = previousDelivery.thenCompose(previousDelivered -> previousDelivered
+                        ? sendOutboxEvent(outboxEvent, channelModels, failedOutboxEventMessages)
+                        : CompletableFuture.completedFuture(Boolean.FALSE));
+            }
+
+            deliveries.put(outboxEvent, delivery);
+            if (orderingKey != null) {
+                lastDeliveryByOrderingKey.put(orderingKey, delivery);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(deliveries.values().toArray(new CompletableFuture[0])).get(lockTimeInMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.warn("not all outbox events were acknowledged within the lock time", e);
+        }
+
+        List<String> deliveredOutboxEventIds = new ArrayList<>();
+        List<String> releasedOutboxEventIds = new ArrayList<>();
+        Map<String, String> failedMessages;
+        synchronized (failedOutboxEventMessages) {
+            failedMessages = new HashMap<>(failedOutboxEventMessages);
+        }
+
+        for (Map.Entry<OutboxEventEntity, CompletableFuture<Boolean>> delivery : deliveries.entrySet()) {
+            String outboxEventId = delivery.getKey().getId();
+            if (failedMessages.containsKey(outboxEventId)) {
+                continue;
+            }
+
+            if (delivery.getValue().isDone() && Boolean.TRUE.equals(delivery.getValue().getNow(Boolean.FALSE))) {
+                deliveredOutboxEventIds.add(outboxEventId);
+            } else {
+                releasedOutboxEventIds.add(outboxEventId);
+            }
+        }
+
+        engineConfiguration.getCommandExecutor().execute(new CompleteOutboxEventsCmd(lockOwner, deliveredOutboxEventIds, failedMessages,
+                releasedOutboxEventIds, retryWaitTimeInMillis));
+
+        return outboxEvents.size();
+    }
+
+    /**
+     * @return a future completing with true when the event was delivered, or false when it failed
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected CompletableFuture<Boolean> sendOutboxEvent(OutboxEventEntity outboxEvent, Map<String, ChannelModel> channelModels,
+            Map<String, String> failedOutboxEventMessages) {
+
+        CompletableFuture<Void> sendFuture;
+        try {
+            OutboundChannelModel channelModel = (OutboundChannelModel) getChannelModel(outboxEvent, channelModels);
+            OutboundEventChannelAdapter outboundEventChannelAdapter = (OutboundEventChannelAdapter) channelModel.getOutboundEventChannelAdapter();
+            if (outboundEventChannelAdapter == null) {
+                throw new FlowableException("Could not find an outbound channel adapter for channel " + channelModel.getKey());
+            }
+
+            Collection<EventPayloadInstance> payloadInstances = OutboxEventUtil.deserializePayload(engineConfiguration.getObjectMapper(), outboxEvent.getPayload());
+            EventInstanceImpl eventInstance = new EventInstanceImpl(outboxEvent.getEventKey(), payloadInstances, outboxEvent.getTenantId());
+            Map<String, Object> headerMap = new HashMap<>();
+            for (EventPayloadInstance headerInstance : eventInstance.getHeaderInstances()) {
+                headerMap.put(headerInstance.getDefinitionName(), headerInstance.getValue());
+            }
+
+            sendFuture = outboundEventChannelAdapter.sendEventAsync(new DefaultOutboundEvent(outboxEvent.getBody(), eventInstance, headerMap));
+
+        } catch (RuntimeException e) {
+            sendFuture = CompletableFuture.failedFuture(e);
+        }
+
+        return sendFuture.handle((result, exception) -> {
+            if (exception != null) {
+                failedDispatchCount.incrementAndGet();
+                LOGGER.warn("failed to deliver outbox event {} of event {} to channel {}", outboxEvent.getId(), outboxEvent.getEventKey(),
+                        outboxEvent.getChannelKey(), exception);
+                synchronized (failedOutboxEventMessages) {
+                    failedOutboxEventMessages.put(outboxEvent.getId(), getExceptionMessage(exception));
+                }
+                return Boolean.FALSE;
+            }
+
+            recordDispatch(outboxEvent);
+            return Boolean.TRUE;
+        });
+    }
+
+    protected ChannelModel getChannelModel(OutboxEventEntity outboxEvent, Map<String, ChannelModel> channelModels) {
+        String cacheKey = outboxEvent.getChannelKey() + "|" + outboxEvent.getTenantId();
+        synchronized (channelModels) {
+            ChannelModel channelModel = channelModels.get(cacheKey);
+            if (channelModel == null) {
+                try {
+                    channelModel = engineConfiguration.getEventRepositoryService().getChannelModelByKey(outboxEvent.getChannelKey(), outboxEvent.getTenantId());
+                } catch (FlowableObjectNotFoundException e) {
+                    // The channel of a tenant specific event can be shared by all tenants
+                    channelModel = engineConfiguration.getEventRepositoryService().getChannelModelByKey(outboxEvent.getChannelKey());
+                }
+                channelModels.put(cacheKey, channelModel);
+            }
+            return channelModel;
+        }
+    }
+
+    protected void recordDispatch(OutboxEventEntity outboxEvent) {
+        dispatchedEventCount.incrementAndGet();
+        if (outboxEvent.getCreateTime() != null) {
+            long lag = Math.max(0, engineConfiguration.getClock().getCurrentTime().getTime() - outboxEvent.getCreateTime().getTime());
+            totalDispatchLagInMillis.addAndGet(lag);
+            maxDispatchLagInMillis.accumulateAndGet(lag, Math::max);
+        }
+    }
+
+    protected String getExceptionMessage(Throwable exception) {
+        Throwable cause = exception;
+        while (cause.getCause() != null && (cause instanceof ExecutionException || cause instanceof CompletionException)) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+    }
+
+    public long getDispatchedEventCount() {
+        return dispatchedEventCount.get();
+    }
+
+    public long getFailedDispatchCount() {
+        return failedDispatchCount.get();
+    }
+
+    public long getAverageDispatchLagInMillis() {
+        long dispatched = dispatchedEventCount.get();
+        return dispatched > 0 ? totalDispatchLagInMillis.get() / dispatched : 0;
+    }
+
+    public long getMaxDispatchLagInMillis() {
+        return maxDispatchLagInMillis.get();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public String getLockOwner() {
+        return lockOwner;
+    }
+
+    public OutboxEventDispatcher setLockOwner(String lockOwner) {
+        this.lockOwner = lockOwner;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public OutboxEventDispatcher setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public long getPollIntervalInMillis() {
+        return pollIntervalInMillis;
+    }
+
+    public OutboxEventDispatcher setPollIntervalInMillis(long pollIntervalInMillis) {
+        this.pollIntervalInMillis = pollIntervalInMillis;
+        return this;
+    }
+
+    public long getLockTimeInMillis() {
+        return lockTimeInMillis;
+    }
+
+    public OutboxEventDispatcher setLockTimeInMillis(long lockTimeInMillis) {
+        this.lockTimeInMillis = lockTimeInMillis;
+        return this;
+    }
+
+    public long getRetryWaitTimeInMillis() {
+        return retryWaitTimeInMillis;
+    }
+
+    public OutboxEventDispatcher setRetryWaitTimeInMillis(long retryWaitTimeInMillis) {
+        this.retryWaitTimeInMillis = retryWaitTimeInMillis;
+        return this;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public OutboxEventDispatcher setThreadName(String threadName) {
+        this.threadName = threadName;
+        return this;
+    }
+}
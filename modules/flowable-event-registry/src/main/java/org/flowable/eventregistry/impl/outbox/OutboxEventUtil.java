@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.outbox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
+import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
+import org.flowable.eventregistry.model.EventPayload;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class OutboxEventUtil {
+
+    /**
+     * Returns the key of the events that need to be delivered in the order they were created,
+     * or null if the event can be delivered independently of the other events.
+     */
+    public static String getOrderingKey(OutboxEventEntity outboxEvent) {
+        if (outboxEvent.getCorrelationKey() == null) {
+            return null;
+        }
+        return outboxEvent.getChannelKey() + "|" + outboxEvent.getCorrelationKey();
+    }
+
+    /**
+     * Serializes the payload instances, together with their definition, such that the event instance can be recreated when the event is dispatched.
+     * Values that aren't strings, numbers, booleans or JSON are stored as their string representation.
+     */
+    public static String serializePayload(ObjectMapper objectMapper, Collection<EventPayloadInstance> payloadInstances) {
+        ArrayNode payloadNode = objectMapper.createArrayNode();
+        for (EventPayloadInstance payloadInstance : payloadInstances) {
+            Object value = payloadInstance.getValue();
+            if (value == null) {
+                continue;
+            }
+
+            EventPayload definition = payloadInstance.getEventPayloadDefinition();
+            ObjectNode payloadInstanceNode = payloadNode.addObject();
+            payloadInstanceNode.put("name", definition.getName());
+            payloadInstanceNode.put("type", definition.getType());
+            if (definition.isHeader()) {
+                payloadInstanceNode.put("header", true);
+            }
+            if (definition.isCorrelationParameter()) {
+                payloadInstanceNode.put("correlationParameter", true);
+            }
+
+            if (value instanceof JsonNode) {
+                payloadInstanceNode.set("value", (JsonNode) value);
+            } else if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+                payloadInstanceNode.set("value", objectMapper.valueToTree(value));
+            } else {
+                payloadInstanceNode.put("value", value.toString());
+            }
+        }
+
+        try {
+            return objectMapper.writeValueAsString(payloadNode);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not serialize the payload of the outbound event", e);
+        }
+    }
+
+    public static Collection<EventPayloadInstance> deserializePayload(ObjectMapper objectMapper, String payload) {
+        List<EventPayloadInstance> payloadInstances = new ArrayList<>();
+        if (payload == null) {
+            return payloadInstances;
+        }
+
+        JsonNode payloadNode;
+        try {
+            payloadNode = objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not deserialize the payload of the outbound event", e);
+        }
+
+        for (JsonNode payloadInstanceNode : payloadNode) {
+            EventPayload definition = new EventPayload(payloadInstanceNode.path("name").asText(), payloadInstanceNode.path("type").asText(null));
+            definition.setHeader(payloadInstanceNode.path("header").asBoolean(false));
+            definition.setCorrelationParameter(payloadInstanceNode.path("correlationParameter").asBoolean(false));
+            payloadInstances.add(new EventPayloadInstanceImpl(definition, getValue(definition.getType(), payloadInstanceNode.get("value"))));
+        }
+        return payloadInstances;
+    }
+
+    protected static Object getValue(String type, JsonNode valueNode) {
+        if (valueNode == null || valueNode.isNull()) {
+            return null;
+        } else if (EventPayloadTypes.JSON.equals(type)) {
+            return valueNode;
+        } else if (valueNode.isBoolean()) {
+            return valueNode.booleanValue();
+        } else if (valueNode.isNumber()) {
+            if (EventPayloadTypes.INTEGER.equals(type)) {
+                return valueNode.intValue();
+            } else if (EventPayloadTypes.LONG.equals(type)) {
+                return valueNode.longValue();
+            } else if (EventPayloadTypes.DOUBLE.equals(type)) {
+                return valueNode.doubleValue();
+            }
+            return valueNode.numberValue();
+        }
+        return valueNode.asText();
+    }
+
+}
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * An outbound event stored in the outbox, waiting to be delivered to its channel.
+ */
+public interface OutboxEventEntity extends Entity {
+
+    String getEventKey();
+
+    void setEventKey(String eventKey);
+
+    String getChannelKey();
+
+    void setChannelKey(String channelKey);
+
+    String getTenantId();
+
+    void setTenantId(String tenantId);
+
+    /**
+     * The events with the same channel and correlation key are delivered in the order they were created.
+     * Events without correlation key are delivered without ordering guarantee.
+     */
+    String getCorrelationKey();
+
+    void setCorrelationKey(String correlationKey);
+
+    /**
+     * Increases with every event created by an engine, used to order the events created in the same millisecond.
+     */
+    long getSequence();
+
+    void setSequence(long sequence);
+
+    Date getCreateTime();
+
+    void setCreateTime(Date createTime);
+
+    /**
+     * The event as serialized by the outbound pipeline of the channel.
+     */
+    String getBody();
+
+    void setBody(String body);
+
+    /**
+     * The JSON serialized payload instances of the event, used to recreate the event instance when it is dispatched.
+     */
+    String getPayload();
+
+    void setPayload(String payload);
+
+    String getLockOwner();
+
+    void setLockOwner(String lockOwner);
+
+    Date getLockExpirationTime();
+
+    void setLockExpirationTime(Date lockExpirationTime);
+
+    int getAttempts();
+
+    void setAttempts(int attempts);
+
+    String getExceptionMessage();
+
+    void setExceptionMessage(String exceptionMessage);
+
+}
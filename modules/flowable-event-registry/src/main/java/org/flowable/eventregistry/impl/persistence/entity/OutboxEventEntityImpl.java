@@ -0,0 +1,168 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+
+public class OutboxEventEntityImpl extends AbstractEventRegistryNoRevisionEntity implements OutboxEventEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String eventKey;
+    protected String channelKey;
+    protected String tenantId;
+    protected String correlationKey;
+    protected long sequence;
+    protected Date createTime;
+    protected String body;
+    protected String payload;
+    protected String lockOwner;
+    protected Date lockExpirationTime;
+    protected int attempts;
+    protected String exceptionMessage;
+
+    @Override
+    public Object getPersistentState() {
+        // Outbox events are only changed through dedicated update statements
+        return OutboxEventEntityImpl.class;
+    }
+
+    // getters and setters
+    // //////////////////////////////////////////////////////
+
+    @Override
+    public String getEventKey() {
+        return eventKey;
+    }
+
+    @Override
+    public void setEventKey(String eventKey) {
+        this.eventKey = eventKey;
+    }
+
+    @Override
+    public String getChannelKey() {
+        return channelKey;
+    }
+
+    @Override
+    public void setChannelKey(String channelKey) {
+        this.channelKey = channelKey;
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public String getCorrelationKey() {
+        return correlationKey;
+    }
+
+    @Override
+    public void setCorrelationKey(String correlationKey) {
+        this.correlationKey = correlationKey;
+    }
+
+    @Override
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public String getBody() {
+        return body;
+    }
+
+    @Override
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    @Override
+    public String getPayload() {
+        return payload;
+    }
+
+    @Override
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    @Override
+    public String getLockOwner() {
+        return lockOwner;
+    }
+
+    @Override
+    public void setLockOwner(String lockOwner) {
+        this.lockOwner = lockOwner;
+    }
+
+    @Override
+    public Date getLockExpirationTime() {
+        return lockExpirationTime;
+    }
+
+    @Override
+    public void setLockExpirationTime(Date lockExpirationTime) {
+        this.lockExpirationTime = lockExpirationTime;
+    }
+
+    @Override
+    public int getAttempts() {
+        return attempts;
+    }
+
+    @Override
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    @Override
+    public String getExceptionMessage() {
+        return exceptionMessage;
+    }
+
+    @Override
+    public void setExceptionMessage(String exceptionMessage) {
+        this.exceptionMessage = exceptionMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEventEntity[id=" + id + ", eventKey=" + eventKey + ", channelKey=" + channelKey + "]";
+    }
+}
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.EntityManager;
+
+public interface OutboxEventEntityManager extends EntityManager<OutboxEventEntity> {
+
+    /**
+     * Returns the events that can be dispatched at the given time, in the order they were created.
+     * Events of which an earlier event with the same correlation key is locked are not returned.
+     */
+    List<OutboxEventEntity> findOutboxEventsToDispatch(Date now, int maxResults);
+
+    /**
+     * Locks the event for the given owner, unless another owner has locked it since it was fetched.
+     *
+     * @return whether the event was locked
+     */
+    boolean lockOutboxEvent(String id, String lockOwner, Date lockExpirationTime, Date now);
+
+    void unlockOutboxEvent(String id, String lockOwner);
+
+    /**
+     * Releases the lock of an event of which the delivery failed, the event will be dispatched again from the given retry time on.
+     */
+    void failOutboxEvent(String id, String lockOwner, Date retryTime, String exceptionMessage);
+
+    void deleteOutboxEvent(String id);
+
+    long countOutboxEvents();
+
+    Date findOldestOutboxEventCreateTime();
+
+}
@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.data.OutboxEventDataManager;
+
+public class OutboxEventEntityManagerImpl
+        extends AbstractEngineEntityManager<EventRegistryEngineConfiguration, OutboxEventEntity, OutboxEventDataManager>
+        implements OutboxEventEntityManager {
+
+    public OutboxEventEntityManagerImpl(EventRegistryEngineConfiguration eventRegistryConfiguration, OutboxEventDataManager outboxEventDataManager) {
+        super(eventRegistryConfiguration, outboxEventDataManager);
+    }
+
+    @Override
+    public List<OutboxEventEntity> findOutboxEventsToDispatch(Date now, int maxResults) {
+        return dataManager.findOutboxEventsToDispatch(now, maxResults);
+    }
+
+    @Override
+    public boolean lockOutboxEvent(String id, String lockOwner, Date lockExpirationTime, Date now) {
+        return dataManager.lockOutboxEvent(id, lockOwner, lockExpirationTime, now);
+    }
+
+    @Override
+    public void unlockOutboxEvent(String id, String lockOwner) {
+        dataManager.unlockOutboxEvent(id, lockOwner);
+    }
+
+    @Override
+    public void failOutboxEvent(String id, String lockOwner, Date retryTime, String exceptionMessage) {
+        dataManager.failOutboxEvent(id, lockOwner, retryTime, exceptionMessage);
+    }
+
+    @Override
+    public void deleteOutboxEvent(String id) {
+        dataManager.deleteOutboxEvent(id);
+    }
+
+    @Override
+    public long countOutboxEvents() {
+        return dataManager.countOutboxEvents();
+    }
+
+    @Override
+    public Date findOldestOutboxEventCreateTime() {
+        return dataManager.findOldestOutboxEventCreateTime();
+    }
+
+}
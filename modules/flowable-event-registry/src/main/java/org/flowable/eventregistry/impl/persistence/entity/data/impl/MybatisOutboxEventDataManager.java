@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity.data.impl;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityImpl;
+import org.flowable.eventregistry.impl.persistence.entity.data.AbstractEventDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.OutboxEventDataManager;
+
+public class MybatisOutboxEventDataManager extends AbstractEventDataManager<OutboxEventEntity> implements OutboxEventDataManager {
+
+    public MybatisOutboxEventDataManager(EventRegistryEngineConfiguration eventRegistryConfiguration) {
+        super(eventRegistryConfiguration);
+    }
+
+    @Override
+    public Class<? extends OutboxEventEntity> getManagedEntityClass() {
+        return OutboxEventEntityImpl.class;
+    }
+
+    @Override
+    public OutboxEventEntity create() {
+        return new OutboxEventEntityImpl();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<OutboxEventEntity> findOutboxEventsToDispatch(Date now, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("now", now);
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(params, 0, maxResults);
+        parameterObject.addOrder("RES.SEQ_", ListQueryParameterObject.SORTORDER_ASC, null);
+
+        // The events are locked with dedicated update statements, they are not kept in the entity cache
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectOutboxEventsToDispatch", parameterObject);
+    }
+
+    @Override
+    public boolean lockOutboxEvent(String id, String lockOwner, Date lockExpirationTime, Date now) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", id);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        params.put("now", now);
+        return getDbSqlSession().directUpdate("lockOutboxEvent", params) == 1;
+    }
+
+    @Override
+    public void unlockOutboxEvent(String id, String lockOwner) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", id);
+        params.put("lockOwner", lockOwner);
+        getDbSqlSession().directUpdate("unlockOutboxEvent", params);
+    }
+
+    @Override
+    public void failOutboxEvent(String id, String lockOwner, Date retryTime, String exceptionMessage) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", id);
+        params.put("lockOwner", lockOwner);
+        params.put("retryTime", retryTime);
+        params.put("exceptionMessage", exceptionMessage);
+        getDbSqlSession().directUpdate("failOutboxEvent", params);
+    }
+
+    @Override
+    public void deleteOutboxEvent(String id) {
+        getDbSqlSession().delete("deleteOutboxEventById", id, getManagedEntityClass());
+    }
+
+    @Override
+    public long countOutboxEvents() {
+        return (Long) getDbSqlSession().selectOne("selectOutboxEventCount", null);
+    }
+
+    @Override
+    public Date findOldestOutboxEventCreateTime() {
+        return (Date) getDbSqlSession().selectOne("selectOldestOutboxEventCreateTime", null);
+    }
+
+}
@@ -23,6 +23,7 @@ import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntit
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManager;
+import org.flowable.eventregistry.impl.persistence.entity.OutboxEventEntityManager;
 
 public class CommandContextUtil {
 
@@ -81,6 +82,14 @@ public class CommandContextUtil {
         return getEventRegistryConfiguration(commandContext).getChannelDefinitionEntityManager();
     }
     
+    public static OutboxEventEntityManager getOutboxEventEntityManager() {
+        return getOutboxEventEntityManager(getCommandContext());
+    }
+    
+    public static OutboxEventEntityManager getOutboxEventEntityManager(CommandContext commandContext) {
+        return getEventRegistryConfiguration(commandContext).getOutboxEventEntityManager();
+    }
+    
     public static TableDataManager getTableDataManager() {
         return getTableDataManager(getCommandContext());
     }
@@ -0,0 +1,239 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.OutboundEvent;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.OutboundEventProcessor;
+import org.flowable.eventregistry.api.management.OutboundEventOutboxStatistics;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.OutboxOutboundEventProcessor;
+import org.flowable.eventregistry.impl.outbox.OutboxEventDispatcher;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
+import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
+import org.flowable.eventregistry.model.ChannelModel;
+import org.flowable.eventregistry.model.EventModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OutboundEventOutboxTest extends AbstractFlowableEventTest {
+
+    protected Map<Object, Object> initialBeans;
+    protected OutboundEventProcessor initialOutboundEventProcessor;
+    protected TestOutboundChannelAdapter outboundChannelAdapter;
+    protected OutboxEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        initialBeans = eventEngineConfiguration.getExpressionManager().getBeans();
+        outboundChannelAdapter = new TestOutboundChannelAdapter();
+        Map<Object, Object> beans = new HashMap<>();
+        beans.put("outboundChannelAdapter", outboundChannelAdapter);
+        eventEngineConfiguration.getExpressionManager().setBeans(beans);
+
+        initialOutboundEventProcessor = eventEngineConfiguration.getOutboundEventProcessor();
+        eventRegistry.setOutboundEventProcessor(new OutboxOutboundEventProcessor(eventEngineConfiguration));
+
+        dispatcher = new OutboxEventDispatcher(eventEngineConfiguration);
+        eventEngineConfiguration.setOutboxEventDispatcher(dispatcher);
+
+        repositoryService.createOutboundChannelModelBuilder()
+                .key("outboxChannel")
+                .resourceName("outbox.channel")
+                .channelAdapter("${outboundChannelAdapter}")
+                .jsonSerializer()
+                .deploy();
+
+        repositoryService.createEventModelBuilder()
+                .key("orderEvent")
+                .resourceName("order.event")
+                .header("source", "string")
+                .correlationParameter("customerId", "string")
+                .payload("amount", "integer")
+                .deploy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRegistry.setOutboundEventProcessor(initialOutboundEventProcessor);
+        eventEngineConfiguration.setOutboxEventDispatcher(null);
+        eventEngineConfiguration.getExpressionManager().setBeans(initialBeans);
+        eventEngineConfiguration.getClock().reset();
+
+        repositoryService.createDeploymentQuery().list()
+                .forEach(deployment -> repositoryService.deleteDeployment(deployment.getId()));
+    }
+
+    @Test
+    void testEventsAreDeliveredAfterBeingStored() {
+        sendOrderEvent("customer1", 1);
+        sendOrderEvent("customer2", 2);
+        sendOrderEvent("customer1", 3);
+
+        assertThat(outboundChannelAdapter.sentEvents).isEmpty();
+        OutboundEventOutboxStatistics statistics = eventRegistryEngine.getEventManagementService().getOutboundEventOutboxStatistics();
+        assertThat(statistics.getPendingEventCount()).isEqualTo(3);
+        assertThat(statistics.getOldestPendingEventTime()).isNotNull();
+
+        assertThat(dispatcher.dispatchOutboxEvents()).isEqualTo(3);
+
+        assertThat(outboundChannelAdapter.sentEvents)
+                .extracting(event -> event.getEventInstance().getPayloadInstances().stream()
+                        .filter(payloadInstance -> "customerId".equals(payloadInstance.getDefinitionName()))
+                        .findFirst().get().getValue())
+                .containsExactlyInAnyOrder("customer1", "customer2", "customer1");
+        assertThat(getSentAmounts("customer1")).containsExactly(1, 3);
+        assertThat(getSentAmounts("customer2")).containsExactly(2);
+        assertThat(outboundChannelAdapter.sentEvents)
+                .extracting(OutboundEvent::getBody)
+                .allSatisfy(body -> assertThat((String) body).contains("\"customerId\""));
+        assertThat(outboundChannelAdapter.sentEvents)
+                .extracting(event -> event.getHeaders().get("source"))
+                .containsOnly("test");
+
+        statistics = eventRegistryEngine.getEventManagementService().getOutboundEventOutboxStatistics();
+        assertThat(statistics.getPendingEventCount()).isZero();
+        assertThat(statistics.getOldestPendingEventTime()).isNull();
+        assertThat(statistics.getDispatchedEventCount()).isEqualTo(3);
+        assertThat(statistics.getFailedDispatchCount()).isZero();
+
+        assertThat(dispatcher.dispatchOutboxEvents()).isZero();
+    }
+
+    @Test
+    void testFailedEventBlocksLaterEventsWithSameCorrelation() {
+        Date now = new Date();
+        eventEngineConfiguration.getClock().setCurrentTime(now);
+
+        sendOrderEvent("customer1", 1);
+        sendOrderEvent("customer2", 2);
+        sendOrderEvent("customer1", 3);
+
+        outboundChannelAdapter.failingAmounts.add(1);
+        assertThat(dispatcher.dispatchOutboxEvents()).isEqualTo(3);
+
+        assertThat(outboundChannelAdapter.sentEvents).hasSize(1);
+        assertThat(getSentAmounts("customer2")).containsExactly(2);
+
+        OutboundEventOutboxStatistics statistics = eventRegistryEngine.getEventManagementService().getOutboundEventOutboxStatistics();
+        assertThat(statistics.getPendingEventCount()).isEqualTo(2);
+        assertThat(statistics.getDispatchedEventCount()).isEqualTo(1);
+        assertThat(statistics.getFailedDispatchCount()).isEqualTo(1);
+
+        // The failed event is only retried after the retry wait time and the later event of the same customer waits for it
+        outboundChannelAdapter.failingAmounts.clear();
+        assertThat(dispatcher.dispatchOutboxEvents()).isZero();
+        assertThat(outboundChannelAdapter.sentEvents).hasSize(1);
+
+        eventEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + dispatcher.getRetryWaitTimeInMillis() + 1000));
+        assertThat(dispatcher.dispatchOutboxEvents()).isEqualTo(2);
+
+        assertThat(getSentAmounts("customer1")).containsExactly(1, 3);
+        assertThat(eventRegistryEngine.getEventManagementService().getOutboundEventOutboxStatistics())
+                .extracting(OutboundEventOutboxStatistics::getPendingEventCount, OutboundEventOutboxStatistics::getDispatchedEventCount)
+                .containsExactly(0L, 3L);
+    }
+
+    @Test
+    void testEventsWithoutCorrelationAreDelivered() {
+        EventModel eventModel = repositoryService.getEventModelByKey("orderEvent");
+        ChannelModel channelModel = repositoryService.getChannelModelByKey("outboxChannel");
+        List<EventPayloadInstance> payloadInstances = Collections.singletonList(new EventPayloadInstanceImpl(eventModel.getPayload("amount"), 5));
+        eventRegistry.sendEventOutbound(new EventInstanceImpl("orderEvent", payloadInstances), Collections.singletonList(channelModel));
+
+        assertThat(dispatcher.dispatchOutboxEvents()).isEqualTo(1);
+        assertThat(outboundChannelAdapter.sentEvents)
+                .extracting(event -> event.getEventInstance().getPayloadInstances().iterator().next().getValue())
+                .containsExactly(5);
+    }
+
+    @Test
+    void testDispatcherIsWokenUpAfterCommit() throws InterruptedException {
+        // A long poll interval makes sure the event is delivered because of the wake up after the commit
+        dispatcher.setPollIntervalInMillis(60000L);
+        dispatcher.start();
+        try {
+            sendOrderEvent("customer1", 1);
+
+            long waitUntil = System.currentTimeMillis() + 10000L;
+            while (outboundChannelAdapter.sentEvents.isEmpty() && System.currentTimeMillis() < waitUntil) {
+                Thread.sleep(50L);
+            }
+            assertThat(getSentAmounts("customer1")).containsExactly(1);
+
+        } finally {
+            dispatcher.shutdown();
+        }
+
+        assertThat(dispatcher.isActive()).isFalse();
+        assertThat(eventRegistryEngine.getEventManagementService().getOutboundEventOutboxStatistics().getPendingEventCount()).isZero();
+    }
+
+    protected void sendOrderEvent(String customerId, int amount) {
+        EventModel eventModel = repositoryService.getEventModelByKey("orderEvent");
+        ChannelModel channelModel = repositoryService.getChannelModelByKey("outboxChannel");
+
+        List<EventPayloadInstance> payloadInstances = Arrays.asList(
+                new EventPayloadInstanceImpl(eventModel.getPayload("source"), "test"),
+                new EventPayloadInstanceImpl(eventModel.getPayload("customerId"), customerId),
+                new EventPayloadInstanceImpl(eventModel.getPayload("amount"), amount));
+        eventRegistry.sendEventOutbound(new EventInstanceImpl("orderEvent", payloadInstances), Collections.singletonList(channelModel));
+    }
+
+    protected List<Object> getSentAmounts(String customerId) {
+        List<Object> amounts = new ArrayList<>();
+        for (OutboundEvent<?> sentEvent : outboundChannelAdapter.sentEvents) {
+            Map<String, Object> values = new HashMap<>();
+            for (EventPayloadInstance payloadInstance : sentEvent.getEventInstance().getPayloadInstances()) {
+                values.put(payloadInstance.getDefinitionName(), payloadInstance.getValue());
+            }
+            if (customerId.equals(values.get("customerId"))) {
+                amounts.add(values.get("amount"));
+            }
+        }
+        return amounts;
+    }
+
+    protected static class TestOutboundChannelAdapter implements OutboundEventChannelAdapter<String> {
+
+        protected final List<OutboundEvent<?>> sentEvents = Collections.synchronizedList(new ArrayList<>());
+        protected final List<Integer> failingAmounts = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void sendEvent(OutboundEvent<String> event) {
+            for (EventPayloadInstance payloadInstance : event.getEventInstance().getPayloadInstances()) {
+                if ("amount".equals(payloadInstance.getDefinitionName()) && failingAmounts.contains(payloadInstance.getValue())) {
+                    throw new FlowableException("Delivery failed for amount " + payloadInstance.getValue());
+                }
+            }
+            sentEvents.add(event);
+        }
+
+        @Override
+        public void sendEvent(String rawEvent, Map<String, Object> headerMap) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.UUID;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.common.engine.impl.persistence.cache.EventSubscriptionLookupCache;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionServiceImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
@@ -57,6 +58,15 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
      * The value that should be used when locking eventsubscriptions.
      */
     private String lockOwner = UUID.randomUUID().toString();
+
+    // CACHING
+    // //////////////////////////////////////////////
+
+    /**
+     * Node local cache of event subscription lookups without result, used by the event registry consumers.
+     * Disabled when null. Inserted event subscriptions invalidate the lookups of their event type.
+     */
+    protected EventSubscriptionLookupCache eventSubscriptionLookupCache;
     
     protected ObjectMapper objectMapper;
     
@@ -141,6 +151,15 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         return this;
     }
 
+    public EventSubscriptionLookupCache getEventSubscriptionLookupCache() {
+        return eventSubscriptionLookupCache;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionLookupCache(EventSubscriptionLookupCache eventSubscriptionLookupCache) {
+        this.eventSubscriptionLookupCache = eventSubscriptionLookupCache;
+        return this;
+    }
+
     public String getLockOwner() {
         return lockOwner;
     }
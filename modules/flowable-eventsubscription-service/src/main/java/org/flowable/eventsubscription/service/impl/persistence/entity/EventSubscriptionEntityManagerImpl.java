@@ -21,6 +21,10 @@ import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Signal;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.persistence.cache.EventSubscriptionLookupCache;
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
@@ -42,6 +46,19 @@ public class EventSubscriptionEntityManagerImpl
         super(eventSubscriptionServiceConfiguration, eventSubscriptionServiceConfiguration.getEngineName(), eventSubscriptionDataManager);
     }
 
+    @Override
+    public void insert(EventSubscriptionEntity entity, boolean fireCreateEvent) {
+        super.insert(entity, fireCreateEvent);
+        invalidateEventSubscriptionLookups(entity);
+    }
+
+    @Override
+    public EventSubscriptionEntity update(EventSubscriptionEntity entity, boolean fireUpdateEvent) {
+        EventSubscriptionEntity updatedEntity = super.update(entity, fireUpdateEvent);
+        invalidateEventSubscriptionLookups(entity);
+        return updatedEntity;
+    }
+
     @Override
     public CompensateEventSubscriptionEntity createCompensateEventSubscription() {
         return dataManager.createCompensateEventSubscription();
@@ -195,6 +212,15 @@ public class EventSubscriptionEntityManagerImpl
     @Override
     public void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId) {
         dataManager.updateEventSubscriptionTenantId(oldTenantId, newTenantId);
+
+        EventSubscriptionLookupCache eventSubscriptionLookupCache = serviceConfiguration.getEventSubscriptionLookupCache();
+        if (eventSubscriptionLookupCache != null) {
+            eventSubscriptionLookupCache.invalidateAll();
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> eventSubscriptionLookupCache.invalidateAll());
+            }
+        }
     }
 
     @Override
@@ -342,6 +368,22 @@ public class EventSubscriptionEntityManagerImpl
         return eventSubscription;
     }
 
+    /**
+     * Invalidates the cached lookups of the event type of the event subscription, both right away and after the transaction commits.
+     * Otherwise, a lookup that runs before the commit would not see the new event subscription and could cache that outcome.
+     */
+    protected void invalidateEventSubscriptionLookups(EventSubscriptionEntity eventSubscription) {
+        EventSubscriptionLookupCache eventSubscriptionLookupCache = serviceConfiguration.getEventSubscriptionLookupCache();
+        String eventType = eventSubscription.getEventType();
+        if (eventSubscriptionLookupCache != null && eventType != null) {
+            eventSubscriptionLookupCache.invalidate(eventType);
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> eventSubscriptionLookupCache.invalidate(eventType));
+            }
+        }
+    }
+
     protected List<SignalEventSubscriptionEntity> toSignalEventSubscriptionEntityList(List<EventSubscriptionEntity> result) {
         List<SignalEventSubscriptionEntity> signalEventSubscriptionEntities = new ArrayList<>(result.size());
         for (EventSubscriptionEntity eventSubscriptionEntity : result) {
@@ -43,6 +43,11 @@ public class AcquireExternalWorkerJobRequest {
     @ApiModelProperty(value = "Only acquire jobs with the given scope type", example = "cmmn")
     protected String scopeType;
 
+    @ApiModelProperty(
+            value = "When no jobs are available, wait up to this duration for jobs to become available before returning an empty response. ISO-8601 duration format PnDTnHnMn.nS. By default the response is returned immediately. The wait time is limited by the maximum wait time configured on the engine (1 minute by default).",
+            example = "PT30S", dataType = "string")
+    protected Duration maxWaitTime;
+
     public String getTopic() {
         return topic;
     }
@@ -90,4 +95,12 @@ public class AcquireExternalWorkerJobRequest {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public Duration getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    public void setMaxWaitTime(Duration maxWaitTime) {
+        this.maxWaitTime = maxWaitTime;
+    }
 }
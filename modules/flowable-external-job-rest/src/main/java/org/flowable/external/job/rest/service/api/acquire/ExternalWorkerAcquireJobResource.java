@@ -82,8 +82,14 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
         }
 
         if (StringUtils.isNotEmpty(request.getWorkerId())) {
-            List<AcquiredExternalWorkerJob> acquiredJobs = acquireBuilder
-                    .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
+            List<AcquiredExternalWorkerJob> acquiredJobs;
+            if (request.getMaxWaitTime() != null && !request.getMaxWaitTime().isZero()) {
+                acquiredJobs = acquireBuilder
+                        .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries(), request.getMaxWaitTime());
+            } else {
+                acquiredJobs = acquireBuilder
+                        .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
+            }
             return restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs);
         } else {
             throw new FlowableIllegalArgumentException("workerId is required");
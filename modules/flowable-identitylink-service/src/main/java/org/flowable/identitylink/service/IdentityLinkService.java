@@ -29,6 +29,8 @@ public interface IdentityLinkService {
     
     List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId);
     
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds);
+    
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
     
     List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
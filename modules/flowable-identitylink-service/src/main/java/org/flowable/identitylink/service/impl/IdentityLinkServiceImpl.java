@@ -41,6 +41,11 @@ public class IdentityLinkServiceImpl extends CommonServiceImpl<IdentityLinkServi
         return getIdentityLinkEntityManager().findIdentityLinksByTaskId(taskId);
     }
     
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return getIdentityLinkEntityManager().findIdentityLinksByTaskIds(taskIds);
+    }
+    
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         return getIdentityLinkEntityManager().findIdentityLinksByProcessInstanceId(processInstanceId);
@@ -68,6 +68,11 @@ public class IdentityLinkEntityManagerImpl
         return dataManager.findIdentityLinksByTaskId(taskId);
     }
 
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return dataManager.findIdentityLinksByTaskIds(taskIds);
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         return dataManager.findIdentityLinksByProcessInstanceId(processInstanceId);
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cache
 import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher.IdentityLinksByScopeIdScopeTypeUserGroupAndTypeMatcher;
 import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher.IdentityLinksBySubScopeIdAndTypeMatcher;
 import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher.IdentityLinksByTaskIdMatcher;
+import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher.IdentityLinksByTaskIdsMatcher;
 
 /**
  * @author Joram Barrez
@@ -40,6 +42,7 @@ import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cache
 public class MybatisIdentityLinkDataManager extends AbstractDataManager<IdentityLinkEntity> implements IdentityLinkDataManager {
 
     protected CachedEntityMatcher<IdentityLinkEntity> identityLinksByTaskIdMatcher = new IdentityLinksByTaskIdMatcher();
+    protected CachedEntityMatcher<IdentityLinkEntity> identityLinksByTaskIdsMatcher = new IdentityLinksByTaskIdsMatcher();
     protected CachedEntityMatcher<IdentityLinkEntity> identityLinkByProcessInstanceMatcher = new IdentityLinksByProcessInstanceMatcher();
     protected CachedEntityMatcher<IdentityLinkEntity> identityLinksByScopeIdAndTypeMatcher = new IdentityLinksByScopeIdAndTypeMatcher();
     protected CachedEntityMatcher<IdentityLinkEntity> identityLinksBySubScopeIdAndTypeMatcher = new IdentityLinksBySubScopeIdAndTypeMatcher();
@@ -78,6 +81,15 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         return getList("selectIdentityLinksByTaskId", taskId, identityLinksByTaskIdMatcher, true);
     }
 
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        List<IdentityLinkEntity> identityLinks = new ArrayList<>();
+        for (List<String> taskIdsPart : createSafeInValuesList(taskIds)) {
+            identityLinks.addAll(getList("selectIdentityLinksByTaskIds", taskIdsPart, identityLinksByTaskIdsMatcher, true));
+        }
+        return identityLinks;
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -32,6 +32,7 @@ import javax.management.remote.JMXConnectorServer;
 import javax.management.remote.JMXConnectorServerFactory;
 import javax.management.remote.JMXServiceURL;
 
+import org.flowable.management.jmx.mbeans.AgendaOperationProfilerMBean;
 import org.flowable.management.jmx.mbeans.JobExecutorMBean;
 import org.flowable.management.jmx.mbeans.ProcessDefinitionsMBean;
 import org.slf4j.Logger;
@@ -182,6 +183,10 @@ public class DefaultManagementAgent implements ManagementAgent {
     public void findAndRegisterMbeans() throws Exception {
         register(new ProcessDefinitionsMBean(jmxConfigurator.getProcessEngineConfig()), new ObjectName(jmxConfigurator.getDomain(), "type", "Deployments"));
         register(new JobExecutorMBean(jmxConfigurator.getProcessEngineConfig()), new ObjectName(jmxConfigurator.getDomain(), "type", "JobExecutor"));
+        if (jmxConfigurator.getProcessEngineConfig().getAgendaOperationProfiler() != null) {
+            register(new AgendaOperationProfilerMBean(jmxConfigurator.getProcessEngineConfig().getAgendaOperationProfiler()),
+                    new ObjectName(jmxConfigurator.getDomain(), "type", "AgendaOperationProfiler"));
+        }
     }
 
     public void createJmxConnector(String host) throws IOException {
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationElement;
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
+import org.flowable.common.engine.impl.agenda.AgendaOperationStatistics;
+import org.flowable.management.jmx.annotations.ManagedAttribute;
+import org.flowable.management.jmx.annotations.ManagedOperation;
+import org.flowable.management.jmx.annotations.ManagedResource;
+
+@ManagedResource(description = "Agenda operation profiler MBean")
+public class AgendaOperationProfilerMBean {
+
+    protected AgendaOperationProfiler profiler;
+
+    public AgendaOperationProfilerMBean(AgendaOperationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ManagedAttribute(description = "check if the agenda operation profiling is enabled")
+    public boolean isEnabled() {
+        return profiler.isEnabled();
+    }
+
+    @ManagedOperation(description = "enable or disable the agenda operation profiling")
+    public void setEnabled(Boolean enabled) {
+        profiler.setEnabled(enabled);
+    }
+
+    @ManagedAttribute(description = "fraction of the commands for which the agenda operations are profiled")
+    public double getSamplingRate() {
+        return profiler.getSamplingRate();
+    }
+
+    @ManagedOperation(description = "set the fraction of the commands for which the agenda operations are profiled")
+    public void setSamplingRate(Double samplingRate) {
+        profiler.setSamplingRate(samplingRate);
+    }
+
+    @ManagedAttribute(description = "Statistics per operation type: type, count, total wall time (us), total cpu time (us), average wall time (us), max wall time (us), wall time histogram")
+    public List<List<String>> getOperationTypeStatistics() {
+        return toList(profiler.getOperationTypeStatistics());
+    }
+
+    @ManagedAttribute(description = "Statistics per element: definition id, element id, count, total wall time (us), total cpu time (us), average wall time (us), max wall time (us), wall time histogram")
+    public List<List<String>> getElementStatistics() {
+        Map<AgendaOperationElement, AgendaOperationStatistics> elementStatistics = profiler.getElementStatistics();
+        List<List<String>> result = new ArrayList<>(elementStatistics.size());
+        for (Map.Entry<AgendaOperationElement, AgendaOperationStatistics> entry : elementStatistics.entrySet()) {
+            List<String> item = new ArrayList<>(8);
+            item.add(entry.getKey().getDefinitionId());
+            item.add(entry.getKey().getElementId());
+            addStatistics(item, entry.getValue());
+            result.add(item);
+        }
+        return result;
+    }
+
+    @ManagedOperation(description = "clear the recorded statistics")
+    public void reset() {
+        profiler.reset();
+    }
+
+    protected List<List<String>> toList(Map<String, AgendaOperationStatistics> statistics) {
+        List<List<String>> result = new ArrayList<>(statistics.size());
+        for (Map.Entry<String, AgendaOperationStatistics> entry : statistics.entrySet()) {
+            List<String> item = new ArrayList<>(7);
+            item.add(entry.getKey());
+            addStatistics(item, entry.getValue());
+            result.add(item);
+        }
+        return result;
+    }
+
+    protected void addStatistics(List<String> item, AgendaOperationStatistics operationStatistics) {
+        item.add(Long.toString(operationStatistics.getCount()));
+        item.add(Long.toString(TimeUnit.NANOSECONDS.toMicros(operationStatistics.getTotalWallTimeNanos())));
+        item.add(Long.toString(TimeUnit.NANOSECONDS.toMicros(operationStatistics.getTotalCpuTimeNanos())));
+        item.add(Long.toString(TimeUnit.NANOSECONDS.toMicros(operationStatistics.getAverageWallTimeNanos())));
+        item.add(Long.toString(TimeUnit.NANOSECONDS.toMicros(operationStatistics.getMaxWallTimeNanos())));
+        item.add(Arrays.toString(operationStatistics.getWallTimeHistogram()));
+    }
+
+}
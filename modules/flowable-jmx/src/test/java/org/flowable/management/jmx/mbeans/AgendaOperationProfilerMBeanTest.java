@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ObjectName;
+import javax.management.modelmbean.ModelMBean;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationElement;
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
+import org.flowable.management.jmx.DefaultManagementMBeanAssembler;
+import org.flowable.management.jmx.ManagementMBeanAssembler;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AgendaOperationProfilerMBeanTest {
+
+    protected AgendaOperationProfiler profiler;
+    protected AgendaOperationProfilerMBean profilerMBean;
+
+    ManagementMBeanAssembler assembler = new DefaultManagementMBeanAssembler();
+
+    @Before
+    public void init() {
+        profiler = new AgendaOperationProfiler();
+        profilerMBean = new AgendaOperationProfilerMBean(profiler);
+    }
+
+    @Test
+    public void testStatistics() {
+        profiler.record("ContinueProcessOperation", new AgendaOperationElement("oneTaskProcess:1:1", "theTask"), 50_000, 20_000);
+        profiler.record("ContinueProcessOperation", new AgendaOperationElement("oneTaskProcess:1:1", "theEnd"), 2_000_000, -1);
+        profiler.record("ContinueProcessOperation", new AgendaOperationElement("otherProcess:1:2", "theEnd"), 1_000, -1);
+        profiler.record("TriggerExecutionOperation", null, 5_000, 5_000);
+
+        assertThat(profilerMBean.getOperationTypeStatistics())
+                .containsExactly(
+                        Arrays.asList("ContinueProcessOperation", "3", "2051", "20", "683", "2000", "[1, 1, 0, 1, 0, 0, 0]"),
+                        Arrays.asList("TriggerExecutionOperation", "1", "5", "5", "5", "5", "[1, 0, 0, 0, 0, 0, 0]")
+                );
+        assertThat(profilerMBean.getElementStatistics())
+                .extracting(item -> item.get(0) + "/" + item.get(1) + "=" + item.get(2))
+                .containsExactly("oneTaskProcess:1:1/theEnd=1", "oneTaskProcess:1:1/theTask=1", "otherProcess:1:2/theEnd=1");
+
+        profilerMBean.reset();
+        assertThat(profilerMBean.getOperationTypeStatistics()).isEmpty();
+    }
+
+    @Test
+    public void testEnabledAndSamplingRate() {
+        assertThat(profilerMBean.isEnabled()).isTrue();
+        profilerMBean.setEnabled(false);
+        assertThat(profiler.isEnabled()).isFalse();
+
+        profilerMBean.setSamplingRate(0.1);
+        assertThat(profilerMBean.getSamplingRate()).isEqualTo(0.1);
+    }
+
+    @Test
+    public void testAnnotations() throws JMException {
+        ModelMBean modelBean = assembler.assemble(profilerMBean, new ObjectName("domain", "key", "value"));
+        assertThat(modelBean).isNotNull();
+        MBeanInfo beanInfo = modelBean.getMBeanInfo();
+        assertThat(beanInfo).isNotNull();
+        assertThat(beanInfo.getAttributes())
+                .extracting(MBeanAttributeInfo::getName)
+                .contains("Enabled", "SamplingRate", "OperationTypeStatistics", "ElementStatistics");
+        assertThat(beanInfo.getOperations())
+                .extracting(MBeanOperationInfo::getName)
+                .contains("setEnabled", "setSamplingRate", "reset");
+    }
+}
@@ -80,4 +80,24 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries);
 
+    /**
+     * Acquire and lock the given number of jobs for the given worker id, waiting up to {@code maxWaitTime} for jobs to become available
+     * when there are none at the moment of the call.
+     * The call returns as soon as jobs have been acquired, which is immediately after a job for the topic has been created on this node.
+     * Jobs created on other nodes are picked up by querying periodically while waiting.
+     * If no jobs become available within the given time it will return an empty list.
+     * The wait time is limited by the maximum wait time configured on the engine (1 minute by default).
+     * <p>
+     * Implementations that don't support waiting return early: by default the jobs are acquired once, without waiting,
+     * like {@link #acquireAndLock(int, String, int)}.
+     *
+     * @param numberOfTasks the number of jobs to acquire
+     * @param workerId the id of the worker acquiring the jobs
+     * @param numberOfRetries the number of retries if an optimistic lock exception occurs during acquiring
+     * @param maxWaitTime the maximum time to wait for jobs to become available
+     */
+    default List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries, Duration maxWaitTime) {
+        return acquireAndLock(numberOfTasks, workerId, numberOfRetries);
+    }
+
 }
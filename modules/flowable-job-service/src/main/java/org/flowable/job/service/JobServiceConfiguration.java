@@ -26,6 +26,7 @@ import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -37,6 +38,8 @@ import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.asyncexecutor.TimerJobScheduler;
 import org.flowable.job.service.impl.asyncexecutor.TimerJobSchedulerImpl;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.codec.AsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.codec.JsonAsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManagerImpl;
@@ -141,6 +144,11 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected boolean asyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
+
+    protected ExternalWorkerJobNotifier externalWorkerJobNotifier;
+    protected long externalWorkerJobLongPollingIntervalInMillis = 5000L;
+    protected long externalWorkerJobMaxWaitTimeInMillis = 60000L;
     
     public JobServiceConfiguration(String engineName) {
         super(engineName);
@@ -163,6 +171,8 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         }
 
         initTimerJobScheduler();
+        initAsyncHistoryPayloadCodec();
+        initExternalWorkerJobNotifier();
         initJobManager();
         initDataManagers();
         initEntityManagers();
@@ -195,6 +205,18 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         }
     }
 
+    protected void initAsyncHistoryPayloadCodec() {
+        if (asyncHistoryPayloadCodec == null) {
+            asyncHistoryPayloadCodec = new JsonAsyncHistoryPayloadCodec(objectMapper);
+        }
+    }
+
+    protected void initExternalWorkerJobNotifier() {
+        if (externalWorkerJobNotifier == null) {
+            externalWorkerJobNotifier = new ExternalWorkerJobNotifier();
+        }
+    }
+
     // Job manager ///////////////////////////////////////////////////////////
 
     public void initJobManager() {
@@ -713,5 +735,46 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     public void setAsyncHistoryJsonGroupingThreshold(int asyncHistoryJsonGroupingThreshold) {
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
+
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public void setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+    }
+    
+
+    public ExternalWorkerJobNotifier getExternalWorkerJobNotifier() {
+        return externalWorkerJobNotifier;
+    }
+
+    public void setExternalWorkerJobNotifier(ExternalWorkerJobNotifier externalWorkerJobNotifier) {
+        this.externalWorkerJobNotifier = externalWorkerJobNotifier;
+    }
+
+    public long getExternalWorkerJobLongPollingIntervalInMillis() {
+        return externalWorkerJobLongPollingIntervalInMillis;
+    }
+
+    /**
+     * Sets how often a long polling external worker job acquire queries for jobs while it is waiting.
+     * Jobs created on this node wake up the waiting acquires immediately, this interval is needed for jobs created by other nodes.
+     */
+    public void setExternalWorkerJobLongPollingIntervalInMillis(long externalWorkerJobLongPollingIntervalInMillis) {
+        this.externalWorkerJobLongPollingIntervalInMillis = externalWorkerJobLongPollingIntervalInMillis;
+    }
+
+    public long getExternalWorkerJobMaxWaitTimeInMillis() {
+        return externalWorkerJobMaxWaitTimeInMillis;
+    }
+
+    /**
+     * Sets the maximum time a long polling external worker job acquire waits for jobs, regardless of the wait time requested by the worker.
+     * This limits how long a worker (e.g. through the REST API) can hold a thread. A negative value disables the limit.
+     */
+    public void setExternalWorkerJobMaxWaitTimeInMillis(long externalWorkerJobMaxWaitTimeInMillis) {
+        this.externalWorkerJobMaxWaitTimeInMillis = externalWorkerJobMaxWaitTimeInMillis;
+    }
     
 }
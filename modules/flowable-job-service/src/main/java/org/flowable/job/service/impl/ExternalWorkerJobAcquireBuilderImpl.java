@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -24,6 +25,7 @@ import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJobAcquireBuilder;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier.TopicMonitor;
 import org.flowable.job.service.impl.cmd.AcquireExternalWorkerJobsCmd;
 
 /**
@@ -123,6 +125,56 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return Collections.emptyList();
     }
 
+    @Override
+    public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries, Duration maxWaitTime) {
+        if (maxWaitTime == null || maxWaitTime.isNegative()) {
+            throw new FlowableIllegalArgumentException("maxWaitTime must not be null or negative");
+        }
+
+        if (StringUtils.isEmpty(topic)) {
+            throw new FlowableIllegalArgumentException("topic must not be empty");
+        }
+
+        ExternalWorkerJobNotifier externalWorkerJobNotifier = jobServiceConfiguration.getExternalWorkerJobNotifier();
+        long pollingInterval = jobServiceConfiguration.getExternalWorkerJobLongPollingIntervalInMillis();
+        long maxWaitTimeInMillis = maxWaitTime.toMillis();
+        long maxAllowedWaitTime = jobServiceConfiguration.getExternalWorkerJobMaxWaitTimeInMillis();
+        if (maxAllowedWaitTime >= 0) {
+            maxWaitTimeInMillis = Math.min(maxWaitTimeInMillis, maxAllowedWaitTime);
+        }
+        long deadline = System.currentTimeMillis() + maxWaitTimeInMillis;
+
+        // The waiter is registered before querying, such that a job created in between is not missed
+        TopicMonitor topicMonitor = externalWorkerJobNotifier != null ? externalWorkerJobNotifier.registerWaiter(topic) : null;
+        try {
+            while (true) {
+                long notificationCount = topicMonitor != null ? topicMonitor.getNotificationCount() : 0;
+                List<AcquiredExternalWorkerJob> acquiredJobs = acquireAndLock(numberOfTasks, workerId, numberOfRetries);
+                long remainingWaitTime = deadline - System.currentTimeMillis();
+                if (!acquiredJobs.isEmpty() || remainingWaitTime <= 0) {
+                    return acquiredJobs;
+                }
+
+                long waitTime = pollingInterval > 0 ? Math.min(remainingWaitTime, pollingInterval) : remainingWaitTime;
+                try {
+                    if (topicMonitor != null) {
+                        topicMonitor.awaitNotification(notificationCount, waitTime);
+                    } else {
+                        Thread.sleep(waitTime);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Collections.emptyList();
+                }
+            }
+
+        } finally {
+            if (topicMonitor != null) {
+                externalWorkerJobNotifier.unregisterWaiter(topic);
+            }
+        }
+    }
+
     public String getTopic() {
         return topic;
     }
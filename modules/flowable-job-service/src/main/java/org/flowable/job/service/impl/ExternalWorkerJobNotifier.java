@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Wakes up the threads waiting in a long polling external worker job acquire when an external worker job for their topic is created on this node.
+ * Jobs created by other nodes are not notified, which is why waiting threads still query for jobs periodically.
+ *
+ * A waiting thread registers itself for the topic before querying for jobs and takes the notification count of the topic,
+ * such that a job created in between is not missed. The monitor of a topic is removed once no thread is waiting for it anymore.
+ */
+public class ExternalWorkerJobNotifier {
+
+    protected final ConcurrentMap<String, TopicMonitor> topicMonitors = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a waiting thread for the topic. Every registration needs to be followed by a call to {@link #unregisterWaiter(String)}.
+     */
+    public TopicMonitor registerWaiter(String topic) {
+        // The waiter count is only changed while holding the lock of the map entry, so the monitor can't be removed concurrently
+        return topicMonitors.compute(topic, (key, topicMonitor) -> {
+            TopicMonitor monitor = topicMonitor != null ? topicMonitor : new TopicMonitor();
+            monitor.waiterCount++;
+            return monitor;
+        });
+    }
+
+    public void unregisterWaiter(String topic) {
+        topicMonitors.computeIfPresent(topic, (key, topicMonitor) -> --topicMonitor.waiterCount > 0 ? topicMonitor : null);
+    }
+
+    public void notifyJobAvailable(String topic) {
+        if (topic != null) {
+            // Nobody is waiting when there is no monitor for the topic
+            TopicMonitor topicMonitor = topicMonitors.get(topic);
+            if (topicMonitor != null) {
+                topicMonitor.notifyJobAvailable();
+            }
+        }
+    }
+
+    public int getTopicMonitorCount() {
+        return topicMonitors.size();
+    }
+
+    public static class TopicMonitor {
+
+        protected int waiterCount;
+        protected long notificationCount;
+
+        public synchronized long getNotificationCount() {
+            return notificationCount;
+        }
+
+        /**
+         * Waits until a job for the topic has been notified after the given notification count was taken, or until the timeout has passed.
+         *
+         * @return whether a job was notified
+         */
+        public synchronized boolean awaitNotification(long previousNotificationCount, long timeoutInMillis) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutInMillis;
+            long remaining = timeoutInMillis;
+            while (notificationCount == previousNotificationCount && remaining > 0) {
+                wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+            return notificationCount != previousNotificationCount;
+        }
+
+        protected synchronized void notifyJobAvailable() {
+            notificationCount++;
+            notifyAll();
+        }
+    }
+}
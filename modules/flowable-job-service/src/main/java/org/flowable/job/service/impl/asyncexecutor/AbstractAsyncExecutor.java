@@ -44,6 +44,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected ExecuteAsyncRunnableFactory executeAsyncRunnableFactory;
     
     protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
+    protected AsyncExecutorMetrics asyncExecutorMetrics;
 
     protected boolean isAutoActivate;
     protected boolean isActive;
@@ -89,11 +90,17 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     }
 
     protected Runnable createRunnableForJob(final JobInfo job) {
+        Runnable runnable;
         if (executeAsyncRunnableFactory == null) {
-            return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+            runnable = new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
         } else {
-            return executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, jobServiceConfiguration);
+            runnable = executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, jobServiceConfiguration);
         }
+
+        if (asyncExecutorMetrics != null && runnable instanceof ExecuteAsyncRunnable) {
+            ((ExecuteAsyncRunnable) runnable).setAsyncExecutorMetrics(asyncExecutorMetrics);
+        }
+        return runnable;
     }
 
     /** Starts the async executor */
@@ -111,6 +118,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         initializeRunnables();
         startAdditionalComponents();
         executeTemporaryJobs();
+
+        if (asyncExecutorMetrics != null) {
+            asyncExecutorMetrics.asyncExecutorStarted(getJobServiceConfiguration().getEngineName(), this);
+        }
     }
     
     protected void initializeJobEntityManager() {
@@ -121,8 +132,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected void initializeRunnables() {
         if (configuration.isTimerRunnableNeeded() && timerJobRunnable == null) {
+            AcquireTimerLifecycleListener timerLifecycleListenerToUse = asyncExecutorMetrics != null
+                    ? new MetricsAcquireTimerLifecycleListener(asyncExecutorMetrics, timerLifecycleListener) : timerLifecycleListener;
             timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager(),
-                timerLifecycleListener, new AcquireTimerRunnableConfiguration(), configuration.getMoveTimerExecutorPoolSize());
+                timerLifecycleListenerToUse, new AcquireTimerRunnableConfiguration(), configuration.getMoveTimerExecutorPoolSize());
         }
 
         JobInfoEntityManager<? extends JobInfoEntity> jobEntityManagerToUse = jobEntityManager != null
@@ -133,14 +146,17 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             String resetRunnableName = resetExpiredRunnableName != null ?
                     resetExpiredRunnableName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-reset-expired-jobs";
             resetExpiredJobsRunnable = createResetExpiredJobsRunnable(resetRunnableName);
+            resetExpiredJobsRunnable.setAsyncExecutorMetrics(asyncExecutorMetrics);
         }
 
         if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
             String acquireRunnableThreadName = configuration.getAcquireRunnableThreadName();
             String acquireJobsRunnableName = acquireRunnableThreadName != null ?
                     acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-async-jobs";
+            AcquireAsyncJobsDueLifecycleListener asyncJobsDueLifecycleListenerToUse = asyncExecutorMetrics != null
+                    ? new MetricsAcquireAsyncJobsDueLifecycleListener(asyncExecutorMetrics, asyncJobsDueLifecycleListener) : asyncJobsDueLifecycleListener;
             asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse,
-                asyncJobsDueLifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
+                asyncJobsDueLifecycleListenerToUse, new AcquireAsyncJobsDueRunnableConfiguration());
 
         }
     }
@@ -167,6 +183,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         stopRunnables();
         shutdownAdditionalComponents();
 
+        if (asyncExecutorMetrics != null) {
+            asyncExecutorMetrics.asyncExecutorShutdown(getJobServiceConfiguration().getEngineName(), this);
+        }
+
         isActive = false;
     }
 
@@ -318,6 +338,18 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.asyncJobsDueRunnable = asyncJobsDueRunnable;
     }
 
+    public AsyncExecutorMetrics getAsyncExecutorMetrics() {
+        return asyncExecutorMetrics;
+    }
+
+    /**
+     * Sets the {@link AsyncExecutorMetrics} that will be notified about the acquisition and execution of jobs by this executor.
+     * Needs to be set before the executor is started.
+     */
+    public void setAsyncExecutorMetrics(AsyncExecutorMetrics asyncExecutorMetrics) {
+        this.asyncExecutorMetrics = asyncExecutorMetrics;
+    }
+
     public AcquireAsyncJobsDueLifecycleListener getAsyncJobsDueLifecycleListener() {
         return asyncJobsDueLifecycleListener;
     }
@@ -358,6 +390,22 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         configuration.setGlobalAcquireLockPrefix(globalAcquireLockPrefix);
     }
 
+    public boolean isSkipLockedAcquireEnabled() {
+        return configuration.isSkipLockedAcquireEnabled();
+    }
+
+    public void setSkipLockedAcquireEnabled(boolean skipLockedAcquireEnabled) {
+        configuration.setSkipLockedAcquireEnabled(skipLockedAcquireEnabled);
+    }
+
+    public int getSkipLockedAcquireCandidateFactor() {
+        return configuration.getSkipLockedAcquireCandidateFactor();
+    }
+
+    public void setSkipLockedAcquireCandidateFactor(int skipLockedAcquireCandidateFactor) {
+        configuration.setSkipLockedAcquireCandidateFactor(skipLockedAcquireCandidateFactor);
+    }
+
     public Duration getAsyncJobsGlobalLockWaitTime() {
         return configuration.getAsyncJobsGlobalLockWaitTime();
     }
@@ -523,6 +571,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             return configuration.getGlobalAcquireLockPrefix();
         }
 
+        @Override
+        public boolean isSkipLockedAcquireEnabled() {
+            return configuration.isSkipLockedAcquireEnabled();
+        }
+
+        @Override
+        public int getSkipLockedAcquireCandidateFactor() {
+            return configuration.getSkipLockedAcquireCandidateFactor();
+        }
+
         @Override
         public Duration getLockWaitTime() {
             return configuration.getAsyncJobsGlobalLockWaitTime();
@@ -55,6 +55,14 @@ public interface AcquireJobsRunnableConfiguration {
 
     String getGlobalAcquireLockPrefix();
 
+    default boolean isSkipLockedAcquireEnabled() {
+        return false;
+    }
+
+    default int getSkipLockedAcquireCandidateFactor() {
+        return AsyncJobExecutorConfiguration.DEFAULT_SKIP_LOCKED_ACQUIRE_CANDIDATE_FACTOR;
+    }
+
     Duration getLockWaitTime();
 
     Duration getLockPollRate();
@@ -207,6 +207,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
             }
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            lifecycleListener.optimisticLockingException(getEngineName(), asyncExecutor.getMaxTimerJobsPerAcquisition());
             logOptimisticLockingException(optimisticLockingException);
 
         } catch (Throwable e) {
@@ -24,4 +24,8 @@ public interface AcquireTimerLifecycleListener {
     void acquiredJobs(String engineName, int jobsAcquired, int maxTimerJobsPerAcquisition);
 
     void startWaiting(String engineName, long millisToWait);
+
+    default void optimisticLockingException(String engineName, int maxTimerJobsPerAcquisition) {
+
+    }
 }
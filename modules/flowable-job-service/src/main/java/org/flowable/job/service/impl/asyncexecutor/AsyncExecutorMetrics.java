@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * SPI for collecting metrics about an {@link AsyncExecutor}: the acquisition of async and timer jobs,
+ * the hand-off of jobs to the task executor, the execution of the jobs and the resetting of expired jobs.
+ * <p>
+ * Implementations are called from the acquisition and execution threads of the executor and thus need to be thread safe and cheap.
+ * The acquisition metrics are collected through the {@link AcquireAsyncJobsDueLifecycleListener} and {@link AcquireTimerLifecycleListener}
+ * (see {@link MetricsAcquireAsyncJobsDueLifecycleListener} and {@link MetricsAcquireTimerLifecycleListener}).
+ */
+public interface AsyncExecutorMetrics {
+
+    String ACQUISITION_TYPE_ASYNC_JOBS = "async";
+    String ACQUISITION_TYPE_TIMER_JOBS = "timer";
+
+    /**
+     * Called when the async executor is started, e.g. to register gauges on its task executor.
+     */
+    default void asyncExecutorStarted(String engineName, AsyncExecutor asyncExecutor) {
+
+    }
+
+    /**
+     * Called when the async executor is shut down.
+     */
+    default void asyncExecutorShutdown(String engineName, AsyncExecutor asyncExecutor) {
+
+    }
+
+    /**
+     * Called after one acquisition cycle in which jobs were fetched from the database.
+     *
+     * @param acquisitionType {@link #ACQUISITION_TYPE_ASYNC_JOBS} or {@link #ACQUISITION_TYPE_TIMER_JOBS}
+     */
+    void acquisitionCompleted(String engineName, String acquisitionType, long durationNanos, int jobsAcquired, int maxJobsPerAcquisition);
+
+    /**
+     * Called when an acquisition cycle failed because another node locked (part of) the same jobs.
+     */
+    void acquisitionOptimisticLockingException(String engineName, String acquisitionType);
+
+    /**
+     * Called when a job could not be handed over to the task executor, because its queue was full.
+     */
+    void jobRejected(String engineName, String jobHandlerType);
+
+    /**
+     * Called when a job was executed successfully.
+     */
+    void jobExecuted(String engineName, String jobHandlerType, long durationNanos);
+
+    /**
+     * Called when the execution of a job failed.
+     *
+     * @param retry whether the job has retries left and will be executed again
+     */
+    void jobFailed(String engineName, String jobHandlerType, long durationNanos, boolean retry);
+
+    /**
+     * Called when the execution of a job failed because the job was concurrently changed or executed by another executor.
+     */
+    void jobOptimisticLockingException(String engineName, String jobHandlerType);
+
+    /**
+     * Called after expired jobs have been reset so they can be acquired again.
+     */
+    void expiredJobsReset(String engineName, int jobsReset);
+
+}
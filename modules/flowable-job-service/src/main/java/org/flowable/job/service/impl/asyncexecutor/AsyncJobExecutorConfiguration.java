@@ -20,6 +20,8 @@ import java.util.UUID;
  */
 public class AsyncJobExecutorConfiguration {
 
+    public static final int DEFAULT_SKIP_LOCKED_ACQUIRE_CANDIDATE_FACTOR = 4;
+
     /**
      * Whether the thread for acquiring async jobs will be started.
      * This can be used to boot up engine instances that still execute jobs originating from this instance itself,
@@ -113,6 +115,23 @@ public class AsyncJobExecutorConfiguration {
      */
     protected String globalAcquireLockPrefix = "";
 
+    /**
+     * Whether async jobs should be acquired with a {@code SELECT ... FOR UPDATE SKIP LOCKED} (or the database specific equivalent) and a bulk lock update.
+     * Concurrent acquire threads then skip the jobs that are being acquired by another node, instead of colliding on them with an optimistic locking exception.
+     * Supported on PostgreSQL, MySQL 8, Oracle and SQL Server. On other databases the default acquisition is used.
+     * The global acquire lock takes precedence when both are enabled.
+     */
+    protected boolean skipLockedAcquireEnabled;
+    /**
+     * The number of candidate jobs, as a multiple of the number of jobs to acquire, that the skip locked acquisition considers on Oracle.
+     * Oracle can't limit the rows of a {@code SELECT ... FOR UPDATE}, hence the jobs are acquired from a window of the first candidates.
+     * A larger window allows concurrent acquisitions to fill their page by skipping each other's locked jobs,
+     * but the JDBC driver can fetch, and hence lock, candidates beyond the page until the acquire transaction commits.
+     * A factor of 1 bounds the locked jobs to the page, at the cost of concurrent acquisitions acquiring fewer (or no) jobs.
+     * Other databases limit the locked rows to the page themselves and ignore this setting.
+     */
+    protected int skipLockedAcquireCandidateFactor = DEFAULT_SKIP_LOCKED_ACQUIRE_CANDIDATE_FACTOR;
+
     /**
      * The amount of time the async job acquire thread should wait to acquire the global lock.
      */
@@ -334,6 +353,22 @@ public class AsyncJobExecutorConfiguration {
         this.globalAcquireLockPrefix = globalAcquireLockPrefix;
     }
 
+    public boolean isSkipLockedAcquireEnabled() {
+        return skipLockedAcquireEnabled;
+    }
+
+    public void setSkipLockedAcquireEnabled(boolean skipLockedAcquireEnabled) {
+        this.skipLockedAcquireEnabled = skipLockedAcquireEnabled;
+    }
+
+    public int getSkipLockedAcquireCandidateFactor() {
+        return skipLockedAcquireCandidateFactor;
+    }
+
+    public void setSkipLockedAcquireCandidateFactor(int skipLockedAcquireCandidateFactor) {
+        this.skipLockedAcquireCandidateFactor = skipLockedAcquireCandidateFactor;
+    }
+
     public Duration getAsyncJobsGlobalLockWaitTime() {
         return asyncJobsGlobalLockWaitTime;
     }
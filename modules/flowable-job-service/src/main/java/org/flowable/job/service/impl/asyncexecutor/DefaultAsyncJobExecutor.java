@@ -71,6 +71,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             return true;
 
         } catch (RejectedExecutionException e) {
+            recordRejectedJob(job);
             sendRejectedEvent(job);
             unacquireJobAfterRejection(job);
 
@@ -79,6 +80,12 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void recordRejectedJob(JobInfo job) {
+        if (asyncExecutorMetrics != null) {
+            asyncExecutorMetrics.jobRejected(jobServiceConfiguration.getEngineName(), job.getJobHandlerType());
+        }
+    }
+
     protected void sendRejectedEvent(JobInfo job) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
@@ -47,6 +47,7 @@ public class ExecuteAsyncRunnable implements Runnable {
     protected JobServiceConfiguration jobServiceConfiguration;
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
+    protected AsyncExecutorMetrics asyncExecutorMetrics;
 
     public ExecuteAsyncRunnable(String jobId, JobServiceConfiguration jobServiceConfiguration,
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
@@ -123,12 +124,21 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
 
     protected void executeJob(final boolean unlock) {
+        long startTime = asyncExecutorMetrics != null ? System.nanoTime() : 0L;
         try {
             jobServiceConfiguration.getCommandExecutor().execute(
                 new ExecuteAsyncRunnableJobCmd(jobId, jobEntityManager, jobServiceConfiguration, unlock));
 
+            if (asyncExecutorMetrics != null) {
+                asyncExecutorMetrics.jobExecuted(jobServiceConfiguration.getEngineName(), getJobHandlerType(), System.nanoTime() - startTime);
+            }
+
         } catch (final FlowableOptimisticLockingException e) {
 
+            if (asyncExecutorMetrics != null) {
+                asyncExecutorMetrics.jobOptimisticLockingException(jobServiceConfiguration.getEngineName(), getJobHandlerType());
+            }
+
             try {
                 handleFailedJob(e);
             } catch (Exception fe) {
@@ -143,10 +153,28 @@ public class ExecuteAsyncRunnable implements Runnable {
             }
 
         } catch (Throwable exception) {
+            if (asyncExecutorMetrics != null) {
+                asyncExecutorMetrics.jobFailed(jobServiceConfiguration.getEngineName(), getJobHandlerType(), System.nanoTime() - startTime,
+                        isRetriedAfterFailure());
+            }
             handleFailedJob(exception);
         }
     }
 
+    protected boolean isRetriedAfterFailure() {
+        if (job == null) {
+            // The job could not be found when the runnable started (e.g. it was deleted in the meantime), so there is no job left to retry
+            return false;
+        }
+
+        // The failed job handling decrements the retries of the job, so it will only be retried when more than one retry is left
+        return job.getRetries() > 1;
+    }
+
+    protected String getJobHandlerType() {
+        return job != null ? job.getJobHandlerType() : null;
+    }
+
     protected void unlockJobIfNeeded() {
         if (this.job instanceof HistoryJob) {
             return;
@@ -221,4 +249,12 @@ public class ExecuteAsyncRunnable implements Runnable {
         throw new FlowableException("Unable to handle exception " + exception.getMessage() + " for job " + job.getId() + ".", exception);
     }
 
+    public AsyncExecutorMetrics getAsyncExecutorMetrics() {
+        return asyncExecutorMetrics;
+    }
+
+    public void setAsyncExecutorMetrics(AsyncExecutorMetrics asyncExecutorMetrics) {
+        this.asyncExecutorMetrics = asyncExecutorMetrics;
+    }
+
 }
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * {@link AcquireAsyncJobsDueLifecycleListener} that reports the acquisition of async jobs to an {@link AsyncExecutorMetrics}
+ * and delegates all calls to an optional other listener.
+ * <p>
+ * The acquisition of async jobs runs on a single thread, so the state kept between the start and the end of an acquisition cycle is not shared.
+ */
+public class MetricsAcquireAsyncJobsDueLifecycleListener implements AcquireAsyncJobsDueLifecycleListener {
+
+    protected final AsyncExecutorMetrics metrics;
+    protected final AcquireAsyncJobsDueLifecycleListener delegate;
+
+    protected long acquisitionStartTime;
+    protected int jobsAcquired = -1;
+    protected int maxAsyncJobsDuePerAcquisition;
+
+    public MetricsAcquireAsyncJobsDueLifecycleListener(AsyncExecutorMetrics metrics, AcquireAsyncJobsDueLifecycleListener delegate) {
+        this.metrics = metrics;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void startAcquiring(String engineName, int remainingCapacity, int maxAsyncJobsDuePerAcquisition) {
+        this.acquisitionStartTime = System.nanoTime();
+        this.jobsAcquired = -1;
+        this.maxAsyncJobsDuePerAcquisition = maxAsyncJobsDuePerAcquisition;
+        if (delegate != null) {
+            delegate.startAcquiring(engineName, remainingCapacity, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void stopAcquiring(String engineName) {
+        // When the queue is full, no jobs are fetched and there is nothing to report
+        if (jobsAcquired >= 0) {
+            metrics.acquisitionCompleted(engineName, AsyncExecutorMetrics.ACQUISITION_TYPE_ASYNC_JOBS,
+                    System.nanoTime() - acquisitionStartTime, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+        }
+        if (delegate != null) {
+            delegate.stopAcquiring(engineName);
+        }
+    }
+
+    @Override
+    public void acquiredJobs(String engineName, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        this.jobsAcquired = jobsAcquired;
+        if (delegate != null) {
+            delegate.acquiredJobs(engineName, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void rejectedJobs(String engineName, int jobsRejected, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        // Rejections are reported by the async executor itself, as jobs can also be rejected outside of the acquisition
+        if (delegate != null) {
+            delegate.rejectedJobs(engineName, jobsRejected, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void optimistLockingException(String engineName, int maxAsyncJobsDuePerAcquisition) {
+        metrics.acquisitionOptimisticLockingException(engineName, AsyncExecutorMetrics.ACQUISITION_TYPE_ASYNC_JOBS);
+        if (delegate != null) {
+            delegate.optimistLockingException(engineName, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void startWaiting(String engineName, long millisToWait) {
+        if (delegate != null) {
+            delegate.startWaiting(engineName, millisToWait);
+        }
+    }
+
+    public AcquireAsyncJobsDueLifecycleListener getDelegate() {
+        return delegate;
+    }
+
+}
@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * {@link AcquireTimerLifecycleListener} that reports the acquisition of timer jobs to an {@link AsyncExecutorMetrics}
+ * and delegates all calls to an optional other listener.
+ * <p>
+ * The acquisition of timer jobs runs on a single thread, so the state kept between the start and the end of an acquisition cycle is not shared.
+ */
+public class MetricsAcquireTimerLifecycleListener implements AcquireTimerLifecycleListener {
+
+    protected final AsyncExecutorMetrics metrics;
+    protected final AcquireTimerLifecycleListener delegate;
+
+    protected long acquisitionStartTime;
+    protected int jobsAcquired = -1;
+    protected int maxTimerJobsPerAcquisition;
+
+    public MetricsAcquireTimerLifecycleListener(AsyncExecutorMetrics metrics, AcquireTimerLifecycleListener delegate) {
+        this.metrics = metrics;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void startAcquiring(String engineName, int maxTimerJobsPerAcquisition) {
+        this.acquisitionStartTime = System.nanoTime();
+        this.jobsAcquired = -1;
+        this.maxTimerJobsPerAcquisition = maxTimerJobsPerAcquisition;
+        if (delegate != null) {
+            delegate.startAcquiring(engineName, maxTimerJobsPerAcquisition);
+        }
+    }
+
+    @Override
+    public void stopAcquiring(String engineName) {
+        if (jobsAcquired >= 0) {
+            metrics.acquisitionCompleted(engineName, AsyncExecutorMetrics.ACQUISITION_TYPE_TIMER_JOBS,
+                    System.nanoTime() - acquisitionStartTime, jobsAcquired, maxTimerJobsPerAcquisition);
+        }
+        if (delegate != null) {
+            delegate.stopAcquiring(engineName);
+        }
+    }
+
+    @Override
+    public void acquiredJobs(String engineName, int jobsAcquired, int maxTimerJobsPerAcquisition) {
+        this.jobsAcquired = jobsAcquired;
+        if (delegate != null) {
+            delegate.acquiredJobs(engineName, jobsAcquired, maxTimerJobsPerAcquisition);
+        }
+    }
+
+    @Override
+    public void optimisticLockingException(String engineName, int maxTimerJobsPerAcquisition) {
+        metrics.acquisitionOptimisticLockingException(engineName, AsyncExecutorMetrics.ACQUISITION_TYPE_TIMER_JOBS);
+        if (delegate != null) {
+            delegate.optimisticLockingException(engineName, maxTimerJobsPerAcquisition);
+        }
+    }
+
+    @Override
+    public void startWaiting(String engineName, long millisToWait) {
+        if (delegate != null) {
+            delegate.startWaiting(engineName, millisToWait);
+        }
+    }
+
+    public AcquireTimerLifecycleListener getDelegate() {
+        return delegate;
+    }
+
+}
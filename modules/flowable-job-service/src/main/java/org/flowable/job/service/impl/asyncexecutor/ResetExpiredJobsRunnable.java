@@ -43,6 +43,7 @@ public class ResetExpiredJobsRunnable implements Runnable {
     protected final String name;
     protected final AsyncExecutor asyncExecutor;
     protected final Collection<JobInfoEntityManager<? extends JobInfoEntity>> jobInfoEntityManagers;
+    protected AsyncExecutorMetrics asyncExecutorMetrics;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -114,6 +115,10 @@ public class ResetExpiredJobsRunnable implements Runnable {
                     asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(
                             new ResetExpiredJobsCmd(expiredJobIds, jobEntityManager, jobServiceConfiguration));
 
+                    if (asyncExecutorMetrics != null) {
+                        asyncExecutorMetrics.expiredJobsReset(getEngineName(), expiredJobIds.size());
+                    }
+
                 } else {
                     hasExpiredJobs = false;
 
@@ -158,4 +163,12 @@ public class ResetExpiredJobsRunnable implements Runnable {
     public void setInterrupted(boolean interrupted) {
         isInterrupted = interrupted;
     }
+
+    public AsyncExecutorMetrics getAsyncExecutorMetrics() {
+        return asyncExecutorMetrics;
+    }
+
+    public void setAsyncExecutorMetrics(AsyncExecutorMetrics asyncExecutorMetrics) {
+        this.asyncExecutorMetrics = asyncExecutorMetrics;
+    }
 }
@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutorConfiguration;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Acquires async jobs by selecting them with {@code SELECT ... FOR UPDATE SKIP LOCKED} (or the database specific equivalent)
+ * and locking them with one bulk update in the same transaction.
+ * <p>
+ * The selected rows stay locked until the transaction commits, so concurrent acquire threads skip them instead of
+ * running into an optimistic locking exception. Unlike with the global acquire lock, multiple nodes can acquire at the same time.
+ * On databases (or database versions) that don't support skipping locked rows, and for job entity managers other than
+ * the {@link JobEntityManager} and the {@link HistoryJobEntityManager}, this falls back to the default {@link AcquireJobsCmd} behaviour.
+ */
+public class AcquireJobsWithSkipLockedCmd extends AcquireJobsCmd {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AcquireJobsWithSkipLockedCmd.class);
+
+    protected static final Set<String> SKIP_LOCKED_DATABASE_TYPES = Set.of(
+            AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES,
+            AbstractEngineConfiguration.DATABASE_TYPE_MYSQL,
+            AbstractEngineConfiguration.DATABASE_TYPE_ORACLE,
+            AbstractEngineConfiguration.DATABASE_TYPE_MSSQL
+    );
+
+    protected static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+)\\.(\\d+)");
+
+    // MySQL Connector/J reports MariaDB versions with this prefix (e.g. 5.5.5-10.6.12-MariaDB)
+    protected static final String MARIADB_VERSION_PREFIX = "5.5.5-";
+
+    protected final int candidateFactor;
+
+    public AcquireJobsWithSkipLockedCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this(asyncExecutor, remainingCapacity, jobEntityManager, AsyncJobExecutorConfiguration.DEFAULT_SKIP_LOCKED_ACQUIRE_CANDIDATE_FACTOR);
+    }
+
+    /**
+     * @param candidateFactor the number of candidate jobs, as a multiple of the number of jobs to acquire, on databases that can't limit
+     *        the rows of a {@code SELECT ... FOR UPDATE} (see {@link AsyncJobExecutorConfiguration#setSkipLockedAcquireCandidateFactor(int)})
+     */
+    public AcquireJobsWithSkipLockedCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            int candidateFactor) {
+        super(asyncExecutor, remainingCapacity, jobEntityManager);
+        this.candidateFactor = Math.max(1, candidateFactor);
+    }
+
+    @Override
+    public List<? extends JobInfoEntity> execute(CommandContext commandContext) {
+        if (!isSkipLockedSupported(commandContext)) {
+            return super.execute(commandContext);
+        }
+
+        int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        List<String> enabledCategories = asyncExecutor.getJobServiceConfiguration().getEnabledJobCategories();
+        Page page = new Page(0, maxResults);
+        int candidateLimit = maxResults * candidateFactor;
+
+        // The selected rows are locked until the end of the transaction, which means that no other node can acquire them in the meantime.
+        // Hence the bulk update doesn't need a revision check.
+        GregorianCalendar jobExpirationTime = calculateLockExpirationTime(asyncExecutor.getAsyncJobLockTimeInMillis(), asyncExecutor.getJobServiceConfiguration());
+        Date lockExpirationTime = jobExpirationTime.getTime();
+
+        if (jobEntityManager instanceof JobEntityManager) {
+            return ((JobEntityManager) jobEntityManager)
+                    .findJobsToExecuteAndLockInBulkWithSkipLocked(enabledCategories, page, candidateLimit, asyncExecutor.getLockOwner(), lockExpirationTime);
+        } else {
+            return ((HistoryJobEntityManager) jobEntityManager)
+                    .findJobsToExecuteAndLockInBulkWithSkipLocked(enabledCategories, page, candidateLimit, asyncExecutor.getLockOwner(), lockExpirationTime);
+        }
+    }
+
+    protected boolean isSkipLockedSupported(CommandContext commandContext) {
+        if (!(jobEntityManager instanceof JobEntityManager) && !(jobEntityManager instanceof HistoryJobEntityManager)) {
+            return false;
+        }
+
+        DbSqlSession dbSqlSession = CommandContextUtil.getDbSqlSession(commandContext);
+        String databaseType = dbSqlSession.getDbSqlSessionFactory().getDatabaseType();
+        if (!isSkipLockedSupported(databaseType)) {
+            return false;
+        }
+
+        if (AbstractEngineConfiguration.DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            // The mysql database type is also used for MariaDB, and SKIP LOCKED is only available as of MySQL 8.0 and MariaDB 10.6
+            try {
+                DatabaseMetaData metaData = dbSqlSession.getSqlSession().getConnection().getMetaData();
+                return isMySqlSkipLockedSupported(metaData.getDatabaseProductName(), metaData.getDatabaseProductVersion());
+
+            } catch (SQLException e) {
+                LOGGER.warn("Could not determine the database version, falling back to acquiring jobs without skip locked", e);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public static boolean isSkipLockedSupported(String databaseType) {
+        return databaseType != null && SKIP_LOCKED_DATABASE_TYPES.contains(databaseType);
+    }
+
+    public static boolean isMySqlSkipLockedSupported(String databaseProductName, String databaseProductVersion) {
+        if (databaseProductVersion == null) {
+            return false;
+        }
+
+        boolean mariaDb = (databaseProductName != null && databaseProductName.contains("MariaDB")) || databaseProductVersion.contains("MariaDB");
+        if (mariaDb) {
+            String version = databaseProductVersion.startsWith(MARIADB_VERSION_PREFIX)
+                    ? databaseProductVersion.substring(MARIADB_VERSION_PREFIX.length()) : databaseProductVersion;
+            return isVersionAtLeast(version, 10, 6);
+        }
+
+        return isVersionAtLeast(databaseProductVersion, 8, 0);
+    }
+
+    protected static boolean isVersionAtLeast(String version, int major, int minor) {
+        Matcher matcher = VERSION_PATTERN.matcher(version);
+        if (!matcher.find()) {
+            return false;
+        }
+
+        int actualMajor = Integer.parseInt(matcher.group(1));
+        int actualMinor = Integer.parseInt(matcher.group(2));
+        return actualMajor > major || (actualMajor == major && actualMinor >= minor);
+    }
+
+}
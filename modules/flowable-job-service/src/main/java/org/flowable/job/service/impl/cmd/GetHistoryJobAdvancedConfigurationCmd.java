@@ -49,7 +49,11 @@ public class GetHistoryJobAdvancedConfigurationCmd implements Command<String> {
         if (historyJobEntity == null) {
             throw new JobNotFoundException(historyJobId);
         }
-        return historyJobEntity.getAdvancedJobHandlerConfiguration();
+        if (historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef() == null) {
+            return null;
+        }
+        byte[] bytes = historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(historyJobEntity.getScopeType());
+        return jobServiceConfiguration.getAsyncHistoryPayloadCodec().toJson(bytes);
     }
 
 }
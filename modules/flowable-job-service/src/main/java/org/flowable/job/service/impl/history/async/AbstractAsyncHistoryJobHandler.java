@@ -27,7 +27,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -50,13 +49,12 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
     @Override
     public void execute(HistoryJobEntity job, String configuration, CommandContext commandContext,
             JobServiceConfiguration jobServiceConfiguration) {
-        ObjectMapper objectMapper = commandContext.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
 
             JsonNode historyNode;
             try {
                 byte[] bytes = getJobBytes(job);
-                historyNode = objectMapper.readTree(bytes);
+                historyNode = jobServiceConfiguration.getAsyncHistoryPayloadCodec().decode(bytes);
             } catch (Exception e) {
                 // The transaction will be rolled back and the job retries decremented,
                 // which is different from unacquiring the job where the retries are not changed.
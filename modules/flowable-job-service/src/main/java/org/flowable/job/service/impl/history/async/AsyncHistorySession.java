@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.context.Context;
@@ -88,6 +89,53 @@ public class AsyncHistorySession implements Session {
         
         asyncHistorySessionData.addJobData(type, data);
     }
+
+    /**
+     * Adds historic data for the entity with the given id, which can then be found with {@link #findEntityHistoricData(JobServiceConfiguration, String, String)}.
+     */
+    public void addEntityHistoricData(JobServiceConfiguration jobServiceConfiguration, String type, String entityId, ObjectNode data) {
+        addHistoricData(jobServiceConfiguration, type, data);
+        sessionData.get(jobServiceConfiguration).addEntityJobData(type, entityId, data);
+    }
+
+    /**
+     * Returns the historic data of the given type that was added earlier in this session with
+     * {@link #addEntityHistoricData(JobServiceConfiguration, String, String, ObjectNode)} for the entity with the given id, or null if there is none.
+     * Used to coalesce consecutive changes of the same entity (e.g. a variable that is created and updated in the same transaction)
+     * into one entry, instead of adding an entry for each change.
+     */
+    public ObjectNode findEntityHistoricData(JobServiceConfiguration jobServiceConfiguration, String type, String entityId) {
+        if (sessionData != null) {
+            AsyncHistorySessionData asyncHistorySessionData = sessionData.get(jobServiceConfiguration);
+            if (asyncHistorySessionData != null) {
+                return asyncHistorySessionData.findEntityJobData(type, entityId);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the historic data of the given type that was added earlier in this session and matches the given predicate, or null if there is none.
+     * This goes over all historic data of the type, use {@link #findEntityHistoricData(JobServiceConfiguration, String, String)} when possible.
+     */
+    public ObjectNode findHistoricData(JobServiceConfiguration jobServiceConfiguration, String type, Predicate<ObjectNode> predicate) {
+        if (sessionData != null) {
+            AsyncHistorySessionData asyncHistorySessionData = sessionData.get(jobServiceConfiguration);
+            if (asyncHistorySessionData != null) {
+                return asyncHistorySessionData.findJobData(type, predicate);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the content of historic data that was added earlier in this session, keeping its position in the session.
+     */
+    public void replaceHistoricData(JobServiceConfiguration jobServiceConfiguration, ObjectNode existingData, ObjectNode data) {
+        existingData.removeAll();
+        existingData.setAll(data);
+        existingData.put(TIMESTAMP, AsyncHistoryDateUtil.formatDate(jobServiceConfiguration.getClock().getCurrentTime()));
+    }
     
     @Override
     public void flush() {
@@ -141,12 +189,14 @@ public class AsyncHistorySession implements Session {
     public static class AsyncHistorySessionData { 
         
         protected Map<String, List<ObjectNode>> jobData = new LinkedHashMap<>(); // A map of {type, list of map-data (the historical event)}. Linked because insertion order is important
+        protected Map<String, Map<String, ObjectNode>> entityJobData = new HashMap<>(); // A map of {type, {entity id, map-data}} for the data that can be found by entity id
         
         public Map<String, List<ObjectNode>> getJobData() {
             return jobData;
         }
         public void setJobData(Map<String, List<ObjectNode>> jobData) {
             this.jobData = jobData;
+            this.entityJobData.clear();
         }
         public void addJobData(String type, ObjectNode data) {
             if (!jobData.containsKey(type)) {
@@ -154,6 +204,27 @@ public class AsyncHistorySession implements Session {
             }
             jobData.get(type).add(data);
         }
+
+        public void addEntityJobData(String type, String entityId, ObjectNode data) {
+            entityJobData.computeIfAbsent(type, key -> new HashMap<>()).put(entityId, data);
+        }
+
+        public ObjectNode findEntityJobData(String type, String entityId) {
+            Map<String, ObjectNode> dataByEntityId = entityJobData.get(type);
+            return dataByEntityId != null ? dataByEntityId.get(entityId) : null;
+        }
+
+        public ObjectNode findJobData(String type, Predicate<ObjectNode> predicate) {
+            List<ObjectNode> dataList = jobData.get(type);
+            if (dataList != null) {
+                for (ObjectNode data : dataList) {
+                    if (predicate.test(data)) {
+                        return data;
+                    }
+                }
+            }
+            return null;
+        }
         
     }
 }
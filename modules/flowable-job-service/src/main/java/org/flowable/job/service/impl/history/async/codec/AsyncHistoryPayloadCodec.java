@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Encodes the history data of an async history job into the bytes stored with the job, and decodes them again when the job is executed.
+ *
+ * Implementations must be able to decode the plain JSON payloads of history jobs created before the codec was configured,
+ * as such jobs might still be waiting to be executed.
+ */
+public interface AsyncHistoryPayloadCodec {
+
+    byte[] encode(JsonNode historyData);
+
+    JsonNode decode(byte[] bytes);
+
+    /**
+     * Returns the given payload as JSON text, e.g. to expose the history data of a job through the API.
+     */
+    default String toJson(byte[] bytes) {
+        return decode(bytes).toString();
+    }
+
+}
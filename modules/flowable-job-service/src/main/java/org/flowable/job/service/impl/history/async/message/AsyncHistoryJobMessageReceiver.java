@@ -12,7 +12,6 @@
  */
 package org.flowable.job.service.impl.history.async.message;
 
-import java.io.IOException;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -27,7 +26,6 @@ import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Experimental.
@@ -93,13 +91,9 @@ public class AsyncHistoryJobMessageReceiver {
     }
     
     protected JsonNode getHistoryJobData(CommandContext commandContext, HistoryJobEntity job) {
-        ObjectMapper objectMapper = jobServiceConfiguration.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
-            try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName()));
-            } catch (IOException e) {
-                throw new FlowableException("Could not deserialize json for history job data", e);
-            }
+            return jobServiceConfiguration.getAsyncHistoryPayloadCodec()
+                    .decode(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName()));
         }
         return null;
     }
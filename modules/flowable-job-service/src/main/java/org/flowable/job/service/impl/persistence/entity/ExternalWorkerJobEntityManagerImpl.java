@@ -15,9 +15,13 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobNotifier;
 import org.flowable.job.service.impl.ExternalWorkerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDataManager;
 
@@ -55,9 +59,28 @@ public class ExternalWorkerJobEntityManagerImpl
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
         super.insert(jobEntity, fireCreateEvent);
+        notifyJobAvailable(jobEntity);
         return true;
     }
 
+    /**
+     * Wakes up the long polling acquires waiting for jobs of the topic, once the transaction creating the job has committed.
+     */
+    protected void notifyJobAvailable(ExternalWorkerJobEntity jobEntity) {
+        ExternalWorkerJobNotifier externalWorkerJobNotifier = serviceConfiguration.getExternalWorkerJobNotifier();
+        if (externalWorkerJobNotifier == null) {
+            return;
+        }
+
+        String topic = jobEntity.getJobHandlerConfiguration();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> externalWorkerJobNotifier.notifyJobAvailable(topic));
+        } else {
+            externalWorkerJobNotifier.notifyJobAvailable(topic);
+        }
+    }
+
     @Override
     public ExternalWorkerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
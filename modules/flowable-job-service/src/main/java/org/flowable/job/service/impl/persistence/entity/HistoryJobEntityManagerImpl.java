@@ -13,10 +13,12 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -60,6 +62,16 @@ public class HistoryJobEntityManagerImpl
         return dataManager.findHistoryJobCountByQueryCriteria(jobQuery);
     }
 
+    @Override
+    public List<HistoryJobEntity> findJobsToExecuteAndLockInBulkWithSkipLocked(List<String> enabledCategories, Page page, int candidateLimit,
+            String lockOwner, Date lockExpirationTime) {
+        List<HistoryJobEntity> jobs = dataManager.findJobsToExecuteWithSkipLocked(enabledCategories, page, candidateLimit);
+        if (!jobs.isEmpty()) {
+            bulkUpdateJobLockWithoutRevisionCheck(jobs, lockOwner, lockExpirationTime);
+        }
+        return jobs;
+    }
+
     @Override
     public void delete(HistoryJobEntity jobEntity) {
         super.delete(jobEntity, false);
@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -45,5 +47,16 @@ public interface JobEntityManager extends EntityManager<JobEntity>, JobInfoEntit
      * Same as {@link #findJobsByQueryCriteria(JobQueryImpl)}, but only returns a count and not the instances itself.
      */
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
+
+    /**
+     * Returns the {@link JobEntity} instances that are eligible to be executed and locks them with one bulk update.
+     * The jobs are selected with {@code FOR UPDATE SKIP LOCKED} (or the database specific equivalent), so jobs that are being acquired
+     * in a concurrent transaction are skipped.
+     * On databases that can't limit the rows of a {@code SELECT ... FOR UPDATE}, the jobs are selected from the first {@code candidateLimit} candidates.
+     *
+     * Used by the {@link org.flowable.job.service.impl.cmd.AcquireJobsWithSkipLockedCmd}.
+     */
+    List<JobEntity> findJobsToExecuteAndLockInBulkWithSkipLocked(List<String> enabledCategories, Page page, int candidateLimit, String lockOwner,
+            Date lockExpirationTime);
     
 }
@@ -14,6 +14,7 @@ package org.flowable.job.service.impl.persistence.entity.data;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.service.impl.HistoryJobQueryImpl;
@@ -27,5 +28,12 @@ public interface HistoryJobDataManager extends DataManager<HistoryJobEntity>, Jo
     List<HistoryJob> findHistoryJobsByQueryCriteria(HistoryJobQueryImpl query);
 
     long findHistoryJobCountByQueryCriteria(HistoryJobQueryImpl query);
+
+    /**
+     * Returns the history jobs that are eligible to be executed, row locking them until the end of the transaction
+     * and skipping the ones that are already row locked by a concurrent transaction.
+     * On databases that can't limit the rows of a {@code SELECT ... FOR UPDATE}, the jobs are selected from the first {@code candidateLimit} candidates.
+     */
+    List<HistoryJobEntity> findJobsToExecuteWithSkipLocked(List<String> enabledCategories, Page page, int candidateLimit);
     
 }
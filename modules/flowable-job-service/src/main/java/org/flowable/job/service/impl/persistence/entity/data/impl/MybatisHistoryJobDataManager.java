@@ -64,6 +64,21 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> findJobsToExecuteWithSkipLocked(List<String> enabledCategories, Page page, int candidateLimit) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("jobExecutionScope", jobServiceConfiguration.getHistoryJobExecutionScope());
+        parameters.put("candidateLimit", candidateLimit);
+
+        ListQueryParameterObject params = new ListQueryParameterObject();
+        params.setParameter(parameters);
+        params.setFirstResult(page.getFirstResult());
+        params.setMaxResults(page.getMaxResults());
+        params.addOrder("CREATE_TIME_", Direction.ASCENDING.getName(), null);
+        return getDbSqlSession().selectListWithMaxRows("selectHistoryJobsToExecuteWithSkipLocked", params, page.getMaxResults());
+    }
+
     @Override
     public List<HistoryJobEntity> findJobsByExecutionId(final String executionId) {
         return getDbSqlSession().selectList("selectHistoryJobsByExecutionId", executionId);
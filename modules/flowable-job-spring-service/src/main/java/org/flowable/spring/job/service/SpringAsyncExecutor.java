@@ -62,6 +62,7 @@ public class SpringAsyncExecutor extends DefaultAsyncJobExecutor {
             taskExecutor.execute(createRunnableForJob(job));
             return true;
         } catch (RejectedExecutionException e) {
+            recordRejectedJob(job);
             sendRejectedEvent(job);
             if (rejectedJobsHandler == null) {
                 unacquireJobAfterRejection(job);
@@ -131,6 +131,11 @@ public class FlowableProperties {
     private Duration historyCleaningAfter = Duration.ofDays(365);
     private int historyCleaningBatchSize = 100;
 
+    /**
+     * Whether the history cleaning should delete the batch parts in parallel on the async executor(s) instead of one after the other.
+     */
+    private boolean historyCleaningInParallel = false;
+
     public boolean isAsyncExecutorActivate() {
         return asyncExecutorActivate;
     }
@@ -386,4 +391,12 @@ public class FlowableProperties {
     public void setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
         this.historyCleaningBatchSize = historyCleaningBatchSize;
     }
+
+    public boolean isHistoryCleaningInParallel() {
+        return historyCleaningInParallel;
+    }
+
+    public void setHistoryCleaningInParallel(boolean historyCleaningInParallel) {
+        this.historyCleaningInParallel = historyCleaningInParallel;
+    }
 }
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import org.flowable.cmmn.spring.SpringCmmnEngineConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutorMetrics;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.cmmn.CmmnEngineAutoConfiguration;
+import org.flowable.spring.boot.condition.ConditionalOnCmmnEngine;
+import org.flowable.spring.boot.condition.ConditionalOnProcessEngine;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Auto configuration publishing the metrics of the process and CMMN async executors to the Micrometer {@link MeterRegistry}.
+ */
+@AutoConfiguration(
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        before = {
+                ProcessEngineAutoConfiguration.class,
+                CmmnEngineAutoConfiguration.class
+        }
+)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+public class FlowableAsyncExecutorMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AsyncExecutorMetrics flowableAsyncExecutorMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerAsyncExecutorMetrics(meterRegistry);
+    }
+
+    protected static void setAsyncExecutorMetrics(AsyncExecutor asyncExecutor, AsyncExecutorMetrics asyncExecutorMetrics) {
+        if (asyncExecutor instanceof AbstractAsyncExecutor && ((AbstractAsyncExecutor) asyncExecutor).getAsyncExecutorMetrics() == null) {
+            ((AbstractAsyncExecutor) asyncExecutor).setAsyncExecutorMetrics(asyncExecutorMetrics);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProcessEngine
+    public static class ProcessAsyncExecutorMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "asyncExecutorMetricsProcessEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> asyncExecutorMetricsProcessEngineConfigurationConfigurer(
+                AsyncExecutorMetrics asyncExecutorMetrics) {
+
+            return processEngineConfiguration -> setAsyncExecutorMetrics(processEngineConfiguration.getAsyncExecutor(), asyncExecutorMetrics);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnCmmnEngine
+    public static class CmmnAsyncExecutorMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "asyncExecutorMetricsCmmnEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringCmmnEngineConfiguration> asyncExecutorMetricsCmmnEngineConfigurationConfigurer(
+                AsyncExecutorMetrics asyncExecutorMetrics) {
+
+            return cmmnEngineConfiguration -> setAsyncExecutorMetrics(cmmnEngineConfiguration.getAsyncExecutor(), asyncExecutorMetrics);
+        }
+    }
+}
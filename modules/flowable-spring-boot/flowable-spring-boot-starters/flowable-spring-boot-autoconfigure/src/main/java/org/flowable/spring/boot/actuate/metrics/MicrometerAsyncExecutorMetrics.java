@@ -0,0 +1,186 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.common.spring.async.SpringAsyncTaskExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutorMetrics;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link AsyncExecutorMetrics} implementation publishing the metrics of the async executors to a Micrometer {@link MeterRegistry}.
+ * All meters are tagged with the name of the engine the async executor belongs to.
+ */
+public class MicrometerAsyncExecutorMetrics implements AsyncExecutorMetrics {
+
+    public static final String METRIC_PREFIX = "flowable.async.executor.";
+
+    protected static final String TAG_ENGINE = "engine";
+    protected static final String TAG_ACQUISITION_TYPE = "type";
+    protected static final String TAG_JOB_HANDLER_TYPE = "handler";
+    protected static final String TAG_OUTCOME = "outcome";
+    protected static final String UNKNOWN = "unknown";
+
+    protected final MeterRegistry meterRegistry;
+    protected final Map<AsyncExecutor, List<Meter>> executorGauges = new ConcurrentHashMap<>();
+
+    public MicrometerAsyncExecutorMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void asyncExecutorStarted(String engineName, AsyncExecutor asyncExecutor) {
+        List<Meter> gauges = new ArrayList<>();
+        gauges.add(Gauge.builder(METRIC_PREFIX + "remaining.capacity", asyncExecutor, MicrometerAsyncExecutorMetrics::getRemainingCapacity)
+                .description("The number of jobs the task executor of the async executor can still accept")
+                .tag(TAG_ENGINE, tagValue(engineName))
+                .register(meterRegistry));
+        gauges.add(Gauge.builder(METRIC_PREFIX + "queue.size", asyncExecutor, MicrometerAsyncExecutorMetrics::getQueueSize)
+                .description("The number of jobs waiting in the queue of the task executor of the async executor")
+                .tag(TAG_ENGINE, tagValue(engineName))
+                .register(meterRegistry));
+        executorGauges.put(asyncExecutor, gauges);
+    }
+
+    @Override
+    public void asyncExecutorShutdown(String engineName, AsyncExecutor asyncExecutor) {
+        List<Meter> gauges = executorGauges.remove(asyncExecutor);
+        if (gauges != null) {
+            gauges.forEach(meterRegistry::remove);
+        }
+    }
+
+    @Override
+    public void acquisitionCompleted(String engineName, String acquisitionType, long durationNanos, int jobsAcquired, int maxJobsPerAcquisition) {
+        Timer.builder(METRIC_PREFIX + "acquisition")
+                .description("The time it takes to acquire a batch of jobs")
+                .tag(TAG_ENGINE, tagValue(engineName))
+                .tag(TAG_ACQUISITION_TYPE, acquisitionType)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder(METRIC_PREFIX + "acquisition.jobs")
+                .description("The number of jobs acquired in one acquisition cycle")
+                .tag(TAG_ENGINE, tagValue(engineName))
+                .tag(TAG_ACQUISITION_TYPE, acquisitionType)
+                .register(meterRegistry)
+                .record(jobsAcquired);
+
+        if (maxJobsPerAcquisition > 0) {
+            DistributionSummary.builder(METRIC_PREFIX + "acquisition.fill.ratio")
+                    .description("The number of acquired jobs relative to the maximum number of jobs per acquisition")
+                    .tag(TAG_ENGINE, tagValue(engineName))
+                    .tag(TAG_ACQUISITION_TYPE, acquisitionType)
+                    .register(meterRegistry)
+                    .record((double) jobsAcquired / maxJobsPerAcquisition);
+        }
+    }
+
+    @Override
+    public void acquisitionOptimisticLockingException(String engineName, String acquisitionType) {
+        Counter.builder(METRIC_PREFIX + "acquisition.optimistic.locking.exceptions")
+                .description("The number of acquisition cycles that failed because another node acquired the same jobs")
+                .tag(TAG_ENGINE, tagValue(engineName))
+                .tag(TAG_ACQUISITION_TYPE, acquisitionType)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void jobRejected(String engineName, String jobHandlerType) {
+        Counter.builder(METRIC_PREFIX + "jobs.rejected")
+                .description("The number of jobs that were rejected by the task executor because its queue was full")
+                .tag(TAG_ENGINE, tagValue(engineName))
+                .tag(TAG_JOB_HANDLER_TYPE, tagValue(jobHandlerType))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void jobExecuted(String engineName, String jobHandlerType, long durationNanos) {
+        recordJobExecution(engineName, jobHandlerType, "success", durationNanos);
+    }
+
+    @Override
+    public void jobFailed(String engineName, String jobHandlerType, long durationNanos, boolean retry) {
+        recordJobExecution(engineName, jobHandlerType, retry ? "retry" : "failure", durationNanos);
+    }
+
+    @Override
+    public void jobOptimisticLockingException(String engineName, String jobHandlerType) {
+        Counter.builder(METRIC_PREFIX + "jobs.optimistic.locking.exceptions")
+                .description("The number of job executions that failed because the job was changed concurrently")
+                .tag(TAG_ENGINE, tagValue(engineName))
+                .tag(TAG_JOB_HANDLER_TYPE, tagValue(jobHandlerType))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void expiredJobsReset(String engineName, int jobsReset) {
+        Counter.builder(METRIC_PREFIX + "expired.jobs.reset")
+                .description("The number of expired jobs that were reset")
+                .tag(TAG_ENGINE, tagValue(engineName))
+                .register(meterRegistry)
+                .increment(jobsReset);
+    }
+
+    protected void recordJobExecution(String engineName, String jobHandlerType, String outcome, long durationNanos) {
+        Timer.builder(METRIC_PREFIX + "job.execution")
+                .description("The time it takes to execute a job")
+                .tag(TAG_ENGINE, tagValue(engineName))
+                .tag(TAG_JOB_HANDLER_TYPE, tagValue(jobHandlerType))
+                .tag(TAG_OUTCOME, outcome)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    protected static String tagValue(String value) {
+        return value != null ? value : UNKNOWN;
+    }
+
+    protected static double getRemainingCapacity(AsyncExecutor asyncExecutor) {
+        AsyncTaskExecutor taskExecutor = asyncExecutor.getTaskExecutor();
+        return taskExecutor != null ? taskExecutor.getRemainingCapacity() : Double.NaN;
+    }
+
+    protected static double getQueueSize(AsyncExecutor asyncExecutor) {
+        AsyncTaskExecutor taskExecutor = asyncExecutor.getTaskExecutor();
+        BlockingQueue<Runnable> queue = null;
+        if (taskExecutor instanceof DefaultAsyncTaskExecutor) {
+            queue = ((DefaultAsyncTaskExecutor) taskExecutor).getThreadPoolQueue();
+        } else if (taskExecutor instanceof SpringAsyncTaskExecutor
+                && ((SpringAsyncTaskExecutor) taskExecutor).getAsyncTaskExecutor() instanceof ThreadPoolTaskExecutor) {
+            ThreadPoolTaskExecutor threadPoolTaskExecutor = (ThreadPoolTaskExecutor) ((SpringAsyncTaskExecutor) taskExecutor).getAsyncTaskExecutor();
+            queue = threadPoolTaskExecutor.getThreadPoolExecutor().getQueue();
+        }
+        return queue != null ? queue.size() : Double.NaN;
+    }
+
+}
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.spring.boot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.flowable.test.spring.boot.util.DeploymentCleanerUtil.deleteDeployments;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutorMetrics;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.ProcessEngineServicesAutoConfiguration;
+import org.flowable.spring.boot.actuate.metrics.FlowableAsyncExecutorMetricsAutoConfiguration;
+import org.flowable.spring.boot.actuate.metrics.MicrometerAsyncExecutorMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class FlowableAsyncExecutorMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            FlowableAsyncExecutorMetricsAutoConfiguration.class,
+            ProcessEngineServicesAutoConfiguration.class,
+            ProcessEngineAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            DataSourceAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+        ))
+        .withPropertyValues("flowable.cmmn.enabled=false")
+        .withClassLoader(new FilteredClassLoader(EntityManagerFactory.class));
+
+    @Test
+    public void withoutMeterRegistry() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(AsyncExecutorMetrics.class);
+
+            ProcessEngine processEngine = context.getBean(ProcessEngine.class);
+            AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            assertThat(asyncExecutor.getAsyncExecutorMetrics()).isNull();
+
+            deleteDeployments(processEngine);
+        });
+    }
+
+    @Test
+    public void withMeterRegistry() {
+        contextRunner
+            .withUserConfiguration(MeterRegistryConfiguration.class)
+            .withPropertyValues("flowable.async-executor-activate=true")
+            .run(context -> {
+                assertThat(context).hasSingleBean(AsyncExecutorMetrics.class);
+                assertThat(context).getBean(AsyncExecutorMetrics.class).isInstanceOf(MicrometerAsyncExecutorMetrics.class);
+
+                ProcessEngine processEngine = context.getBean(ProcessEngine.class);
+                AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+                assertThat(asyncExecutor.getAsyncExecutorMetrics()).isSameAs(context.getBean(AsyncExecutorMetrics.class));
+
+                MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                assertThat(meterRegistry.find(MicrometerAsyncExecutorMetrics.METRIC_PREFIX + "remaining.capacity").gauge()).isNotNull();
+                assertThat(meterRegistry.find(MicrometerAsyncExecutorMetrics.METRIC_PREFIX + "queue.size").gauge()).isNotNull();
+
+                deleteDeployments(processEngine);
+
+                // The gauges of the executor are removed when it is shut down
+                asyncExecutor.shutdown();
+                assertThat(meterRegistry.find(MicrometerAsyncExecutorMetrics.METRIC_PREFIX + "remaining.capacity").gauge()).isNull();
+                assertThat(meterRegistry.find(MicrometerAsyncExecutorMetrics.METRIC_PREFIX + "queue.size").gauge()).isNull();
+            });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
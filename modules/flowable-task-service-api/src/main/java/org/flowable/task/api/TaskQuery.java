@@ -14,6 +14,8 @@ package org.flowable.task.api;
 
 import java.util.Collection;
 
+import org.flowable.common.engine.api.query.CursorQuery;
+
 /**
  * Allows programmatic querying of {@link Task}s;
  *
@@ -21,7 +23,7 @@ import java.util.Collection;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
+public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task>, CursorQuery<Task> {
 
     /** Only select tasks with the given {@link DelegationState}. */
     TaskQuery taskDelegationState(DelegationState delegationState);
@@ -36,6 +38,13 @@ public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
     /** Only select tasks that have no parent (i.e. do not select subtasks). */
     TaskQuery excludeSubtasks();
 
+    /**
+     * Only include the variables with the given names in the query result, when variables are included with
+     * {@link #includeTaskLocalVariables()}, {@link #includeProcessVariables()} or {@link #includeCaseVariables()}.
+     * The variables are then fetched with separate queries after the tasks, instead of being joined with the tasks.
+     */
+    TaskQuery limitIncludedVariables(Collection<String> variableNames);
+
     /**
      * Only selects tasks which are suspended, because its process instance was suspended.
      */
@@ -67,6 +67,7 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     
     protected boolean enableTaskRelationshipCounts;
     protected boolean enableLocalization;
+    protected boolean enableTwoPhaseRelatedEntityFetching;
     
     protected TaskQueryInterceptor taskQueryInterceptor;
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
@@ -247,6 +248,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableTwoPhaseRelatedEntityFetching() {
+        return enableTwoPhaseRelatedEntityFetching;
+    }
+
+    public TaskServiceConfiguration setEnableTwoPhaseRelatedEntityFetching(boolean enableTwoPhaseRelatedEntityFetching) {
+        this.enableTwoPhaseRelatedEntityFetching = enableTwoPhaseRelatedEntityFetching;
+        return this;
+    }
+
     public TaskQueryInterceptor getTaskQueryInterceptor() {
         return taskQueryInterceptor;
     }
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -224,6 +225,71 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return tasks;
     }
 
+    @Override
+    protected void executeForEach(CommandContext commandContext, Consumer<? super HistoricTaskInstance> consumer) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
+            throw new FlowableIllegalArgumentException("Variables and identity links can't be included when iterating over the historic tasks");
+        }
+
+        ensureVariablesInitialized();
+        if (taskServiceConfiguration.getHistoricTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getHistoricTaskQueryInterceptor().beforeHistoricTaskQueryExecute(this);
+        }
+
+        boolean localize = taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization();
+        taskServiceConfiguration.getHistoricTaskInstanceEntityManager().forEachHistoricTaskInstanceByQueryCriteria(this, task -> {
+            if (localize) {
+                taskServiceConfiguration.getInternalTaskLocalizationManager().localize(task, locale, withLocalizationFallback);
+            }
+            consumer.accept(task);
+        });
+    }
+
+    @Override
+    protected Object getKeysetValue(HistoricTaskInstance task, String columnName) {
+        // The name and description are not supported, as they can be localized
+        switch (columnName) {
+            case "RES.ID_":
+                return task.getId();
+            case "RES.PROC_DEF_ID_":
+                return task.getProcessDefinitionId();
+            case "RES.PROC_INST_ID_":
+                return task.getProcessInstanceId();
+            case "RES.EXECUTION_ID_":
+                return task.getExecutionId();
+            case "RES.ASSIGNEE_":
+                return task.getAssignee();
+            case "RES.OWNER_":
+                return task.getOwner();
+            case "RES.TASK_DEF_KEY_":
+                return task.getTaskDefinitionKey();
+            case "RES.DELETE_REASON_":
+                return task.getDeleteReason();
+            case "RES.START_TIME_":
+                return task.getCreateTime();
+            case "RES.END_TIME_":
+                return task.getEndTime();
+            case "RES.DURATION_":
+                return task.getDurationInMillis();
+            case "RES.PRIORITY_":
+                return task.getPriority();
+            case "RES.DUE_DATE_":
+                return task.getDueDate();
+            case "RES.TENANT_ID_":
+                return task.getTenantId();
+            case "RES.SCOPE_DEFINITION_ID_":
+                return task.getScopeDefinitionId();
+            case "RES.SCOPE_ID_":
+                return task.getScopeId();
+            case "RES.SCOPE_TYPE_":
+                return task.getScopeType();
+            case "RES.CATEGORY_":
+                return task.getCategory();
+            default:
+                return super.getKeysetValue(task, columnName);
+        }
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricTaskInstance> results, boolean local) {
         for (HistoricTaskInstance task : results) {
             if (Objects.equals(taskId, task.getId())) {
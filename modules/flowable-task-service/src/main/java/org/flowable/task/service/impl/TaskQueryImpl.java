@@ -14,18 +14,31 @@ package org.flowable.task.service.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.identitylink.service.IdentityLinkService;
+import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
+import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.DelegationState;
@@ -34,9 +47,11 @@ import org.flowable.task.api.TaskQuery;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.task.service.impl.util.TaskVariableUtils;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
+import org.flowable.variable.service.impl.persistence.entity.VariableInitializingList;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
@@ -143,6 +158,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean includeProcessVariables;
     protected boolean includeCaseVariables;
     protected boolean includeIdentityLinks;
+    protected Collection<String> includedVariableNames;
     protected String userIdForCandidateAndAssignee;
     protected boolean bothCandidateAndAssigned;
     protected String locale;
@@ -1766,6 +1782,15 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery limitIncludedVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is null or empty");
+        }
+        this.includedVariableNames = variableNames;
+        return this;
+    }
+
     public Collection<String> getCandidateGroups() {
         if (candidateGroup != null) {
             Collection<String> candidateGroupList = new ArrayList<>(1);
@@ -1941,7 +1966,12 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
                     .beforeTaskQueryExecute(this);
         }
 
-        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
+        if ((includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) && isFetchRelatedEntitiesSeparately()) {
+            tasks = taskServiceConfiguration.getTaskEntityManager()
+                    .findTasksByQueryCriteria(this);
+            fetchRelatedEntities(commandContext, tasks);
+
+        } else if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
             tasks = taskServiceConfiguration.getTaskEntityManager()
                     .findTasksWithRelatedEntitiesByQueryCriteria(this);
 
@@ -1973,6 +2003,103 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    /**
+     * When true, the tasks are queried without their variables and identity links, which are then fetched with separate queries
+     * for all tasks at once, instead of being joined with the tasks (which returns a row per combination of task, variable and identity link).
+     */
+    protected boolean isFetchRelatedEntitiesSeparately() {
+        return includedVariableNames != null || taskServiceConfiguration.isEnableTwoPhaseRelatedEntityFetching();
+    }
+
+    protected void fetchRelatedEntities(CommandContext commandContext, List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        Set<String> taskIds = new LinkedHashSet<>();
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        Set<String> scopeIds = new LinkedHashSet<>();
+        for (Task task : tasks) {
+            taskIds.add(task.getId());
+            if (task.getProcessInstanceId() != null) {
+                processInstanceIds.add(task.getProcessInstanceId());
+            }
+            if (task.getScopeId() != null) {
+                scopeIds.add(task.getScopeId());
+            }
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByTaskId = new HashMap<>();
+        if (includeTaskLocalVariables) {
+            for (List<String> taskIdsPart : CollectionUtil.partition(taskIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+                for (VariableInstanceEntity variable : createIncludedVariablesQuery().taskIds(taskIdsPart).list()) {
+                    variablesByTaskId.computeIfAbsent(variable.getTaskId(), key -> new ArrayList<>()).add(variable);
+                }
+            }
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByProcessInstanceId = new HashMap<>();
+        if (includeProcessVariables && !processInstanceIds.isEmpty()) {
+            for (List<String> processInstanceIdsPart : CollectionUtil.partition(processInstanceIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+                for (VariableInstanceEntity variable : createIncludedVariablesQuery().executionIds(processInstanceIdsPart).withoutTaskId().list()) {
+                    variablesByProcessInstanceId.computeIfAbsent(variable.getExecutionId(), key -> new ArrayList<>()).add(variable);
+                }
+            }
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByScopeId = new HashMap<>();
+        if (includeCaseVariables && !scopeIds.isEmpty()) {
+            for (List<String> scopeIdsPart : CollectionUtil.partition(scopeIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+                for (VariableInstanceEntity variable : createIncludedVariablesQuery().scopeIds(scopeIdsPart).scopeType(ScopeTypes.CMMN).withoutTaskId().list()) {
+                    variablesByScopeId.computeIfAbsent(variable.getScopeId(), key -> new ArrayList<>()).add(variable);
+                }
+            }
+        }
+
+        Map<String, List<IdentityLinkEntity>> identityLinksByTaskId = new HashMap<>();
+        if (includeIdentityLinks) {
+            for (IdentityLinkEntity identityLink : getIdentityLinkService(commandContext).findIdentityLinksByTaskIds(taskIds)) {
+                identityLinksByTaskId.computeIfAbsent(identityLink.getTaskId(), key -> new ArrayList<>()).add(identityLink);
+            }
+        }
+
+        for (Task task : tasks) {
+            TaskEntity taskEntity = (TaskEntity) task;
+            if (includeTaskLocalVariables || includeProcessVariables || includeCaseVariables) {
+                List<VariableInstanceEntity> taskVariables = new VariableInitializingList();
+                taskVariables.addAll(variablesByTaskId.getOrDefault(task.getId(), Collections.emptyList()));
+                if (task.getProcessInstanceId() != null) {
+                    taskVariables.addAll(variablesByProcessInstanceId.getOrDefault(task.getProcessInstanceId(), Collections.emptyList()));
+                }
+                if (task.getScopeId() != null) {
+                    taskVariables.addAll(variablesByScopeId.getOrDefault(task.getScopeId(), Collections.emptyList()));
+                }
+                taskEntity.setQueryVariables(taskVariables);
+            }
+            if (includeIdentityLinks) {
+                taskEntity.setQueryIdentityLinks(identityLinksByTaskId.getOrDefault(task.getId(), new ArrayList<>()));
+            }
+        }
+    }
+
+    protected InternalVariableInstanceQuery createIncludedVariablesQuery() {
+        InternalVariableInstanceQuery query = variableServiceConfiguration.getVariableService().createInternalVariableInstanceQuery();
+        if (includedVariableNames != null) {
+            query.names(includedVariableNames);
+        }
+        return query;
+    }
+
+    protected IdentityLinkService getIdentityLinkService(CommandContext commandContext) {
+        Map<String, AbstractEngineConfiguration> engineConfigurations = commandContext.getEngineConfigurations();
+        AbstractEngineConfiguration engineConfiguration = engineConfigurations.get(EngineConfigurationConstants.KEY_PROCESS_ENGINE_CONFIG);
+        if (engineConfiguration == null) {
+            engineConfiguration = engineConfigurations.get(EngineConfigurationConstants.KEY_CMMN_ENGINE_CONFIG);
+        }
+        return ((IdentityLinkServiceConfiguration) engineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_IDENTITY_LINK_SERVICE_CONFIG)).getIdentityLinkService();
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<Task> results, boolean local) {
         for (Task task : results) {
             if (Objects.equals(taskId, task.getId())) {
@@ -1997,6 +2124,11 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
 
     @Override
     public void enhanceCachedValue(TaskEntity task) {
+        if (isFetchRelatedEntitiesSeparately()) {
+            // The related entities are fetched for all tasks together
+            return;
+        }
+
         if (includeProcessVariables && task.getProcessInstanceId() != null) {
             task.getQueryVariables()
                     .addAll(variableServiceConfiguration.getVariableService()
@@ -2025,6 +2157,61 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
                 .findTaskCountByQueryCriteria(this);
     }
 
+    @Override
+    protected void executeForEach(CommandContext commandContext, Consumer<? super Task> consumer) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
+            throw new FlowableIllegalArgumentException("Variables and identity links can't be included when iterating over the tasks");
+        }
+
+        ensureVariablesInitialized();
+        if (taskServiceConfiguration.getTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getTaskQueryInterceptor()
+                    .beforeTaskQueryExecute(this);
+        }
+
+        boolean localize = taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization();
+        taskServiceConfiguration.getTaskEntityManager().forEachTaskByQueryCriteria(this, task -> {
+            if (localize) {
+                taskServiceConfiguration.getInternalTaskLocalizationManager()
+                        .localize(task, locale, withLocalizationFallback);
+            }
+            consumer.accept(task);
+        });
+    }
+
+    @Override
+    protected Object getKeysetValue(Task task, String columnName) {
+        // The name and description are not supported, as they can be localized
+        switch (columnName) {
+            case "RES.ID_":
+                return task.getId();
+            case "RES.PRIORITY_":
+                return task.getPriority();
+            case "RES.ASSIGNEE_":
+                return task.getAssignee();
+            case "RES.OWNER_":
+                return task.getOwner();
+            case "RES.CREATE_TIME_":
+                return task.getCreateTime();
+            case "RES.PROC_INST_ID_":
+                return task.getProcessInstanceId();
+            case "RES.EXECUTION_ID_":
+                return task.getExecutionId();
+            case "RES.PROC_DEF_ID_":
+                return task.getProcessDefinitionId();
+            case "RES.DUE_DATE_":
+                return task.getDueDate();
+            case "RES.TENANT_ID_":
+                return task.getTenantId();
+            case "RES.TASK_DEF_KEY_":
+                return task.getTaskDefinitionKey();
+            case "RES.CATEGORY_":
+                return task.getCategory();
+            default:
+                return super.getKeysetValue(task, columnName);
+        }
+    }
+
     // getters ////////////////////////////////////////////////////////////////
 
     public String getName() {
@@ -2356,6 +2543,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeIdentityLinks;
     }
 
+    public Collection<String> getIncludedVariableNames() {
+        return includedVariableNames;
+    }
+
     public boolean isBothCandidateAndAssigned() {
         return bothCandidateAndAssigned;
     }
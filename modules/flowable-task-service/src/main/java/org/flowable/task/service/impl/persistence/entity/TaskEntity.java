@@ -80,4 +80,8 @@ public interface TaskEntity extends VariableScope, Task, DelegateTask, Entity, H
     void setOwnerValue(String owner);
 
     List<VariableInstanceEntity> getQueryVariables();
+
+    void setQueryVariables(List<VariableInstanceEntity> queryVariables);
+
+    void setQueryIdentityLinks(List<IdentityLinkEntity> identityLinks);
 }
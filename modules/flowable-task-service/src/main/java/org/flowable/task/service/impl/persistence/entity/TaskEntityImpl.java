@@ -827,6 +827,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
         return queryVariables;
     }
 
+    @Override
     public void setQueryVariables(List<VariableInstanceEntity> queryVariables) {
         this.queryVariables = queryVariables;
     }
@@ -838,6 +839,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
         return queryIdentityLinks;
     }
 
+    @Override
     public void setQueryIdentityLinks(List<IdentityLinkEntity> identityLinks) {
         queryIdentityLinks = identityLinks;
     }
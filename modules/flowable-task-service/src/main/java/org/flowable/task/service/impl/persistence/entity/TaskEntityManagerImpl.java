@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.identity.Authentication;
@@ -166,6 +167,11 @@ public class TaskEntityManagerImpl extends AbstractTaskServiceEntityManager<Task
         return dataManager.findTasksByQueryCriteria(taskQuery);
     }
 
+    @Override
+    public void forEachTaskByQueryCriteria(TaskQueryImpl taskQuery, Consumer<? super Task> consumer) {
+        dataManager.forEachTaskByQueryCriteria(taskQuery, consumer);
+    }
+
     @Override
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
         return dataManager.findTasksWithRelatedEntitiesByQueryCriteria(taskQuery);
@@ -15,6 +15,7 @@ package org.flowable.task.service.impl.persistence.entity.data.impl;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
@@ -109,6 +110,12 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return getDbSqlSession().selectList(query, taskQuery, getManagedEntityClass());
     }
 
+    @Override
+    public void forEachTaskByQueryCriteria(TaskQueryImpl taskQuery, Consumer<? super Task> consumer) {
+        setSafeInValueLists(taskQuery);
+        getDbSqlSession().selectForEach("selectTaskByQueryCriteria", taskQuery, consumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
@@ -42,6 +42,25 @@ public interface VariableType {
      */
     boolean isAbleToStore(Object value);
 
+    /**
+     * <p>
+     * Indicates if {@link #isAbleToStore(Object)} only depends on the class of a (non null) value.
+     * </p>
+     * <p>
+     * If so, the {@link VariableTypes} can remember the outcome for a class of values, instead of asking this type again for every value of that class.
+     * Types that look at the value itself (e.g. at the length of a string) must return false.
+     * </p>
+     * <p>
+     * Subclasses that override {@link #isAbleToStore(Object)} don't inherit this: the {@link VariableTypes} only resolve them by class
+     * when they override this method as well.
+     * </p>
+     *
+     * @return whether the outcome of {@link #isAbleToStore(Object)} is the same for all values of the same class.
+     */
+    default boolean isAbleToStoreByClass() {
+        return false;
+    }
+
     /**
      * Stores the specified value in the supplied {@link ValueFields}.
      */
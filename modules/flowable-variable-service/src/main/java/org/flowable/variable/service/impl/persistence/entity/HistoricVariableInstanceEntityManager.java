@@ -38,6 +38,11 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
     
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByProcessInstanceId(String processInstanceId);
 
+    /**
+     * @param variableNames the names of the variables to find, or null to find all variables of the executions
+     */
+    List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames);
+
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByTaskId(String taskId);
 
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByScopeIdAndScopeType(String scopeId, String scopeType);
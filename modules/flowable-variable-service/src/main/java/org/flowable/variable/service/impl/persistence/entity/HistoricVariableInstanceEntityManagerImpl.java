@@ -122,6 +122,11 @@ public class HistoricVariableInstanceEntityManagerImpl
         return dataManager.findHistoricVariableInstancesByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames) {
+        return dataManager.findHistoricVariableInstancesByExecutionIds(executionIds, variableNames);
+    }
+
     @Override
     public List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByTaskId(String taskId) {
         return dataManager.findHistoricVariableInstancesByTaskId(taskId);
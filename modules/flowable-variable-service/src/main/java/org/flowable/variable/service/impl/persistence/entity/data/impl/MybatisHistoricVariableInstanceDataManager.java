@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +27,7 @@ import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.HistoricVariableInstanceDataManager;
+import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceByExecutionIdsMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceByProcInstMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceByScopeIdAndScopeTypeMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceBySubScopeIdAndScopeTypeMatcher;
@@ -41,6 +43,9 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
 
     protected CachedEntityMatcher<HistoricVariableInstanceEntity> historicVariableInstanceByProcInstMatcher 
         = new HistoricVariableInstanceByProcInstMatcher();
+
+    protected CachedEntityMatcher<HistoricVariableInstanceEntity> historicVariableInstanceByExecutionIdsMatcher
+        = new HistoricVariableInstanceByExecutionIdsMatcher();
     
     protected CachedEntityMatcher<HistoricVariableInstanceEntity> historicVariableInstanceByScopeIdAndScopeTypeMatcher 
         = new HistoricVariableInstanceByScopeIdAndScopeTypeMatcher();
@@ -74,6 +79,18 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return getList("selectHistoricVariableInstanceByProcessInstanceId", processInstanceId, historicVariableInstanceByProcInstMatcher, true);
     }
 
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames) {
+        List<HistoricVariableInstanceEntity> historicVariableInstances = new ArrayList<>();
+        for (List<String> executionIdsPart : createSafeInValuesList(executionIds)) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("executionIds", executionIdsPart);
+            params.put("names", variableNames);
+            historicVariableInstances.addAll(getList("selectHistoricVariableInstancesByExecutionIds", params, historicVariableInstanceByExecutionIdsMatcher, true));
+        }
+        return historicVariableInstances;
+    }
+
     @Override
     public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskId(final String taskId) {
         return getList("selectHistoricVariableInstanceByTaskId", taskId, historicVariableInstanceByTaskIdMatcher, true);
@@ -14,15 +14,29 @@ package org.flowable.variable.service.impl.types;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 
 /**
+ * <p>
+ * Keeps the registered variable types in order of preference: {@link #findVariableType(Object)} returns the first type that is able to store the value.
+ * </p>
+ * <p>
+ * To avoid asking every type for every value, the outcome of the ordered scan is remembered per class of values.
+ * Types that are {@link VariableType#isAbleToStoreByClass() able to store by class} and rejected a class are skipped for subsequent values of that class,
+ * and the first such type that accepted the class is returned without asking it again.
+ * A subclass of such a type that overrides {@link VariableType#isAbleToStore(Object)} without overriding {@link VariableType#isAbleToStoreByClass()}
+ * again is treated as depending on the value.
+ * </p>
+ *
  * @author Tom Baeyens
  */
 public class DefaultVariableTypes implements VariableTypes, Serializable {
@@ -31,6 +45,15 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
+    private final Map<VariableType, Integer> typeIndexes = new HashMap<>();
+
+    private final Set<VariableType> typesAbleToStoreByClass = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * The types that need to be checked for values of a class. Types that are able to store by class and that rejected the class are left out.
+     * A {@link ClassValue} doesn't keep the value classes (and their class loaders) from being unloaded, it is replaced when the types change.
+     */
+    private transient volatile ClassValue<CandidateTypes> candidateTypesByClass;
 
     @Override
     public DefaultVariableTypes addType(VariableType type) {
@@ -41,9 +64,14 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        typesChanged();
         return this;
     }
 
+    public List<VariableType> getTypesList() {
+        return Collections.unmodifiableList(typesList);
+    }
+
     public void setTypesList(List<VariableType> typesList) {
         this.typesList.clear();
         this.typesList.addAll(typesList);
@@ -51,6 +79,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        typesChanged();
     }
 
     @Override
@@ -60,17 +89,90 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     @Override
     public VariableType findVariableType(Object value) {
-        for (VariableType type : typesList) {
-            if (type.isAbleToStore(value)) {
+        if (value == null) {
+            return findVariableType(value, typesList);
+        }
+
+        CandidateTypes candidateTypesOfClass = getCandidateTypesByClass().get(value.getClass());
+        List<VariableType> candidateTypes = candidateTypesOfClass.types;
+        if (candidateTypes == null) {
+            candidateTypes = determineCandidateTypes(value);
+            candidateTypesOfClass.types = candidateTypes;
+        }
+        return findVariableType(value, candidateTypes);
+    }
+
+    protected VariableType findVariableType(Object value, List<VariableType> candidateTypes) {
+        for (VariableType type : candidateTypes) {
+            // A type that stores by class is only a candidate when it accepted the class
+            if ((value != null && typesAbleToStoreByClass.contains(type)) || type.isAbleToStore(value)) {
                 return type;
             }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    /**
+     * Determines the types that need to be checked, in order, for values of the class of the given value:
+     * the types that depend on the value itself, up to the first type that accepts the class.
+     */
+    protected List<VariableType> determineCandidateTypes(Object value) {
+        List<VariableType> candidateTypes = new ArrayList<>();
+        for (VariableType type : typesList) {
+            if (!typesAbleToStoreByClass.contains(type)) {
+                candidateTypes.add(type);
+            } else if (type.isAbleToStore(value)) {
+                candidateTypes.add(type);
+                break;
+            }
+        }
+        return candidateTypes;
+    }
+
+    /**
+     * A type is only able to store by class when the class that declares {@link VariableType#isAbleToStore(Object)} also declares
+     * (or inherits) the opt-in, i.e. a subclass that changes which values it accepts has to opt in itself.
+     */
+    public boolean isAbleToStoreByClass(VariableType type) {
+        if (!type.isAbleToStoreByClass()) {
+            return false;
+        }
+
+        try {
+            Class<?> isAbleToStoreDeclaringClass = type.getClass().getMethod("isAbleToStore", Object.class).getDeclaringClass();
+            Class<?> isAbleToStoreByClassDeclaringClass = type.getClass().getMethod("isAbleToStoreByClass").getDeclaringClass();
+            return isAbleToStoreDeclaringClass.isAssignableFrom(isAbleToStoreByClassDeclaringClass);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    protected void typesChanged() {
+        typeIndexes.clear();
+        typesAbleToStoreByClass.clear();
+        for (int i = 0; i < typesList.size(); i++) {
+            VariableType type = typesList.get(i);
+            typeIndexes.putIfAbsent(type, i);
+            if (isAbleToStoreByClass(type)) {
+                typesAbleToStoreByClass.add(type);
+            }
+        }
+        candidateTypesByClass = null;
+    }
+
+    protected ClassValue<CandidateTypes> getCandidateTypesByClass() {
+        ClassValue<CandidateTypes> candidateTypesByClass = this.candidateTypesByClass;
+        if (candidateTypesByClass == null) {
+            candidateTypesByClass = new CandidateTypesClassValue();
+            this.candidateTypesByClass = candidateTypesByClass;
+        }
+        return candidateTypesByClass;
+    }
+
     @Override
     public int getTypeIndex(VariableType type) {
-        return typesList.indexOf(type);
+        Integer index = typeIndexes.get(type);
+        return index != null ? index : -1;
     }
 
     @Override
@@ -87,10 +189,27 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        typesChanged();
         return this;
     }
 
     public int size() {
         return typesList.size();
     }
+
+    /**
+     * The candidate types of a class of values, determined with the first value of the class.
+     */
+    protected static class CandidateTypes {
+
+        protected volatile List<VariableType> types;
+    }
+
+    protected static class CandidateTypesClassValue extends ClassValue<CandidateTypes> {
+
+        @Override
+        protected CandidateTypes computeValue(Class<?> type) {
+            return new CandidateTypes();
+        }
+    }
 }
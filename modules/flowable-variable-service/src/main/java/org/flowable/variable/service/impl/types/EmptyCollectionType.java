@@ -49,6 +49,11 @@ public class EmptyCollectionType implements VariableType {
         return false;
     }
 
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         if (EMPTY_LIST_CLASS.isInstance(value)) {
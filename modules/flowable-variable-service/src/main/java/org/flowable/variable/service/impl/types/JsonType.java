@@ -198,4 +198,9 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         }
         return value instanceof JsonNode;
     }
+
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
 }